@@ -0,0 +1,55 @@
+package com.prism.statistics.application.analysis.insight;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class DeferredInsightContext {
+
+    private static final ThreadLocal<DeferredInsights> DEFERRED_INSIGHTS = new ThreadLocal<>();
+
+    public boolean isDeferring() {
+        return DEFERRED_INSIGHTS.get() != null;
+    }
+
+    public DeferredInsights collect(Runnable action) {
+        DeferredInsights previous = DEFERRED_INSIGHTS.get();
+        DeferredInsights deferredInsights = new DeferredInsights();
+        DEFERRED_INSIGHTS.set(deferredInsights);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+
+        return deferredInsights;
+    }
+
+    public void defer(PullRequestMetricsEvent event) {
+        current().addPullRequestMetrics(event);
+    }
+
+    public void defer(ReviewActivityEvent event) {
+        current().addReviewActivity(event);
+    }
+
+    public void defer(PullRequestClosureMetricsEvent event) {
+        current().addClosureMetrics(event);
+    }
+
+    private DeferredInsights current() {
+        DeferredInsights deferredInsights = DEFERRED_INSIGHTS.get();
+        if (deferredInsights == null) {
+            throw new IllegalStateException("인사이트 도출을 미루는 중이 아닙니다.");
+        }
+
+        return deferredInsights;
+    }
+
+    private void restore(DeferredInsights previous) {
+        if (previous == null) {
+            DEFERRED_INSIGHTS.remove();
+            return;
+        }
+        DEFERRED_INSIGHTS.set(previous);
+    }
+}
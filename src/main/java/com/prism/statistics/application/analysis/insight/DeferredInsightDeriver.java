@@ -0,0 +1,100 @@
+package com.prism.statistics.application.analysis.insight;
+
+import com.prism.statistics.global.config.properties.DeferredInsightProperties;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeferredInsightDeriver {
+
+    private final DeferredInsightProperties deferredInsightProperties;
+    private final PullRequestMetricsService pullRequestMetricsService;
+    private final ReviewActivityMetricsService reviewActivityMetricsService;
+    private final PullRequestClosureMetricsService closureMetricsService;
+
+    public DeferredInsightReport derive(DeferredInsights deferredInsights) {
+        int failedCount = deriveInChunks(
+                deferredInsights.pullRequestIds(),
+                chunk -> pullRequestMetricsService.deriveAllMetrics(chunk),
+                pullRequestId -> pullRequestMetricsService.deriveMetrics(pullRequestId),
+                "PR 지표",
+                pullRequestId -> pullRequestId
+        );
+        failedCount += deriveInChunks(
+                deferredInsights.githubReviewIds(),
+                chunk -> reviewActivityMetricsService.deriveAllMetrics(chunk),
+                githubReviewId -> reviewActivityMetricsService.deriveMetrics(githubReviewId),
+                "리뷰 활동 지표",
+                githubReviewId -> githubReviewId
+        );
+        failedCount += deriveInChunks(
+                deferredInsights.closures(),
+                chunk -> closureMetricsService.deriveAllClosureMetrics(chunk),
+                closure -> closureMetricsService.deriveClosureMetrics(
+                        closure.pullRequestId(),
+                        closure.newState(),
+                        closure.closedAt()
+                ),
+                "PR 종료 지표",
+                closure -> closure.pullRequestId()
+        );
+
+        return new DeferredInsightReport(deferredInsights.size() - failedCount, failedCount);
+    }
+
+    private <T> int deriveInChunks(
+            Collection<T> targets,
+            Consumer<List<T>> chunkDerivation,
+            Consumer<T> singleDerivation,
+            String insightName,
+            Function<T, Long> targetIdExtractor
+    ) {
+        int failedCount = 0;
+
+        for (List<T> chunk : split(targets)) {
+            try {
+                chunkDerivation.accept(chunk);
+            } catch (RuntimeException e) {
+                log.warn("미뤄둔 {} 묶음 도출에 실패해 건별로 다시 도출합니다. size={}", insightName, chunk.size(), e);
+                for (T target : chunk) {
+                    failedCount += derive(
+                            () -> singleDerivation.accept(target),
+                            insightName,
+                            targetIdExtractor.apply(target)
+                    );
+                }
+            }
+        }
+
+        return failedCount;
+    }
+
+    private <T> List<List<T>> split(Collection<T> targets) {
+        int chunkSize = deferredInsightProperties.chunkSize();
+        List<T> source = List.copyOf(targets);
+        List<List<T>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < source.size(); from += chunkSize) {
+            chunks.add(source.subList(from, Math.min(from + chunkSize, source.size())));
+        }
+        return chunks;
+    }
+
+    private int derive(Runnable derivation, String insightName, Long targetId) {
+        try {
+            derivation.run();
+            return 0;
+        } catch (RuntimeException e) {
+            log.warn("미뤄둔 {} 도출에 실패했습니다. targetId={}", insightName, targetId, e);
+            return 1;
+        }
+    }
+}
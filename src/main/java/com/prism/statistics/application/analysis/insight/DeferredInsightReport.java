@@ -0,0 +1,4 @@
+package com.prism.statistics.application.analysis.insight;
+
+public record DeferredInsightReport(int derivedCount, int failedCount) {
+}
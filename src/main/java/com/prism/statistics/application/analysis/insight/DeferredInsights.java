@@ -0,0 +1,50 @@
+package com.prism.statistics.application.analysis.insight;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class DeferredInsights {
+
+    private final Set<Long> pullRequestIds = new LinkedHashSet<>();
+    private final Set<Long> githubReviewIds = new LinkedHashSet<>();
+    private final Map<Long, PullRequestClosureMetricsEvent> closuresByPullRequestId = new LinkedHashMap<>();
+
+    public void addPullRequestMetrics(PullRequestMetricsEvent event) {
+        pullRequestIds.add(event.pullRequestId());
+    }
+
+    public void addReviewActivity(ReviewActivityEvent event) {
+        githubReviewIds.add(event.reviewId());
+    }
+
+    public void addClosureMetrics(PullRequestClosureMetricsEvent event) {
+        closuresByPullRequestId.remove(event.pullRequestId());
+        closuresByPullRequestId.put(event.pullRequestId(), event);
+    }
+
+    public void addAll(DeferredInsights other) {
+        pullRequestIds.addAll(other.pullRequestIds);
+        githubReviewIds.addAll(other.githubReviewIds);
+        other.closuresByPullRequestId.values().forEach(closure -> addClosureMetrics(closure));
+    }
+
+    public Set<Long> pullRequestIds() {
+        return Collections.unmodifiableSet(pullRequestIds);
+    }
+
+    public Set<Long> githubReviewIds() {
+        return Collections.unmodifiableSet(githubReviewIds);
+    }
+
+    public Collection<PullRequestClosureMetricsEvent> closures() {
+        return Collections.unmodifiableCollection(closuresByPullRequestId.values());
+    }
+
+    public int size() {
+        return pullRequestIds.size() + githubReviewIds.size() + closuresByPullRequestId.size();
+    }
+}
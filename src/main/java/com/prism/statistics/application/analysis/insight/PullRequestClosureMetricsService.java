@@ -2,6 +2,7 @@ package com.prism.statistics.application.analysis.insight;
 
 import com.prism.statistics.domain.analysis.insight.activity.ReviewActivity;
 import com.prism.statistics.domain.analysis.insight.activity.repository.ReviewActivityRepository;
+import com.prism.statistics.domain.analysis.insight.bottleneck.PullRequestBottleneck;
 import com.prism.statistics.domain.analysis.insight.bottleneck.repository.PullRequestBottleneckRepository;
 import com.prism.statistics.domain.analysis.insight.lifecycle.PullRequestLifecycle;
 import com.prism.statistics.domain.analysis.insight.lifecycle.repository.PullRequestLifecycleRepository;
@@ -10,11 +11,16 @@ import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequest;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.PullRequestState;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestRepository;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestChangeStats;
-import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestTiming;
 import com.prism.statistics.domain.analysis.metadata.review.Review;
 import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,9 +40,7 @@ public class PullRequestClosureMetricsService {
         if (!newState.isClosureState()) {
             return;
         }
-        if(closedAt == null) {
-            throw new IllegalArgumentException("닫힌 시각 입력은 필수입니다.");
-        }
+        validateClosedAt(closedAt);
 
         PullRequest pullRequest = pullRequestRepository.findById(pullRequestId)
                 .orElseThrow(() -> new IllegalArgumentException("PullRequest not found: " + pullRequestId));
@@ -48,39 +52,137 @@ public class PullRequestClosureMetricsService {
         updateBottleneckOnMerge(pullRequestId, newState, closedAt);
     }
 
+    @Transactional
+    public void deriveAllClosureMetrics(Collection<PullRequestClosureMetricsEvent> closures) {
+        List<PullRequestClosureMetricsEvent> closedEvents = closures.stream()
+                .filter(closure -> closure.newState().isClosureState())
+                .toList();
+        closedEvents.forEach(closure -> validateClosedAt(closure.closedAt()));
+        List<Long> pullRequestIds = closedEvents.stream()
+                .map(closure -> closure.pullRequestId())
+                .toList();
+
+        Map<Long, PullRequest> pullRequestsById = new HashMap<>();
+        pullRequestRepository.findAllByIds(pullRequestIds)
+                .forEach(pullRequest -> pullRequestsById.put(pullRequest.getId(), pullRequest));
+        Map<Long, List<Review>> reviewsByPullRequestId = new HashMap<>();
+        reviewRepository.findAllByPullRequestIds(pullRequestIds)
+                .forEach(review -> reviewsByPullRequestId.computeIfAbsent(review.getPullRequestId(), ignored -> new ArrayList<>())
+                        .add(review));
+        Map<Long, PullRequestLifecycle> lifecyclesByPullRequestId = new HashMap<>();
+        lifecycleRepository.findAllByPullRequestIds(pullRequestIds)
+                .forEach(lifecycle -> lifecyclesByPullRequestId.put(lifecycle.getPullRequestId(), lifecycle));
+        Set<Long> reviewActivityPullRequestIds = new HashSet<>(
+                reviewActivityRepository.findExistingPullRequestIds(pullRequestIds)
+        );
+        Map<Long, PullRequestBottleneck> bottlenecksByPullRequestId = new HashMap<>();
+        pullRequestBottleneckRepository.findAllByPullRequestIds(pullRequestIds)
+                .forEach(bottleneck -> bottlenecksByPullRequestId.put(bottleneck.getPullRequestId(), bottleneck));
+
+        List<PullRequestLifecycle> newLifecycles = new ArrayList<>();
+        List<ReviewActivity> newReviewActivities = new ArrayList<>();
+        for (PullRequestClosureMetricsEvent closure : closedEvents) {
+            PullRequest pullRequest = pullRequestsById.get(closure.pullRequestId());
+            if (pullRequest == null) {
+                throw new IllegalArgumentException("PullRequest not found: " + closure.pullRequestId());
+            }
+            List<Review> reviews = reviewsByPullRequestId.getOrDefault(pullRequest.getId(), List.of());
+
+            PullRequestLifecycle lifecycle = lifecyclesByPullRequestId.get(pullRequest.getId());
+            if (lifecycle == null) {
+                PullRequestLifecycle newLifecycle = createClosedLifecycle(
+                        pullRequest,
+                        closure.newState(),
+                        closure.closedAt(),
+                        reviews.isEmpty()
+                );
+                lifecyclesByPullRequestId.put(pullRequest.getId(), newLifecycle);
+                newLifecycles.add(newLifecycle);
+            } else {
+                updateLifecycleOnClose(lifecycle, pullRequest, closure.newState(), closure.closedAt(), reviews.isEmpty());
+            }
+
+            if (reviewActivityPullRequestIds.add(pullRequest.getId())) {
+                newReviewActivities.add(createReviewActivity(pullRequest, reviews));
+            }
+
+            PullRequestBottleneck bottleneck = bottlenecksByPullRequestId.get(pullRequest.getId());
+            if (closure.newState().isMerged() && bottleneck != null) {
+                bottleneck.updateOnMerge(closure.closedAt());
+            }
+        }
+
+        lifecycleRepository.saveAll(newLifecycles);
+        reviewActivityRepository.saveAll(newReviewActivities);
+    }
+
+    private void validateClosedAt(LocalDateTime closedAt) {
+        if (closedAt == null) {
+            throw new IllegalArgumentException("닫힌 시각 입력은 필수입니다.");
+        }
+    }
+
     private void saveOrUpdateLifecycle(
             PullRequest pullRequest,
             PullRequestState newState,
             LocalDateTime closedAt,
             boolean closedWithoutReview
     ) {
-        PullRequestTiming timing = pullRequest.getTiming();
-        LocalDateTime createdAt = timing.getGithubCreatedAt();
-
-        DurationMinutes timeToMerge = calculateTimeToMerge(newState, createdAt, closedAt);
-
-        DurationMinutes totalLifespan = DurationMinutes.between(createdAt, closedAt);
-        DurationMinutes activeWork = totalLifespan;
-
         lifecycleRepository.findByPullRequestId(pullRequest.getId())
                 .ifPresentOrElse(
-                        lifecycle -> lifecycle.updateOnClose(
-                                timeToMerge,
-                                totalLifespan,
-                                activeWork,
+                        lifecycle -> updateLifecycleOnClose(
+                                lifecycle,
+                                pullRequest,
+                                newState,
+                                closedAt,
                                 closedWithoutReview
                         ),
-                        () -> lifecycleRepository.save(createNewLifecycle(
-                                pullRequest.getId(),
-                                createdAt,
-                                timeToMerge,
-                                totalLifespan,
-                                activeWork,
+                        () -> lifecycleRepository.save(createClosedLifecycle(
+                                pullRequest,
+                                newState,
+                                closedAt,
                                 closedWithoutReview
                         ))
                 );
     }
 
+    private void updateLifecycleOnClose(
+            PullRequestLifecycle lifecycle,
+            PullRequest pullRequest,
+            PullRequestState newState,
+            LocalDateTime closedAt,
+            boolean closedWithoutReview
+    ) {
+        LocalDateTime createdAt = pullRequest.getTiming().getGithubCreatedAt();
+        DurationMinutes totalLifespan = DurationMinutes.between(createdAt, closedAt);
+
+        lifecycle.updateOnClose(
+                calculateTimeToMerge(newState, createdAt, closedAt),
+                totalLifespan,
+                totalLifespan,
+                closedWithoutReview
+        );
+    }
+
+    private PullRequestLifecycle createClosedLifecycle(
+            PullRequest pullRequest,
+            PullRequestState newState,
+            LocalDateTime closedAt,
+            boolean closedWithoutReview
+    ) {
+        LocalDateTime createdAt = pullRequest.getTiming().getGithubCreatedAt();
+        DurationMinutes totalLifespan = DurationMinutes.between(createdAt, closedAt);
+
+        return createNewLifecycle(
+                pullRequest.getId(),
+                createdAt,
+                calculateTimeToMerge(newState, createdAt, closedAt),
+                totalLifespan,
+                totalLifespan,
+                closedWithoutReview
+        );
+    }
+
     private PullRequestLifecycle createNewLifecycle(
             Long pullRequestId,
             LocalDateTime createdAt,
@@ -106,18 +208,20 @@ public class PullRequestClosureMetricsService {
             return;
         }
 
+        reviewActivityRepository.save(createReviewActivity(pullRequest, reviews));
+    }
+
+    private ReviewActivity createReviewActivity(PullRequest pullRequest, List<Review> reviews) {
         PullRequestChangeStats changeStats = pullRequest.getChangeStats();
         int totalAdditions = changeStats.getAdditionCount();
         int totalDeletions = changeStats.getDeletionCount();
 
         if (reviews.isEmpty()) {
-            ReviewActivity activity = ReviewActivity.createWithoutReview(
+            return ReviewActivity.createWithoutReview(
                     pullRequest.getId(),
                     totalAdditions,
                     totalDeletions
             );
-            reviewActivityRepository.save(activity);
-            return;
         }
 
         int reviewRoundTrips = reviews.size();
@@ -125,7 +229,7 @@ public class PullRequestClosureMetricsService {
                 .mapToInt(review -> review.getCommentCount())
                 .sum();
 
-        ReviewActivity activity = ReviewActivity.builder()
+        return ReviewActivity.builder()
                 .pullRequestId(pullRequest.getId())
                 .reviewRoundTrips(reviewRoundTrips)
                 .totalCommentCount(totalCommentCount)
@@ -137,8 +241,6 @@ public class PullRequestClosureMetricsService {
                 .totalAdditions(totalAdditions)
                 .totalDeletions(totalDeletions)
                 .build();
-
-        reviewActivityRepository.save(activity);
     }
 
     private int countUniqueReviewers(List<Review> reviews) {
@@ -13,10 +13,14 @@ import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestFile
 import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileRepository;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileChangeTypeCountDto;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestChangeStats;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -51,6 +55,51 @@ public class PullRequestMetricsService {
         saveOrUpdatePullRequestSize(pullRequest, fileTypeCounts);
     }
 
+    @Transactional
+    public void deriveAllMetrics(Collection<Long> pullRequestIds) {
+        Map<Long, PullRequest> pullRequestsById = new HashMap<>();
+        pullRequestRepository.findAllByIds(pullRequestIds)
+                .forEach(pullRequest -> pullRequestsById.put(pullRequest.getId(), pullRequest));
+        Map<Long, Map<FileChangeType, Integer>> fileTypeCountsByPullRequestId = groupFileChangeTypeCounts(
+                pullRequestFileRepository.countChangeTypesByPullRequestIds(pullRequestIds)
+        );
+        Map<Long, PullRequestSize> sizesByPullRequestId = new HashMap<>();
+        pullRequestSizeRepository.findAllByPullRequestIds(pullRequestIds)
+                .forEach(size -> sizesByPullRequestId.put(size.getPullRequestId(), size));
+
+        List<PullRequestOpenedChangeSummary> changeSummaries = new ArrayList<>();
+        List<PullRequestOpenedCommitDensity> commitDensities = new ArrayList<>();
+        List<PullRequestOpenedFileChange> fileChanges = new ArrayList<>();
+        List<PullRequestSize> newSizes = new ArrayList<>();
+        for (Long pullRequestId : pullRequestIds) {
+            PullRequest pullRequest = pullRequestsById.get(pullRequestId);
+            if (pullRequest == null) {
+                throw new IllegalArgumentException("PullRequest not found: " + pullRequestId);
+            }
+            Map<FileChangeType, Integer> fileTypeCounts = fileTypeCountsByPullRequestId.computeIfAbsent(
+                    pullRequestId,
+                    ignored -> emptyFileChangeTypeCounts()
+            );
+
+            changeSummaries.add(createChangeSummary(pullRequest));
+            commitDensities.add(createCommitDensity(pullRequest));
+            fileChanges.addAll(createFileChanges(pullRequestId, fileTypeCounts));
+
+            BigDecimal fileChangeDiversity = calculateFileChangeDiversity(fileTypeCounts);
+            PullRequestSize size = sizesByPullRequestId.get(pullRequestId);
+            if (size == null) {
+                newSizes.add(createPullRequestSize(pullRequest, fileChangeDiversity));
+                continue;
+            }
+            updateExistingPullRequestSize(size, pullRequest.getChangeStats(), fileChangeDiversity);
+        }
+
+        changeSummaryRepository.saveAllInBatch(changeSummaries);
+        commitDensityRepository.saveAllInBatch(commitDensities);
+        fileChangeRepository.saveAllInBatch(fileChanges);
+        pullRequestSizeRepository.saveAll(newSizes);
+    }
+
     private PullRequestOpenedChangeSummary createChangeSummary(PullRequest pullRequest) {
         PullRequestChangeStats stats = pullRequest.getChangeStats();
         int totalChanges = stats.getAdditionCount() + stats.getDeletionCount();
@@ -103,12 +152,7 @@ public class PullRequestMetricsService {
             Map<FileChangeType, Integer> fileTypeCounts
     ) {
         PullRequestChangeStats stats = pullRequest.getChangeStats();
-        BigDecimal fileChangeDiversity = PullRequestSize.calculateFileChangeDiversity(
-                fileTypeCounts.getOrDefault(FileChangeType.ADDED, 0),
-                fileTypeCounts.getOrDefault(FileChangeType.MODIFIED, 0),
-                fileTypeCounts.getOrDefault(FileChangeType.REMOVED, 0),
-                fileTypeCounts.getOrDefault(FileChangeType.RENAMED, 0)
-        );
+        BigDecimal fileChangeDiversity = calculateFileChangeDiversity(fileTypeCounts);
 
         pullRequestSizeRepository.findByPullRequestId(pullRequest.getId())
                 .ifPresentOrElse(
@@ -141,22 +185,31 @@ public class PullRequestMetricsService {
             PullRequest pullRequest,
             BigDecimal fileChangeDiversity
     ) {
+        pullRequestSizeRepository.save(createPullRequestSize(pullRequest, fileChangeDiversity));
+    }
+
+    private PullRequestSize createPullRequestSize(PullRequest pullRequest, BigDecimal fileChangeDiversity) {
         PullRequestChangeStats stats = pullRequest.getChangeStats();
-        PullRequestSize pullRequestSize = PullRequestSize.create(
+        return PullRequestSize.create(
                 pullRequest.getId(),
                 stats.getAdditionCount(),
                 stats.getDeletionCount(),
                 stats.getChangedFileCount(),
                 fileChangeDiversity
         );
-        pullRequestSizeRepository.save(pullRequestSize);
+    }
+
+    private BigDecimal calculateFileChangeDiversity(Map<FileChangeType, Integer> fileTypeCounts) {
+        return PullRequestSize.calculateFileChangeDiversity(
+                fileTypeCounts.getOrDefault(FileChangeType.ADDED, 0),
+                fileTypeCounts.getOrDefault(FileChangeType.MODIFIED, 0),
+                fileTypeCounts.getOrDefault(FileChangeType.REMOVED, 0),
+                fileTypeCounts.getOrDefault(FileChangeType.RENAMED, 0)
+        );
     }
 
     private Map<FileChangeType, Integer> countFileChangeTypes(List<PullRequestFile> files) {
-        Map<FileChangeType, Integer> counts = new EnumMap<>(FileChangeType.class);
-        for (FileChangeType type : FileChangeType.values()) {
-            counts.put(type, 0);
-        }
+        Map<FileChangeType, Integer> counts = emptyFileChangeTypeCounts();
         for (PullRequestFile file : files) {
             FileChangeType type = file.getChangeType();
             counts.put(type, counts.get(type) + 1);
@@ -164,6 +217,25 @@ public class PullRequestMetricsService {
         return counts;
     }
 
+    private Map<Long, Map<FileChangeType, Integer>> groupFileChangeTypeCounts(
+            List<PullRequestFileChangeTypeCountDto> changeTypeCounts
+    ) {
+        Map<Long, Map<FileChangeType, Integer>> countsByPullRequestId = new HashMap<>();
+        for (PullRequestFileChangeTypeCountDto changeTypeCount : changeTypeCounts) {
+            countsByPullRequestId.computeIfAbsent(changeTypeCount.pullRequestId(), ignored -> emptyFileChangeTypeCounts())
+                    .put(changeTypeCount.changeType(), (int) changeTypeCount.count());
+        }
+        return countsByPullRequestId;
+    }
+
+    private Map<FileChangeType, Integer> emptyFileChangeTypeCounts() {
+        Map<FileChangeType, Integer> counts = new EnumMap<>(FileChangeType.class);
+        for (FileChangeType type : FileChangeType.values()) {
+            counts.put(type, 0);
+        }
+        return counts;
+    }
+
     private BigDecimal divideOrZero(int numerator, int denominator, int scale) {
         if (denominator == 0) {
             return BigDecimal.ZERO;
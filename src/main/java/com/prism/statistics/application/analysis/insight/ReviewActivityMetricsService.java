@@ -15,6 +15,11 @@ import com.prism.statistics.domain.analysis.metadata.review.exception.ReviewNotF
 import com.prism.statistics.domain.analysis.metadata.review.enums.ReviewState;
 import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -55,6 +60,143 @@ public class ReviewActivityMetricsService {
                 });
     }
 
+    @Transactional
+    public void deriveAllMetrics(Collection<Long> githubReviewIds) {
+        List<Review> reviews = findAssignedReviewsInOrder(githubReviewIds);
+        List<Long> pullRequestIds = reviews.stream()
+                .map(review -> review.getPullRequestId())
+                .distinct()
+                .toList();
+
+        Map<ReviewerKey, ReviewSession> sessionsByReviewer = new HashMap<>();
+        reviewSessionRepository.findAllByPullRequestIds(pullRequestIds)
+                .forEach(session -> sessionsByReviewer.put(ReviewerKey.of(session), session));
+        Map<Long, ReviewResponseTime> responseTimesByPullRequestId = new HashMap<>();
+        reviewResponseTimeRepository.findAllByPullRequestIds(pullRequestIds)
+                .forEach(responseTime -> responseTimesByPullRequestId.put(responseTime.getPullRequestId(), responseTime));
+        Map<Long, PullRequestBottleneck> bottlenecksByPullRequestId = new HashMap<>();
+        pullRequestBottleneckRepository.findAllByPullRequestIds(pullRequestIds)
+                .forEach(bottleneck -> bottlenecksByPullRequestId.put(bottleneck.getPullRequestId(), bottleneck));
+        Map<Long, PullRequest> pullRequestsById = new HashMap<>();
+        pullRequestRepository.findAllByIds(
+                pullRequestIds.stream()
+                        .filter(pullRequestId -> !bottlenecksByPullRequestId.containsKey(pullRequestId))
+                        .toList()
+        ).forEach(pullRequest -> pullRequestsById.put(pullRequest.getId(), pullRequest));
+
+        List<ReviewSession> newSessions = new ArrayList<>();
+        List<ReviewResponseTime> newResponseTimes = new ArrayList<>();
+        List<PullRequestBottleneck> newBottlenecks = new ArrayList<>();
+        for (Review review : reviews) {
+            applyReviewSession(review, sessionsByReviewer, newSessions);
+            applyReviewResponseTime(review, responseTimesByPullRequestId, newResponseTimes);
+            applyBottleneck(review, bottlenecksByPullRequestId, pullRequestsById, newBottlenecks);
+        }
+
+        reviewSessionRepository.saveAll(newSessions);
+        reviewResponseTimeRepository.saveAll(newResponseTimes);
+        pullRequestBottleneckRepository.saveAll(newBottlenecks);
+    }
+
+    private List<Review> findAssignedReviewsInOrder(Collection<Long> githubReviewIds) {
+        Map<Long, Review> reviewsByGithubReviewId = new HashMap<>();
+        reviewRepository.findAllByGithubReviewIds(githubReviewIds)
+                .forEach(review -> reviewsByGithubReviewId.put(review.getGithubReviewId(), review));
+
+        List<Review> reviews = new ArrayList<>();
+        for (Long githubReviewId : githubReviewIds) {
+            Review review = reviewsByGithubReviewId.get(githubReviewId);
+            if (review == null) {
+                throw new ReviewNotFoundException();
+            }
+            if (review.hasAssignedPullRequest()) {
+                reviews.add(review);
+            }
+        }
+        return reviews;
+    }
+
+    private void applyReviewSession(
+            Review review,
+            Map<ReviewerKey, ReviewSession> sessionsByReviewer,
+            List<ReviewSession> newSessions
+    ) {
+        ReviewSession session = sessionsByReviewer.get(ReviewerKey.of(review));
+        if (session != null) {
+            session.updateOnReview(review.getGithubSubmittedAt(), review.getCommentCount());
+            return;
+        }
+
+        ReviewSession newSession = createNewReviewSession(
+                review.getPullRequestId(),
+                review.getReviewer(),
+                review.getGithubSubmittedAt()
+        );
+        sessionsByReviewer.put(ReviewerKey.of(review), newSession);
+        newSessions.add(newSession);
+    }
+
+    private void applyReviewResponseTime(
+            Review review,
+            Map<Long, ReviewResponseTime> responseTimesByPullRequestId,
+            List<ReviewResponseTime> newResponseTimes
+    ) {
+        ReviewState state = review.getReviewState();
+        Long pullRequestId = review.getPullRequestId();
+        LocalDateTime reviewedAt = review.getGithubSubmittedAt();
+        ReviewResponseTime responseTime = responseTimesByPullRequestId.get(pullRequestId);
+
+        if (state.isChangesRequested()) {
+            if (responseTime != null) {
+                responseTime.updateOnChangesRequested(reviewedAt);
+                return;
+            }
+
+            ReviewResponseTime newResponseTime = ReviewResponseTime.createOnChangesRequested(pullRequestId, reviewedAt);
+            responseTimesByPullRequestId.put(pullRequestId, newResponseTime);
+            newResponseTimes.add(newResponseTime);
+            return;
+        }
+
+        if (state.isApproved()
+                && responseTime != null
+                && responseTime.hasChangesRequested()
+                && !responseTime.isResolved()) {
+            responseTime.updateOnApproveAfterChanges(reviewedAt);
+        }
+    }
+
+    private void applyBottleneck(
+            Review review,
+            Map<Long, PullRequestBottleneck> bottlenecksByPullRequestId,
+            Map<Long, PullRequest> pullRequestsById,
+            List<PullRequestBottleneck> newBottlenecks
+    ) {
+        Long pullRequestId = review.getPullRequestId();
+        LocalDateTime reviewedAt = review.getGithubSubmittedAt();
+        boolean isApprove = review.getReviewState().isApproved();
+        PullRequestBottleneck bottleneck = bottlenecksByPullRequestId.get(pullRequestId);
+
+        if (bottleneck != null) {
+            bottleneck.updateOnNewReview(reviewedAt, isApprove);
+            return;
+        }
+
+        PullRequest pullRequest = pullRequestsById.get(pullRequestId);
+        if (pullRequest == null) {
+            throw new PullRequestNotFoundException();
+        }
+
+        PullRequestBottleneck newBottleneck = PullRequestBottleneck.createOnFirstReview(
+                pullRequestId,
+                pullRequest.getTiming().getGithubCreatedAt(),
+                reviewedAt,
+                isApprove
+        );
+        bottlenecksByPullRequestId.put(pullRequestId, newBottleneck);
+        newBottlenecks.add(newBottleneck);
+    }
+
     private void createOrUpdateReviewSession(Review review) {
         Long pullRequestId = review.getPullRequestId();
         GithubUser reviewer = review.getReviewer();
@@ -139,4 +281,15 @@ public class ReviewActivityMetricsService {
 
         pullRequestBottleneckRepository.save(bottleneck);
     }
+
+    private record ReviewerKey(Long pullRequestId, Long reviewerGithubId) {
+
+        private static ReviewerKey of(ReviewSession session) {
+            return new ReviewerKey(session.getPullRequestId(), session.getReviewer().getUserId());
+        }
+
+        private static ReviewerKey of(Review review) {
+            return new ReviewerKey(review.getPullRequestId(), review.getReviewer().getUserId());
+        }
+    }
 }
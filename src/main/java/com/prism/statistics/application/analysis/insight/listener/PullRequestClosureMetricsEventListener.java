@@ -1,5 +1,6 @@
 package com.prism.statistics.application.analysis.insight.listener;
 
+import com.prism.statistics.application.analysis.insight.DeferredInsightContext;
 import com.prism.statistics.application.analysis.insight.PullRequestClosureMetricsEvent;
 import com.prism.statistics.application.analysis.insight.PullRequestClosureMetricsPublisher;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestStateChangedEvent;
@@ -13,6 +14,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class PullRequestClosureMetricsEventListener {
 
     private final PullRequestClosureMetricsPublisher closureMetricsPublisher;
+    private final DeferredInsightContext deferredInsightContext;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(PullRequestStateChangedEvent event) {
@@ -20,10 +22,16 @@ public class PullRequestClosureMetricsEventListener {
             return;
         }
 
-        closureMetricsPublisher.publish(new PullRequestClosureMetricsEvent(
+        PullRequestClosureMetricsEvent closureEvent = new PullRequestClosureMetricsEvent(
                 event.pullRequestId(),
                 event.newState(),
                 event.githubChangedAt()
-        ));
+        );
+        if (deferredInsightContext.isDeferring()) {
+            deferredInsightContext.defer(closureEvent);
+            return;
+        }
+
+        closureMetricsPublisher.publish(closureEvent);
     }
 }
@@ -1,5 +1,6 @@
 package com.prism.statistics.application.analysis.insight.listener;
 
+import com.prism.statistics.application.analysis.insight.DeferredInsightContext;
 import com.prism.statistics.application.analysis.insight.PullRequestMetricsEvent;
 import com.prism.statistics.application.analysis.insight.PullRequestMetricsPublisher;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSavedEvent;
@@ -13,9 +14,16 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class PullRequestMetricsEventListener {
 
     private final PullRequestMetricsPublisher metricsPublisher;
+    private final DeferredInsightContext deferredInsightContext;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(PullRequestSavedEvent event) {
-        metricsPublisher.publish(new PullRequestMetricsEvent(event.pullRequestId()));
+        PullRequestMetricsEvent metricsEvent = new PullRequestMetricsEvent(event.pullRequestId());
+        if (deferredInsightContext.isDeferring()) {
+            deferredInsightContext.defer(metricsEvent);
+            return;
+        }
+
+        metricsPublisher.publish(metricsEvent);
     }
 }
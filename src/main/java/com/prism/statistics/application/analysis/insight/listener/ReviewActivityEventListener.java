@@ -1,5 +1,6 @@
 package com.prism.statistics.application.analysis.insight.listener;
 
+import com.prism.statistics.application.analysis.insight.DeferredInsightContext;
 import com.prism.statistics.application.analysis.insight.ReviewActivityEvent;
 import com.prism.statistics.application.analysis.insight.ReviewActivityPublisher;
 import com.prism.statistics.application.analysis.metadata.review.event.ReviewSavedEvent;
@@ -13,9 +14,16 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class ReviewActivityEventListener {
 
     private final ReviewActivityPublisher reviewActivityPublisher;
+    private final DeferredInsightContext deferredInsightContext;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(ReviewSavedEvent event) {
-        reviewActivityPublisher.publish(new ReviewActivityEvent(event.githubReviewId()));
+        ReviewActivityEvent activityEvent = new ReviewActivityEvent(event.githubReviewId());
+        if (deferredInsightContext.isDeferring()) {
+            deferredInsightContext.defer(activityEvent);
+            return;
+        }
+
+        reviewActivityPublisher.publish(activityEvent);
     }
 }
@@ -0,0 +1,138 @@
+package com.prism.statistics.application.analysis.metadata.pullrequest;
+
+import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSavedEvent;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanLinkTarget;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanParentType;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanReconciler;
+import com.prism.statistics.global.config.properties.PullRequestBackfillProperties;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class PullRequestBackfillBatcher implements SmartLifecycle {
+
+    private final Clock clock;
+    private final PullRequestBackfillProperties backfillProperties;
+    private final PullRequestBackfiller pullRequestBackfiller;
+    private final OrphanReconciler orphanReconciler;
+    private final TaskScheduler backfillScheduler;
+    private final Executor backfillExecutor;
+    private final Queue<PullRequestSavedEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private volatile boolean running;
+
+    public PullRequestBackfillBatcher(
+            Clock clock,
+            PullRequestBackfillProperties backfillProperties,
+            PullRequestBackfiller pullRequestBackfiller,
+            OrphanReconciler orphanReconciler,
+            @Qualifier("pullRequestBackfillScheduler") TaskScheduler backfillScheduler,
+            @Qualifier("backfillExecutor") Executor backfillExecutor
+    ) {
+        this.clock = clock;
+        this.backfillProperties = backfillProperties;
+        this.pullRequestBackfiller = pullRequestBackfiller;
+        this.orphanReconciler = orphanReconciler;
+        this.backfillScheduler = backfillScheduler;
+        this.backfillExecutor = backfillExecutor;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void submit(PullRequestSavedEvent event) {
+        pendingEvents.add(event);
+        if (!running) {
+            flush();
+            return;
+        }
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            backfillScheduler.schedule(
+                    () -> dispatchFlush(),
+                    clock.instant().plusMillis(backfillProperties.windowMs())
+            );
+        } catch (RejectedExecutionException e) {
+            log.warn("backfill 예약이 거절되어 현재 스레드에서 처리합니다.", e);
+            flushScheduled.set(false);
+            flush();
+        }
+    }
+
+    private void dispatchFlush() {
+        flushScheduled.set(false);
+        try {
+            backfillExecutor.execute(() -> flush());
+        } catch (RejectedExecutionException e) {
+            log.warn("backfill 작업이 거절되어 예약 스레드에서 처리합니다.", e);
+            flush();
+        }
+    }
+
+    private void flush() {
+        Map<Long, Long> batch = nextBatch();
+        while (!batch.isEmpty()) {
+            backfill(batch);
+            batch = nextBatch();
+        }
+    }
+
+    private Map<Long, Long> nextBatch() {
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        PullRequestSavedEvent event;
+        while (batch.size() < backfillProperties.maxBatchSize() && (event = pendingEvents.poll()) != null) {
+            batch.put(event.githubPullRequestId(), event.pullRequestId());
+        }
+        return batch;
+    }
+
+    private void backfill(Map<Long, Long> batch) {
+        try {
+            pullRequestBackfiller.backfill(batch);
+        } catch (Exception e) {
+            log.error("Pull Request backfill에 실패해 고아 데이터 연결을 개별로 다시 시도합니다. size={}", batch.size(), e);
+            batch.keySet().forEach(githubPullRequestId -> register(githubPullRequestId));
+        }
+    }
+
+    private void register(Long githubPullRequestId) {
+        try {
+            orphanReconciler.register(
+                    OrphanParentType.PULL_REQUEST,
+                    githubPullRequestId,
+                    OrphanLinkTarget.belongingTo(OrphanParentType.PULL_REQUEST)
+            );
+        } catch (Exception e) {
+            log.error("Pull Request 고아 데이터 연결에 실패했습니다. githubPullRequestId={}", githubPullRequestId, e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.prism.statistics.application.analysis.metadata.pullrequest;
+
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanParentType;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanReconciler;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.CommitRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestContentHistoryRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileHistoryRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestLabelHistoryRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestLabelRepository;
+import com.prism.statistics.domain.analysis.metadata.review.repository.RequestedReviewerHistoryRepository;
+import com.prism.statistics.domain.analysis.metadata.review.repository.RequestedReviewerRepository;
+import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewRepository;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class PullRequestBackfiller {
+
+    private final PullRequestLabelRepository pullRequestLabelRepository;
+    private final PullRequestLabelHistoryRepository pullRequestLabelHistoryRepository;
+    private final RequestedReviewerRepository requestedReviewerRepository;
+    private final RequestedReviewerHistoryRepository requestedReviewerHistoryRepository;
+    private final ReviewRepository reviewRepository;
+    private final CommitRepository commitRepository;
+    private final PullRequestFileRepository pullRequestFileRepository;
+    private final PullRequestContentHistoryRepository pullRequestContentHistoryRepository;
+    private final PullRequestFileHistoryRepository pullRequestFileHistoryRepository;
+    private final OrphanReconciler orphanReconciler;
+
+    @Transactional
+    public long backfill(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
+        orphanReconciler.untrack(OrphanParentType.PULL_REQUEST, pullRequestIdsByGithubPullRequestId.keySet());
+
+        return pullRequestLabelRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId)
+                + pullRequestLabelHistoryRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId)
+                + requestedReviewerRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId)
+                + requestedReviewerHistoryRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId)
+                + reviewRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId)
+                + commitRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId)
+                + pullRequestFileRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId)
+                + pullRequestContentHistoryRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId)
+                + pullRequestFileHistoryRepository.backfillPullRequestIds(pullRequestIdsByGithubPullRequestId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.prism.statistics.application.analysis.metadata.pullrequest;
+
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileHistory;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFilePush;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileSnapshot;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileState;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileHistoryRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileHistoryDto;
+import com.prism.statistics.global.config.properties.BatchInsertProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PullRequestFileHistoryRecorder {
+
+    private final PullRequestFileHistoryRepository pullRequestFileHistoryRepository;
+    private final BatchInsertProperties batchInsertProperties;
+
+    public <T> void record(
+            PullRequestFilePush push,
+            FileDataChunks<T> files,
+            Function<T, PullRequestFileState> fileStateMapper
+    ) {
+        PullRequestFileSnapshot previousSnapshot = PullRequestFileSnapshot.replay(
+                pullRequestFileHistoryRepository.findAllChangedUntil(push.githubPullRequestId(), push.githubChangedAt())
+        );
+        List<PullRequestFileHistory> nextPushHistories = pullRequestFileHistoryRepository.findNextPushHistories(
+                push.githubPullRequestId(),
+                push.githubChangedAt()
+        );
+        List<PullRequestFileState> currentFiles = new ArrayList<>();
+
+        files.forEachChunk(batchInsertProperties.chunkSize(), chunk -> {
+            List<PullRequestFileState> fileStates = chunk.stream()
+                    .map(file -> fileStateMapper.apply(file))
+                    .toList();
+
+            currentFiles.addAll(fileStates);
+            pullRequestFileHistoryRepository.saveAllInBatch(previousSnapshot.changesTo(fileStates, push));
+        });
+
+        PullRequestFileSnapshot currentSnapshot = PullRequestFileSnapshot.of(currentFiles);
+        pullRequestFileHistoryRepository.saveAllInBatch(previousSnapshot.exclusionsTo(currentSnapshot, push));
+
+        if (!nextPushHistories.isEmpty()) {
+            rebaseNextPush(previousSnapshot, currentSnapshot, nextPushHistories);
+        }
+    }
+
+    private void rebaseNextPush(
+            PullRequestFileSnapshot previousSnapshot,
+            PullRequestFileSnapshot currentSnapshot,
+            List<PullRequestFileHistory> nextPushHistories
+    ) {
+        PullRequestFileSnapshot nextSnapshot = previousSnapshot.apply(
+                nextPushHistories.stream()
+                        .map(history -> PullRequestFileHistoryDto.from(history))
+                        .toList()
+        );
+        PullRequestFilePush nextPush = PullRequestFilePush.from(nextPushHistories.getFirst());
+        List<Long> nextPushHistoryIds = nextPushHistories.stream()
+                .map(history -> history.getId())
+                .toList();
+
+        pullRequestFileHistoryRepository.deleteAllByIdInBatch(nextPushHistoryIds);
+        pullRequestFileHistoryRepository.saveAllInBatch(currentSnapshot.deltaTo(nextSnapshot, nextPush));
+    }
+}
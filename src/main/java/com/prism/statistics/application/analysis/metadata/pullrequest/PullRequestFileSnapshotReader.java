@@ -0,0 +1,22 @@
+package com.prism.statistics.application.analysis.metadata.pullrequest;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileSnapshot;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileHistoryRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PullRequestFileSnapshotReader {
+
+    private final PullRequestFileHistoryRepository pullRequestFileHistoryRepository;
+
+    @Transactional(readOnly = true)
+    public PullRequestFileSnapshot read(Long githubPullRequestId, LocalDateTime githubChangedAt) {
+        return PullRequestFileSnapshot.replay(
+                pullRequestFileHistoryRepository.findAllChangedUntil(githubPullRequestId, githubChangedAt)
+        );
+    }
+}
@@ -21,7 +21,7 @@ public class PullRequestLabelAddedService {
     private final PullRequestLabelRepository pullRequestLabelRepository;
 
     @InboxEnqueue(CollectInboxType.PULL_REQUEST_LABEL_ADDED)
-    public void addPullRequestLabel(PullRequestLabelAddedRequest request) {
+    public void addPullRequestLabel(Long projectId, PullRequestLabelAddedRequest request) {
         PullRequestLabel pullRequestLabel = createPullRequestLabel(request);
         pullRequestLabelRepository.saveOrFind(pullRequestLabel);
     }
@@ -26,7 +26,7 @@ public class PullRequestLabelRemovedService {
 
     @InboxEnqueue(CollectInboxType.PULL_REQUEST_LABEL_REMOVED)
     @Transactional
-    public void removePullRequestLabel(PullRequestLabelRemovedRequest request) {
+    public void removePullRequestLabel(Long projectId, PullRequestLabelRemovedRequest request) {
         Long githubPullRequestId = request.githubPullRequestId();
         String headCommitSha = request.headCommitSha();
         String labelName = request.label().name();
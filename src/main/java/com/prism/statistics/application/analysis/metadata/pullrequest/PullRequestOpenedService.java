@@ -1,9 +1,11 @@
 package com.prism.statistics.application.analysis.metadata.pullrequest;
 
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest;
 import com.prism.statistics.application.collect.inbox.aop.InboxEnqueue;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.CommitNode;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.FileData;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.PullRequestData;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestOpenCreatedEvent;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSavedEvent;
@@ -34,31 +36,36 @@ public class PullRequestOpenedService {
     @InboxEnqueue(CollectInboxType.PULL_REQUEST_OPENED)
     @Transactional
     public void createPullRequest(Long projectId, PullRequestOpenedRequest request) {
+        createPullRequest(projectId, request, FileDataChunks.of(request.files()));
+    }
+
+    @Transactional
+    public void createPullRequest(Long projectId, PullRequestOpenedRequest request, FileDataChunks<FileData> files) {
         if (request.isDraft()) {
-            createDraftPullRequest(projectId, request);
+            createDraftPullRequest(projectId, request, files);
             return;
         }
-        createOpenPullRequest(projectId, request);
+        createOpenPullRequest(projectId, request, files);
     }
 
-    private void createDraftPullRequest(Long projectId, PullRequestOpenedRequest request) {
+    private void createDraftPullRequest(Long projectId, PullRequestOpenedRequest request, FileDataChunks<FileData> files) {
         PullRequestData pullRequestData = request.pullRequest();
         LocalDateTime githubCreatedAt = localDateTimeConverter.toLocalDateTime(pullRequestData.createdAt());
 
         PullRequest savedPullRequest = savePullRequest(projectId, pullRequestData, PullRequestState.DRAFT, PullRequestTiming.createDraft(githubCreatedAt));
 
         publishPullRequestSavedEvent(savedPullRequest);
-        publishPullRequestCreatedEvent(savedPullRequest, projectId, pullRequestData, request, PullRequestState.DRAFT, githubCreatedAt);
+        publishPullRequestCreatedEvent(savedPullRequest, projectId, pullRequestData, files, PullRequestState.DRAFT, githubCreatedAt);
     }
 
-    private void createOpenPullRequest(Long projectId, PullRequestOpenedRequest request) {
+    private void createOpenPullRequest(Long projectId, PullRequestOpenedRequest request, FileDataChunks<FileData> files) {
         PullRequestData pullRequestData = request.pullRequest();
         LocalDateTime githubCreatedAt = localDateTimeConverter.toLocalDateTime(pullRequestData.createdAt());
 
         PullRequest savedPullRequest = savePullRequest(projectId, pullRequestData, PullRequestState.OPEN, PullRequestTiming.createOpen(githubCreatedAt));
 
         publishPullRequestSavedEvent(savedPullRequest);
-        publishPullRequestCreatedEvent(savedPullRequest, projectId, pullRequestData, request, PullRequestState.OPEN, githubCreatedAt);
+        publishPullRequestCreatedEvent(savedPullRequest, projectId, pullRequestData, files, PullRequestState.OPEN, githubCreatedAt);
     }
 
     private PullRequest savePullRequest(Long projectId, PullRequestData pullRequestData, PullRequestState state, PullRequestTiming timing) {
@@ -93,7 +100,7 @@ public class PullRequestOpenedService {
             PullRequest savedPullRequest,
             Long projectId,
             PullRequestData pullRequestData,
-            PullRequestOpenedRequest request,
+            FileDataChunks<FileData> files,
             PullRequestState initialState,
             LocalDateTime githubCreatedAt
     ) {
@@ -116,7 +123,7 @@ public class PullRequestOpenedService {
                 pullRequestChangeStats,
                 pullRequestData.commits().totalCount(),
                 githubCreatedAt,
-                request.files(),
+                files,
                 commits
         );
 
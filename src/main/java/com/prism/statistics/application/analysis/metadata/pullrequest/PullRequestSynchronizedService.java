@@ -1,9 +1,11 @@
 package com.prism.statistics.application.analysis.metadata.pullrequest;
 
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest;
 import com.prism.statistics.application.collect.inbox.aop.InboxEnqueue;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest.CommitNode;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest.FileData;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestEarlySynchronizedEvent;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSynchronizedEvent;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestOpenCreatedEvent.CommitData;
@@ -35,15 +37,20 @@ public class PullRequestSynchronizedService {
 
     @InboxEnqueue(CollectInboxType.PULL_REQUEST_SYNCHRONIZED)
     @Transactional
-    public void synchronizePullRequest(PullRequestSynchronizedRequest request) {
-        pullRequestRepository.findWithLock(request.githubPullRequestId())
+    public void synchronizePullRequest(Long projectId, PullRequestSynchronizedRequest request) {
+        synchronizePullRequest(request, FileDataChunks.of(request.files()));
+    }
+
+    @Transactional
+    public void synchronizePullRequest(PullRequestSynchronizedRequest request, FileDataChunks<FileData> files) {
+        pullRequestRepository.findByGithubId(request.githubPullRequestId())
                 .ifPresentOrElse(
-                        pullRequest -> processSynchronize(pullRequest, request),
-                        () -> processEarlySynchronize(request)
+                        pullRequest -> processSynchronize(pullRequest, request, files),
+                        () -> processEarlySynchronize(request, files)
                 );
     }
 
-    private void processEarlySynchronize(PullRequestSynchronizedRequest request) {
+    private void processEarlySynchronize(PullRequestSynchronizedRequest request, FileDataChunks<FileData> files) {
         LocalDateTime githubChangedAt = findHeadCommitDate(request);
         PullRequestChangeStats changeStats = PullRequestChangeStats.create(
                 request.changedFiles(),
@@ -61,12 +68,16 @@ public class PullRequestSynchronizedService {
                 changeStats,
                 request.commits().totalCount(),
                 githubChangedAt,
-                request.files(),
+                files,
                 commits
         ));
     }
 
-    private void processSynchronize(PullRequest pullRequest, PullRequestSynchronizedRequest request) {
+    private void processSynchronize(
+            PullRequest pullRequest,
+            PullRequestSynchronizedRequest request,
+            FileDataChunks<FileData> files
+    ) {
         if (pullRequest.isNotSynchronizable()) {
             log.warn("이미 닫힌 pull request에 synchronize 이벤트가 도착했습니다. pullRequestId={}, state={}", pullRequest.getId(), pullRequest.getState());
             return;
@@ -80,11 +91,23 @@ public class PullRequestSynchronizedService {
                 request.deletions()
         );
 
+        synchronizeHead(pullRequest, request, isNewer, changeStats);
+
+        publishSynchronizedEvent(pullRequest, request, files, newCommitNodes, isNewer, changeStats);
+    }
+
+    private void synchronizeHead(
+            PullRequest pullRequest,
+            PullRequestSynchronizedRequest request,
+            boolean isNewer,
+            PullRequestChangeStats changeStats
+    ) {
         if (isNewer) {
-            pullRequest.synchronize(request.headCommitSha(), changeStats, request.commits().totalCount());
+            pullRequestRepository.synchronizeHead(pullRequest, request.headCommitSha(), changeStats, request.commits().totalCount());
+            return;
         }
 
-        publishSynchronizedEvent(pullRequest, request, newCommitNodes, isNewer, changeStats);
+        pullRequestRepository.increaseVersion(pullRequest);
     }
 
     private boolean isNewer(String currentHeadCommitSha, PullRequestSynchronizedRequest request) {
@@ -103,6 +126,7 @@ public class PullRequestSynchronizedService {
     private void publishSynchronizedEvent(
             PullRequest pullRequest,
             PullRequestSynchronizedRequest request,
+            FileDataChunks<FileData> files,
             List<CommitNode> newCommitNodes,
             boolean isNewer,
             PullRequestChangeStats changeStats
@@ -121,7 +145,7 @@ public class PullRequestSynchronizedService {
                 changeStats,
                 request.commits().totalCount(),
                 githubChangedAt,
-                request.files(),
+                files,
                 newCommits
         ));
     }
@@ -0,0 +1,30 @@
+package com.prism.statistics.application.analysis.metadata.pullrequest.dto.request;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+@FunctionalInterface
+public interface FileDataChunks<T> {
+
+    static <T> FileDataChunks<T> of(List<T> files) {
+        return (chunkSize, consumer) -> {
+            validateChunkSize(chunkSize);
+            if (files == null) {
+                return;
+            }
+
+            for (int start = 0; start < files.size(); start += chunkSize) {
+                int end = Math.min(start + chunkSize, files.size());
+                consumer.accept(files.subList(start, end));
+            }
+        };
+    }
+
+    static void validateChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("파일 청크 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    void forEachChunk(int chunkSize, Consumer<List<T>> consumer);
+}
@@ -1,5 +1,6 @@
 package com.prism.statistics.application.analysis.metadata.pullrequest.event;
 
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.FileData;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.PullRequestState;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestChangeStats;
@@ -16,7 +17,7 @@ public record PullRequestOpenCreatedEvent(
         PullRequestChangeStats changeStats,
         int commitCount,
         LocalDateTime githubCreatedAt,
-        List<FileData> files,
+        FileDataChunks<FileData> files,
         List<CommitData> commits
 ) {
 
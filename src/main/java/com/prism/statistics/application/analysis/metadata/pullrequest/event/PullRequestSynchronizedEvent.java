@@ -1,5 +1,6 @@
 package com.prism.statistics.application.analysis.metadata.pullrequest.event;
 
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest.FileData;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestOpenCreatedEvent.CommitData;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestChangeStats;
@@ -15,7 +16,7 @@ public record PullRequestSynchronizedEvent(
         PullRequestChangeStats changeStats,
         int commitCount,
         LocalDateTime githubChangedAt,
-        List<FileData> files,
+        FileDataChunks<FileData> files,
         List<CommitData> newCommits
 ) {
 }
@@ -4,9 +4,11 @@ import com.prism.statistics.application.analysis.metadata.pullrequest.event.Pull
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestOpenCreatedEvent;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSynchronizedEvent;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestFile;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestFileDiff;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileRepository;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.FileChanges;
+import com.prism.statistics.global.config.properties.BatchInsertProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -19,6 +21,7 @@ import java.util.List;
 public class PullRequestFileEventListener {
 
     private final PullRequestFileRepository pullRequestFileRepository;
+    private final BatchInsertProperties batchInsertProperties;
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void saveInitialFiles(PullRequestOpenCreatedEvent event) {
@@ -26,17 +29,19 @@ public class PullRequestFileEventListener {
             return;
         }
 
-        List<PullRequestFile> pullRequestFiles = event.files().stream()
-                .map(file -> PullRequestFile.create(
-                        event.pullRequestId(),
-                        event.githubPullRequestId(),
-                        file.filename(),
-                        FileChangeType.fromGitHubStatus(file.status()),
-                        FileChanges.create(file.additions(), file.deletions())
-                ))
-                .toList();
+        event.files().forEachChunk(batchInsertProperties.chunkSize(), files -> {
+            List<PullRequestFile> pullRequestFiles = files.stream()
+                    .map(file -> PullRequestFile.create(
+                            event.pullRequestId(),
+                            event.githubPullRequestId(),
+                            file.filename(),
+                            FileChangeType.fromGitHubStatus(file.status()),
+                            FileChanges.create(file.additions(), file.deletions())
+                    ))
+                    .toList();
 
-        pullRequestFileRepository.saveAllInBatch(pullRequestFiles);
+            pullRequestFileRepository.saveAllInBatch(pullRequestFiles);
+        });
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
@@ -45,32 +50,42 @@ public class PullRequestFileEventListener {
             return;
         }
 
-        pullRequestFileRepository.deleteAllByPullRequestId(event.pullRequestId());
+        PullRequestFileDiff fileDiff = PullRequestFileDiff.from(
+                pullRequestFileRepository.findSnapshotsByPullRequestId(event.pullRequestId())
+        );
 
-        List<PullRequestFile> pullRequestFiles = event.files().stream()
-                .map(file -> PullRequestFile.create(
-                        event.pullRequestId(),
-                        event.githubPullRequestId(),
-                        file.filename(),
-                        FileChangeType.fromGitHubStatus(file.status()),
-                        FileChanges.create(file.additions(), file.deletions())
-                ))
-                .toList();
+        event.files().forEachChunk(batchInsertProperties.chunkSize(), files -> {
+            List<PullRequestFile> pullRequestFiles = files.stream()
+                    .map(file -> PullRequestFile.create(
+                            event.pullRequestId(),
+                            event.githubPullRequestId(),
+                            file.filename(),
+                            FileChangeType.fromGitHubStatus(file.status()),
+                            FileChanges.create(file.additions(), file.deletions())
+                    ))
+                    .toList();
 
-        pullRequestFileRepository.saveAllInBatch(pullRequestFiles);
+            PullRequestFileDiff.Delta delta = fileDiff.compare(pullRequestFiles);
+            pullRequestFileRepository.saveAllInBatch(delta.insertedFiles());
+            pullRequestFileRepository.updateAllInBatch(delta.updatedFiles());
+        });
+
+        pullRequestFileRepository.deleteAllByIdInBatch(fileDiff.unmatchedFileIds());
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void saveEarlyFiles(PullRequestEarlySynchronizedEvent event) {
-        List<PullRequestFile> pullRequestFiles = event.files().stream()
-                .map(file -> PullRequestFile.createEarly(
-                        event.githubPullRequestId(),
-                        file.filename(),
-                        FileChangeType.fromGitHubStatus(file.status()),
-                        FileChanges.create(file.additions(), file.deletions())
-                ))
-                .toList();
+        event.files().forEachChunk(batchInsertProperties.chunkSize(), files -> {
+            List<PullRequestFile> pullRequestFiles = files.stream()
+                    .map(file -> PullRequestFile.createEarly(
+                            event.githubPullRequestId(),
+                            file.filename(),
+                            FileChangeType.fromGitHubStatus(file.status()),
+                            FileChanges.create(file.additions(), file.deletions())
+                    ))
+                    .toList();
 
-        pullRequestFileRepository.saveAllInBatch(pullRequestFiles);
+            pullRequestFileRepository.saveAllInBatch(pullRequestFiles);
+        });
     }
 }
@@ -1,105 +1,84 @@
 package com.prism.statistics.application.analysis.metadata.pullrequest.event.listener;
 
+import com.prism.statistics.application.analysis.metadata.pullrequest.PullRequestFileHistoryRecorder;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest.FileData;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestEarlySynchronizedEvent;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestOpenCreatedEvent;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSynchronizedEvent;
-import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileHistory;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFilePush;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileState;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
-import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileHistoryRepository;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.FileChanges;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.time.LocalDateTime;
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 public class PullRequestFileHistoryEventListener {
 
-    private final PullRequestFileHistoryRepository pullRequestFileHistoryRepository;
+    private final PullRequestFileHistoryRecorder pullRequestFileHistoryRecorder;
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void saveInitialFileHistory(PullRequestOpenCreatedEvent event) {
-        List<PullRequestFileHistory> pullRequestFileHistories = event.files().stream()
-                .map(file -> PullRequestFileHistory.create(
+        pullRequestFileHistoryRecorder.record(
+                new PullRequestFilePush(
                         event.pullRequestId(),
                         event.githubPullRequestId(),
                         event.headCommitSha(),
+                        event.githubCreatedAt()
+                ),
+                event.files(),
+                file -> PullRequestFileState.create(
                         file.filename(),
                         FileChangeType.fromGitHubStatus(file.status()),
-                        FileChanges.create(file.additions(), file.deletions()),
-                        event.githubCreatedAt()
-                ))
-                .toList();
-
-        pullRequestFileHistoryRepository.saveAllInBatch(pullRequestFileHistories);
+                        FileChanges.create(file.additions(), file.deletions())
+                )
+        );
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void saveFileHistory(PullRequestSynchronizedEvent event) {
-        List<PullRequestFileHistory> pullRequestFileHistories = event.files().stream()
-                .map(file -> toFileHistory(event.pullRequestId(), event.githubPullRequestId(), event.headCommitSha(), file, event.githubChangedAt()))
-                .toList();
-
-        pullRequestFileHistoryRepository.saveAllInBatch(pullRequestFileHistories);
+        pullRequestFileHistoryRecorder.record(
+                new PullRequestFilePush(
+                        event.pullRequestId(),
+                        event.githubPullRequestId(),
+                        event.headCommitSha(),
+                        event.githubChangedAt()
+                ),
+                event.files(),
+                file -> toFileState(file)
+        );
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void saveEarlyFileHistory(PullRequestEarlySynchronizedEvent event) {
-        List<PullRequestFileHistory> pullRequestFileHistories = event.files().stream()
-                .map(file -> toEarlyFileHistory(event.githubPullRequestId(), event.headCommitSha(), file, event.githubChangedAt()))
-                .toList();
-
-        pullRequestFileHistoryRepository.saveAllInBatch(pullRequestFileHistories);
-    }
-
-    private PullRequestFileHistory toFileHistory(Long pullRequestId, Long githubPullRequestId, String headCommitSha, FileData file, LocalDateTime githubChangedAt) {
-        if (file.previousFilename() != null) {
-            return PullRequestFileHistory.createRenamed(
-                    pullRequestId,
-                    githubPullRequestId,
-                    headCommitSha,
-                    file.filename(),
-                    file.previousFilename(),
-                    FileChanges.create(file.additions(), file.deletions()),
-                    githubChangedAt
-            );
-        }
-
-        return PullRequestFileHistory.create(
-                pullRequestId,
-                githubPullRequestId,
-                headCommitSha,
-                file.filename(),
-                FileChangeType.fromGitHubStatus(file.status()),
-                FileChanges.create(file.additions(), file.deletions()),
-                githubChangedAt
+        pullRequestFileHistoryRecorder.record(
+                new PullRequestFilePush(
+                        null,
+                        event.githubPullRequestId(),
+                        event.headCommitSha(),
+                        event.githubChangedAt()
+                ),
+                event.files(),
+                file -> toFileState(file)
         );
     }
 
-    private PullRequestFileHistory toEarlyFileHistory(Long githubPullRequestId, String headCommitSha, FileData file, LocalDateTime githubChangedAt) {
+    private PullRequestFileState toFileState(FileData file) {
         if (file.previousFilename() != null) {
-            return PullRequestFileHistory.createEarlyRenamed(
-                    githubPullRequestId,
-                    headCommitSha,
+            return PullRequestFileState.createRenamed(
                     file.filename(),
                     file.previousFilename(),
-                    FileChanges.create(file.additions(), file.deletions()),
-                    githubChangedAt
+                    FileChanges.create(file.additions(), file.deletions())
             );
         }
 
-        return PullRequestFileHistory.createEarly(
-                githubPullRequestId,
-                headCommitSha,
+        return PullRequestFileState.create(
                 file.filename(),
                 FileChangeType.fromGitHubStatus(file.status()),
-                FileChanges.create(file.additions(), file.deletions()),
-                githubChangedAt
+                FileChanges.create(file.additions(), file.deletions())
         );
     }
 }
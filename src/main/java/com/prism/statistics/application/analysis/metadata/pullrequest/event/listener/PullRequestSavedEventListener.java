@@ -1,16 +1,9 @@
 package com.prism.statistics.application.analysis.metadata.pullrequest.event.listener;
 
+import com.prism.statistics.application.analysis.metadata.pullrequest.PullRequestBackfillBatcher;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSavedEvent;
-import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestLabelHistoryRepository;
-import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestLabelRepository;
-import com.prism.statistics.domain.analysis.metadata.review.repository.RequestedReviewerHistoryRepository;
-import com.prism.statistics.domain.analysis.metadata.review.repository.RequestedReviewerRepository;
-import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -18,44 +11,10 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class PullRequestSavedEventListener {
 
-    private final PullRequestLabelRepository pullRequestLabelRepository;
-    private final PullRequestLabelHistoryRepository pullRequestLabelHistoryRepository;
-    private final RequestedReviewerRepository requestedReviewerRepository;
-    private final RequestedReviewerHistoryRepository requestedReviewerHistoryRepository;
-    private final ReviewRepository reviewRepository;
+    private final PullRequestBackfillBatcher pullRequestBackfillBatcher;
 
-    @Async("backfillExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void backfillPullRequestLabel(PullRequestSavedEvent event) {
-        pullRequestLabelRepository.backfillPullRequestId(event.githubPullRequestId(), event.pullRequestId());
-    }
-
-    @Async("backfillExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void backfillPullRequestLabelHistory(PullRequestSavedEvent event) {
-        pullRequestLabelHistoryRepository.backfillPullRequestId(event.githubPullRequestId(), event.pullRequestId());
-    }
-
-    @Async("backfillExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void backfillRequestedReviewer(PullRequestSavedEvent event) {
-        requestedReviewerRepository.backfillPullRequestId(event.githubPullRequestId(), event.pullRequestId());
-    }
-
-    @Async("backfillExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void backfillRequestedReviewerHistory(PullRequestSavedEvent event) {
-        requestedReviewerHistoryRepository.backfillPullRequestId(event.githubPullRequestId(), event.pullRequestId());
-    }
-
-    @Async("backfillExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void backfillReview(PullRequestSavedEvent event) {
-        reviewRepository.backfillPullRequestId(event.githubPullRequestId(), event.pullRequestId());
+    public void backfill(PullRequestSavedEvent event) {
+        pullRequestBackfillBatcher.submit(event);
     }
 }
@@ -0,0 +1,35 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+
+@Getter
+public enum OrphanLinkTarget {
+
+    COMMIT(OrphanParentType.PULL_REQUEST),
+    PULL_REQUEST_FILE(OrphanParentType.PULL_REQUEST),
+    PULL_REQUEST_CONTENT_HISTORY(OrphanParentType.PULL_REQUEST),
+    PULL_REQUEST_FILE_HISTORY(OrphanParentType.PULL_REQUEST),
+    REVIEW_COMMENT(OrphanParentType.REVIEW);
+
+    private final OrphanParentType parentType;
+
+    OrphanLinkTarget(OrphanParentType parentType) {
+        this.parentType = parentType;
+    }
+
+    public static Set<OrphanLinkTarget> belongingTo(OrphanParentType parentType) {
+        Set<OrphanLinkTarget> targets = EnumSet.noneOf(OrphanLinkTarget.class);
+        Arrays.stream(values())
+                .filter(target -> target.belongsTo(parentType))
+                .forEach(target -> targets.add(target));
+
+        return targets;
+    }
+
+    public boolean belongsTo(OrphanParentType parentType) {
+        return this.parentType == parentType;
+    }
+}
@@ -0,0 +1,48 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.CommitRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestContentHistoryRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileHistoryRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileRepository;
+import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewCommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class OrphanLinker {
+
+    private final CommitRepository commitRepository;
+    private final PullRequestFileRepository pullRequestFileRepository;
+    private final PullRequestContentHistoryRepository pullRequestContentHistoryRepository;
+    private final PullRequestFileHistoryRepository pullRequestFileHistoryRepository;
+    private final ReviewCommentRepository reviewCommentRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long link(PendingLink pendingLink, Long parentId) {
+        return linkTargets(pendingLink, parentId);
+    }
+
+    private long linkTargets(PendingLink pendingLink, Long parentId) {
+        long linkedCount = 0L;
+        for (OrphanLinkTarget target : pendingLink.targets()) {
+            linkedCount += link(target, pendingLink.githubParentId(), parentId);
+        }
+
+        return linkedCount;
+    }
+
+    private long link(OrphanLinkTarget target, Long githubParentId, Long parentId) {
+        return switch (target) {
+            case COMMIT -> commitRepository.backfillPullRequestId(githubParentId, parentId);
+            case PULL_REQUEST_FILE -> pullRequestFileRepository.backfillPullRequestId(githubParentId, parentId);
+            case PULL_REQUEST_CONTENT_HISTORY ->
+                    pullRequestContentHistoryRepository.backfillPullRequestId(githubParentId, parentId);
+            case PULL_REQUEST_FILE_HISTORY ->
+                    pullRequestFileHistoryRepository.backfillPullRequestId(githubParentId, parentId);
+            case REVIEW_COMMENT -> reviewCommentRepository.backfillReviewId(githubParentId, parentId);
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+public enum OrphanParentType {
+
+    PULL_REQUEST,
+    REVIEW
+}
@@ -0,0 +1,140 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestRepository;
+import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewRepository;
+import com.prism.statistics.global.config.properties.OrphanReconciliationProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanReconciler {
+
+    private final Clock clock;
+    private final OrphanReconciliationProperties reconciliationProperties;
+    private final PendingLinkIndex pendingLinkIndex;
+    private final OrphanLinker orphanLinker;
+    private final PullRequestRepository pullRequestRepository;
+    private final ReviewRepository reviewRepository;
+
+    public void register(OrphanParentType parentType, Long githubParentId, Set<OrphanLinkTarget> targets) {
+        PendingLink pendingLink = new PendingLink(parentType, githubParentId, targets, clock.instant());
+        Optional<Long> parentId = findParentId(pendingLink);
+        if (parentId.isEmpty()) {
+            pendingLinkIndex.register(pendingLink);
+            return;
+        }
+
+        try {
+            link(pendingLink, parentId.get());
+        } catch (RuntimeException e) {
+            log.warn(
+                    "이미 저장된 부모와 orphan 연결에 실패해 점검 대상으로 등록했습니다. parentType={}, githubParentId={}",
+                    parentType,
+                    githubParentId,
+                    e
+            );
+        }
+    }
+
+    public long reconcile(OrphanParentType parentType, Long githubParentId, Long parentId) {
+        pendingLinkIndex.take(parentType, githubParentId);
+        PendingLink pendingLink = new PendingLink(
+                parentType,
+                githubParentId,
+                OrphanLinkTarget.belongingTo(parentType),
+                clock.instant()
+        );
+
+        return link(pendingLink, parentId);
+    }
+
+    public void untrack(OrphanParentType parentType, Collection<Long> githubParentIds) {
+        githubParentIds.forEach(githubParentId -> pendingLinkIndex.take(parentType, githubParentId));
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.analysis.metadata.orphan-reconciliation.sweep-interval-ms:300000}",
+            fixedDelayString = "${app.analysis.metadata.orphan-reconciliation.sweep-interval-ms:300000}"
+    )
+    public void sweep() {
+        try {
+            OrphanSweepReport report = sweepStaleLinks();
+            if (!report.isEmpty()) {
+                log.info(
+                        "orphan 점검을 완료했습니다. linked={}, reported={}, expired={}, pending={}",
+                        report.linkedCount(),
+                        report.reportedCount(),
+                        report.expiredCount(),
+                        pendingLinkIndex.size()
+                );
+            }
+        } catch (Exception e) {
+            log.error("orphan 점검에 실패했습니다.", e);
+        }
+    }
+
+    public OrphanSweepReport sweepStaleLinks() {
+        Instant now = clock.instant();
+        Instant reportBefore = now.minusMillis(reconciliationProperties.reportAfterMs());
+        Instant expireBefore = now.minusMillis(reconciliationProperties.expireAfterMs());
+        int linkedCount = 0;
+        int reportedCount = 0;
+        int expiredCount = 0;
+
+        for (PendingLink pendingLink : pendingLinkIndex.findRegisteredBefore(
+                now.minusMillis(reconciliationProperties.staleAfterMs())
+        )) {
+            Optional<Long> parentId = findParentId(pendingLink);
+            if (parentId.isPresent()) {
+                reconcile(pendingLink.parentType(), pendingLink.githubParentId(), parentId.get());
+                linkedCount++;
+            } else if (pendingLink.isRegisteredBefore(expireBefore)) {
+                pendingLinkIndex.take(pendingLink.parentType(), pendingLink.githubParentId());
+                log.warn(
+                        "부모를 찾지 못한 orphan의 추적을 종료합니다. parentType={}, githubParentId={}, targets={}, registeredAt={}",
+                        pendingLink.parentType(),
+                        pendingLink.githubParentId(),
+                        pendingLink.targets(),
+                        pendingLink.registeredAt()
+                );
+                expiredCount++;
+            } else if (pendingLink.isRegisteredBefore(reportBefore) && pendingLinkIndex.markReported(pendingLink)) {
+                log.warn(
+                        "부모와 연결되지 않은 orphan이 남아 있습니다. parentType={}, githubParentId={}, targets={}, registeredAt={}",
+                        pendingLink.parentType(),
+                        pendingLink.githubParentId(),
+                        pendingLink.targets(),
+                        pendingLink.registeredAt()
+                );
+                reportedCount++;
+            }
+        }
+
+        return new OrphanSweepReport(linkedCount, reportedCount, expiredCount);
+    }
+
+    private long link(PendingLink pendingLink, Long parentId) {
+        try {
+            return orphanLinker.link(pendingLink, parentId);
+        } catch (RuntimeException e) {
+            pendingLinkIndex.register(pendingLink);
+            throw e;
+        }
+    }
+
+    private Optional<Long> findParentId(PendingLink pendingLink) {
+        return switch (pendingLink.parentType()) {
+            case PULL_REQUEST -> pullRequestRepository.findIdByGithubId(pendingLink.githubParentId());
+            case REVIEW -> reviewRepository.findIdByGithubReviewId(pendingLink.githubParentId());
+        };
+    }
+}
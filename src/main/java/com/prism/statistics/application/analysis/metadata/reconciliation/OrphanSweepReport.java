@@ -0,0 +1,8 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+public record OrphanSweepReport(int linkedCount, int reportedCount, int expiredCount) {
+
+    public boolean isEmpty() {
+        return linkedCount == 0 && reportedCount == 0 && expiredCount == 0;
+    }
+}
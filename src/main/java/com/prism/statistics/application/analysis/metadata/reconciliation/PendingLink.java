@@ -0,0 +1,32 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record PendingLink(
+        OrphanParentType parentType,
+        Long githubParentId,
+        Set<OrphanLinkTarget> targets,
+        Instant registeredAt
+) {
+
+    public PendingLink {
+        if (parentType == null) {
+            throw new IllegalArgumentException("연결 대상 부모 유형은 비어 있을 수 없습니다.");
+        }
+        if (githubParentId == null) {
+            throw new IllegalArgumentException("연결 대상 GitHub ID는 비어 있을 수 없습니다.");
+        }
+        if (targets == null || targets.isEmpty()) {
+            throw new IllegalArgumentException("연결할 orphan 대상은 비어 있을 수 없습니다.");
+        }
+        if (targets.stream().anyMatch(target -> !target.belongsTo(parentType))) {
+            throw new IllegalArgumentException("orphan 대상의 부모 유형이 일치하지 않습니다.");
+        }
+        targets = Set.copyOf(targets);
+    }
+
+    public boolean isRegisteredBefore(Instant threshold) {
+        return registeredAt.isBefore(threshold);
+    }
+}
@@ -0,0 +1,85 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PendingLinkIndex {
+
+    private final Map<PendingLinkKey, PendingLinkEntry> entries = new ConcurrentHashMap<>();
+    private final Set<PendingLinkKey> reportedKeys = ConcurrentHashMap.newKeySet();
+
+    public void register(PendingLink pendingLink) {
+        entries.merge(
+                PendingLinkKey.from(pendingLink),
+                PendingLinkEntry.from(pendingLink),
+                (existing, registered) -> existing.merge(registered)
+        );
+    }
+
+    public Optional<PendingLink> take(OrphanParentType parentType, Long githubParentId) {
+        PendingLinkKey key = new PendingLinkKey(parentType, githubParentId);
+        PendingLinkEntry entry = entries.remove(key);
+        reportedKeys.remove(key);
+
+        return Optional.ofNullable(entry)
+                .map(removed -> removed.toPendingLink(key));
+    }
+
+    public List<PendingLink> findRegisteredBefore(Instant threshold) {
+        return entries.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().registeredAt().isBefore(threshold))
+                .map(entry -> entry.getValue().toPendingLink(entry.getKey()))
+                .toList();
+    }
+
+    public boolean markReported(PendingLink pendingLink) {
+        PendingLinkKey key = PendingLinkKey.from(pendingLink);
+
+        return entries.containsKey(key) && reportedKeys.add(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        reportedKeys.clear();
+    }
+
+    private record PendingLinkKey(OrphanParentType parentType, Long githubParentId) {
+
+        private static PendingLinkKey from(PendingLink pendingLink) {
+            return new PendingLinkKey(pendingLink.parentType(), pendingLink.githubParentId());
+        }
+    }
+
+    private record PendingLinkEntry(Set<OrphanLinkTarget> targets, Instant registeredAt) {
+
+        private static PendingLinkEntry from(PendingLink pendingLink) {
+            return new PendingLinkEntry(EnumSet.copyOf(pendingLink.targets()), pendingLink.registeredAt());
+        }
+
+        private PendingLinkEntry merge(PendingLinkEntry other) {
+            Set<OrphanLinkTarget> mergedTargets = EnumSet.copyOf(targets);
+            mergedTargets.addAll(other.targets());
+            Instant earliestRegisteredAt = registeredAt.isBefore(other.registeredAt())
+                    ? registeredAt
+                    : other.registeredAt();
+
+            return new PendingLinkEntry(mergedTargets, earliestRegisteredAt);
+        }
+
+        private PendingLink toPendingLink(PendingLinkKey key) {
+            return new PendingLink(key.parentType(), key.githubParentId(), targets, registeredAt);
+        }
+    }
+}
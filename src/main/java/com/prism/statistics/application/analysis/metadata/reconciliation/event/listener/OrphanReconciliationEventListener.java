@@ -0,0 +1,51 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation.event.listener;
+
+import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestEarlySynchronizedEvent;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanLinkTarget;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanParentType;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanReconciler;
+import com.prism.statistics.application.analysis.metadata.review.event.ReviewCommentEarlyCreatedEvent;
+import com.prism.statistics.application.analysis.metadata.review.event.ReviewSavedEvent;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class OrphanReconciliationEventListener {
+
+    private final OrphanReconciler orphanReconciler;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void registerEarlySynchronized(PullRequestEarlySynchronizedEvent event) {
+        Set<OrphanLinkTarget> targets = EnumSet.of(
+                OrphanLinkTarget.PULL_REQUEST_FILE,
+                OrphanLinkTarget.PULL_REQUEST_CONTENT_HISTORY,
+                OrphanLinkTarget.PULL_REQUEST_FILE_HISTORY
+        );
+        if (!event.commits().isEmpty()) {
+            targets.add(OrphanLinkTarget.COMMIT);
+        }
+
+        orphanReconciler.register(OrphanParentType.PULL_REQUEST, event.githubPullRequestId(), targets);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void registerEarlyReviewComment(ReviewCommentEarlyCreatedEvent event) {
+        orphanReconciler.register(
+                OrphanParentType.REVIEW,
+                event.githubReviewId(),
+                EnumSet.of(OrphanLinkTarget.REVIEW_COMMENT)
+        );
+    }
+
+    @Async("backfillExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void reconcileReview(ReviewSavedEvent event) {
+        orphanReconciler.reconcile(OrphanParentType.REVIEW, event.githubReviewId(), event.reviewId());
+    }
+}
@@ -1,6 +1,7 @@
 package com.prism.statistics.application.analysis.metadata.review;
 
 import com.prism.statistics.application.analysis.metadata.review.dto.request.ReviewCommentCreatedRequest;
+import com.prism.statistics.application.analysis.metadata.review.event.ReviewCommentEarlyCreatedEvent;
 import com.prism.statistics.application.collect.inbox.aop.InboxEnqueue;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import com.prism.statistics.application.analysis.metadata.utils.LocalDateTimeConverter;
@@ -12,6 +13,7 @@ import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewCom
 import com.prism.statistics.domain.analysis.metadata.review.vo.CommentLineRange;
 import com.prism.statistics.domain.analysis.metadata.review.vo.ParentCommentId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -23,11 +25,16 @@ public class ReviewCommentCreatedService {
     private final LocalDateTimeConverter localDateTimeConverter;
     private final ReviewRepository reviewRepository;
     private final ReviewCommentRepository reviewCommentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @InboxEnqueue(CollectInboxType.REVIEW_COMMENT_CREATED)
-    public void createReviewComment(ReviewCommentCreatedRequest request) {
+    public void createReviewComment(Long projectId, ReviewCommentCreatedRequest request) {
         ReviewComment reviewComment = buildReviewComment(request);
         reviewCommentRepository.saveOrFind(reviewComment);
+
+        if (reviewComment.getReviewId() == null) {
+            eventPublisher.publishEvent(new ReviewCommentEarlyCreatedEvent(request.githubReviewId()));
+        }
     }
 
     private ReviewComment buildReviewComment(ReviewCommentCreatedRequest request) {
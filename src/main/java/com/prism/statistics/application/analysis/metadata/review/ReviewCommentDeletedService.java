@@ -20,7 +20,7 @@ public class ReviewCommentDeletedService {
     private final ReviewCommentRepository reviewCommentRepository;
 
     @InboxEnqueue(CollectInboxType.REVIEW_COMMENT_DELETED)
-    public void deleteReviewComment(ReviewCommentDeletedRequest request) {
+    public void deleteReviewComment(Long projectId, ReviewCommentDeletedRequest request) {
         validateReviewCommentExists(request.githubCommentId());
 
         reviewCommentRepository.softDeleteIfLatest(
@@ -17,7 +17,7 @@ public class ReviewCommentEditedService {
     private final ReviewCommentRepository reviewCommentRepository;
 
     @InboxEnqueue(CollectInboxType.REVIEW_COMMENT_EDITED)
-    public void editReviewComment(ReviewCommentEditedRequest request) {
+    public void editReviewComment(Long projectId, ReviewCommentEditedRequest request) {
         validateReviewCommentExists(request.githubCommentId());
 
         reviewCommentRepository.updateBodyIfLatest(
@@ -23,7 +23,7 @@ public class ReviewSubmittedService {
     private final ReviewRepository reviewRepository;
 
     @InboxEnqueue(CollectInboxType.REVIEW_SUBMITTED)
-    public void submitReview(ReviewSubmittedRequest request) {
+    public void submitReview(Long projectId, ReviewSubmittedRequest request) {
         Review review = createReview(request);
 
         pullRequestRepository.findIdByGithubId(request.githubPullRequestId())
@@ -22,7 +22,7 @@ public class ReviewerAddedService {
     private final RequestedReviewerRepository requestedReviewerRepository;
 
     @InboxEnqueue(CollectInboxType.REVIEWER_ADDED)
-    public void addReviewer(ReviewerAddedRequest request) {
+    public void addReviewer(Long projectId, ReviewerAddedRequest request) {
         RequestedReviewer requestedReviewer = createRequestedReviewer(request);
         requestedReviewerRepository.saveOrFind(requestedReviewer);
     }
@@ -27,7 +27,7 @@ public class ReviewerRemovedService {
 
     @InboxEnqueue(CollectInboxType.REVIEWER_REMOVED)
     @Transactional
-    public void removeReviewer(ReviewerRemovedRequest request) {
+    public void removeReviewer(Long projectId, ReviewerRemovedRequest request) {
         Long githubPullRequestId = request.githubPullRequestId();
         Long userId = request.reviewer().id();
 
@@ -0,0 +1,4 @@
+package com.prism.statistics.application.analysis.metadata.review.event;
+
+public record ReviewCommentEarlyCreatedEvent(Long githubReviewId) {
+}
@@ -0,0 +1,41 @@
+package com.prism.statistics.application.collect;
+
+import com.prism.statistics.application.collect.bulk.CollectBulkImportArchiveReader;
+import com.prism.statistics.application.collect.bulk.CollectBulkImportEvent;
+import com.prism.statistics.application.collect.bulk.CollectBulkImportJob;
+import com.prism.statistics.application.collect.bulk.CollectBulkImporter;
+import com.prism.statistics.application.collect.bulk.exception.CollectBulkImportJobNotFoundException;
+import com.prism.statistics.application.collect.dto.response.CollectBulkImportJobResponse;
+import java.time.Clock;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CollectBulkImportService {
+
+    private static final int MAX_IMPORT_EVENT_COUNT = 20_000;
+
+    private final Clock clock;
+    private final ProjectApiKeyService projectApiKeyService;
+    private final CollectBulkImportArchiveReader archiveReader;
+    private final CollectBulkImporter collectBulkImporter;
+
+    public CollectBulkImportJobResponse importArchive(String apiKey, String archive) {
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        List<CollectBulkImportEvent> events = archiveReader.read(archive, MAX_IMPORT_EVENT_COUNT);
+        CollectBulkImportJob job = collectBulkImporter.start(projectId, events);
+
+        return CollectBulkImportJobResponse.of(job, clock);
+    }
+
+    public CollectBulkImportJobResponse findJob(String apiKey, String jobId) {
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        CollectBulkImportJob job = collectBulkImporter.find(jobId)
+                .filter(found -> found.belongsTo(projectId))
+                .orElseThrow(() -> new CollectBulkImportJobNotFoundException());
+
+        return CollectBulkImportJobResponse.of(job, clock);
+    }
+}
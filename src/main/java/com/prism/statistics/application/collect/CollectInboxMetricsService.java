@@ -0,0 +1,29 @@
+package com.prism.statistics.application.collect;
+
+import com.prism.statistics.application.collect.dto.response.CollectInboxMetricsResponse;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CollectInboxMetricsService {
+
+    private final Clock clock;
+    private final ProjectApiKeyService projectApiKeyService;
+    private final CollectInboxRepository collectInboxRepository;
+
+    public CollectInboxMetricsResponse findMetrics(String apiKey) {
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Long oldestPendingAgeMs = collectInboxRepository.findOldestPendingEnqueuedAt(projectId)
+                .map(enqueuedAt -> Math.max(0L, Duration.between(enqueuedAt, now).toMillis()))
+                .orElse(null);
+
+        return CollectInboxMetricsResponse.of(collectInboxRepository.countBacklog(projectId), oldestPendingAgeMs);
+    }
+}
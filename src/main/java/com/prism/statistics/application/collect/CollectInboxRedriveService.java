@@ -0,0 +1,50 @@
+package com.prism.statistics.application.collect;
+
+import com.prism.statistics.application.collect.dto.request.CollectInboxRedriveRequest;
+import com.prism.statistics.application.collect.dto.response.CollectInboxRedriveCountResponse;
+import com.prism.statistics.application.collect.dto.response.CollectInboxRedriveJobResponse;
+import com.prism.statistics.application.collect.inbox.CollectInboxRedriveJob;
+import com.prism.statistics.application.collect.inbox.CollectInboxRedriver;
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxRedriveJobNotFoundException;
+import com.prism.statistics.domain.project.exception.ProjectOwnershipException;
+import com.prism.statistics.domain.project.repository.ProjectRepository;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CollectInboxRedriveService {
+
+    private final Clock clock;
+    private final ProjectRepository projectRepository;
+    private final CollectInboxRedriver collectInboxRedriver;
+
+    public CollectInboxRedriveCountResponse count(Long userId, Long projectId, CollectInboxRedriveRequest request) {
+        validateProjectOwnership(projectId, userId);
+
+        return CollectInboxRedriveCountResponse.from(collectInboxRedriver.count(request.toCondition(projectId)));
+    }
+
+    public CollectInboxRedriveJobResponse redrive(Long userId, Long projectId, CollectInboxRedriveRequest request) {
+        validateProjectOwnership(projectId, userId);
+        CollectInboxRedriveJob job = collectInboxRedriver.start(request.toCondition(projectId));
+
+        return CollectInboxRedriveJobResponse.of(job, clock);
+    }
+
+    public CollectInboxRedriveJobResponse findJob(Long userId, Long projectId, String jobId) {
+        validateProjectOwnership(projectId, userId);
+        CollectInboxRedriveJob job = collectInboxRedriver.find(jobId)
+                .filter(found -> found.belongsTo(projectId))
+                .orElseThrow(() -> new CollectInboxRedriveJobNotFoundException());
+
+        return CollectInboxRedriveJobResponse.of(job, clock);
+    }
+
+    private void validateProjectOwnership(Long projectId, Long userId) {
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new ProjectOwnershipException();
+        }
+    }
+}
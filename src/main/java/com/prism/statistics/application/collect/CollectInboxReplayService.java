@@ -0,0 +1,53 @@
+package com.prism.statistics.application.collect;
+
+import com.prism.statistics.application.collect.dto.request.CollectInboxReplayRequest;
+import com.prism.statistics.application.collect.dto.request.CollectInboxReplayRequest.ReplayEvent;
+import com.prism.statistics.application.collect.dto.response.CollectInboxReplayResponse;
+import com.prism.statistics.application.collect.inbox.CollectInboxProcessor;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CollectInboxReplayService {
+
+    private static final int MAX_REPLAY_EVENT_COUNT = 500;
+
+    private final ProjectApiKeyService projectApiKeyService;
+    private final CollectInboxProcessor collectInboxProcessor;
+
+    public CollectInboxReplayResponse replay(String apiKey, CollectInboxReplayRequest request) {
+        validateEvents(request.events());
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+
+        List<CollectInbox> pendingInboxes = request.events()
+                .stream()
+                .map(event -> toPendingInbox(projectId, event))
+                .toList();
+        List<CollectInboxEnqueueResult> enqueueResults = collectInboxProcessor.enqueueAll(pendingInboxes);
+
+        return CollectInboxReplayResponse.from(enqueueResults);
+    }
+
+    private void validateEvents(List<ReplayEvent> events) {
+        if (events == null || events.isEmpty()) {
+            throw new IllegalArgumentException("재처리할 이벤트가 비어 있습니다.");
+        }
+        if (events.size() > MAX_REPLAY_EVENT_COUNT) {
+            throw new IllegalArgumentException(
+                    "한 번에 재처리할 수 있는 이벤트는 최대 " + MAX_REPLAY_EVENT_COUNT + "건입니다."
+            );
+        }
+    }
+
+    private CollectInbox toPendingInbox(Long projectId, ReplayEvent event) {
+        if (event.payload() == null || event.payload().isNull()) {
+            throw new IllegalArgumentException("재처리 이벤트의 payload는 비어 있을 수 없습니다.");
+        }
+
+        return CollectInbox.pending(event.collectType(), projectId, event.runId(), event.payload().toString());
+    }
+}
@@ -0,0 +1,119 @@
+package com.prism.statistics.application.collect;
+
+import com.prism.statistics.global.config.properties.ProjectApiKeyCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectApiKeyCache {
+
+    private final Clock clock;
+    private final ProjectApiKeyCacheProperties properties;
+    private final Map<String, CachedProjectId> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ProjectApiKeyCache(Clock clock, ProjectApiKeyCacheProperties properties, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.properties = properties;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedProjectId> eldest) {
+                return size() > properties.maxSize();
+            }
+        };
+        this.hitCounter = Counter.builder("project.api_key.cache.requests")
+                .description("프로젝트 API Key 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("project.api_key.cache.requests")
+                .description("프로젝트 API Key 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("project.api_key.cache.size", this, cache -> cache.size())
+                .description("프로젝트 API Key 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    public Optional<Long> resolve(String apiKey, Function<String, Optional<Long>> loader) {
+        if (!properties.enabled() || apiKey == null) {
+            return loader.apply(apiKey);
+        }
+
+        Instant now = clock.instant();
+        CachedProjectId cached = find(apiKey, now);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.projectId();
+        }
+
+        missCounter.increment();
+        Optional<Long> loaded = loader.apply(apiKey);
+        store(apiKey, loaded, now);
+        return loaded;
+    }
+
+    public void evict(String apiKey) {
+        synchronized (entries) {
+            entries.remove(apiKey);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CachedProjectId find(String apiKey, Instant now) {
+        synchronized (entries) {
+            CachedProjectId cached = entries.get(apiKey);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.isExpired(now)) {
+                entries.remove(apiKey);
+                return null;
+            }
+
+            return cached;
+        }
+    }
+
+    private void store(String apiKey, Optional<Long> projectId, Instant now) {
+        CachedProjectId cached = new CachedProjectId(projectId, now.plusMillis(ttlMsOf(projectId)));
+
+        synchronized (entries) {
+            entries.put(apiKey, cached);
+        }
+    }
+
+    private long ttlMsOf(Optional<Long> projectId) {
+        if (projectId.isPresent()) {
+            return properties.ttlMs();
+        }
+
+        return properties.negativeTtlMs();
+    }
+
+    private record CachedProjectId(Optional<Long> projectId, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -4,25 +4,21 @@ import com.prism.statistics.domain.project.exception.InvalidApiKeyException;
 import com.prism.statistics.domain.project.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectApiKeyService {
 
     private final ProjectRepository projectRepository;
+    private final ProjectApiKeyCache projectApiKeyCache;
 
-    @Transactional(readOnly = true)
     public Long resolveProjectId(String apiKey) {
-        return projectRepository.findIdByApiKey(apiKey)
+        return projectApiKeyCache.resolve(apiKey, key -> projectRepository.findIdByApiKey(key))
                 .orElseThrow(() -> new InvalidApiKeyException());
     }
 
-    @Transactional(readOnly = true)
     public void validateApiKey(String apiKey) {
-        if (!projectRepository.existsByApiKey(apiKey)) {
-            throw new InvalidApiKeyException();
-        }
+        resolveProjectId(apiKey);
     }
 
 }
@@ -0,0 +1,115 @@
+package com.prism.statistics.application.collect.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CollectBulkImportArchiveReader {
+
+    private static final String COLLECT_TYPE_FIELD = "collectType";
+    private static final String RUN_ID_FIELD = "runId";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final String PULL_REQUEST_NUMBER_FIELD = "pullRequestNumber";
+    private static final String PULL_REQUEST_FIELD = "pullRequest";
+    private static final String NUMBER_FIELD = "number";
+    private static final String GITHUB_COMMENT_ID_FIELD = "githubCommentId";
+
+    private final ObjectMapper objectMapper;
+
+    public List<CollectBulkImportEvent> read(String archive, int maxEventCount) {
+        if (archive == null || archive.isBlank()) {
+            throw new IllegalArgumentException("가져올 이벤트가 비어 있습니다.");
+        }
+
+        List<CollectBulkImportEvent> events = new ArrayList<>();
+        String[] lines = archive.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            if (events.size() == maxEventCount) {
+                throw new IllegalArgumentException("한 번에 가져올 수 있는 이벤트는 최대 " + maxEventCount + "건입니다.");
+            }
+            events.add(readLine(lines[i], i + 1));
+        }
+
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("가져올 이벤트가 비어 있습니다.");
+        }
+        return events;
+    }
+
+    private CollectBulkImportEvent readLine(String line, int lineNumber) {
+        JsonNode event = parse(line, lineNumber);
+        JsonNode payload = event.get(PAYLOAD_FIELD);
+        if (payload == null || !payload.isObject()) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 payload가 비어 있습니다.");
+        }
+
+        return new CollectBulkImportEvent(
+                readCollectType(event, lineNumber),
+                readRunId(event, lineNumber),
+                payload.toString(),
+                findPullRequestNumber(payload),
+                findGithubCommentId(payload)
+        );
+    }
+
+    private JsonNode parse(String line, int lineNumber) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄을 JSON으로 읽을 수 없습니다.", e);
+        }
+    }
+
+    private CollectInboxType readCollectType(JsonNode event, int lineNumber) {
+        JsonNode collectType = event.get(COLLECT_TYPE_FIELD);
+        if (collectType == null || !collectType.isTextual()) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 collectType이 비어 있습니다.");
+        }
+
+        try {
+            return CollectInboxType.valueOf(collectType.asText());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 collectType을 지원하지 않습니다.", e);
+        }
+    }
+
+    private long readRunId(JsonNode event, int lineNumber) {
+        JsonNode runId = event.get(RUN_ID_FIELD);
+        if (runId == null || !runId.canConvertToLong()) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 runId가 올바르지 않습니다.");
+        }
+
+        return runId.asLong();
+    }
+
+    private Integer findPullRequestNumber(JsonNode payload) {
+        JsonNode pullRequestNumber = payload.get(PULL_REQUEST_NUMBER_FIELD);
+        if (pullRequestNumber == null || pullRequestNumber.isNull()) {
+            pullRequestNumber = payload.path(PULL_REQUEST_FIELD).get(NUMBER_FIELD);
+        }
+        if (pullRequestNumber == null || !pullRequestNumber.canConvertToInt()) {
+            return null;
+        }
+
+        return pullRequestNumber.asInt();
+    }
+
+    private Long findGithubCommentId(JsonNode payload) {
+        JsonNode githubCommentId = payload.get(GITHUB_COMMENT_ID_FIELD);
+        if (githubCommentId == null || !githubCommentId.canConvertToLong()) {
+            return null;
+        }
+
+        return githubCommentId.asLong();
+    }
+}
@@ -0,0 +1,24 @@
+package com.prism.statistics.application.collect.bulk;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+
+public record CollectBulkImportEvent(
+        CollectInboxType collectType,
+        long runId,
+        String payloadJson,
+        Integer pullRequestNumber,
+        Long githubCommentId
+) {
+
+    public boolean isOpened() {
+        return collectType == CollectInboxType.PULL_REQUEST_OPENED;
+    }
+
+    public boolean hasPullRequestNumber() {
+        return pullRequestNumber != null;
+    }
+
+    public boolean hasGithubCommentId() {
+        return githubCommentId != null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.bulk;
+
+public record CollectBulkImportFailedGroup(
+        Integer pullRequestNumber,
+        Long githubCommentId,
+        int eventCount,
+        String failureReason
+) {}
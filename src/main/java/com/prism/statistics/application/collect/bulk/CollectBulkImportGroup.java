@@ -0,0 +1,68 @@
+package com.prism.statistics.application.collect.bulk;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record CollectBulkImportGroup(
+        Integer pullRequestNumber,
+        Long githubCommentId,
+        List<CollectBulkImportEvent> events
+) {
+
+    private static final Comparator<CollectBulkImportEvent> EVENT_ORDER =
+            Comparator.comparing((CollectBulkImportEvent event) -> !event.isOpened())
+                    .thenComparingLong(event -> event.runId());
+
+    public CollectBulkImportGroup {
+        events = List.copyOf(events);
+    }
+
+    public static List<CollectBulkImportGroup> plan(List<CollectBulkImportEvent> events) {
+        Map<Integer, List<CollectBulkImportEvent>> eventsByPullRequest = new TreeMap<>();
+        Map<Long, List<CollectBulkImportEvent>> eventsByComment = new TreeMap<>();
+        List<CollectBulkImportEvent> standaloneEvents = new ArrayList<>();
+        for (CollectBulkImportEvent event : events) {
+            if (event.hasPullRequestNumber()) {
+                eventsByPullRequest.computeIfAbsent(event.pullRequestNumber(), ignored -> new ArrayList<>())
+                        .add(event);
+                continue;
+            }
+            if (event.hasGithubCommentId()) {
+                eventsByComment.computeIfAbsent(event.githubCommentId(), ignored -> new ArrayList<>())
+                        .add(event);
+                continue;
+            }
+            standaloneEvents.add(event);
+        }
+
+        List<CollectBulkImportGroup> groups = new ArrayList<>();
+        eventsByPullRequest.forEach((pullRequestNumber, pullRequestEvents) ->
+                groups.add(sorted(pullRequestNumber, null, pullRequestEvents))
+        );
+        eventsByComment.forEach((githubCommentId, commentEvents) ->
+                groups.add(sorted(null, githubCommentId, commentEvents))
+        );
+        standaloneEvents.stream()
+                .sorted(EVENT_ORDER)
+                .forEach(event -> groups.add(new CollectBulkImportGroup(null, null, List.of(event))));
+
+        return groups;
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    private static CollectBulkImportGroup sorted(
+            Integer pullRequestNumber,
+            Long githubCommentId,
+            List<CollectBulkImportEvent> events
+    ) {
+        List<CollectBulkImportEvent> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(EVENT_ORDER);
+        return new CollectBulkImportGroup(pullRequestNumber, githubCommentId, sortedEvents);
+    }
+}
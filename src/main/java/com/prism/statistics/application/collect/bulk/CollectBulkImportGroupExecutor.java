@@ -0,0 +1,26 @@
+package com.prism.statistics.application.collect.bulk;
+
+import com.prism.statistics.application.collect.inbox.ProcessingSourceContext;
+import com.prism.statistics.application.collect.inbox.routing.CollectInboxContext;
+import com.prism.statistics.application.collect.inbox.routing.CollectInboxEventRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CollectBulkImportGroupExecutor {
+
+    private final CollectInboxEventRouter collectInboxEventRouter;
+    private final ProcessingSourceContext processingSourceContext;
+
+    @Transactional
+    public void execute(Long projectId, CollectBulkImportGroup group) {
+        processingSourceContext.withInboxProcessing(
+                () -> group.events().forEach(event -> collectInboxEventRouter.route(
+                        new CollectInboxContext(projectId, event.payloadJson()),
+                        event.collectType()
+                ))
+        );
+    }
+}
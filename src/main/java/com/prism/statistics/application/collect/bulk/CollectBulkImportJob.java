@@ -0,0 +1,76 @@
+package com.prism.statistics.application.collect.bulk;
+
+import com.prism.statistics.application.analysis.insight.DeferredInsightReport;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class CollectBulkImportJob {
+
+    private final String id;
+    private final Long projectId;
+    private final int eventCount;
+    private final int groupCount;
+    private final Instant startedAt;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong importedEventCount = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final List<CollectBulkImportFailedGroup> failedGroups = new CopyOnWriteArrayList<>();
+
+    private volatile CollectBulkImportStatus status = CollectBulkImportStatus.RUNNING;
+    private volatile int derivedInsightCount;
+    private volatile int failedInsightCount;
+    private volatile Instant finishedAt;
+    private volatile String failureReason;
+
+    public CollectBulkImportJob(Long projectId, int eventCount, int groupCount, Instant startedAt) {
+        this.id = UUID.randomUUID().toString();
+        this.projectId = projectId;
+        this.eventCount = eventCount;
+        this.groupCount = groupCount;
+        this.startedAt = startedAt;
+    }
+
+    public long importedEventCount() {
+        return importedEventCount.get();
+    }
+
+    public List<CollectBulkImportFailedGroup> failedGroups() {
+        return List.copyOf(failedGroups);
+    }
+
+    public boolean belongsTo(Long projectId) {
+        return this.projectId.equals(projectId);
+    }
+
+    void addImported(CollectBulkImportGroup group) {
+        importedEventCount.addAndGet(group.size());
+    }
+
+    void addFailed(CollectBulkImportGroup group, String failureReason) {
+        failedGroups.add(new CollectBulkImportFailedGroup(
+                group.pullRequestNumber(),
+                group.githubCommentId(),
+                group.size(),
+                failureReason
+        ));
+    }
+
+    void complete(DeferredInsightReport insightReport, Instant finishedAt) {
+        this.derivedInsightCount = insightReport.derivedCount();
+        this.failedInsightCount = insightReport.failedCount();
+        this.finishedAt = finishedAt;
+        this.status = CollectBulkImportStatus.COMPLETED;
+    }
+
+    void fail(Instant finishedAt, String failureReason) {
+        this.finishedAt = finishedAt;
+        this.failureReason = failureReason;
+        this.status = CollectBulkImportStatus.FAILED;
+    }
+}
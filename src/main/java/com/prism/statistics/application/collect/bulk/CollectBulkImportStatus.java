@@ -0,0 +1,12 @@
+package com.prism.statistics.application.collect.bulk;
+
+public enum CollectBulkImportStatus {
+
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isRunning() {
+        return this == RUNNING;
+    }
+}
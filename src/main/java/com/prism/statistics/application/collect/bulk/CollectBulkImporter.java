@@ -0,0 +1,137 @@
+package com.prism.statistics.application.collect.bulk;
+
+import com.prism.statistics.application.analysis.insight.DeferredInsightContext;
+import com.prism.statistics.application.analysis.insight.DeferredInsightDeriver;
+import com.prism.statistics.application.analysis.insight.DeferredInsights;
+import com.prism.statistics.application.collect.bulk.exception.CollectBulkImportInProgressException;
+import com.prism.statistics.application.collect.inbox.CollectConflictRetrier;
+import com.prism.statistics.application.collect.inbox.CollectInboxFailureReasonTruncator;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CollectBulkImporter {
+
+    private static final int RETAINED_JOB_COUNT = 20;
+
+    private final Clock clock;
+    private final CollectConflictRetrier collectConflictRetrier;
+    private final CollectBulkImportGroupExecutor groupExecutor;
+    private final CollectInboxFailureReasonTruncator failureReasonTruncator;
+    private final DeferredInsightContext deferredInsightContext;
+    private final DeferredInsightDeriver deferredInsightDeriver;
+    private final Executor bulkImportExecutor;
+    private final Map<String, CollectBulkImportJob> jobs = new ConcurrentHashMap<>();
+
+    public CollectBulkImporter(
+            Clock clock,
+            CollectConflictRetrier collectConflictRetrier,
+            CollectBulkImportGroupExecutor groupExecutor,
+            CollectInboxFailureReasonTruncator failureReasonTruncator,
+            DeferredInsightContext deferredInsightContext,
+            DeferredInsightDeriver deferredInsightDeriver,
+            @Qualifier("collectBulkImportExecutor") Executor bulkImportExecutor
+    ) {
+        this.clock = clock;
+        this.collectConflictRetrier = collectConflictRetrier;
+        this.groupExecutor = groupExecutor;
+        this.failureReasonTruncator = failureReasonTruncator;
+        this.deferredInsightContext = deferredInsightContext;
+        this.deferredInsightDeriver = deferredInsightDeriver;
+        this.bulkImportExecutor = bulkImportExecutor;
+    }
+
+    public synchronized CollectBulkImportJob start(Long projectId, List<CollectBulkImportEvent> events) {
+        if (jobs.values().stream().anyMatch(job -> job.getStatus().isRunning())) {
+            throw new CollectBulkImportInProgressException();
+        }
+
+        List<CollectBulkImportGroup> groups = CollectBulkImportGroup.plan(events);
+        CollectBulkImportJob job = new CollectBulkImportJob(projectId, events.size(), groups.size(), clock.instant());
+
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        try {
+            bulkImportExecutor.execute(() -> run(job, groups));
+        } catch (RejectedExecutionException e) {
+            job.fail(clock.instant(), e.getMessage());
+            throw new CollectBulkImportInProgressException();
+        }
+        return job;
+    }
+
+    public Optional<CollectBulkImportJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    void run(CollectBulkImportJob job, List<CollectBulkImportGroup> groups) {
+        try {
+            DeferredInsights deferredInsights = new DeferredInsights();
+            groups.forEach(group -> importGroup(job, group, deferredInsights));
+            job.complete(deferredInsightDeriver.derive(deferredInsights), clock.instant());
+            log.info(
+                    "일괄 가져오기를 완료했습니다. jobId={}, projectId={}, imported={}, failedGroups={}",
+                    job.getId(),
+                    job.getProjectId(),
+                    job.importedEventCount(),
+                    job.failedGroups().size()
+            );
+        } catch (Exception e) {
+            log.error("일괄 가져오기에 실패했습니다. jobId={}", job.getId(), e);
+            job.fail(clock.instant(), failureReasonTruncator.truncate(e.getMessage()));
+        }
+    }
+
+    private void importGroup(CollectBulkImportJob job, CollectBulkImportGroup group, DeferredInsights deferredInsights) {
+        try {
+            deferredInsights.addAll(executeWithConflictRetry(job, group));
+            job.addImported(group);
+        } catch (Exception e) {
+            log.warn(
+                    "일괄 가져오기 중 이벤트 묶음 처리에 실패했습니다. jobId={}, pullRequestNumber={}, githubCommentId={}",
+                    job.getId(),
+                    group.pullRequestNumber(),
+                    group.githubCommentId(),
+                    e
+            );
+            job.addFailed(group, failureReasonTruncator.truncate(e.getMessage()));
+        }
+    }
+
+    private DeferredInsights executeWithConflictRetry(CollectBulkImportJob job, CollectBulkImportGroup group) {
+        return collectConflictRetrier.execute(
+                () -> deferredInsightContext.collect(() -> groupExecutor.execute(job.getProjectId(), group)),
+                attempt -> log.info(
+                        "일괄 가져오기 중 동시 수정 충돌이 발생해 이벤트 묶음을 다시 실행합니다. jobId={}, pullRequestNumber={}, attempt={}",
+                        job.getId(),
+                        group.pullRequestNumber(),
+                        attempt
+                )
+        );
+    }
+
+    private void evictFinishedJobs() {
+        int overflow = jobs.size() - RETAINED_JOB_COUNT + 1;
+        if (overflow <= 0) {
+            return;
+        }
+
+        jobs.values()
+                .stream()
+                .filter(job -> !job.getStatus().isRunning())
+                .sorted(Comparator.comparing(job -> job.getStartedAt()))
+                .limit(overflow)
+                .toList()
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.bulk.exception;
+
+public class CollectBulkImportInProgressException extends RuntimeException {
+
+    public CollectBulkImportInProgressException() {
+        super("이미 진행 중인 일괄 가져오기 작업이 있습니다.");
+    }
+}
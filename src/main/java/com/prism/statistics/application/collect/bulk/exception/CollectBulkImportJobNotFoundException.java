@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.bulk.exception;
+
+public class CollectBulkImportJobNotFoundException extends RuntimeException {
+
+    public CollectBulkImportJobNotFoundException() {
+        super("일괄 가져오기 작업을 찾을 수 없습니다.");
+    }
+}
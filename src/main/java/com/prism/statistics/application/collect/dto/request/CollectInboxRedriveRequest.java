@@ -0,0 +1,26 @@
+package com.prism.statistics.application.collect.dto.request;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxRedriveCondition;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.time.Instant;
+
+public record CollectInboxRedriveRequest(
+        CollectInboxType collectType,
+        CollectInboxFailureType failureType,
+        Instant failedFrom,
+        Instant failedTo,
+        String failureReason
+) {
+
+    public CollectInboxRedriveCondition toCondition(Long projectId) {
+        return new CollectInboxRedriveCondition(
+                projectId,
+                collectType,
+                failureType,
+                failedFrom,
+                failedTo,
+                failureReason
+        );
+    }
+}
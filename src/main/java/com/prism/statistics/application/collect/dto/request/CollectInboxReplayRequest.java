@@ -0,0 +1,16 @@
+package com.prism.statistics.application.collect.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.List;
+
+public record CollectInboxReplayRequest(
+        List<ReplayEvent> events
+) {
+
+    public record ReplayEvent(
+            CollectInboxType collectType,
+            long runId,
+            JsonNode payload
+    ) {}
+}
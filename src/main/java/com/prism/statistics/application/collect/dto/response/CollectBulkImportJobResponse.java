@@ -0,0 +1,48 @@
+package com.prism.statistics.application.collect.dto.response;
+
+import com.prism.statistics.application.collect.bulk.CollectBulkImportFailedGroup;
+import com.prism.statistics.application.collect.bulk.CollectBulkImportJob;
+import com.prism.statistics.application.collect.bulk.CollectBulkImportStatus;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CollectBulkImportJobResponse(
+        String jobId,
+        CollectBulkImportStatus status,
+        int eventCount,
+        int groupCount,
+        long importedEventCount,
+        List<CollectBulkImportFailedGroup> failedGroups,
+        int derivedInsightCount,
+        int failedInsightCount,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String failureReason
+) {
+
+    public static CollectBulkImportJobResponse of(CollectBulkImportJob job, Clock clock) {
+        return new CollectBulkImportJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getEventCount(),
+                job.getGroupCount(),
+                job.importedEventCount(),
+                job.failedGroups(),
+                job.getDerivedInsightCount(),
+                job.getFailedInsightCount(),
+                toLocalDateTime(job.getStartedAt(), clock),
+                toLocalDateTime(job.getFinishedAt(), clock),
+                job.getFailureReason()
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant, Clock clock) {
+        if (instant == null) {
+            return null;
+        }
+
+        return LocalDateTime.ofInstant(instant, clock.getZone());
+    }
+}
@@ -0,0 +1,34 @@
+package com.prism.statistics.application.collect.dto.response;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxBacklogCount;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.List;
+
+public record CollectInboxMetricsResponse(
+        List<BacklogCount> backlog,
+        Long oldestPendingAgeMs
+) {
+
+    public static CollectInboxMetricsResponse of(
+            List<CollectInboxBacklogCount> backlogCounts,
+            Long oldestPendingAgeMs
+    ) {
+        List<BacklogCount> backlog = backlogCounts.stream()
+                .map(backlogCount -> BacklogCount.from(backlogCount))
+                .toList();
+
+        return new CollectInboxMetricsResponse(backlog, oldestPendingAgeMs);
+    }
+
+    public record BacklogCount(
+            CollectInboxStatus status,
+            CollectInboxType collectType,
+            long count
+    ) {
+
+        public static BacklogCount from(CollectInboxBacklogCount backlogCount) {
+            return new BacklogCount(backlogCount.status(), backlogCount.collectType(), backlogCount.count());
+        }
+    }
+}
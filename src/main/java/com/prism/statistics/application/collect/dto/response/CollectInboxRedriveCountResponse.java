@@ -0,0 +1,18 @@
+package com.prism.statistics.application.collect.dto.response;
+
+import com.prism.statistics.application.collect.inbox.CollectInboxRedriveCount;
+
+public record CollectInboxRedriveCountResponse(
+        long failedCount,
+        long deadLetteredCount,
+        long totalCount
+) {
+
+    public static CollectInboxRedriveCountResponse from(CollectInboxRedriveCount count) {
+        return new CollectInboxRedriveCountResponse(
+                count.failedCount(),
+                count.deadLetteredCount(),
+                count.totalCount()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.prism.statistics.application.collect.dto.response;
+
+import com.prism.statistics.application.collect.inbox.CollectInboxRedriveJob;
+import com.prism.statistics.application.collect.inbox.CollectInboxRedriveStatus;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public record CollectInboxRedriveJobResponse(
+        String jobId,
+        CollectInboxRedriveStatus status,
+        long targetCount,
+        long redrivenCount,
+        long skippedCount,
+        double redrivenPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String failureReason
+) {
+
+    public static CollectInboxRedriveJobResponse of(CollectInboxRedriveJob job, Clock clock) {
+        return new CollectInboxRedriveJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getTargetCount(),
+                job.redrivenCount(),
+                job.skippedCount(),
+                job.redrivenPerSecond(clock.instant()),
+                toLocalDateTime(job.getStartedAt(), clock),
+                toLocalDateTime(job.getFinishedAt(), clock),
+                job.getFailureReason()
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant, Clock clock) {
+        if (instant == null) {
+            return null;
+        }
+
+        return LocalDateTime.ofInstant(instant, clock.getZone());
+    }
+}
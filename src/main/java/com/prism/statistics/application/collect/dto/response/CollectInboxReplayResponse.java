@@ -0,0 +1,38 @@
+package com.prism.statistics.application.collect.dto.response;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.List;
+
+public record CollectInboxReplayResponse(
+        int acceptedCount,
+        int duplicatedCount,
+        List<ReplayEventResult> results
+) {
+
+    public static CollectInboxReplayResponse from(List<CollectInboxEnqueueResult> enqueueResults) {
+        List<ReplayEventResult> results = enqueueResults.stream()
+                .map(enqueueResult -> ReplayEventResult.from(enqueueResult))
+                .toList();
+        int acceptedCount = (int) results.stream()
+                .filter(result -> result.accepted())
+                .count();
+
+        return new CollectInboxReplayResponse(acceptedCount, results.size() - acceptedCount, results);
+    }
+
+    public record ReplayEventResult(
+            CollectInboxType collectType,
+            long runId,
+            boolean accepted
+    ) {
+
+        public static ReplayEventResult from(CollectInboxEnqueueResult enqueueResult) {
+            return new ReplayEventResult(
+                    enqueueResult.collectType(),
+                    enqueueResult.runId(),
+                    enqueueResult.accepted()
+            );
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectRetryProperties;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CollectConflictRetrier {
+
+    private final CollectRetryProperties collectRetryProperties;
+
+    public void executeWithoutResult(Runnable action, IntConsumer beforeRetry) {
+        execute(
+                () -> {
+                    action.run();
+                    return null;
+                },
+                beforeRetry
+        );
+    }
+
+    public <T> T execute(Supplier<T> action, IntConsumer beforeRetry) {
+        int attempt = 1;
+
+        while (true) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= collectRetryProperties.conflictMaxAttempts()) {
+                    throw e;
+                }
+
+                beforeRetry.accept(attempt);
+                attempt++;
+            }
+        }
+    }
+}
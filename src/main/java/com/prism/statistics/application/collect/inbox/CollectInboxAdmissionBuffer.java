@@ -0,0 +1,51 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxAdmissionRejectedException;
+import com.prism.statistics.global.config.properties.CollectInboxAdmissionProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxAdmissionBuffer {
+
+    private final BlockingQueue<CollectInbox> pendingInboxes;
+    private final long retryAfterSeconds;
+
+    public CollectInboxAdmissionBuffer(CollectInboxAdmissionProperties admissionProperties) {
+        this.pendingInboxes = new ArrayBlockingQueue<>(admissionProperties.bufferCapacity());
+        this.retryAfterSeconds = admissionProperties.retryAfterSeconds();
+    }
+
+    public void admit(CollectInbox pendingInbox) {
+        if (!pendingInboxes.offer(pendingInbox)) {
+            throw new CollectInboxAdmissionRejectedException(retryAfterSeconds);
+        }
+    }
+
+    public List<CollectInbox> pollBatch(int maxSize, long timeoutMs) throws InterruptedException {
+        CollectInbox first = pendingInboxes.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<CollectInbox> batch = new ArrayList<>(maxSize);
+        batch.add(first);
+        pendingInboxes.drainTo(batch, maxSize - 1);
+        return batch;
+    }
+
+    public List<CollectInbox> drain(int maxSize) {
+        List<CollectInbox> batch = new ArrayList<>(maxSize);
+        pendingInboxes.drainTo(batch, maxSize);
+        return batch;
+    }
+
+    public int size() {
+        return pendingInboxes.size();
+    }
+}
@@ -1,9 +1,11 @@
 package com.prism.statistics.application.collect.inbox;
 
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxLeaseLostException;
 import com.prism.statistics.application.collect.inbox.routing.CollectInboxContext;
 import com.prism.statistics.application.collect.inbox.routing.CollectInboxEventRouter;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
 import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRepository;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
 import java.time.Clock;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -28,7 +30,10 @@ public class CollectInboxClaimedExecutor {
                 () -> collectInboxEventRouter.route(context, claimedInbox.getCollectType())
         );
 
+        BoxProcessingLease heldLease = claimedInbox.getProcessingLease();
         claimedInbox.markProcessed(clock.instant());
-        collectInboxRepository.save(claimedInbox);
+        if (!collectInboxRepository.saveIfLeaseHeld(claimedInbox, heldLease)) {
+            throw new CollectInboxLeaseLostException(claimedInbox.getId());
+        }
     }
 }
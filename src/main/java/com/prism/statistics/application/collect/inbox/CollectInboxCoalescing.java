@@ -0,0 +1,13 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import java.util.List;
+
+public record CollectInboxCoalescing(CollectInbox survivor, List<CollectInbox> superseded) {
+
+    public List<Long> supersededIds() {
+        return superseded.stream()
+                .map(inbox -> inbox.getId())
+                .toList();
+    }
+}
@@ -1,9 +1,11 @@
 package com.prism.statistics.application.collect.inbox;
 
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxLeaseLostException;
 import com.prism.statistics.global.config.properties.CollectRetryProperties;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
 import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRepository;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
 import java.time.Clock;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
@@ -21,33 +23,31 @@ public class CollectInboxEntryProcessor {
     private final CollectRetryProperties collectRetryProperties;
     private final CollectInboxRepository collectInboxRepository;
     private final CollectInboxClaimedExecutor collectInboxClaimedExecutor;
+    private final CollectConflictRetrier collectConflictRetrier;
     private final CollectInboxFailureReasonTruncator failureReasonTruncator;
     private final CollectRetryExceptionClassifier retryExceptionClassifier;
+    private final CollectInboxRetryBackoff retryBackoff;
+    private final CollectInboxMetrics collectInboxMetrics;
 
-    public void process(CollectInbox inbox) {
-        Long inboxId = inbox.getId();
-        if (inboxId == null) {
+    public void process(CollectInbox claimedInbox) {
+        if (claimedInbox.getId() == null) {
             return;
         }
 
-        Instant processingStartedAt = clock.instant();
-        if (!collectInboxRepository.markProcessingIfClaimable(inboxId, processingStartedAt)) {
-            return;
-        }
-
-        collectInboxRepository.findById(inboxId)
-                .ifPresentOrElse(
-                        claimedInbox -> processClaimedInbox(claimedInbox),
-                        () -> log.warn(
-                                "PROCESSING으로 전이된 inbox를 조회하지 못했습니다. inboxId={}",
-                                inboxId
-                        )
-                );
+        processClaimedInbox(claimedInbox);
     }
 
     private void processClaimedInbox(CollectInbox claimedInbox) {
+        BoxProcessingLease processingLease = claimedInbox.getProcessingLease();
         try {
-            collectInboxClaimedExecutor.execute(claimedInbox);
+            executeWithConflictRetry(claimedInbox, processingLease);
+        } catch (CollectInboxLeaseLostException e) {
+            log.warn(
+                    "{} inbox의 lease를 다른 worker가 가져가 처리 결과를 버립니다. inboxId={}",
+                    claimedInbox.getCollectType(),
+                    claimedInbox.getId()
+            );
+            return;
         } catch (Exception e) {
             log.error(
                     "{} inbox 처리에 실패했습니다. inboxId={}",
@@ -56,25 +56,54 @@ public class CollectInboxEntryProcessor {
                     e
             );
 
+            claimedInbox.revertProcessed(processingLease);
             markFailureStatus(claimedInbox, e);
-            collectInboxRepository.save(claimedInbox);
+            if (!collectInboxRepository.saveIfLeaseHeld(claimedInbox, processingLease)) {
+                log.warn(
+                        "{} inbox의 lease를 다른 worker가 가져가 실패 상태를 반영하지 않습니다. inboxId={}",
+                        claimedInbox.getCollectType(),
+                        claimedInbox.getId()
+                );
+                return;
+            }
+            collectInboxMetrics.recordFailures(claimedInbox.getFailure().type(), 1L);
+            return;
         }
+
+        collectInboxMetrics.recordProcessed(processingLease, clock.instant());
+    }
+
+    private void executeWithConflictRetry(CollectInbox claimedInbox, BoxProcessingLease processingLease) {
+        collectConflictRetrier.executeWithoutResult(
+                () -> collectInboxClaimedExecutor.execute(claimedInbox),
+                attempt -> {
+                    log.info(
+                            "{} inbox 처리 중 동시 수정 충돌이 발생해 다시 실행합니다. inboxId={}, attempt={}",
+                            claimedInbox.getCollectType(),
+                            claimedInbox.getId(),
+                            attempt
+                    );
+                    claimedInbox.revertProcessed(processingLease);
+                }
+        );
     }
 
     private void markFailureStatus(CollectInbox inbox, Exception exception) {
         String reason = resolveFailureReason(exception);
+        Instant failedAt = clock.instant();
 
         if (!retryExceptionClassifier.isRetryable(exception)) {
-            inbox.markFailed(clock.instant(), reason, CollectInboxFailureType.BUSINESS_INVARIANT);
+            inbox.markFailed(failedAt, reason, CollectInboxFailureType.BUSINESS_INVARIANT);
             return;
         }
 
         if (inbox.getProcessingAttempt() < collectRetryProperties.maxAttempts()) {
-            inbox.markRetryPending(clock.instant(), reason);
+            Instant nextAttemptAt = retryBackoff.nextAttemptAt(failedAt, inbox.getProcessingAttempt());
+            inbox.markRetryPending(failedAt, reason, nextAttemptAt);
             return;
         }
 
-        inbox.markFailed(clock.instant(), reason, CollectInboxFailureType.RETRY_EXHAUSTED);
+        inbox.markFailed(failedAt, reason, CollectInboxFailureType.RETRY_EXHAUSTED);
     }
 
     private String resolveFailureReason(Exception exception) {
@@ -0,0 +1,32 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxFastPathQueue {
+
+    private final BlockingQueue<Long> inboxIds;
+
+    public CollectInboxFastPathQueue(CollectInboxProperties collectInboxProperties) {
+        this.inboxIds = new ArrayBlockingQueue<>(collectInboxProperties.fastPathQueueCapacity());
+    }
+
+    public boolean offer(Long inboxId) {
+        return inboxIds.offer(inboxId);
+    }
+
+    public List<Long> poll(int maxSize) {
+        if (maxSize <= 0) {
+            return List.of();
+        }
+
+        List<Long> polledIds = new ArrayList<>(maxSize);
+        inboxIds.drainTo(polledIds, maxSize);
+        return polledIds;
+    }
+}
@@ -0,0 +1,156 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectInboxAdmissionProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CollectInboxGroupCommitWriter implements SmartLifecycle {
+
+    private static final String THREAD_NAME = "collect-inbox-group-commit";
+    private static final int PHASE_AFTER_WEB_SERVER = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final CollectInboxAdmissionProperties admissionProperties;
+    private final CollectInboxAdmissionBuffer admissionBuffer;
+    private final CollectInboxProcessor collectInboxProcessor;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public CollectInboxGroupCommitWriter(
+            CollectInboxAdmissionProperties admissionProperties,
+            CollectInboxAdmissionBuffer admissionBuffer,
+            CollectInboxProcessor collectInboxProcessor,
+            MeterRegistry meterRegistry
+    ) {
+        this.admissionProperties = admissionProperties;
+        this.admissionBuffer = admissionBuffer;
+        this.collectInboxProcessor = collectInboxProcessor;
+        this.droppedCounter = Counter.builder("collect.inbox.admission.dropped")
+                .description("202 응답 후 저장하지 못하고 버린 collect inbox 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!admissionProperties.enabled()) {
+            return;
+        }
+
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name(THREAD_NAME)
+                .daemon(true)
+                .start(() -> write());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE_AFTER_WEB_SERVER;
+    }
+
+    boolean flush(List<CollectInbox> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        try {
+            List<CollectInboxEnqueueResult> results = collectInboxProcessor.enqueueAll(batch);
+
+            long duplicatedCount = results.stream()
+                    .filter(result -> !result.accepted())
+                    .count();
+            if (duplicatedCount > 0) {
+                log.info("collect inbox 일괄 저장 중 중복 요청을 스킵했습니다. count={}", duplicatedCount);
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("collect inbox 일괄 저장에 실패했습니다. count={}", batch.size(), e);
+            return false;
+        }
+    }
+
+    void flushWithRetry(List<CollectInbox> batch) {
+        for (int attempt = 1; attempt <= admissionProperties.flushMaxAttempts(); attempt++) {
+            if (flush(batch)) {
+                return;
+            }
+            if (attempt == admissionProperties.flushMaxAttempts() || !pauseBeforeRetry()) {
+                break;
+            }
+        }
+
+        drop(batch);
+    }
+
+    void flushRemaining() {
+        List<CollectInbox> batch = admissionBuffer.drain(admissionProperties.flushBatchSize());
+        while (!batch.isEmpty()) {
+            flushWithRetry(batch);
+            batch = admissionBuffer.drain(admissionProperties.flushBatchSize());
+        }
+    }
+
+    private void write() {
+        while (running) {
+            try {
+                flushWithRetry(admissionBuffer.pollBatch(
+                        admissionProperties.flushBatchSize(),
+                        admissionProperties.flushIntervalMs()
+                ));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("collect inbox 일괄 저장이 중단되었습니다.");
+                return;
+            }
+        }
+    }
+
+    private boolean pauseBeforeRetry() {
+        try {
+            Thread.sleep(admissionProperties.flushIntervalMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drop(List<CollectInbox> batch) {
+        droppedCounter.increment(batch.size());
+        batch.forEach(inbox -> log.error(
+                "202로 응답한 collect inbox 요청을 저장하지 못해 버립니다. collectType={}, projectId={}, runId={}",
+                inbox.getCollectType(),
+                inbox.getProjectId(),
+                inbox.getRunId()
+        ));
+    }
+}
@@ -0,0 +1,44 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class CollectInboxLane {
+
+    private final BlockingQueue<CollectInbox> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    CollectInboxLane(int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    boolean offer(CollectInbox inbox) {
+        return queue.offer(inbox);
+    }
+
+    List<CollectInbox> poll(int maxSize) {
+        List<CollectInbox> inboxes = new ArrayList<>(maxSize);
+        queue.drainTo(inboxes, maxSize);
+        return inboxes;
+    }
+
+    int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    boolean tryAcquire() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void release() {
+        draining.set(false);
+    }
+}
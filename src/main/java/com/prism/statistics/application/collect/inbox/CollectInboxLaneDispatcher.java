@@ -0,0 +1,125 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CollectInboxLaneDispatcher {
+
+    private final List<CollectInboxLane> lanes;
+    private final int laneBatchSize;
+    private final Executor laneExecutor;
+    private final CollectInboxPartitionKeyResolver partitionKeyResolver;
+    private final CollectInboxEntryProcessor collectInboxEntryProcessor;
+    private final CollectInboxLeaseRegistry leaseRegistry;
+
+    public CollectInboxLaneDispatcher(
+            CollectInboxProperties collectInboxProperties,
+            @Qualifier("collectInboxLaneExecutor") Executor laneExecutor,
+            CollectInboxPartitionKeyResolver partitionKeyResolver,
+            CollectInboxEntryProcessor collectInboxEntryProcessor,
+            CollectInboxLeaseRegistry leaseRegistry
+    ) {
+        this.lanes = IntStream.range(0, collectInboxProperties.laneCount())
+                .mapToObj(ignored -> new CollectInboxLane(collectInboxProperties.laneQueueCapacity()))
+                .toList();
+        this.laneBatchSize = collectInboxProperties.laneBatchSize();
+        this.laneExecutor = laneExecutor;
+        this.partitionKeyResolver = partitionKeyResolver;
+        this.collectInboxEntryProcessor = collectInboxEntryProcessor;
+        this.leaseRegistry = leaseRegistry;
+    }
+
+    public int availableCapacity() {
+        return lanes.stream()
+                .mapToInt(lane -> lane.remainingCapacity())
+                .sum();
+    }
+
+    public List<CollectInbox> dispatch(List<CollectInbox> claimedInboxes) {
+        List<CollectInbox> rejectedInboxes = new ArrayList<>();
+        for (CollectInbox claimedInbox : claimedInboxes) {
+            if (!assign(claimedInbox)) {
+                rejectedInboxes.add(claimedInbox);
+            }
+        }
+
+        drainLanes();
+        return rejectedInboxes;
+    }
+
+    private boolean assign(CollectInbox claimedInbox) {
+        String partitionKey = partitionKeyResolver.resolve(claimedInbox);
+        CollectInboxLane lane = lanes.get(Math.floorMod(partitionKey.hashCode(), lanes.size()));
+
+        if (lane.offer(claimedInbox)) {
+            return true;
+        }
+
+        leaseRegistry.release(claimedInbox);
+        log.warn(
+                "collect inbox lane 큐가 가득 차 선점을 반납합니다. inboxId={}, partitionKey={}",
+                claimedInbox.getId(),
+                partitionKey
+        );
+        return false;
+    }
+
+    private void drainLanes() {
+        for (CollectInboxLane lane : lanes) {
+            if (lane.isEmpty() || !lane.tryAcquire()) {
+                continue;
+            }
+
+            submit(lane);
+        }
+    }
+
+    private void submit(CollectInboxLane lane) {
+        try {
+            laneExecutor.execute(() -> drain(lane));
+        } catch (RejectedExecutionException e) {
+            lane.release();
+            log.warn("collect inbox lane 실행이 거부되어 다음 주기에 처리합니다.", e);
+        }
+    }
+
+    private void drain(CollectInboxLane lane) {
+        try {
+            List<CollectInbox> claimedInboxes = lane.poll(laneBatchSize);
+            while (!claimedInboxes.isEmpty()) {
+                claimedInboxes.forEach(claimedInbox -> processSafely(claimedInbox));
+                claimedInboxes = lane.poll(laneBatchSize);
+            }
+        } finally {
+            lane.release();
+        }
+
+        if (!lane.isEmpty() && lane.tryAcquire()) {
+            submit(lane);
+        }
+    }
+
+    private void processSafely(CollectInbox claimedInbox) {
+        try {
+            collectInboxEntryProcessor.process(claimedInbox);
+        } catch (Exception e) {
+            log.error(
+                    "collect inbox 엔트리 처리 중 예상치 못한 오류가 발생했습니다. inboxId={}",
+                    claimedInbox.getId(),
+                    e
+            );
+        } finally {
+            leaseRegistry.release(claimedInbox);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectInboxLeaseProperties;
+import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRepository;
+import java.time.Clock;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectInboxLeaseHeartbeat {
+
+    private final Clock clock;
+    private final CollectInboxProperties collectInboxProperties;
+    private final CollectInboxLeaseProperties leaseProperties;
+    private final CollectInboxLeaseOwner leaseOwner;
+    private final CollectInboxLeaseRegistry leaseRegistry;
+    private final CollectInboxRepository collectInboxRepository;
+
+    @Scheduled(
+            fixedDelayString = "${app.collect.inbox.lease.heartbeat-interval-ms:5000}",
+            scheduler = "collectInboxLeaseHeartbeatScheduler"
+    )
+    public void renewLeases() {
+        if (!collectInboxProperties.workerEnabled()) {
+            return;
+        }
+
+        List<Long> heldInboxIds = leaseRegistry.heldInboxIds();
+        if (heldInboxIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            int renewedCount = collectInboxRepository.renewLeases(
+                    heldInboxIds,
+                    leaseOwner.id(),
+                    clock.instant().plusMillis(leaseProperties.durationMs())
+            );
+
+            if (renewedCount < heldInboxIds.size()) {
+                log.debug(
+                        "갱신되지 않은 collect inbox lease가 있습니다. held={}, renewed={}",
+                        heldInboxIds.size(),
+                        renewedCount
+                );
+            }
+        } catch (Exception e) {
+            log.error("collect inbox lease 갱신에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.prism.statistics.application.collect.inbox;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxLeaseOwner {
+
+    private static final String UNKNOWN_HOST = "unknown-host";
+
+    private final String id;
+
+    public CollectInboxLeaseOwner() {
+        this(resolveHostName() + ":" + UUID.randomUUID());
+    }
+
+    CollectInboxLeaseOwner(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UNKNOWN_HOST;
+        }
+    }
+}
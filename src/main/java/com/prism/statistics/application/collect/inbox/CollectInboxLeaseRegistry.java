@@ -0,0 +1,38 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxLeaseRegistry {
+
+    private final Map<Long, Integer> heldProcessingAttempts = new ConcurrentHashMap<>();
+
+    public void hold(Collection<CollectInbox> claimedInboxes) {
+        for (CollectInbox claimedInbox : claimedInboxes) {
+            if (claimedInbox.getId() != null) {
+                heldProcessingAttempts.put(claimedInbox.getId(), claimedInbox.getProcessingAttempt());
+            }
+        }
+    }
+
+    public void release(CollectInbox claimedInbox) {
+        if (claimedInbox.getId() == null) {
+            return;
+        }
+
+        heldProcessingAttempts.remove(claimedInbox.getId(), claimedInbox.getProcessingAttempt());
+    }
+
+    public void releaseAll(Collection<CollectInbox> claimedInboxes) {
+        claimedInboxes.forEach(claimedInbox -> release(claimedInbox));
+    }
+
+    public List<Long> heldInboxIds() {
+        return List.copyOf(heldProcessingAttempts.keySet());
+    }
+}
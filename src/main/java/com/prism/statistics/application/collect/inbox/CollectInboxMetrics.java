@@ -0,0 +1,125 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxMetrics {
+
+    private static final int FIRST_PROCESSING_ATTEMPT = 1;
+
+    private final Clock clock;
+    private final Map<CollectInboxType, Counter> enqueuedCounters = new EnumMap<>(CollectInboxType.class);
+    private final Map<CollectInboxFailureType, Counter> failureCounters = new EnumMap<>(CollectInboxFailureType.class);
+    private final Map<CollectInboxPriority, AtomicLong> claimableBacklogs = new EnumMap<>(CollectInboxPriority.class);
+    private final Counter claimedCounter;
+    private final Counter processedCounter;
+    private final Timer claimWait;
+    private final Timer processingTime;
+
+    public CollectInboxMetrics(Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+
+        for (CollectInboxType collectType : CollectInboxType.values()) {
+            enqueuedCounters.put(
+                    collectType,
+                    Counter.builder("collect.inbox.enqueued")
+                            .description("collect inbox에 적재된 이벤트 수")
+                            .tag("type", collectType.name())
+                            .register(meterRegistry)
+            );
+        }
+        for (CollectInboxFailureType failureType : CollectInboxFailureType.values()) {
+            failureCounters.put(
+                    failureType,
+                    Counter.builder("collect.inbox.failures")
+                            .description("collect inbox 처리 실패 수")
+                            .tag("failure_type", failureType.name())
+                            .register(meterRegistry)
+            );
+        }
+        for (CollectInboxPriority priority : CollectInboxPriority.values()) {
+            AtomicLong claimableCount = new AtomicLong();
+            claimableBacklogs.put(priority, claimableCount);
+            Gauge.builder("collect.inbox.claimable", claimableCount, count -> count.get())
+                    .description("우선순위별 선점 가능한 collect inbox 엔트리 수")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+        }
+
+        this.claimedCounter = Counter.builder("collect.inbox.claimed")
+                .description("선점된 collect inbox 엔트리 수")
+                .register(meterRegistry);
+        this.processedCounter = Counter.builder("collect.inbox.processed")
+                .description("처리 완료된 collect inbox 엔트리 수")
+                .register(meterRegistry);
+        this.claimWait = Timer.builder("collect.inbox.claim.wait")
+                .description("처음 선점된 엔트리의 적재부터 선점까지 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.processingTime = Timer.builder("collect.inbox.processing.time")
+                .description("선점부터 처리 완료까지 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordEnqueued(CollectInboxType collectType) {
+        enqueuedCounters.get(collectType).increment();
+    }
+
+    public void recordClaimed(List<CollectInbox> claimedInboxes, Instant claimedAt) {
+        LocalDateTime claimedLocalAt = LocalDateTime.ofInstant(claimedAt, clock.getZone());
+        for (CollectInbox claimedInbox : claimedInboxes) {
+            claimedCounter.increment();
+            if (isFirstClaim(claimedInbox)) {
+                claimWait.record(nonNegative(Duration.between(claimedInbox.getEnqueuedAt(), claimedLocalAt)));
+            }
+        }
+    }
+
+    public void recordProcessed(BoxProcessingLease processingLease, Instant processedAt) {
+        processedCounter.increment();
+        if (processingLease.isClaimed()) {
+            processingTime.record(nonNegative(Duration.between(processingLease.startedAt(), processedAt)));
+        }
+    }
+
+    public void recordFailures(CollectInboxFailureType failureType, long count) {
+        failureCounters.get(failureType).increment(count);
+    }
+
+    public void recordPriorityBacklog(List<CollectInboxPriorityBacklog> priorityBacklogs) {
+        for (CollectInboxPriorityBacklog priorityBacklog : priorityBacklogs) {
+            claimableBacklogs.get(priorityBacklog.priority()).set(priorityBacklog.claimableCount());
+        }
+    }
+
+    private boolean isFirstClaim(CollectInbox claimedInbox) {
+        return claimedInbox.getEnqueuedAt() != null
+                && claimedInbox.getProcessingAttempt() == FIRST_PROCESSING_ATTEMPT;
+    }
+
+    private Duration nonNegative(Duration duration) {
+        if (duration.isNegative()) {
+            return Duration.ZERO;
+        }
+
+        return duration;
+    }
+}
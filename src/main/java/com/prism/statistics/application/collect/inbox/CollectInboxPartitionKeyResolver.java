@@ -0,0 +1,64 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectInboxPartitionKeyResolver {
+
+    private static final String PULL_REQUEST_NUMBER_FIELD = "pullRequestNumber";
+    private static final String PULL_REQUEST_FIELD = "pullRequest";
+    private static final String NUMBER_FIELD = "number";
+    private static final String GITHUB_COMMENT_ID_FIELD = "githubCommentId";
+    private static final String GITHUB_REVIEW_ID_FIELD = "githubReviewId";
+    private static final String PULL_REQUEST_KEY_PREFIX = "pull-request:";
+    private static final String REVIEW_COMMENT_KEY_PREFIX = "review-comment:";
+    private static final String REVIEW_KEY_PREFIX = "review:";
+    private static final String PROJECT_KEY_PREFIX = "project:";
+
+    private final ObjectMapper objectMapper;
+
+    public String resolve(CollectInbox inbox) {
+        JsonNode payload = readPayload(inbox);
+        if (payload == null) {
+            return PROJECT_KEY_PREFIX + inbox.getProjectId();
+        }
+
+        JsonNode pullRequestNumber = findPullRequestNumber(payload);
+        if (pullRequestNumber != null && pullRequestNumber.canConvertToInt()) {
+            return PULL_REQUEST_KEY_PREFIX + inbox.getProjectId() + ":" + pullRequestNumber.asInt();
+        }
+        if (payload.path(GITHUB_COMMENT_ID_FIELD).canConvertToLong()) {
+            return REVIEW_COMMENT_KEY_PREFIX + payload.get(GITHUB_COMMENT_ID_FIELD).asLong();
+        }
+        if (payload.path(GITHUB_REVIEW_ID_FIELD).canConvertToLong()) {
+            return REVIEW_KEY_PREFIX + payload.get(GITHUB_REVIEW_ID_FIELD).asLong();
+        }
+
+        return PROJECT_KEY_PREFIX + inbox.getProjectId();
+    }
+
+    private JsonNode findPullRequestNumber(JsonNode payload) {
+        if (payload.hasNonNull(PULL_REQUEST_NUMBER_FIELD)) {
+            return payload.get(PULL_REQUEST_NUMBER_FIELD);
+        }
+
+        return payload.path(PULL_REQUEST_FIELD).get(NUMBER_FIELD);
+    }
+
+    private JsonNode readPayload(CollectInbox inbox) {
+        try {
+            return objectMapper.readTree(inbox.getPayloadJson());
+        } catch (JsonProcessingException e) {
+            log.warn("collect inbox payload에서 파티션 키를 추출하지 못했습니다. inboxId={}", inbox.getId());
+            return null;
+        }
+    }
+}
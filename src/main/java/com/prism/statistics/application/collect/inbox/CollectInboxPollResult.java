@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.inbox;
+
+public record CollectInboxPollResult(int claimedCount, boolean capacityLimited) {
+
+    public static CollectInboxPollResult idle() {
+        return new CollectInboxPollResult(0, false);
+    }
+}
@@ -0,0 +1,38 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxPollingBackoff {
+
+    private static final long IMMEDIATE = 0L;
+
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final AtomicLong idleDelayMs;
+
+    public CollectInboxPollingBackoff(CollectInboxProperties collectInboxProperties) {
+        this.baseDelayMs = collectInboxProperties.pollDelayMs();
+        this.maxDelayMs = collectInboxProperties.pollMaxDelayMs();
+        this.idleDelayMs = new AtomicLong(baseDelayMs);
+    }
+
+    public long nextDelayMs(CollectInboxPollResult pollResult, int batchSize) {
+        if (pollResult.claimedCount() >= batchSize) {
+            idleDelayMs.set(baseDelayMs);
+            return IMMEDIATE;
+        }
+        if (pollResult.claimedCount() > 0 || pollResult.capacityLimited()) {
+            idleDelayMs.set(baseDelayMs);
+            return baseDelayMs;
+        }
+
+        return idleDelayMs.getAndUpdate(delayMs -> Math.min(delayMs * 2, maxDelayMs));
+    }
+
+    public long maxDelayMs() {
+        return maxDelayMs;
+    }
+}
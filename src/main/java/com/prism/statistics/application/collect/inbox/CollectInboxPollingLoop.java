@@ -0,0 +1,60 @@
+package com.prism.statistics.application.collect.inbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectInboxPollingLoop implements SmartLifecycle {
+
+    private static final String THREAD_NAME = "collect-inbox-poller";
+
+    private final CollectInboxWorker collectInboxWorker;
+    private final CollectInboxPollingSignal pollingSignal;
+
+    private volatile boolean running;
+    private Thread pollingThread;
+
+    @Override
+    public void start() {
+        running = true;
+        pollingThread = Thread.ofPlatform()
+                .name(THREAD_NAME)
+                .daemon(true)
+                .start(() -> poll());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        pollingSignal.wakeUp();
+
+        try {
+            pollingThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void poll() {
+        while (running) {
+            long nextDelayMs = collectInboxWorker.processInbox();
+
+            try {
+                pollingSignal.await(nextDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("collect inbox polling이 중단되었습니다.");
+                return;
+            }
+        }
+    }
+}
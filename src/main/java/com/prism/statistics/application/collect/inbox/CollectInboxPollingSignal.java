@@ -0,0 +1,23 @@
+package com.prism.statistics.application.collect.inbox;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxPollingSignal {
+
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    public boolean await(long timeoutMs) throws InterruptedException {
+        boolean awakened = wakeUps.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        wakeUps.drainPermits();
+        return awakened;
+    }
+}
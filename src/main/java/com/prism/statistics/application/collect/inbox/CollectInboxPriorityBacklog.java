@@ -0,0 +1,6 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+
+public record CollectInboxPriorityBacklog(CollectInboxPriority priority, long claimableCount) {
+}
@@ -0,0 +1,119 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectInboxPriorityProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxPriorityLanes {
+
+    private final CollectInboxPriorityProperties priorityProperties;
+    private final Map<CollectInboxPriority, Set<CollectInboxType>> typesByPriority;
+    private final AtomicInteger rotation = new AtomicInteger();
+
+    public CollectInboxPriorityLanes(CollectInboxPriorityProperties priorityProperties) {
+        this.priorityProperties = priorityProperties;
+        this.typesByPriority = groupTypesByPriority();
+    }
+
+    public boolean isEnabled() {
+        return priorityProperties.enabled();
+    }
+
+    public CollectInboxPriority priorityOf(CollectInboxType collectType) {
+        return priorityProperties.typePriorities()
+                .getOrDefault(collectType, collectType.getDefaultPriority());
+    }
+
+    public List<CollectInboxPriorityQuota> allocate(int limit) {
+        if (!priorityProperties.enabled() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<CollectInboxPriority> lanes = new ArrayList<>(typesByPriority.keySet());
+        if (limit < lanes.size()) {
+            return allocateInRotation(lanes, limit);
+        }
+
+        int totalWeight = lanes.stream()
+                .mapToInt(priority -> weightOf(priority))
+                .sum();
+        int weightedSlots = limit - lanes.size();
+        int[] shares = new int[lanes.size()];
+        int distributed = 0;
+
+        for (int i = 0; i < lanes.size(); i++) {
+            int weightedShare = weightedSlots * weightOf(lanes.get(i)) / totalWeight;
+            shares[i] = 1 + weightedShare;
+            distributed += weightedShare;
+        }
+        shares[0] += weightedSlots - distributed;
+
+        List<CollectInboxPriorityQuota> quotas = new ArrayList<>(lanes.size());
+        for (int i = 0; i < lanes.size(); i++) {
+            CollectInboxPriority priority = lanes.get(i);
+            quotas.add(new CollectInboxPriorityQuota(priority, typesByPriority.get(priority), shares[i]));
+        }
+
+        return quotas;
+    }
+
+    public List<CollectInboxPriorityBacklog> backlog(Map<CollectInboxType, Long> claimableCounts) {
+        Map<CollectInboxPriority, Long> countsByPriority = new EnumMap<>(CollectInboxPriority.class);
+        Arrays.stream(CollectInboxPriority.values())
+                .forEach(priority -> countsByPriority.put(priority, 0L));
+        claimableCounts.forEach(
+                (collectType, count) -> countsByPriority.merge(
+                        priorityOf(collectType),
+                        count,
+                        (current, added) -> current + added
+                )
+        );
+
+        return countsByPriority.entrySet().stream()
+                .map(entry -> new CollectInboxPriorityBacklog(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private List<CollectInboxPriorityQuota> allocateInRotation(List<CollectInboxPriority> lanes, int limit) {
+        int start = Math.floorMod(rotation.getAndAdd(limit), lanes.size());
+        List<CollectInboxPriorityQuota> quotas = new ArrayList<>(limit);
+
+        for (int i = 0; i < limit; i++) {
+            CollectInboxPriority priority = lanes.get((start + i) % lanes.size());
+            quotas.add(new CollectInboxPriorityQuota(priority, typesByPriority.get(priority), 1));
+        }
+
+        return quotas;
+    }
+
+    private int weightOf(CollectInboxPriority priority) {
+        return switch (priority) {
+            case HIGH -> priorityProperties.highWeight();
+            case NORMAL -> priorityProperties.normalWeight();
+            case LOW -> priorityProperties.lowWeight();
+        };
+    }
+
+    private Map<CollectInboxPriority, Set<CollectInboxType>> groupTypesByPriority() {
+        Map<CollectInboxPriority, Set<CollectInboxType>> grouped = new EnumMap<>(CollectInboxPriority.class);
+
+        for (CollectInboxType collectType : CollectInboxType.values()) {
+            grouped.computeIfAbsent(priorityOf(collectType), ignored -> EnumSet.noneOf(CollectInboxType.class))
+                    .add(collectType);
+        }
+
+        grouped.replaceAll((priority, collectTypes) -> Collections.unmodifiableSet(collectTypes));
+        return Collections.unmodifiableMap(grouped);
+    }
+}
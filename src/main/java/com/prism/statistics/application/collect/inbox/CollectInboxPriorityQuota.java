@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.Set;
+
+public record CollectInboxPriorityQuota(CollectInboxPriority priority, Set<CollectInboxType> collectTypes, int limit) {
+}
@@ -1,13 +1,26 @@
 package com.prism.statistics.application.collect.inbox;
 
+import com.prism.statistics.global.config.properties.CollectInboxLeaseProperties;
 import com.prism.statistics.global.config.properties.CollectInboxProperties;
 import com.prism.statistics.global.config.properties.CollectRetryProperties;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimPlan;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimQuota;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRepository;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,12 +32,22 @@ public class CollectInboxProcessor {
 
     private static final String PROCESSING_TIMEOUT_FAILURE_REASON =
             "PROCESSING 타임아웃으로 복구 처리되었습니다.";
+    private static final String LANE_OVERFLOW_RELEASE_REASON = "lane 여유가 없어 선점을 반납했습니다.";
+    private static final String COALESCED_REASON_PREFIX = "coalesced: survivorInboxId=";
 
     private final Clock clock;
     private final CollectInboxProperties collectInboxProperties;
     private final CollectRetryProperties collectRetryProperties;
     private final CollectInboxRepository collectInboxRepository;
-    private final CollectInboxEntryProcessor collectInboxEntryProcessor;
+    private final CollectInboxLaneDispatcher collectInboxLaneDispatcher;
+    private final CollectInboxFastPathQueue fastPathQueue;
+    private final CollectInboxPollingSignal pollingSignal;
+    private final CollectInboxSynchronizeCoalescer synchronizeCoalescer;
+    private final CollectInboxLeaseProperties leaseProperties;
+    private final CollectInboxLeaseOwner leaseOwner;
+    private final CollectInboxLeaseRegistry leaseRegistry;
+    private final CollectInboxPriorityLanes priorityLanes;
+    private final CollectInboxMetrics collectInboxMetrics;
 
     public boolean enqueue(
             CollectInboxType collectType,
@@ -32,15 +55,73 @@ public class CollectInboxProcessor {
             long runId,
             String payloadJson
     ) {
-        return collectInboxRepository.enqueue(collectType, projectId, runId, payloadJson);
+        Optional<Long> enqueuedId = collectInboxRepository.enqueue(collectType, projectId, runId, payloadJson);
+        if (enqueuedId.isEmpty()) {
+            return false;
+        }
+        collectInboxMetrics.recordEnqueued(collectType);
+
+        offerFastPath(enqueuedId.get());
+        pollingSignal.wakeUp();
+        return true;
     }
 
-    public void processPending(int limit) {
-        List<CollectInbox> pendings = collectInboxRepository.findClaimable(limit);
+    public List<CollectInboxEnqueueResult> enqueueAll(List<CollectInbox> pendingInboxes) {
+        List<CollectInboxEnqueueResult> results = collectInboxRepository.enqueueAll(pendingInboxes);
+        List<CollectInboxEnqueueResult> acceptedResults = results.stream()
+                .filter(result -> result.accepted())
+                .toList();
+        acceptedResults.forEach(result -> {
+            collectInboxMetrics.recordEnqueued(result.collectType());
+            offerFastPath(result.inboxId());
+        });
+
+        if (!acceptedResults.isEmpty()) {
+            pollingSignal.wakeUp();
+        }
+        return results;
+    }
 
-        for (CollectInbox pending : pendings) {
-            processSafely(pending);
+    public CollectInboxPollResult processPending(int limit) {
+        int claimLimit = Math.min(limit, collectInboxLaneDispatcher.availableCapacity());
+        boolean capacityLimited = claimLimit < limit;
+        if (claimLimit <= 0) {
+            return new CollectInboxPollResult(0, capacityLimited);
         }
+
+        Instant processingStartedAt = clock.instant();
+        BoxProcessingLease processingLease = BoxProcessingLease.claimed(
+                processingStartedAt,
+                leaseOwner.id(),
+                processingStartedAt.plusMillis(leaseProperties.durationMs())
+        );
+
+        List<Long> fastPathIds = fastPathQueue.poll(claimLimit);
+        CollectInboxClaimPlan claimPlan = new CollectInboxClaimPlan(
+                fastPathIds,
+                claimQuotas(claimLimit - fastPathIds.size()),
+                claimLimit
+        );
+        List<CollectInbox> claimedInboxes = new ArrayList<>(
+                collectInboxRepository.claimBatch(claimPlan, processingLease)
+        );
+        claimedInboxes.sort(Comparator.comparing(inbox -> inbox.getId()));
+        collectInboxMetrics.recordClaimed(claimedInboxes, processingStartedAt);
+        leaseRegistry.hold(claimedInboxes);
+
+        List<CollectInbox> rejectedInboxes = collectInboxLaneDispatcher.dispatch(
+                coalesce(claimedInboxes, processingStartedAt)
+        );
+        releaseRejected(rejectedInboxes, processingLease, processingStartedAt);
+        return new CollectInboxPollResult(claimedInboxes.size(), capacityLimited || !rejectedInboxes.isEmpty());
+    }
+
+    public List<CollectInboxPriorityBacklog> priorityBacklog() {
+        List<CollectInboxPriorityBacklog> priorityBacklogs = priorityLanes.backlog(
+                collectInboxRepository.countClaimableByType(clock.instant())
+        );
+        collectInboxMetrics.recordPriorityBacklog(priorityBacklogs);
+        return priorityBacklogs;
     }
 
     public void recoverTimeoutProcessing() {
@@ -53,19 +134,87 @@ public class CollectInboxProcessor {
         );
 
         if (recoveredCount > 0) {
+            collectInboxMetrics.recordFailures(CollectInboxFailureType.PROCESSING_TIMEOUT, recoveredCount);
             log.warn("collect inbox PROCESSING 고착 건을 복구했습니다. count={}", recoveredCount);
         }
     }
 
-    private void processSafely(CollectInbox pending) {
+    private void offerFastPath(Long inboxId) {
+        if (inboxId == null) {
+            return;
+        }
+        if (!fastPathQueue.offer(inboxId)) {
+            log.debug("collect inbox fast path 큐가 가득 차 polling으로 처리됩니다. inboxId={}", inboxId);
+        }
+    }
+
+    private void releaseRejected(
+            List<CollectInbox> rejectedInboxes,
+            BoxProcessingLease processingLease,
+            Instant releasedAt
+    ) {
+        if (rejectedInboxes.isEmpty()) {
+            return;
+        }
+
+        List<Long> rejectedIds = rejectedInboxes.stream()
+                .map(inbox -> inbox.getId())
+                .toList();
         try {
-            collectInboxEntryProcessor.process(pending);
+            int releasedCount = collectInboxRepository.releaseClaims(
+                    rejectedIds,
+                    processingLease,
+                    releasedAt,
+                    LANE_OVERFLOW_RELEASE_REASON
+            );
+            log.warn("collect inbox lane 여유가 없어 선점을 반납했습니다. count={}", releasedCount);
         } catch (Exception e) {
-            log.error(
-                    "collect inbox 엔트리 처리 중 예상치 못한 오류가 발생했습니다. inboxId={}",
-                    pending.getId(),
-                    e
+            log.error("collect inbox 선점 반납에 실패해 lease 만료 후 복구됩니다. inboxIds={}", rejectedIds, e);
+        }
+    }
+
+    private List<CollectInboxClaimQuota> claimQuotas(int limit) {
+        return priorityLanes.allocate(limit)
+                .stream()
+                .map(quota -> new CollectInboxClaimQuota(quota.collectTypes(), quota.limit()))
+                .toList();
+    }
+
+    private List<CollectInbox> coalesce(List<CollectInbox> claimedInboxes, Instant processedAt) {
+        List<CollectInboxCoalescing> coalescings = synchronizeCoalescer.coalesce(claimedInboxes);
+        if (coalescings.isEmpty()) {
+            return claimedInboxes;
+        }
+
+        Map<Long, CollectInbox> survivorsById = new HashMap<>();
+        Set<Long> supersededIds = new HashSet<>();
+        for (CollectInboxCoalescing coalescing : coalescings) {
+            if (applyCoalescing(coalescing, processedAt)) {
+                survivorsById.put(coalescing.survivor().getId(), coalescing.survivor());
+                supersededIds.addAll(coalescing.supersededIds());
+                leaseRegistry.releaseAll(coalescing.superseded());
+            }
+        }
+
+        return claimedInboxes.stream()
+                .filter(inbox -> !supersededIds.contains(inbox.getId()))
+                .map(inbox -> survivorsById.getOrDefault(inbox.getId(), inbox))
+                .toList();
+    }
+
+    private boolean applyCoalescing(CollectInboxCoalescing coalescing, Instant processedAt) {
+        Long survivorId = coalescing.survivor().getId();
+        try {
+            collectInboxRepository.coalesce(
+                    coalescing.survivor(),
+                    coalescing.supersededIds(),
+                    processedAt,
+                    COALESCED_REASON_PREFIX + survivorId
             );
+            return true;
+        } catch (Exception e) {
+            log.warn("synchronize inbox 병합에 실패해 개별 처리합니다. survivorInboxId={}", survivorId, e);
+            return false;
         }
     }
 }
@@ -0,0 +1,30 @@
+package com.prism.statistics.application.collect.inbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxRawPayloadContext {
+
+    private static final ThreadLocal<String> RAW_PAYLOAD = new ThreadLocal<>();
+
+    public void bind(byte[] rawBody) {
+        if (rawBody == null || rawBody.length == 0) {
+            RAW_PAYLOAD.remove();
+            return;
+        }
+
+        RAW_PAYLOAD.set(new String(rawBody, StandardCharsets.UTF_8));
+    }
+
+    public Optional<String> consume() {
+        String rawPayload = RAW_PAYLOAD.get();
+        RAW_PAYLOAD.remove();
+        return Optional.ofNullable(rawPayload);
+    }
+
+    public void clear() {
+        RAW_PAYLOAD.remove();
+    }
+}
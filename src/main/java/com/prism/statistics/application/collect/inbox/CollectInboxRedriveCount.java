@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.inbox;
+
+public record CollectInboxRedriveCount(long failedCount, long deadLetteredCount) {
+
+    public long totalCount() {
+        return failedCount + deadLetteredCount;
+    }
+}
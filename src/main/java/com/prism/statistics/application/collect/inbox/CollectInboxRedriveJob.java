@@ -0,0 +1,86 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxRedriveCondition;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class CollectInboxRedriveJob {
+
+    private final String id;
+    private final CollectInboxRedriveCondition condition;
+    private final long targetCount;
+    private final Instant startedAt;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong redrivenCount = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    private volatile CollectInboxRedriveStatus status = CollectInboxRedriveStatus.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String failureReason;
+    private volatile Long deadLetterCursor;
+
+    public CollectInboxRedriveJob(CollectInboxRedriveCondition condition, long targetCount, Instant startedAt) {
+        this.id = UUID.randomUUID().toString();
+        this.condition = condition;
+        this.targetCount = targetCount;
+        this.startedAt = startedAt;
+    }
+
+    public long redrivenCount() {
+        return redrivenCount.get();
+    }
+
+    public long skippedCount() {
+        return skippedCount.get();
+    }
+
+    public long remainingCount() {
+        return Math.max(0L, targetCount - redrivenCount.get() - skippedCount.get());
+    }
+
+    public boolean belongsTo(Long projectId) {
+        return condition.projectId().equals(projectId);
+    }
+
+    public double redrivenPerSecond(Instant now) {
+        Instant endedAt = Optional.ofNullable(finishedAt).orElse(now);
+        long elapsedMillis = Duration.between(startedAt, endedAt).toMillis();
+        if (elapsedMillis <= 0L) {
+            return 0.0d;
+        }
+
+        return redrivenCount.get() * 1_000.0d / elapsedMillis;
+    }
+
+    void addRedriven(int count) {
+        redrivenCount.addAndGet(count);
+    }
+
+    void addSkipped(int count) {
+        skippedCount.addAndGet(count);
+    }
+
+    void advanceDeadLetterCursor(Long lastDeadLetterId) {
+        if (lastDeadLetterId != null) {
+            this.deadLetterCursor = lastDeadLetterId;
+        }
+    }
+
+    void complete(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+        this.status = CollectInboxRedriveStatus.COMPLETED;
+    }
+
+    void fail(Instant finishedAt, String failureReason) {
+        this.finishedAt = finishedAt;
+        this.failureReason = failureReason;
+        this.status = CollectInboxRedriveStatus.FAILED;
+    }
+}
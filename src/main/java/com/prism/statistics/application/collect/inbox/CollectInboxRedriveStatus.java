@@ -0,0 +1,12 @@
+package com.prism.statistics.application.collect.inbox;
+
+public enum CollectInboxRedriveStatus {
+
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isRunning() {
+        return this == RUNNING;
+    }
+}
@@ -0,0 +1,179 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxRedriveInProgressException;
+import com.prism.statistics.global.config.properties.CollectInboxRedriveProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxDeadLetterRedriveResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxRedriveCondition;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRedriveRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CollectInboxRedriver {
+
+    private static final String INTERRUPTED_FAILURE_REASON = "재처리 작업이 중단되었습니다.";
+
+    private final Clock clock;
+    private final CollectInboxRedriveProperties redriveProperties;
+    private final CollectInboxRedriveRepository redriveRepository;
+    private final CollectInboxProcessor collectInboxProcessor;
+    private final CollectInboxPollingSignal pollingSignal;
+    private final Executor redriveExecutor;
+    private final Map<String, CollectInboxRedriveJob> jobs = new ConcurrentHashMap<>();
+
+    public CollectInboxRedriver(
+            Clock clock,
+            CollectInboxRedriveProperties redriveProperties,
+            CollectInboxRedriveRepository redriveRepository,
+            CollectInboxProcessor collectInboxProcessor,
+            CollectInboxPollingSignal pollingSignal,
+            @Qualifier("collectInboxRedriveExecutor") Executor redriveExecutor
+    ) {
+        this.clock = clock;
+        this.redriveProperties = redriveProperties;
+        this.redriveRepository = redriveRepository;
+        this.collectInboxProcessor = collectInboxProcessor;
+        this.pollingSignal = pollingSignal;
+        this.redriveExecutor = redriveExecutor;
+    }
+
+    public CollectInboxRedriveCount count(CollectInboxRedriveCondition condition) {
+        return new CollectInboxRedriveCount(
+                redriveRepository.countFailed(condition),
+                redriveRepository.countDeadLettered(condition)
+        );
+    }
+
+    public synchronized CollectInboxRedriveJob start(CollectInboxRedriveCondition condition) {
+        if (jobs.values().stream().anyMatch(job -> job.getStatus().isRunning())) {
+            throw new CollectInboxRedriveInProgressException();
+        }
+
+        Instant startedAt = clock.instant();
+        CollectInboxRedriveCondition boundedCondition = condition.failedNoLaterThan(startedAt);
+        CollectInboxRedriveJob job = new CollectInboxRedriveJob(
+                boundedCondition,
+                count(boundedCondition).totalCount(),
+                startedAt
+        );
+
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        try {
+            redriveExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            job.fail(clock.instant(), e.getMessage());
+            throw new CollectInboxRedriveInProgressException();
+        }
+        return job;
+    }
+
+    public Optional<CollectInboxRedriveJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    void run(CollectInboxRedriveJob job) {
+        try {
+            redriveInChunks(job);
+            job.complete(clock.instant());
+            log.info(
+                    "collect inbox 재처리를 완료했습니다. jobId={}, redriven={}, skipped={}, target={}",
+                    job.getId(),
+                    job.redrivenCount(),
+                    job.skippedCount(),
+                    job.getTargetCount()
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail(clock.instant(), INTERRUPTED_FAILURE_REASON);
+        } catch (Exception e) {
+            log.error("collect inbox 재처리에 실패했습니다. jobId={}", job.getId(), e);
+            job.fail(clock.instant(), e.getMessage());
+        }
+    }
+
+    private void redriveInChunks(CollectInboxRedriveJob job) throws InterruptedException {
+        while (job.remainingCount() > 0L) {
+            awaitLiveBacklog();
+
+            int chunkSize = Math.toIntExact(Math.min(redriveProperties.chunkSize(), job.remainingCount()));
+            int handledCount = redriveChunk(job, chunkSize);
+            if (handledCount == 0) {
+                return;
+            }
+
+            pollingSignal.wakeUp();
+            pauseBetweenChunks();
+        }
+    }
+
+    private int redriveChunk(CollectInboxRedriveJob job, int chunkSize) {
+        int redrivenCount = redriveRepository.redriveFailed(job.getCondition(), chunkSize);
+        job.addRedriven(redrivenCount);
+        if (redrivenCount == chunkSize) {
+            return redrivenCount;
+        }
+
+        CollectInboxDeadLetterRedriveResult result = redriveRepository.redriveDeadLettered(
+                job.getCondition(),
+                job.getDeadLetterCursor(),
+                chunkSize - redrivenCount
+        );
+        job.addRedriven(result.redrivenCount());
+        job.addSkipped(result.skippedCount());
+        job.advanceDeadLetterCursor(result.lastDeadLetterId());
+        if (result.skippedCount() > 0) {
+            log.warn(
+                    "collect inbox에 같은 실행이 이미 있어 dead letter 재처리를 건너뛰었습니다. jobId={}, skipped={}",
+                    job.getId(),
+                    result.skippedCount()
+            );
+        }
+
+        return redrivenCount + result.handledCount();
+    }
+
+    private void awaitLiveBacklog() throws InterruptedException {
+        while (claimableBacklog() > redriveProperties.maxClaimableBacklog()) {
+            Thread.sleep(redriveProperties.backlogWaitMs());
+        }
+    }
+
+    private long claimableBacklog() {
+        return collectInboxProcessor.priorityBacklog()
+                .stream()
+                .mapToLong(backlog -> backlog.claimableCount())
+                .sum();
+    }
+
+    private void pauseBetweenChunks() throws InterruptedException {
+        if (redriveProperties.chunkPauseMs() > 0L) {
+            Thread.sleep(redriveProperties.chunkPauseMs());
+        }
+    }
+
+    private void evictFinishedJobs() {
+        int overflow = jobs.size() - redriveProperties.retainedJobCount() + 1;
+        if (overflow <= 0) {
+            return;
+        }
+
+        jobs.values()
+                .stream()
+                .filter(job -> !job.getStatus().isRunning())
+                .sorted(Comparator.comparing(job -> job.getStartedAt()))
+                .limit(overflow)
+                .toList()
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.inbox;
+
+public record CollectInboxRetentionReport(int purgedCount, int deadLetteredCount, int chunkCount) {
+
+    public boolean isEmpty() {
+        return purgedCount == 0 && deadLetteredCount == 0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectInboxRetentionProperties;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRetentionRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectInboxRetentionWorker {
+
+    private final Clock clock;
+    private final CollectInboxRetentionProperties retentionProperties;
+    private final CollectInboxRetentionRepository retentionRepository;
+
+    @Scheduled(
+            initialDelayString = "${app.collect.inbox.retention.run-interval-ms:600000}",
+            fixedDelayString = "${app.collect.inbox.retention.run-interval-ms:600000}",
+            scheduler = "collectInboxRetentionScheduler"
+    )
+    public void archive() {
+        if (!retentionProperties.enabled()) {
+            return;
+        }
+
+        try {
+            CollectInboxRetentionReport report = runRetention();
+            if (!report.isEmpty()) {
+                log.info(
+                        "collect inbox 보관 정리를 완료했습니다. purged={}, deadLettered={}, chunks={}",
+                        report.purgedCount(),
+                        report.deadLetteredCount(),
+                        report.chunkCount()
+                );
+            }
+        } catch (Exception e) {
+            log.error("collect inbox 보관 정리에 실패했습니다.", e);
+        }
+    }
+
+    public CollectInboxRetentionReport runRetention() {
+        Instant now = clock.instant();
+        Instant failedBefore = now.minusMillis(retentionProperties.deadLetterDelayMs());
+        Instant processedBefore = now.minusMillis(retentionProperties.processedTtlMs());
+        int chunkSize = retentionProperties.chunkSize();
+
+        ChunkResult deadLettered = runInChunks(
+                () -> retentionRepository.moveFailedToDeadLetter(failedBefore, chunkSize),
+                retentionProperties.maxChunksPerRun()
+        );
+        ChunkResult purged = runInChunks(
+                () -> retentionRepository.purgeProcessed(processedBefore, chunkSize),
+                retentionProperties.maxChunksPerRun() - deadLettered.chunkCount()
+        );
+
+        return new CollectInboxRetentionReport(
+                purged.rowCount(),
+                deadLettered.rowCount(),
+                deadLettered.chunkCount() + purged.chunkCount()
+        );
+    }
+
+    private ChunkResult runInChunks(IntSupplier chunkOperation, int chunkBudget) {
+        int rowCount = 0;
+        int chunkCount = 0;
+
+        while (chunkCount < chunkBudget) {
+            int affectedCount = chunkOperation.getAsInt();
+            chunkCount++;
+            rowCount += affectedCount;
+
+            if (affectedCount < retentionProperties.chunkSize() || !pauseBetweenChunks()) {
+                break;
+            }
+        }
+
+        return new ChunkResult(rowCount, chunkCount);
+    }
+
+    private boolean pauseBetweenChunks() {
+        long chunkPauseMs = retentionProperties.chunkPauseMs();
+        if (chunkPauseMs == 0L) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ChunkResult(int rowCount, int chunkCount) {
+    }
+}
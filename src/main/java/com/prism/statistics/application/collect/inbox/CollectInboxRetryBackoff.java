@@ -0,0 +1,42 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.prism.statistics.global.config.properties.CollectRetryProperties;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CollectInboxRetryBackoff {
+
+    private static final int MAX_SHIFT = 30;
+
+    private final CollectRetryProperties collectRetryProperties;
+
+    public Instant nextAttemptAt(Instant failedAt, int processingAttempt) {
+        return failedAt.plusMillis(delayMs(processingAttempt));
+    }
+
+    long delayMs(int processingAttempt) {
+        long exponentialDelayMs = exponentialDelayMs(processingAttempt);
+        double jitterRatio = collectRetryProperties.backoffJitterRatio();
+        if (exponentialDelayMs == 0L || jitterRatio == 0.0) {
+            return exponentialDelayMs;
+        }
+
+        double jitterFactor = 1.0 + ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+        return Math.round(exponentialDelayMs * jitterFactor);
+    }
+
+    private long exponentialDelayMs(int processingAttempt) {
+        int shift = Math.min(Math.max(processingAttempt - 1, 0), MAX_SHIFT);
+        long baseMs = collectRetryProperties.backoffBaseMs();
+        long maxMs = collectRetryProperties.backoffMaxMs();
+        if (baseMs > (maxMs >> shift)) {
+            return maxMs;
+        }
+
+        return baseMs << shift;
+    }
+}
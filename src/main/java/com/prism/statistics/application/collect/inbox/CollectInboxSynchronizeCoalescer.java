@@ -0,0 +1,159 @@
+package com.prism.statistics.application.collect.inbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectInboxSynchronizeCoalescer {
+
+    private static final String GITHUB_PULL_REQUEST_ID_FIELD = "githubPullRequestId";
+    private static final String HEAD_COMMIT_SHA_FIELD = "headCommitSha";
+    private static final String COMMITS_FIELD = "commits";
+    private static final String NODES_FIELD = "nodes";
+    private static final String SHA_FIELD = "sha";
+    private static final String COMMITTED_DATE_FIELD = "committedDate";
+
+    private final ObjectMapper objectMapper;
+
+    public List<CollectInboxCoalescing> coalesce(List<CollectInbox> claimedInboxes) {
+        Map<Long, List<SynchronizePayload>> payloadsByPullRequest = groupByPullRequest(claimedInboxes);
+        List<CollectInboxCoalescing> coalescings = new ArrayList<>();
+
+        for (List<SynchronizePayload> payloads : payloadsByPullRequest.values()) {
+            if (payloads.size() < 2) {
+                continue;
+            }
+
+            coalescings.add(coalesceGroup(payloads));
+        }
+
+        return coalescings;
+    }
+
+    private Map<Long, List<SynchronizePayload>> groupByPullRequest(List<CollectInbox> claimedInboxes) {
+        Map<Long, List<SynchronizePayload>> payloadsByPullRequest = new LinkedHashMap<>();
+
+        for (CollectInbox inbox : claimedInboxes) {
+            if (inbox.getCollectType() != CollectInboxType.PULL_REQUEST_SYNCHRONIZED) {
+                continue;
+            }
+
+            SynchronizePayload payload = parse(inbox);
+            if (payload == null) {
+                continue;
+            }
+
+            payloadsByPullRequest
+                    .computeIfAbsent(payload.githubPullRequestId(), key -> new ArrayList<>())
+                    .add(payload);
+        }
+
+        return payloadsByPullRequest;
+    }
+
+    private CollectInboxCoalescing coalesceGroup(List<SynchronizePayload> payloads) {
+        SynchronizePayload newest = payloads.stream()
+                .max(
+                        Comparator.comparing((SynchronizePayload payload) -> payload.headCommittedAt())
+                                .thenComparing(payload -> payload.inbox().getId())
+                )
+                .orElseThrow();
+        List<SynchronizePayload> superseded = payloads.stream()
+                .filter(payload -> payload != newest)
+                .toList();
+
+        CollectInbox survivor = newest.inbox().withCoalescedPayload(mergeCommits(newest, superseded));
+        List<CollectInbox> supersededInboxes = superseded.stream()
+                .map(payload -> payload.inbox())
+                .toList();
+
+        return new CollectInboxCoalescing(survivor, supersededInboxes);
+    }
+
+    private String mergeCommits(SynchronizePayload newest, List<SynchronizePayload> superseded) {
+        ObjectNode mergedPayload = newest.payload().deepCopy();
+        ArrayNode mergedNodes = (ArrayNode) mergedPayload.path(COMMITS_FIELD).path(NODES_FIELD);
+        Set<String> mergedShas = new HashSet<>();
+        mergedNodes.forEach(node -> mergedShas.add(node.path(SHA_FIELD).asText()));
+
+        for (SynchronizePayload payload : superseded) {
+            for (JsonNode node : payload.commitNodes()) {
+                if (mergedShas.add(node.path(SHA_FIELD).asText())) {
+                    mergedNodes.add(node);
+                }
+            }
+        }
+
+        try {
+            return objectMapper.writeValueAsString(mergedPayload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("병합한 synchronize payload를 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private SynchronizePayload parse(CollectInbox inbox) {
+        try {
+            JsonNode payload = objectMapper.readTree(inbox.getPayloadJson());
+            if (!payload.isObject() || !payload.path(GITHUB_PULL_REQUEST_ID_FIELD).canConvertToLong()) {
+                return null;
+            }
+
+            Instant headCommittedAt = findHeadCommittedAt(payload);
+            if (headCommittedAt == null) {
+                return null;
+            }
+
+            return new SynchronizePayload(
+                    inbox,
+                    (ObjectNode) payload,
+                    payload.get(GITHUB_PULL_REQUEST_ID_FIELD).asLong(),
+                    headCommittedAt
+            );
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("synchronize payload를 병합 대상으로 해석하지 못했습니다. inboxId={}", inbox.getId());
+            return null;
+        }
+    }
+
+    private Instant findHeadCommittedAt(JsonNode payload) {
+        String headCommitSha = payload.path(HEAD_COMMIT_SHA_FIELD).asText();
+
+        for (JsonNode node : payload.path(COMMITS_FIELD).path(NODES_FIELD)) {
+            if (headCommitSha.equals(node.path(SHA_FIELD).asText()) && node.hasNonNull(COMMITTED_DATE_FIELD)) {
+                return objectMapper.convertValue(node.get(COMMITTED_DATE_FIELD), Instant.class);
+            }
+        }
+
+        return null;
+    }
+
+    private record SynchronizePayload(
+            CollectInbox inbox,
+            ObjectNode payload,
+            long githubPullRequestId,
+            Instant headCommittedAt
+    ) {
+
+        private JsonNode commitNodes() {
+            return payload.path(COMMITS_FIELD).path(NODES_FIELD);
+        }
+    }
+}
@@ -13,21 +13,42 @@ public class CollectInboxWorker {
 
     private final CollectInboxProperties collectInboxProperties;
     private final CollectInboxProcessor collectInboxProcessor;
+    private final CollectInboxPollingBackoff pollingBackoff;
 
-    @Scheduled(fixedDelayString = "${app.collect.inbox.poll-delay-ms:200}")
-    public void processInbox() {
+    public long processInbox() {
         if (!collectInboxProperties.workerEnabled()) {
-            return;
+            return pollingBackoff.maxDelayMs();
         }
 
+        int batchSize = collectInboxProperties.batchSize();
         try {
-            collectInboxProcessor.processPending(collectInboxProperties.batchSize());
+            CollectInboxPollResult pollResult = collectInboxProcessor.processPending(batchSize);
+            return pollingBackoff.nextDelayMs(pollResult, batchSize);
         } catch (Exception e) {
             log.error("collect inbox worker 실행에 실패했습니다.", e);
+            return pollingBackoff.nextDelayMs(CollectInboxPollResult.idle(), batchSize);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.collect.inbox.priority.backlog-report-interval-ms:60000}")
+    public void reportPriorityBacklog() {
+        if (!collectInboxProperties.workerEnabled()) {
+            return;
+        }
+
+        try {
+            collectInboxProcessor.priorityBacklog()
+                    .forEach(backlog -> log.info(
+                            "collect inbox 우선순위별 적체 현황입니다. priority={}, claimableCount={}",
+                            backlog.priority(),
+                            backlog.claimableCount()
+                    ));
+        } catch (Exception e) {
+            log.error("collect inbox 우선순위별 적체 현황 조회에 실패했습니다.", e);
         }
     }
 
-    @Scheduled(fixedDelayString = "${app.collect.inbox.processing-timeout-ms:60000}")
+    @Scheduled(fixedDelayString = "${app.collect.inbox.lease.recovery-interval-ms:5000}")
     public void recoverTimeoutProcessing() {
         if (!collectInboxProperties.workerEnabled()) {
             return;
@@ -1,9 +1,13 @@
 package com.prism.statistics.application.collect.inbox.aop;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.application.collect.inbox.CollectInboxAdmissionBuffer;
 import com.prism.statistics.application.collect.inbox.CollectInboxProcessor;
+import com.prism.statistics.application.collect.inbox.CollectInboxRawPayloadContext;
 import com.prism.statistics.application.collect.inbox.CollectInboxRequest;
 import com.prism.statistics.application.collect.inbox.ProcessingSourceContext;
+import com.prism.statistics.global.config.properties.CollectInboxAdmissionProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +25,9 @@ public class CollectInboxEnqueueAspect {
     private final ObjectMapper objectMapper;
     private final ProcessingSourceContext processingSourceContext;
     private final CollectInboxProcessor collectInboxProcessor;
+    private final CollectInboxAdmissionProperties admissionProperties;
+    private final CollectInboxAdmissionBuffer admissionBuffer;
+    private final CollectInboxRawPayloadContext rawPayloadContext;
 
     @Around("@annotation(inboxEnqueue) && args(projectId, request)")
     public Object enqueueWithProjectId(
@@ -52,9 +59,16 @@ public class CollectInboxEnqueueAspect {
     }
 
     private void enqueue(CollectInboxType collectType, Long projectId, CollectInboxRequest request) {
+        String payloadJson = rawPayloadContext.consume()
+                .orElseGet(() -> serialize(collectType, request));
+        long runId = request.runId();
+
+        if (admissionProperties.enabled()) {
+            admissionBuffer.admit(CollectInbox.pending(collectType, projectId, runId, payloadJson));
+            return;
+        }
+
         try {
-            String payloadJson = objectMapper.writeValueAsString(request);
-            long runId = request.runId();
             boolean enqueued = collectInboxProcessor.enqueue(collectType, projectId, runId, payloadJson);
 
             if (!enqueued) {
@@ -65,4 +79,13 @@ public class CollectInboxEnqueueAspect {
             throw new RuntimeException(e);
         }
     }
+
+    private String serialize(CollectInboxType collectType, CollectInboxRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (Exception e) {
+            log.error("collect inbox payload 직렬화 중 예외가 발생했습니다. collectType={}", collectType, e);
+            throw new RuntimeException(e);
+        }
+    }
 }
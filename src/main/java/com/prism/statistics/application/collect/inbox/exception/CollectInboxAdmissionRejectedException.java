@@ -0,0 +1,14 @@
+package com.prism.statistics.application.collect.inbox.exception;
+
+import lombok.Getter;
+
+@Getter
+public class CollectInboxAdmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public CollectInboxAdmissionRejectedException(long retryAfterSeconds) {
+        super("collect inbox 수신 버퍼가 가득 차 요청을 받을 수 없습니다.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.inbox.exception;
+
+public class CollectInboxLeaseLostException extends RuntimeException {
+
+    public CollectInboxLeaseLostException(Long inboxId) {
+        super("collect inbox lease를 잃어 처리 결과를 반영하지 않습니다. inboxId=" + inboxId);
+    }
+}
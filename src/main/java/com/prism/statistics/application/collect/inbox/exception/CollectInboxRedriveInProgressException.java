@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.inbox.exception;
+
+public class CollectInboxRedriveInProgressException extends RuntimeException {
+
+    public CollectInboxRedriveInProgressException() {
+        super("이미 진행 중인 collect inbox 재처리 작업이 있습니다.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.prism.statistics.application.collect.inbox.exception;
+
+public class CollectInboxRedriveJobNotFoundException extends RuntimeException {
+
+    public CollectInboxRedriveJobNotFoundException() {
+        super("collect inbox 재처리 작업을 찾을 수 없습니다.");
+    }
+}
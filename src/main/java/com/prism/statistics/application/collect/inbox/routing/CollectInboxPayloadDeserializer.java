@@ -1,8 +1,14 @@
 package com.prism.statistics.application.collect.inbox.routing;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +16,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CollectInboxPayloadDeserializer {
 
+    private static final String FILES_FIELD = "files";
+
     private final ObjectMapper objectMapper;
 
     public <T> T deserialize(CollectInboxContext context, CollectInboxType type, Class<T> clazz) {
@@ -19,4 +27,33 @@ public class CollectInboxPayloadDeserializer {
             throw new IllegalArgumentException(type + " payload 역직렬화에 실패했습니다.", e);
         }
     }
+
+    public <T> T deserializeWithoutFiles(CollectInboxContext context, CollectInboxType type, Class<T> clazz) {
+        try (JsonParser parser = objectMapper.createParser(context.payloadJson())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException(type + " payload는 JSON 객체여야 합니다.");
+            }
+
+            ObjectNode payloadWithoutFiles = objectMapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+
+                if (FILES_FIELD.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                JsonNode value = objectMapper.readTree(parser);
+                payloadWithoutFiles.set(fieldName, value);
+            }
+
+            return objectMapper.treeToValue(payloadWithoutFiles, clazz);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(type + " payload 역직렬화에 실패했습니다.", e);
+        }
+    }
+
+    public <F> FileDataChunks<F> streamFiles(CollectInboxContext context, CollectInboxType type, Class<F> fileType) {
+        return new StreamingFileDataChunks<>(objectMapper, type, context.payloadJson(), FILES_FIELD, fileType);
+    }
 }
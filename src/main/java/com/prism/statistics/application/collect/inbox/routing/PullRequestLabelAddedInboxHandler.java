@@ -21,6 +21,6 @@ public class PullRequestLabelAddedInboxHandler implements CollectInboxEventHandl
     @Override
     public void handle(CollectInboxContext context) {
         PullRequestLabelAddedRequest request = deserializer.deserialize(context, supportType(), PullRequestLabelAddedRequest.class);
-        pullRequestLabelAddedService.addPullRequestLabel(request);
+        pullRequestLabelAddedService.addPullRequestLabel(context.projectId(), request);
     }
 }
@@ -21,6 +21,6 @@ public class PullRequestLabelRemovedInboxHandler implements CollectInboxEventHan
     @Override
     public void handle(CollectInboxContext context) {
         PullRequestLabelRemovedRequest request = deserializer.deserialize(context, supportType(), PullRequestLabelRemovedRequest.class);
-        pullRequestLabelRemovedService.removePullRequestLabel(request);
+        pullRequestLabelRemovedService.removePullRequestLabel(context.projectId(), request);
     }
 }
@@ -1,7 +1,9 @@
 package com.prism.statistics.application.collect.inbox.routing;
 
 import com.prism.statistics.application.analysis.metadata.pullrequest.PullRequestOpenedService;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.FileData;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -20,7 +22,13 @@ public class PullRequestOpenedInboxHandler implements CollectInboxEventHandler {
 
     @Override
     public void handle(CollectInboxContext context) {
-        PullRequestOpenedRequest request = deserializer.deserialize(context, supportType(), PullRequestOpenedRequest.class);
-        pullRequestOpenedService.createPullRequest(context.projectId(), request);
+        PullRequestOpenedRequest request = deserializer.deserializeWithoutFiles(
+                context,
+                supportType(),
+                PullRequestOpenedRequest.class
+        );
+        FileDataChunks<FileData> files = deserializer.streamFiles(context, supportType(), FileData.class);
+
+        pullRequestOpenedService.createPullRequest(context.projectId(), request, files);
     }
 }
@@ -1,7 +1,9 @@
 package com.prism.statistics.application.collect.inbox.routing;
 
 import com.prism.statistics.application.analysis.metadata.pullrequest.PullRequestSynchronizedService;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest.FileData;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -20,7 +22,13 @@ public class PullRequestSynchronizedInboxHandler implements CollectInboxEventHan
 
     @Override
     public void handle(CollectInboxContext context) {
-        PullRequestSynchronizedRequest request = deserializer.deserialize(context, supportType(), PullRequestSynchronizedRequest.class);
-        pullRequestSynchronizedService.synchronizePullRequest(request);
+        PullRequestSynchronizedRequest request = deserializer.deserializeWithoutFiles(
+                context,
+                supportType(),
+                PullRequestSynchronizedRequest.class
+        );
+        FileDataChunks<FileData> files = deserializer.streamFiles(context, supportType(), FileData.class);
+
+        pullRequestSynchronizedService.synchronizePullRequest(request, files);
     }
 }
@@ -21,6 +21,6 @@ public class ReviewCommentCreatedInboxHandler implements CollectInboxEventHandle
     @Override
     public void handle(CollectInboxContext context) {
         ReviewCommentCreatedRequest request = deserializer.deserialize(context, supportType(), ReviewCommentCreatedRequest.class);
-        reviewCommentCreatedService.createReviewComment(request);
+        reviewCommentCreatedService.createReviewComment(context.projectId(), request);
     }
 }
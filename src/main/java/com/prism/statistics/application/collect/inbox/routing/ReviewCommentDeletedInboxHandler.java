@@ -21,6 +21,6 @@ public class ReviewCommentDeletedInboxHandler implements CollectInboxEventHandle
     @Override
     public void handle(CollectInboxContext context) {
         ReviewCommentDeletedRequest request = deserializer.deserialize(context, supportType(), ReviewCommentDeletedRequest.class);
-        reviewCommentDeletedService.deleteReviewComment(request);
+        reviewCommentDeletedService.deleteReviewComment(context.projectId(), request);
     }
 }
@@ -21,6 +21,6 @@ public class ReviewCommentEditedInboxHandler implements CollectInboxEventHandler
     @Override
     public void handle(CollectInboxContext context) {
         ReviewCommentEditedRequest request = deserializer.deserialize(context, supportType(), ReviewCommentEditedRequest.class);
-        reviewCommentEditedService.editReviewComment(request);
+        reviewCommentEditedService.editReviewComment(context.projectId(), request);
     }
 }
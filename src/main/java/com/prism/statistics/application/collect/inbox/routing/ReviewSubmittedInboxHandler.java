@@ -21,6 +21,6 @@ public class ReviewSubmittedInboxHandler implements CollectInboxEventHandler {
     @Override
     public void handle(CollectInboxContext context) {
         ReviewSubmittedRequest request = deserializer.deserialize(context, supportType(), ReviewSubmittedRequest.class);
-        reviewSubmittedService.submitReview(request);
+        reviewSubmittedService.submitReview(context.projectId(), request);
     }
 }
@@ -21,6 +21,6 @@ public class ReviewerAddedInboxHandler implements CollectInboxEventHandler {
     @Override
     public void handle(CollectInboxContext context) {
         ReviewerAddedRequest request = deserializer.deserialize(context, supportType(), ReviewerAddedRequest.class);
-        reviewerAddedService.addReviewer(request);
+        reviewerAddedService.addReviewer(context.projectId(), request);
     }
 }
@@ -21,6 +21,6 @@ public class ReviewerRemovedInboxHandler implements CollectInboxEventHandler {
     @Override
     public void handle(CollectInboxContext context) {
         ReviewerRemovedRequest request = deserializer.deserialize(context, supportType(), ReviewerRemovedRequest.class);
-        reviewerRemovedService.removeReviewer(request);
+        reviewerRemovedService.removeReviewer(context.projectId(), request);
     }
 }
@@ -0,0 +1,87 @@
+package com.prism.statistics.application.collect.inbox.routing;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+final class StreamingFileDataChunks<T> implements FileDataChunks<T> {
+
+    private final ObjectMapper objectMapper;
+    private final CollectInboxType type;
+    private final String payloadJson;
+    private final String arrayField;
+    private final Class<T> elementType;
+
+    StreamingFileDataChunks(
+            ObjectMapper objectMapper,
+            CollectInboxType type,
+            String payloadJson,
+            String arrayField,
+            Class<T> elementType
+    ) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.payloadJson = payloadJson;
+        this.arrayField = arrayField;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public void forEachChunk(int chunkSize, Consumer<List<T>> consumer) {
+        FileDataChunks.validateChunkSize(chunkSize);
+
+        try (JsonParser parser = objectMapper.createParser(payloadJson)) {
+            if (!moveToArray(parser)) {
+                return;
+            }
+
+            readChunks(parser, chunkSize, consumer);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(type + " payload " + arrayField + " 스트리밍 역직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private boolean moveToArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException(type + " payload는 JSON 객체여야 합니다.");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if (arrayField.equals(fieldName)) {
+                return valueToken == JsonToken.START_ARRAY;
+            }
+            parser.skipChildren();
+        }
+
+        return false;
+    }
+
+    private void readChunks(JsonParser parser, int chunkSize, Consumer<List<T>> consumer) throws IOException {
+        List<T> chunk = new ArrayList<>(chunkSize);
+
+        JsonToken token = parser.nextToken();
+        while (token != null && token != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_NULL) {
+                chunk.add(objectMapper.readValue(parser, elementType));
+            }
+            if (chunk.size() == chunkSize) {
+                consumer.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+            token = parser.nextToken();
+        }
+
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+    }
+}
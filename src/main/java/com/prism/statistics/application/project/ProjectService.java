@@ -3,8 +3,11 @@ package com.prism.statistics.application.project;
 import com.prism.statistics.application.project.dto.request.CreateProjectRequest;
 import com.prism.statistics.application.project.dto.response.CreateProjectResponse;
 import com.prism.statistics.application.project.dto.response.ProjectListResponse;
+import com.prism.statistics.application.project.dto.response.RotateProjectApiKeyResponse;
+import com.prism.statistics.application.project.event.ProjectApiKeyRotatedEvent;
 import com.prism.statistics.domain.project.Project;
 import com.prism.statistics.domain.project.ProjectApiKeyGenerator;
+import com.prism.statistics.domain.project.exception.ProjectOwnershipException;
 import com.prism.statistics.domain.project.repository.ProjectRepository;
 import com.prism.statistics.domain.project.setting.ProjectCoreTimeSetting;
 import com.prism.statistics.domain.project.setting.ProjectSizeGradeThresholdSetting;
@@ -14,6 +17,7 @@ import com.prism.statistics.domain.project.setting.repository.ProjectSizeGradeTh
 import com.prism.statistics.domain.project.setting.repository.ProjectSizeWeightSettingRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,7 @@ public class ProjectService {
     private final ProjectCoreTimeSettingRepository projectCoreTimeSettingRepository;
     private final ProjectSizeWeightSettingRepository projectSizeWeightSettingRepository;
     private final ProjectSizeGradeThresholdSettingRepository projectSizeGradeThresholdSettingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CreateProjectResponse create(Long userId, CreateProjectRequest request) {
@@ -40,6 +45,18 @@ public class ProjectService {
         return CreateProjectResponse.from(savedProject);
     }
 
+    @Transactional
+    public RotateProjectApiKeyResponse rotateApiKey(Long userId, Long projectId) {
+        Project project = projectRepository.findByIdAndUserId(projectId, userId)
+                .orElseThrow(() -> new ProjectOwnershipException());
+        String previousApiKey = project.getApiKey();
+
+        project.changeApiKey(projectApiKeyGenerator.generate());
+        eventPublisher.publishEvent(new ProjectApiKeyRotatedEvent(project.getId(), previousApiKey));
+
+        return RotateProjectApiKeyResponse.from(project);
+    }
+
     @Transactional(readOnly = true)
     public ProjectListResponse find(Long userId) {
         List<ProjectListResponse.ProjectResponse> projects = projectRepository.findAllProjectsByUserId(userId).stream()
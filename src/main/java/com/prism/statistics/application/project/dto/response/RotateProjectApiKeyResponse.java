@@ -0,0 +1,10 @@
+package com.prism.statistics.application.project.dto.response;
+
+import com.prism.statistics.domain.project.Project;
+
+public record RotateProjectApiKeyResponse(String apiKey) {
+
+    public static RotateProjectApiKeyResponse from(Project project) {
+        return new RotateProjectApiKeyResponse(project.getApiKey());
+    }
+}
@@ -0,0 +1,4 @@
+package com.prism.statistics.application.project.event;
+
+public record ProjectApiKeyRotatedEvent(Long projectId, String previousApiKey) {
+}
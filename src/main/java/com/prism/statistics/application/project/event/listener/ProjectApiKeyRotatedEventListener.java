@@ -0,0 +1,20 @@
+package com.prism.statistics.application.project.event.listener;
+
+import com.prism.statistics.application.collect.ProjectApiKeyCache;
+import com.prism.statistics.application.project.event.ProjectApiKeyRotatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectApiKeyRotatedEventListener {
+
+    private final ProjectApiKeyCache projectApiKeyCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictPreviousApiKey(ProjectApiKeyRotatedEvent event) {
+        projectApiKeyCache.evict(event.previousApiKey());
+    }
+}
@@ -2,6 +2,8 @@ package com.prism.statistics.domain.analysis.insight.activity.repository;
 
 import com.prism.statistics.domain.analysis.insight.activity.ReviewActivity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewActivityRepository {
@@ -11,4 +13,8 @@ public interface ReviewActivityRepository {
     Optional<ReviewActivity> findByPullRequestId(Long pullRequestId);
 
     boolean existsByPullRequestId(Long pullRequestId);
+
+    List<Long> findExistingPullRequestIds(Collection<Long> pullRequestIds);
+
+    List<ReviewActivity> saveAll(List<ReviewActivity> activities);
 }
@@ -2,6 +2,8 @@ package com.prism.statistics.domain.analysis.insight.bottleneck.repository;
 
 import com.prism.statistics.domain.analysis.insight.bottleneck.PullRequestBottleneck;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PullRequestBottleneckRepository {
@@ -11,4 +13,8 @@ public interface PullRequestBottleneckRepository {
     Optional<PullRequestBottleneck> findByPullRequestId(Long pullRequestId);
 
     boolean existsByPullRequestId(Long pullRequestId);
+
+    List<PullRequestBottleneck> findAllByPullRequestIds(Collection<Long> pullRequestIds);
+
+    List<PullRequestBottleneck> saveAll(List<PullRequestBottleneck> bottlenecks);
 }
@@ -2,6 +2,8 @@ package com.prism.statistics.domain.analysis.insight.lifecycle.repository;
 
 import com.prism.statistics.domain.analysis.insight.lifecycle.PullRequestLifecycle;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PullRequestLifecycleRepository {
@@ -11,4 +13,8 @@ public interface PullRequestLifecycleRepository {
     Optional<PullRequestLifecycle> findByPullRequestId(Long pullRequestId);
 
     boolean existsByPullRequestId(Long pullRequestId);
+
+    List<PullRequestLifecycle> findAllByPullRequestIds(Collection<Long> pullRequestIds);
+
+    List<PullRequestLifecycle> saveAll(List<PullRequestLifecycle> lifecycles);
 }
@@ -2,7 +2,11 @@ package com.prism.statistics.domain.analysis.insight.repository;
 
 import com.prism.statistics.domain.analysis.insight.PullRequestOpenedChangeSummary;
 
+import java.util.List;
+
 public interface PullRequestOpenedChangeSummaryRepository {
 
     PullRequestOpenedChangeSummary save(PullRequestOpenedChangeSummary summary);
+
+    void saveAllInBatch(List<PullRequestOpenedChangeSummary> summaries);
 }
@@ -2,7 +2,11 @@ package com.prism.statistics.domain.analysis.insight.repository;
 
 import com.prism.statistics.domain.analysis.insight.PullRequestOpenedCommitDensity;
 
+import java.util.List;
+
 public interface PullRequestOpenedCommitDensityRepository {
 
     PullRequestOpenedCommitDensity save(PullRequestOpenedCommitDensity density);
+
+    void saveAllInBatch(List<PullRequestOpenedCommitDensity> densities);
 }
@@ -6,4 +6,6 @@ import java.util.List;
 public interface PullRequestOpenedFileChangeRepository {
 
     List<PullRequestOpenedFileChange> saveAll(Iterable<PullRequestOpenedFileChange> fileChanges);
+
+    void saveAllInBatch(List<PullRequestOpenedFileChange> fileChanges);
 }
@@ -2,6 +2,8 @@ package com.prism.statistics.domain.analysis.insight.review.repository;
 
 import com.prism.statistics.domain.analysis.insight.review.ReviewResponseTime;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewResponseTimeRepository {
@@ -11,4 +13,8 @@ public interface ReviewResponseTimeRepository {
     Optional<ReviewResponseTime> findByPullRequestId(Long pullRequestId);
 
     boolean existsByPullRequestId(Long pullRequestId);
+
+    List<ReviewResponseTime> findAllByPullRequestIds(Collection<Long> pullRequestIds);
+
+    List<ReviewResponseTime> saveAll(List<ReviewResponseTime> responseTimes);
 }
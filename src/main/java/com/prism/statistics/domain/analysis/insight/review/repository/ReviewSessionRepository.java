@@ -2,6 +2,7 @@ package com.prism.statistics.domain.analysis.insight.review.repository;
 
 import com.prism.statistics.domain.analysis.insight.review.ReviewSession;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,8 @@ public interface ReviewSessionRepository {
     Optional<ReviewSession> findByReviewer(Long pullRequestId, Long reviewerGithubId);
 
     boolean existsByReviewer(Long pullRequestId, Long reviewerGithubId);
+
+    List<ReviewSession> findAllByPullRequestIds(Collection<Long> pullRequestIds);
+
+    List<ReviewSession> saveAll(List<ReviewSession> sessions);
 }
@@ -3,6 +3,7 @@ package com.prism.statistics.domain.analysis.insight.size.repository;
 import com.prism.statistics.domain.analysis.insight.size.PullRequestSize;
 import com.prism.statistics.domain.analysis.insight.size.enums.SizeGrade;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +20,8 @@ public interface PullRequestSizeRepository {
     List<PullRequestSize> findBySizeGradeIn(List<SizeGrade> sizeGrades);
 
     List<PullRequestSize> findAllByProjectId(Long projectId);
+
+    List<PullRequestSize> findAllByPullRequestIds(Collection<Long> pullRequestIds);
+
+    List<PullRequestSize> saveAll(List<PullRequestSize> sizes);
 }
@@ -11,6 +11,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -48,6 +49,9 @@ public class PullRequest extends CreatedAtEntity {
     @Embedded
     private PullRequestTiming timing;
 
+    @Version
+    private Long version;
+
     @Builder
     private PullRequest(
             Long githubPullRequestId,
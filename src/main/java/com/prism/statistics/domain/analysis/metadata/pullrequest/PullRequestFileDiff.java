@@ -0,0 +1,78 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileSnapshotDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class PullRequestFileDiff {
+
+    private final Map<String, PullRequestFileSnapshotDto> unmatchedFiles;
+    private final List<Long> duplicatedFileIds;
+    private final Set<String> comparedFileNames = new HashSet<>();
+
+    public static PullRequestFileDiff from(List<PullRequestFileSnapshotDto> currentFiles) {
+        Map<String, PullRequestFileSnapshotDto> unmatchedFiles = new LinkedHashMap<>();
+        List<Long> duplicatedFileIds = new ArrayList<>();
+
+        currentFiles.stream()
+                .sorted(Comparator.comparing(currentFile -> currentFile.id()))
+                .forEach(currentFile -> {
+                    if (unmatchedFiles.putIfAbsent(currentFile.fileName(), currentFile) != null) {
+                        duplicatedFileIds.add(currentFile.id());
+                    }
+                });
+
+        return new PullRequestFileDiff(unmatchedFiles, duplicatedFileIds);
+    }
+
+    private PullRequestFileDiff(
+            Map<String, PullRequestFileSnapshotDto> unmatchedFiles,
+            List<Long> duplicatedFileIds
+    ) {
+        this.unmatchedFiles = unmatchedFiles;
+        this.duplicatedFileIds = duplicatedFileIds;
+    }
+
+    public Delta compare(List<PullRequestFile> incomingFiles) {
+        List<PullRequestFile> insertedFiles = new ArrayList<>();
+        List<PullRequestFileSnapshotDto> updatedFiles = new ArrayList<>();
+
+        for (PullRequestFile incomingFile : incomingFiles) {
+            if (!comparedFileNames.add(incomingFile.getFileName())) {
+                continue;
+            }
+
+            PullRequestFileSnapshotDto currentFile = unmatchedFiles.remove(incomingFile.getFileName());
+
+            if (currentFile == null) {
+                insertedFiles.add(incomingFile);
+            } else if (!currentFile.isSameAs(incomingFile)) {
+                updatedFiles.add(currentFile.changedTo(incomingFile));
+            }
+        }
+
+        return new Delta(insertedFiles, updatedFiles);
+    }
+
+    public List<Long> unmatchedFileIds() {
+        return Stream.concat(
+                        duplicatedFileIds.stream(),
+                        unmatchedFiles.values()
+                                .stream()
+                                .map(unmatchedFile -> unmatchedFile.id())
+                )
+                .toList();
+    }
+
+    public record Delta(
+            List<PullRequestFile> insertedFiles,
+            List<PullRequestFileSnapshotDto> updatedFiles
+    ) {
+    }
+}
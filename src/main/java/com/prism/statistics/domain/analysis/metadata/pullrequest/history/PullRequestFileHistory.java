@@ -40,6 +40,10 @@ public class PullRequestFileHistory extends CreatedAtEntity {
 
     private LocalDateTime githubChangedAt;
 
+    private boolean excluded;
+
+    private boolean fullSnapshot;
+
     public static PullRequestFileHistory create(
             Long pullRequestId,
             Long githubPullRequestId,
@@ -98,6 +102,25 @@ public class PullRequestFileHistory extends CreatedAtEntity {
         return new PullRequestFileHistory(null, githubPullRequestId, headCommitSha, fileName, PreviousFileName.of(previousFileName), FileChangeType.RENAMED, fileChanges, githubChangedAt);
     }
 
+    public static PullRequestFileHistory changedAt(PullRequestFilePush push, PullRequestFileState file) {
+        return new PullRequestFileHistory(
+                push.pullRequestId(),
+                push.githubPullRequestId(),
+                push.headCommitSha(),
+                file.fileName(),
+                file.previousFileName(),
+                file.changeType(),
+                file.fileChanges(),
+                push.githubChangedAt()
+        );
+    }
+
+    public static PullRequestFileHistory excludedAt(PullRequestFilePush push, PullRequestFileState file) {
+        PullRequestFileHistory excludedHistory = changedAt(push, file);
+        excludedHistory.excluded = true;
+        return excludedHistory;
+    }
+
     public void assignPullRequestId(Long pullRequestId) {
         if (this.pullRequestId == null) {
             this.pullRequestId = pullRequestId;
@@ -0,0 +1,20 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest.history;
+
+import java.time.LocalDateTime;
+
+public record PullRequestFilePush(
+        Long pullRequestId,
+        Long githubPullRequestId,
+        String headCommitSha,
+        LocalDateTime githubChangedAt
+) {
+
+    public static PullRequestFilePush from(PullRequestFileHistory history) {
+        return new PullRequestFilePush(
+                history.getPullRequestId(),
+                history.getGithubPullRequestId(),
+                history.getHeadCommitSha(),
+                history.getGithubChangedAt()
+        );
+    }
+}
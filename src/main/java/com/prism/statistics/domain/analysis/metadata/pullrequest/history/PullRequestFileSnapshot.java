@@ -0,0 +1,77 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest.history;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileHistoryDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PullRequestFileSnapshot {
+
+    private final Map<String, PullRequestFileState> files;
+
+    public static PullRequestFileSnapshot empty() {
+        return new PullRequestFileSnapshot(new LinkedHashMap<>());
+    }
+
+    public static PullRequestFileSnapshot replay(List<PullRequestFileHistoryDto> histories) {
+        return empty().apply(histories);
+    }
+
+    public static PullRequestFileSnapshot of(List<PullRequestFileState> files) {
+        Map<String, PullRequestFileState> snapshotFiles = new LinkedHashMap<>();
+        files.forEach(file -> snapshotFiles.put(file.fileName(), file));
+
+        return new PullRequestFileSnapshot(snapshotFiles);
+    }
+
+    private PullRequestFileSnapshot(Map<String, PullRequestFileState> files) {
+        this.files = files;
+    }
+
+    public PullRequestFileSnapshot apply(List<PullRequestFileHistoryDto> histories) {
+        Map<String, PullRequestFileState> appliedFiles = new LinkedHashMap<>(files);
+        LocalDateTime fullSnapshotChangedAt = null;
+
+        for (PullRequestFileHistoryDto history : histories) {
+            if (history.fullSnapshot() && !history.githubChangedAt().equals(fullSnapshotChangedAt)) {
+                appliedFiles.clear();
+                fullSnapshotChangedAt = history.githubChangedAt();
+            }
+            if (history.excluded()) {
+                appliedFiles.remove(history.fileName());
+            } else {
+                appliedFiles.put(history.fileName(), history.toFileState());
+            }
+        }
+
+        return new PullRequestFileSnapshot(appliedFiles);
+    }
+
+    public List<PullRequestFileHistory> changesTo(List<PullRequestFileState> targetFiles, PullRequestFilePush push) {
+        return targetFiles.stream()
+                .filter(targetFile -> !targetFile.equals(files.get(targetFile.fileName())))
+                .map(targetFile -> PullRequestFileHistory.changedAt(push, targetFile))
+                .toList();
+    }
+
+    public List<PullRequestFileHistory> exclusionsTo(PullRequestFileSnapshot target, PullRequestFilePush push) {
+        return files.values()
+                .stream()
+                .filter(currentFile -> !target.files.containsKey(currentFile.fileName()))
+                .map(currentFile -> PullRequestFileHistory.excludedAt(push, currentFile))
+                .toList();
+    }
+
+    public List<PullRequestFileHistory> deltaTo(PullRequestFileSnapshot target, PullRequestFilePush push) {
+        List<PullRequestFileHistory> delta = new ArrayList<>(changesTo(target.getFiles(), push));
+        delta.addAll(exclusionsTo(target, push));
+
+        return delta;
+    }
+
+    public List<PullRequestFileState> getFiles() {
+        return List.copyOf(files.values());
+    }
+}
@@ -0,0 +1,41 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest.history;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.FileChanges;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PreviousFileName;
+
+public record PullRequestFileState(
+        String fileName,
+        FileChangeType changeType,
+        FileChanges fileChanges,
+        PreviousFileName previousFileName
+) {
+
+    public PullRequestFileState {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("파일명은 필수입니다.");
+        }
+        if (changeType == null) {
+            throw new IllegalArgumentException("변경 타입은 필수입니다.");
+        }
+        if (fileChanges == null) {
+            throw new IllegalArgumentException("파일 변경 정보는 필수입니다.");
+        }
+        if (previousFileName == null) {
+            throw new IllegalArgumentException("이전 파일명 정보는 필수입니다.");
+        }
+    }
+
+    public static PullRequestFileState create(String fileName, FileChangeType changeType, FileChanges fileChanges) {
+        return new PullRequestFileState(fileName, changeType, fileChanges, PreviousFileName.empty());
+    }
+
+    public static PullRequestFileState createRenamed(String fileName, String previousFileName, FileChanges fileChanges) {
+        return new PullRequestFileState(
+                fileName,
+                FileChangeType.RENAMED,
+                fileChanges,
+                PreviousFileName.of(previousFileName)
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.prism.statistics.domain.analysis.metadata.pullrequest.repository;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.Commit;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface CommitRepository {
@@ -15,6 +16,8 @@ public interface CommitRepository {
 
     long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
 
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
+
     Set<String> findAllCommitShasByGithubPullRequestId(Long githubPullRequestId);
 
     void saveAllInBatch(List<Commit> commits);
@@ -1,10 +1,13 @@
 package com.prism.statistics.domain.analysis.metadata.pullrequest.repository;
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestContentHistory;
+import java.util.Map;
 
 public interface PullRequestContentHistoryRepository {
 
     PullRequestContentHistory save(PullRequestContentHistory pullRequestContentHistory);
 
     long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
+
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
 }
@@ -1,8 +1,11 @@
 package com.prism.statistics.domain.analysis.metadata.pullrequest.repository;
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileHistory;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileHistoryDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface PullRequestFileHistoryRepository {
 
@@ -12,5 +15,13 @@ public interface PullRequestFileHistoryRepository {
 
     long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
 
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
+
+    List<PullRequestFileHistoryDto> findAllChangedUntil(Long githubPullRequestId, LocalDateTime githubChangedAt);
+
+    List<PullRequestFileHistory> findNextPushHistories(Long githubPullRequestId, LocalDateTime githubChangedAt);
+
+    void deleteAllByIdInBatch(List<Long> ids);
+
     void saveAllInBatch(List<PullRequestFileHistory> pullRequestFileHistories);
 }
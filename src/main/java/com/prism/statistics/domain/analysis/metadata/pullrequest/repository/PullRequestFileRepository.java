@@ -1,8 +1,12 @@
 package com.prism.statistics.domain.analysis.metadata.pullrequest.repository;
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestFile;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileChangeTypeCountDto;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileSnapshotDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface PullRequestFileRepository {
 
@@ -12,11 +16,21 @@ public interface PullRequestFileRepository {
 
     List<PullRequestFile> findAllByPullRequestId(Long pullRequestId);
 
+    List<PullRequestFileSnapshotDto> findSnapshotsByPullRequestId(Long pullRequestId);
+
+    List<PullRequestFileChangeTypeCountDto> countChangeTypesByPullRequestIds(Collection<Long> pullRequestIds);
+
     void deleteAllByPullRequestId(Long pullRequestId);
 
+    void deleteAllByIdInBatch(List<Long> ids);
+
     long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
 
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
+
     boolean existsByGithubPullRequestId(Long githubPullRequestId);
 
     void saveAllInBatch(List<PullRequestFile> pullRequestFiles);
+
+    void updateAllInBatch(List<PullRequestFileSnapshotDto> pullRequestFiles);
 }
@@ -2,9 +2,11 @@ package com.prism.statistics.domain.analysis.metadata.pullrequest.repository;
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestLabelHistory;
 
+import java.util.Map;
+
 public interface PullRequestLabelHistoryRepository {
 
     PullRequestLabelHistory save(PullRequestLabelHistory pullRequestLabelHistory);
 
-    long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
 }
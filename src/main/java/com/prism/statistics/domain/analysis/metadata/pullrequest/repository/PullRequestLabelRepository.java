@@ -2,6 +2,7 @@ package com.prism.statistics.domain.analysis.metadata.pullrequest.repository;
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestLabel;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface PullRequestLabelRepository {
@@ -16,5 +17,5 @@ public interface PullRequestLabelRepository {
 
     long deleteLabelByGithubId(Long githubPullRequestId, String labelName);
 
-    long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
 }
@@ -1,7 +1,9 @@
 package com.prism.statistics.domain.analysis.metadata.pullrequest.repository;
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequest;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestChangeStats;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +15,15 @@ public interface PullRequestRepository {
 
     Optional<PullRequest> findPullRequest(Long projectId, int pullRequestNumber);
 
-    Optional<PullRequest> findWithLock(Long githubPullRequestId);
+    Optional<PullRequest> findByGithubId(Long githubPullRequestId);
+
+    void synchronizeHead(PullRequest pullRequest, String headCommitSha, PullRequestChangeStats changeStats, int commitCount);
+
+    void increaseVersion(PullRequest pullRequest);
 
     List<PullRequest> findAllByProjectId(Long projectId);
 
     Optional<Long> findIdByGithubId(Long githubPullRequestId);
+
+    List<PullRequest> findAllByIds(Collection<Long> ids);
 }
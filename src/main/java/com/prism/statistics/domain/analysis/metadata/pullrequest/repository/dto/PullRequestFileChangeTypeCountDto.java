@@ -0,0 +1,10 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
+
+public record PullRequestFileChangeTypeCountDto(
+        Long pullRequestId,
+        FileChangeType changeType,
+        long count
+) {
+}
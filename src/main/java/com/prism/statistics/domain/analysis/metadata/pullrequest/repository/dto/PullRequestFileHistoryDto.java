@@ -0,0 +1,41 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileHistory;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileState;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.FileChanges;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PreviousFileName;
+import java.time.LocalDateTime;
+
+public record PullRequestFileHistoryDto(
+        LocalDateTime githubChangedAt,
+        String fileName,
+        FileChangeType changeType,
+        int additions,
+        int deletions,
+        String previousFileName,
+        boolean excluded,
+        boolean fullSnapshot
+) {
+
+    public static PullRequestFileHistoryDto from(PullRequestFileHistory history) {
+        return new PullRequestFileHistoryDto(
+                history.getGithubChangedAt(),
+                history.getFileName(),
+                history.getChangeType(),
+                history.getFileChanges().getAdditions(),
+                history.getFileChanges().getDeletions(),
+                history.getPreviousFileName().getValue(),
+                history.isExcluded(),
+                history.isFullSnapshot()
+        );
+    }
+
+    public PullRequestFileState toFileState() {
+        PreviousFileName previous = previousFileName == null
+                ? PreviousFileName.empty()
+                : PreviousFileName.of(previousFileName);
+
+        return new PullRequestFileState(fileName, changeType, FileChanges.create(additions, deletions), previous);
+    }
+}
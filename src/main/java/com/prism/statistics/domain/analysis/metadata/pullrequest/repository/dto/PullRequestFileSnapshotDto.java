@@ -0,0 +1,29 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestFile;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
+
+public record PullRequestFileSnapshotDto(
+        Long id,
+        String fileName,
+        FileChangeType changeType,
+        int additions,
+        int deletions
+) {
+
+    public boolean isSameAs(PullRequestFile file) {
+        return changeType == file.getChangeType()
+                && additions == file.getFileChanges().getAdditions()
+                && deletions == file.getFileChanges().getDeletions();
+    }
+
+    public PullRequestFileSnapshotDto changedTo(PullRequestFile file) {
+        return new PullRequestFileSnapshotDto(
+                id,
+                fileName,
+                file.getChangeType(),
+                file.getFileChanges().getAdditions(),
+                file.getFileChanges().getDeletions()
+        );
+    }
+}
@@ -2,9 +2,11 @@ package com.prism.statistics.domain.analysis.metadata.review.repository;
 
 import com.prism.statistics.domain.analysis.metadata.review.history.RequestedReviewerHistory;
 
+import java.util.Map;
+
 public interface RequestedReviewerHistoryRepository {
 
     RequestedReviewerHistory save(RequestedReviewerHistory requestedReviewerHistory);
 
-    long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
 }
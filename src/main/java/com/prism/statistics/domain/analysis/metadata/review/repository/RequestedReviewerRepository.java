@@ -2,6 +2,7 @@ package com.prism.statistics.domain.analysis.metadata.review.repository;
 
 import com.prism.statistics.domain.analysis.metadata.review.RequestedReviewer;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface RequestedReviewerRepository {
@@ -16,5 +17,5 @@ public interface RequestedReviewerRepository {
 
     long deleteByGithubId(Long githubPullRequestId, Long userId);
 
-    long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
 }
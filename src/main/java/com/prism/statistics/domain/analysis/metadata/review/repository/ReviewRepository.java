@@ -2,7 +2,9 @@ package com.prism.statistics.domain.analysis.metadata.review.repository;
 
 import com.prism.statistics.domain.analysis.metadata.review.Review;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ReviewRepository {
@@ -15,5 +17,9 @@ public interface ReviewRepository {
 
     List<Review> findAllByPullRequestId(Long pullRequestId);
 
-    long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId);
+    List<Review> findAllByPullRequestIds(Collection<Long> pullRequestIds);
+
+    List<Review> findAllByGithubReviewIds(Collection<Long> githubReviewIds);
+
+    long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId);
 }
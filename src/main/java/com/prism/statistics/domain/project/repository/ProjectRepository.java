@@ -10,6 +10,8 @@ public interface ProjectRepository {
 
     Optional<Long> findIdByApiKey(String apiKey);
 
+    Optional<Project> findByIdAndUserId(Long projectId, Long userId);
+
     List<Project> findAllProjectsByUserId(Long userId);
 
     boolean existsByIdAndUserId(Long projectId, Long userId);
@@ -4,9 +4,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.prism.statistics.domain.user.NicknameGenerator;
 import com.prism.statistics.global.config.properties.BatchInsertProperties;
+import com.prism.statistics.global.config.properties.CollectInboxAdmissionProperties;
+import com.prism.statistics.global.config.properties.CollectInboxDedupProperties;
+import com.prism.statistics.global.config.properties.CollectInboxLeaseProperties;
+import com.prism.statistics.global.config.properties.CollectInboxPayloadProperties;
+import com.prism.statistics.global.config.properties.CollectInboxPriorityProperties;
 import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import com.prism.statistics.global.config.properties.CollectInboxRedriveProperties;
+import com.prism.statistics.global.config.properties.CollectInboxRetentionProperties;
 import com.prism.statistics.global.config.properties.CollectRetryProperties;
+import com.prism.statistics.global.config.properties.DeferredInsightProperties;
 import com.prism.statistics.global.config.properties.NicknameProperties;
+import com.prism.statistics.global.config.properties.OrphanReconciliationProperties;
+import com.prism.statistics.global.config.properties.ProjectApiKeyCacheProperties;
+import com.prism.statistics.global.config.properties.PullRequestBackfillProperties;
+import com.prism.statistics.presentation.collect.CollectInboxRawPayloadClearInterceptor;
 import java.time.Clock;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -16,6 +28,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -25,13 +38,31 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
         NicknameProperties.class,
         BatchInsertProperties.class,
         CollectInboxProperties.class,
-        CollectRetryProperties.class
+        CollectInboxAdmissionProperties.class,
+        CollectInboxDedupProperties.class,
+        CollectInboxLeaseProperties.class,
+        CollectInboxPayloadProperties.class,
+        CollectInboxPriorityProperties.class,
+        CollectInboxRedriveProperties.class,
+        CollectInboxRetentionProperties.class,
+        CollectRetryProperties.class,
+        DeferredInsightProperties.class,
+        OrphanReconciliationProperties.class,
+        ProjectApiKeyCacheProperties.class,
+        PullRequestBackfillProperties.class
 })
 public class AppConfig implements WebMvcConfigurer {
 
     private static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
 
     private final NicknameProperties nicknameProperties;
+    private final CollectInboxRawPayloadClearInterceptor rawPayloadClearInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rawPayloadClearInterceptor)
+                .addPathPatterns("/collect/**");
+    }
 
     @Bean
     public Clock clock() {
@@ -1,6 +1,7 @@
 package com.prism.statistics.global.config;
 
 import com.prism.statistics.global.config.properties.BackfillAsyncProperties;
+import com.prism.statistics.global.config.properties.CollectInboxProperties;
 import com.prism.statistics.global.config.properties.PullRequestOpenedDerivedMetricsAsyncProperties;
 import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
@@ -58,4 +59,45 @@ public class AsyncConfig implements AsyncConfigurer {
 
         return executor;
     }
+
+    @Bean(name = "collectInboxLaneExecutor")
+    public Executor collectInboxLaneExecutor(CollectInboxProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(properties.laneCount());
+        executor.setMaxPoolSize(properties.laneCount());
+        executor.setQueueCapacity(properties.laneCount());
+        executor.setThreadNamePrefix("collect-inbox-lane-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(Math.toIntExact(properties.processingTimeoutMs() / 1_000L));
+        executor.initialize();
+
+        return executor;
+    }
+
+    @Bean(name = "collectInboxRedriveExecutor")
+    public Executor collectInboxRedriveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("collect-inbox-redrive-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    @Bean(name = "collectBulkImportExecutor")
+    public Executor collectBulkImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("collect-bulk-import-");
+        executor.initialize();
+
+        return executor;
+    }
 }
@@ -0,0 +1,40 @@
+package com.prism.statistics.global.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = "collectInboxRetentionScheduler")
+    public ThreadPoolTaskScheduler collectInboxRetentionScheduler() {
+        return singleThreadScheduler("collect-inbox-retention-");
+    }
+
+    @Bean(name = "collectInboxLeaseHeartbeatScheduler")
+    public ThreadPoolTaskScheduler collectInboxLeaseHeartbeatScheduler() {
+        return singleThreadScheduler("collect-inbox-lease-heartbeat-");
+    }
+
+    @Bean(name = "pullRequestBackfillScheduler")
+    public ThreadPoolTaskScheduler pullRequestBackfillScheduler() {
+        return singleThreadScheduler("pull-request-backfill-");
+    }
+
+    private ThreadPoolTaskScheduler singleThreadScheduler(String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+
+        return scheduler;
+    }
+}
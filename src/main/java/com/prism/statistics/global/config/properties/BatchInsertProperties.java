@@ -5,7 +5,9 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties("app.analysis.metadata.batch-insert")
 public record BatchInsertProperties(
-        @DefaultValue("100") int chunkSize
+        @DefaultValue("100") int chunkSize,
+        @DefaultValue("1000") int maxChunkSize,
+        @DefaultValue("50") long targetStatementMs
 ) {
     public BatchInsertProperties {
         if (chunkSize < 1) {
@@ -13,5 +15,15 @@ public record BatchInsertProperties(
                     "배치 INSERT 청크 크기는 1 이상이어야 합니다."
             );
         }
+        if (maxChunkSize < chunkSize) {
+            throw new IllegalArgumentException(
+                    "배치 INSERT 최대 청크 크기는 청크 크기 이상이어야 합니다."
+            );
+        }
+        if (targetStatementMs < 1) {
+            throw new IllegalArgumentException(
+                    "배치 INSERT 목표 실행 시간은 1 이상이어야 합니다."
+            );
+        }
     }
 }
@@ -0,0 +1,32 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.collect.inbox.admission")
+public record CollectInboxAdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("4096") int bufferCapacity,
+        @DefaultValue("200") int flushBatchSize,
+        @DefaultValue("20") long flushIntervalMs,
+        @DefaultValue("1") long retryAfterSeconds,
+        @DefaultValue("3") int flushMaxAttempts
+) {
+    public CollectInboxAdmissionProperties {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("collect inbox 수신 버퍼 크기는 1 이상이어야 합니다.");
+        }
+        if (flushBatchSize < 1 || flushBatchSize > bufferCapacity) {
+            throw new IllegalArgumentException("collect inbox 일괄 저장 크기는 1 이상, 수신 버퍼 크기 이하여야 합니다.");
+        }
+        if (flushIntervalMs < 1) {
+            throw new IllegalArgumentException("collect inbox 일괄 저장 대기 시간은 1 이상이어야 합니다.");
+        }
+        if (retryAfterSeconds < 1) {
+            throw new IllegalArgumentException("collect inbox 재시도 안내 시간은 1 이상이어야 합니다.");
+        }
+        if (flushMaxAttempts < 1) {
+            throw new IllegalArgumentException("collect inbox 일괄 저장 최대 시도 횟수는 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.collect.inbox.dedup")
+public record CollectInboxDedupProperties(
+        @DefaultValue("true") boolean preFilterEnabled,
+        @DefaultValue("10000") int preFilterCapacity
+) {
+    public CollectInboxDedupProperties {
+        if (preFilterCapacity < 1) {
+            throw new IllegalArgumentException("collect inbox 중복 사전 필터 크기는 1 이상이어야 합니다.");
+        }
+    }
+}
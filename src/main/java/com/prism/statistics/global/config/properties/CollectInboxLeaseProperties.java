@@ -0,0 +1,23 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.collect.inbox.lease")
+public record CollectInboxLeaseProperties(
+        @DefaultValue("30000") long durationMs,
+        @DefaultValue("5000") long heartbeatIntervalMs,
+        @DefaultValue("5000") long recoveryIntervalMs
+) {
+    public CollectInboxLeaseProperties {
+        if (heartbeatIntervalMs < 1) {
+            throw new IllegalArgumentException("collect inbox lease 갱신 주기는 1 이상이어야 합니다.");
+        }
+        if (durationMs <= heartbeatIntervalMs) {
+            throw new IllegalArgumentException("collect inbox lease 기간은 갱신 주기보다 길어야 합니다.");
+        }
+        if (recoveryIntervalMs < 1) {
+            throw new IllegalArgumentException("collect inbox lease 복구 주기는 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.collect.inbox.payload")
+public record CollectInboxPayloadProperties(
+        @DefaultValue("DEFLATE") String codec,
+        @DefaultValue("4096") int compressionThresholdBytes
+) {
+    public CollectInboxPayloadProperties {
+        if (codec == null || codec.isBlank()) {
+            throw new IllegalArgumentException("collect inbox payload 코덱은 비어 있을 수 없습니다.");
+        }
+        if (compressionThresholdBytes < 0) {
+            throw new IllegalArgumentException("collect inbox payload 압축 기준 크기는 0 이상이어야 합니다.");
+        }
+    }
+}
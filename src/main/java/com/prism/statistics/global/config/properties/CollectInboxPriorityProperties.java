@@ -0,0 +1,28 @@
+package com.prism.statistics.global.config.properties;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.collect.inbox.priority")
+public record CollectInboxPriorityProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("6") int highWeight,
+        @DefaultValue("3") int normalWeight,
+        @DefaultValue("1") int lowWeight,
+        @DefaultValue("60000") long backlogReportIntervalMs,
+        Map<CollectInboxType, CollectInboxPriority> typePriorities
+) {
+    public CollectInboxPriorityProperties {
+        if (highWeight < 1 || normalWeight < 1 || lowWeight < 1) {
+            throw new IllegalArgumentException("collect inbox 우선순위 가중치는 1 이상이어야 합니다.");
+        }
+        if (backlogReportIntervalMs < 1) {
+            throw new IllegalArgumentException("collect inbox 적체 보고 주기는 1 이상이어야 합니다.");
+        }
+
+        typePriorities = typePriorities == null ? Map.of() : Map.copyOf(typePriorities);
+    }
+}
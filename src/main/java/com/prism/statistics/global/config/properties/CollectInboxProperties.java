@@ -6,8 +6,30 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 @ConfigurationProperties("app.collect.inbox")
 public record CollectInboxProperties(
         @DefaultValue("200") long pollDelayMs,
+        @DefaultValue("5000") long pollMaxDelayMs,
         @DefaultValue("60000") long processingTimeoutMs,
         @DefaultValue("true") boolean workerEnabled,
-        @DefaultValue("30") int batchSize
+        @DefaultValue("30") int batchSize,
+        @DefaultValue("4") int laneCount,
+        @DefaultValue("100") int laneQueueCapacity,
+        @DefaultValue("10") int laneBatchSize,
+        @DefaultValue("1000") int fastPathQueueCapacity
 ) {
+    public CollectInboxProperties {
+        if (pollDelayMs < 1 || pollMaxDelayMs < pollDelayMs) {
+            throw new IllegalArgumentException("collect inbox 최대 폴링 간격은 기본 폴링 간격 이상이어야 합니다.");
+        }
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("collect inbox lane 개수는 1 이상이어야 합니다.");
+        }
+        if (laneQueueCapacity < 1) {
+            throw new IllegalArgumentException("collect inbox lane 큐 크기는 1 이상이어야 합니다.");
+        }
+        if (laneBatchSize < 1) {
+            throw new IllegalArgumentException("collect inbox lane 배치 크기는 1 이상이어야 합니다.");
+        }
+        if (fastPathQueueCapacity < 1) {
+            throw new IllegalArgumentException("collect inbox fast path 큐 크기는 1 이상이어야 합니다.");
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.collect.inbox.redrive")
+public record CollectInboxRedriveProperties(
+        @DefaultValue("100") int chunkSize,
+        @DefaultValue("200") long chunkPauseMs,
+        @DefaultValue("500") long maxClaimableBacklog,
+        @DefaultValue("1000") long backlogWaitMs,
+        @DefaultValue("20") int retainedJobCount
+) {
+    public CollectInboxRedriveProperties {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("재처리 청크 크기는 1 이상이어야 합니다.");
+        }
+        if (chunkPauseMs < 0) {
+            throw new IllegalArgumentException("재처리 청크 간 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (maxClaimableBacklog < 0) {
+            throw new IllegalArgumentException("재처리 허용 적체 건수는 0 이상이어야 합니다.");
+        }
+        if (backlogWaitMs < 1) {
+            throw new IllegalArgumentException("재처리 적체 대기 시간은 1 이상이어야 합니다.");
+        }
+        if (retainedJobCount < 1) {
+            throw new IllegalArgumentException("보관할 재처리 작업 수는 1 이상이어야 합니다.");
+        }
+    }
+}
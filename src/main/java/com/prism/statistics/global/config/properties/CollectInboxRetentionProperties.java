@@ -0,0 +1,32 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.collect.inbox.retention")
+public record CollectInboxRetentionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("604800000") long processedTtlMs,
+        @DefaultValue("3600000") long deadLetterDelayMs,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("50") long chunkPauseMs,
+        @DefaultValue("100") int maxChunksPerRun
+) {
+    public CollectInboxRetentionProperties {
+        if (processedTtlMs < 1) {
+            throw new IllegalArgumentException("PROCESSED 보관 기간은 1 이상이어야 합니다.");
+        }
+        if (deadLetterDelayMs < 0) {
+            throw new IllegalArgumentException("dead letter 이관 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("보관 정리 청크 크기는 1 이상이어야 합니다.");
+        }
+        if (chunkPauseMs < 0) {
+            throw new IllegalArgumentException("보관 정리 청크 간 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (maxChunksPerRun < 1) {
+            throw new IllegalArgumentException("실행당 최대 청크 수는 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -5,6 +5,24 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties("app.collect.retry")
 public record CollectRetryProperties(
-        @DefaultValue("3") int maxAttempts
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("1000") long backoffBaseMs,
+        @DefaultValue("60000") long backoffMaxMs,
+        @DefaultValue("0.2") double backoffJitterRatio,
+        @DefaultValue("3") int conflictMaxAttempts
 ) {
+    public CollectRetryProperties {
+        if (backoffBaseMs < 0) {
+            throw new IllegalArgumentException("재시도 기본 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (backoffMaxMs < backoffBaseMs) {
+            throw new IllegalArgumentException("재시도 최대 대기 시간은 기본 대기 시간 이상이어야 합니다.");
+        }
+        if (backoffJitterRatio < 0.0 || backoffJitterRatio > 1.0) {
+            throw new IllegalArgumentException("재시도 jitter 비율은 0 이상 1 이하여야 합니다.");
+        }
+        if (conflictMaxAttempts < 1) {
+            throw new IllegalArgumentException("동시 수정 충돌 재실행 횟수는 1 이상이어야 합니다.");
+        }
+    }
 }
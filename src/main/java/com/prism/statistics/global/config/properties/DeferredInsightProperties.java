@@ -0,0 +1,15 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.analysis.insight.deferred")
+public record DeferredInsightProperties(
+        @DefaultValue("200") int chunkSize
+) {
+    public DeferredInsightProperties {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("미뤄둔 인사이트 도출 묶음 크기는 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.analysis.metadata.orphan-reconciliation")
+public record OrphanReconciliationProperties(
+        @DefaultValue("300000") long sweepIntervalMs,
+        @DefaultValue("300000") long staleAfterMs,
+        @DefaultValue("3600000") long reportAfterMs,
+        @DefaultValue("604800000") long expireAfterMs
+) {
+    public OrphanReconciliationProperties {
+        if (sweepIntervalMs < 1) {
+            throw new IllegalArgumentException("orphan 점검 주기는 1 이상이어야 합니다.");
+        }
+        if (staleAfterMs < 0) {
+            throw new IllegalArgumentException("orphan 재연결 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (reportAfterMs < staleAfterMs) {
+            throw new IllegalArgumentException("orphan 보고 대기 시간은 재연결 대기 시간 이상이어야 합니다.");
+        }
+        if (expireAfterMs < reportAfterMs) {
+            throw new IllegalArgumentException("orphan 추적 만료 시간은 보고 대기 시간 이상이어야 합니다.");
+        }
+    }
+}
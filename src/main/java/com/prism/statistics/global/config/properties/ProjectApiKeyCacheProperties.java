@@ -0,0 +1,21 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.collect.api-key-cache")
+public record ProjectApiKeyCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("300000") long ttlMs,
+        @DefaultValue("30000") long negativeTtlMs
+) {
+    public ProjectApiKeyCacheProperties {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("API Key 캐시 최대 크기는 1 이상이어야 합니다.");
+        }
+        if (ttlMs < 1 || negativeTtlMs < 1) {
+            throw new IllegalArgumentException("API Key 캐시 유지 시간은 1 이상이어야 합니다.");
+        }
+    }
+}
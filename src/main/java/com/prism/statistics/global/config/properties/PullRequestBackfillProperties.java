@@ -0,0 +1,19 @@
+package com.prism.statistics.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.analysis.metadata.backfill")
+public record PullRequestBackfillProperties(
+        @DefaultValue("50") long windowMs,
+        @DefaultValue("200") int maxBatchSize
+) {
+    public PullRequestBackfillProperties {
+        if (windowMs < 0) {
+            throw new IllegalArgumentException("backfill 묶음 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("backfill 묶음 크기는 1 이상이어야 합니다.");
+        }
+    }
+}
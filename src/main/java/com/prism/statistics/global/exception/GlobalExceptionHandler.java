@@ -2,11 +2,17 @@ package com.prism.statistics.global.exception;
 
 import com.prism.statistics.application.auth.exception.UserMissingException;
 import com.prism.statistics.application.auth.exception.WithdrawnUserLoginException;
+import com.prism.statistics.application.collect.bulk.exception.CollectBulkImportInProgressException;
+import com.prism.statistics.application.collect.bulk.exception.CollectBulkImportJobNotFoundException;
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxAdmissionRejectedException;
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxRedriveInProgressException;
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxRedriveJobNotFoundException;
 import com.prism.statistics.application.user.exception.UserNotFoundException;
 import com.prism.statistics.domain.project.exception.ProjectOwnershipException;
 import com.prism.statistics.domain.project.exception.ProjectSettingNotFoundException;
 import com.prism.statistics.domain.user.exception.AlreadyWithdrawnUserException;
 import com.prism.statistics.global.exception.dto.response.AuthErrorCode;
+import com.prism.statistics.global.exception.dto.response.CollectErrorCode;
 import com.prism.statistics.global.exception.dto.response.CommitErrorCode;
 import com.prism.statistics.global.exception.dto.response.DefaultErrorCode;
 import com.prism.statistics.global.exception.dto.response.ErrorCode;
@@ -143,6 +149,54 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return createResponseEntity(ProjectErrorCode.INVALID_API_KEY);
     }
 
+    @ExceptionHandler(CollectInboxAdmissionRejectedException.class)
+    public ResponseEntity<Object> handleCollectInboxAdmissionRejectedException(
+            CollectInboxAdmissionRejectedException ex
+    ) {
+        log.warn("CollectInboxAdmissionRejectedException : {}", ex.getMessage());
+
+        CollectErrorCode errorCode = CollectErrorCode.INBOX_ADMISSION_REJECTED;
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ExceptionResponse.from(errorCode));
+    }
+
+    @ExceptionHandler(CollectInboxRedriveInProgressException.class)
+    public ResponseEntity<Object> handleCollectInboxRedriveInProgressException(
+            CollectInboxRedriveInProgressException ex
+    ) {
+        log.info("CollectInboxRedriveInProgressException : {}", ex.getMessage());
+
+        return createResponseEntity(CollectErrorCode.INBOX_REDRIVE_IN_PROGRESS);
+    }
+
+    @ExceptionHandler(CollectInboxRedriveJobNotFoundException.class)
+    public ResponseEntity<Object> handleCollectInboxRedriveJobNotFoundException(
+            CollectInboxRedriveJobNotFoundException ex
+    ) {
+        log.info("CollectInboxRedriveJobNotFoundException : {}", ex.getMessage());
+
+        return createResponseEntity(CollectErrorCode.INBOX_REDRIVE_JOB_NOT_FOUND);
+    }
+
+    @ExceptionHandler(CollectBulkImportInProgressException.class)
+    public ResponseEntity<Object> handleCollectBulkImportInProgressException(
+            CollectBulkImportInProgressException ex
+    ) {
+        log.info("CollectBulkImportInProgressException : {}", ex.getMessage());
+
+        return createResponseEntity(CollectErrorCode.BULK_IMPORT_IN_PROGRESS);
+    }
+
+    @ExceptionHandler(CollectBulkImportJobNotFoundException.class)
+    public ResponseEntity<Object> handleCollectBulkImportJobNotFoundException(
+            CollectBulkImportJobNotFoundException ex
+    ) {
+        log.info("CollectBulkImportJobNotFoundException : {}", ex.getMessage());
+
+        return createResponseEntity(CollectErrorCode.BULK_IMPORT_JOB_NOT_FOUND);
+    }
+
     @ExceptionHandler(HeadCommitNotFoundException.class)
     public ResponseEntity<Object> handleHeadCommitNotFoundException(HeadCommitNotFoundException ex) {
         log.info("HeadCommitNotFoundException : {}", ex.getMessage());
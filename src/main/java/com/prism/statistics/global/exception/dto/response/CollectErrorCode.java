@@ -0,0 +1,24 @@
+package com.prism.statistics.global.exception.dto.response;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public enum CollectErrorCode implements ErrorCode {
+
+    INBOX_ADMISSION_REJECTED("CI00", "수집 요청이 많아 잠시 후 다시 시도해야 합니다.", HttpStatus.TOO_MANY_REQUESTS),
+    INBOX_REDRIVE_IN_PROGRESS("CI01", "이미 진행 중인 재처리 작업이 있습니다.", HttpStatus.CONFLICT),
+    INBOX_REDRIVE_JOB_NOT_FOUND("CI02", "재처리 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    BULK_IMPORT_IN_PROGRESS("CI03", "이미 진행 중인 일괄 가져오기 작업이 있습니다.", HttpStatus.CONFLICT),
+    BULK_IMPORT_JOB_NOT_FOUND("CI04", "일괄 가져오기 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+
+    private final String errorCode;
+    private final String message;
+    private final HttpStatus httpStatus;
+
+    CollectErrorCode(String errorCode, String message, HttpStatus httpStatus) {
+        this.errorCode = errorCode;
+        this.message = message;
+        this.httpStatus = httpStatus;
+    }
+}
@@ -3,6 +3,8 @@ package com.prism.statistics.infrastructure.analysis.insight.persistence;
 import com.prism.statistics.domain.analysis.insight.bottleneck.PullRequestBottleneck;
 import org.springframework.data.repository.ListCrudRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaPullRequestBottleneckRepository extends ListCrudRepository<PullRequestBottleneck, Long> {
@@ -10,4 +12,6 @@ public interface JpaPullRequestBottleneckRepository extends ListCrudRepository<P
     Optional<PullRequestBottleneck> findByPullRequestId(Long pullRequestId);
 
     boolean existsByPullRequestId(Long pullRequestId);
+
+    List<PullRequestBottleneck> findAllByPullRequestIdIn(Collection<Long> pullRequestIds);
 }
@@ -3,6 +3,8 @@ package com.prism.statistics.infrastructure.analysis.insight.persistence;
 import com.prism.statistics.domain.analysis.insight.lifecycle.PullRequestLifecycle;
 import org.springframework.data.repository.ListCrudRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaPullRequestLifecycleRepository extends ListCrudRepository<PullRequestLifecycle, Long> {
@@ -10,4 +12,6 @@ public interface JpaPullRequestLifecycleRepository extends ListCrudRepository<Pu
     Optional<PullRequestLifecycle> findByPullRequestId(Long pullRequestId);
 
     boolean existsByPullRequestId(Long pullRequestId);
+
+    List<PullRequestLifecycle> findAllByPullRequestIdIn(Collection<Long> pullRequestIds);
 }
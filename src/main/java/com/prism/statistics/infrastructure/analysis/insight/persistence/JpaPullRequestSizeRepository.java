@@ -4,6 +4,7 @@ import com.prism.statistics.domain.analysis.insight.size.PullRequestSize;
 import com.prism.statistics.domain.analysis.insight.size.enums.SizeGrade;
 import org.springframework.data.repository.ListCrudRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +17,6 @@ public interface JpaPullRequestSizeRepository extends ListCrudRepository<PullReq
     List<PullRequestSize> findBySizeGrade(SizeGrade sizeGrade);
 
     List<PullRequestSize> findBySizeGradeIn(List<SizeGrade> sizeGrades);
+
+    List<PullRequestSize> findAllByPullRequestIdIn(Collection<Long> pullRequestIds);
 }
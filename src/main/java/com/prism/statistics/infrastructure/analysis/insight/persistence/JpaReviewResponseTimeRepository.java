@@ -3,6 +3,8 @@ package com.prism.statistics.infrastructure.analysis.insight.persistence;
 import com.prism.statistics.domain.analysis.insight.review.ReviewResponseTime;
 import org.springframework.data.repository.ListCrudRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaReviewResponseTimeRepository extends ListCrudRepository<ReviewResponseTime, Long> {
@@ -10,4 +12,6 @@ public interface JpaReviewResponseTimeRepository extends ListCrudRepository<Revi
     Optional<ReviewResponseTime> findByPullRequestId(Long pullRequestId);
 
     boolean existsByPullRequestId(Long pullRequestId);
+
+    List<ReviewResponseTime> findAllByPullRequestIdIn(Collection<Long> pullRequestIds);
 }
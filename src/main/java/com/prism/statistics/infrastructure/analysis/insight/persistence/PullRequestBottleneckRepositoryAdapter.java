@@ -2,6 +2,8 @@ package com.prism.statistics.infrastructure.analysis.insight.persistence;
 
 import com.prism.statistics.domain.analysis.insight.bottleneck.PullRequestBottleneck;
 import com.prism.statistics.domain.analysis.insight.bottleneck.repository.PullRequestBottleneckRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -30,4 +32,16 @@ public class PullRequestBottleneckRepositoryAdapter implements PullRequestBottle
     public boolean existsByPullRequestId(Long pullRequestId) {
         return jpaPullRequestBottleneckRepository.existsByPullRequestId(pullRequestId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PullRequestBottleneck> findAllByPullRequestIds(Collection<Long> pullRequestIds) {
+        return jpaPullRequestBottleneckRepository.findAllByPullRequestIdIn(pullRequestIds);
+    }
+
+    @Override
+    @Transactional
+    public List<PullRequestBottleneck> saveAll(List<PullRequestBottleneck> bottlenecks) {
+        return jpaPullRequestBottleneckRepository.saveAll(bottlenecks);
+    }
 }
@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -31,4 +33,16 @@ public class PullRequestLifecycleRepositoryAdapter implements PullRequestLifecyc
     public boolean existsByPullRequestId(Long pullRequestId) {
         return jpaPullRequestLifecycleRepository.existsByPullRequestId(pullRequestId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PullRequestLifecycle> findAllByPullRequestIds(Collection<Long> pullRequestIds) {
+        return jpaPullRequestLifecycleRepository.findAllByPullRequestIdIn(pullRequestIds);
+    }
+
+    @Override
+    @Transactional
+    public List<PullRequestLifecycle> saveAll(List<PullRequestLifecycle> lifecycles) {
+        return jpaPullRequestLifecycleRepository.saveAll(lifecycles);
+    }
 }
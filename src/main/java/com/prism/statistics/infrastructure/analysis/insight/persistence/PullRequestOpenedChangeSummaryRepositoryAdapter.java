@@ -2,17 +2,45 @@ package com.prism.statistics.infrastructure.analysis.insight.persistence;
 
 import com.prism.statistics.domain.analysis.insight.PullRequestOpenedChangeSummary;
 import com.prism.statistics.domain.analysis.insight.repository.PullRequestOpenedChangeSummaryRepository;
+import com.prism.statistics.infrastructure.common.BulkInsertStatement;
+import com.prism.statistics.infrastructure.common.BulkJdbcWriter;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class PullRequestOpenedChangeSummaryRepositoryAdapter implements PullRequestOpenedChangeSummaryRepository {
 
+    private static final BulkInsertStatement<PullRequestOpenedChangeSummary> INSERT_STATEMENT = new BulkInsertStatement<>(
+            "pull_request_opened_change_summaries",
+            List.of(
+                    "pull_request_id",
+                    "total_changes",
+                    "avg_changes_per_file",
+                    "created_at",
+                    "updated_at"
+            ),
+            (parameters, summary) -> parameters
+                    .setLong(summary.getPullRequestId())
+                    .setInt(summary.getTotalChanges())
+                    .setBigDecimal(summary.getAvgChangesPerFile())
+                    .setBatchTimestamp()
+                    .setBatchTimestamp()
+    );
+
     private final JpaPullRequestOpenedChangeSummaryRepository jpaPullRequestOpenedChangeSummaryRepository;
+    private final BulkJdbcWriter bulkJdbcWriter;
 
     @Override
     public PullRequestOpenedChangeSummary save(PullRequestOpenedChangeSummary summary) {
         return jpaPullRequestOpenedChangeSummaryRepository.save(summary);
     }
+
+    @Override
+    @Transactional
+    public void saveAllInBatch(List<PullRequestOpenedChangeSummary> summaries) {
+        bulkJdbcWriter.insert(INSERT_STATEMENT, summaries);
+    }
 }
@@ -2,17 +2,45 @@ package com.prism.statistics.infrastructure.analysis.insight.persistence;
 
 import com.prism.statistics.domain.analysis.insight.PullRequestOpenedCommitDensity;
 import com.prism.statistics.domain.analysis.insight.repository.PullRequestOpenedCommitDensityRepository;
+import com.prism.statistics.infrastructure.common.BulkInsertStatement;
+import com.prism.statistics.infrastructure.common.BulkJdbcWriter;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class PullRequestOpenedCommitDensityRepositoryAdapter implements PullRequestOpenedCommitDensityRepository {
 
+    private static final BulkInsertStatement<PullRequestOpenedCommitDensity> INSERT_STATEMENT = new BulkInsertStatement<>(
+            "pull_request_opened_commit_densities",
+            List.of(
+                    "pull_request_id",
+                    "commit_density_per_file",
+                    "commit_density_per_change",
+                    "created_at",
+                    "updated_at"
+            ),
+            (parameters, density) -> parameters
+                    .setLong(density.getPullRequestId())
+                    .setBigDecimal(density.getCommitDensityPerFile())
+                    .setBigDecimal(density.getCommitDensityPerChange())
+                    .setBatchTimestamp()
+                    .setBatchTimestamp()
+    );
+
     private final JpaPullRequestOpenedCommitDensityRepository jpaPullRequestOpenedCommitDensityRepository;
+    private final BulkJdbcWriter bulkJdbcWriter;
 
     @Override
     public PullRequestOpenedCommitDensity save(PullRequestOpenedCommitDensity density) {
         return jpaPullRequestOpenedCommitDensityRepository.save(density);
     }
+
+    @Override
+    @Transactional
+    public void saveAllInBatch(List<PullRequestOpenedCommitDensity> densities) {
+        bulkJdbcWriter.insert(INSERT_STATEMENT, densities);
+    }
 }
@@ -2,19 +2,46 @@ package com.prism.statistics.infrastructure.analysis.insight.persistence;
 
 import com.prism.statistics.domain.analysis.insight.PullRequestOpenedFileChange;
 import com.prism.statistics.domain.analysis.insight.repository.PullRequestOpenedFileChangeRepository;
+import com.prism.statistics.infrastructure.common.BulkInsertStatement;
+import com.prism.statistics.infrastructure.common.BulkJdbcWriter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class PullRequestOpenedFileChangeRepositoryAdapter implements
         PullRequestOpenedFileChangeRepository {
 
+    private static final BulkInsertStatement<PullRequestOpenedFileChange> INSERT_STATEMENT = new BulkInsertStatement<>(
+            "pull_request_opened_file_change_diversities",
+            List.of(
+                    "pull_request_id",
+                    "change_type",
+                    "count",
+                    "ratio",
+                    "created_at"
+            ),
+            (parameters, fileChange) -> parameters
+                    .setLong(fileChange.getPullRequestId())
+                    .setString(fileChange.getChangeType().name())
+                    .setInt(fileChange.getCount())
+                    .setBigDecimal(fileChange.getRatio())
+                    .setBatchTimestamp()
+    );
+
     private final JpaPullRequestOpenedFileChangeRepository jpaPullRequestOpenedFileChangeRepository;
+    private final BulkJdbcWriter bulkJdbcWriter;
 
     @Override
     public List<PullRequestOpenedFileChange> saveAll(Iterable<PullRequestOpenedFileChange> fileChanges) {
         return jpaPullRequestOpenedFileChangeRepository.saveAll(fileChanges);
     }
+
+    @Override
+    @Transactional
+    public void saveAllInBatch(List<PullRequestOpenedFileChange> fileChanges) {
+        bulkJdbcWriter.insert(INSERT_STATEMENT, fileChanges);
+    }
 }
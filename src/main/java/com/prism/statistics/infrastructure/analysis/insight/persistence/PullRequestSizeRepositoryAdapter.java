@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,4 +61,16 @@ public class PullRequestSizeRepositoryAdapter implements PullRequestSizeReposito
                 .where(pullRequest.projectId.eq(projectId))
                 .fetch();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PullRequestSize> findAllByPullRequestIds(Collection<Long> pullRequestIds) {
+        return jpaPullRequestSizeRepository.findAllByPullRequestIdIn(pullRequestIds);
+    }
+
+    @Override
+    @Transactional
+    public List<PullRequestSize> saveAll(List<PullRequestSize> sizes) {
+        return jpaPullRequestSizeRepository.saveAll(sizes);
+    }
 }
@@ -1,11 +1,16 @@
 package com.prism.statistics.infrastructure.analysis.insight.persistence;
 
+import static com.prism.statistics.domain.analysis.insight.activity.QReviewActivity.reviewActivity;
+
 import com.prism.statistics.domain.analysis.insight.activity.ReviewActivity;
 import com.prism.statistics.domain.analysis.insight.activity.repository.ReviewActivityRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +18,7 @@ import java.util.Optional;
 public class ReviewActivityRepositoryAdapter implements ReviewActivityRepository {
 
     private final JpaReviewActivityRepository jpaReviewActivityRepository;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     @Transactional
@@ -31,4 +37,24 @@ public class ReviewActivityRepositoryAdapter implements ReviewActivityRepository
     public boolean existsByPullRequestId(Long pullRequestId) {
         return jpaReviewActivityRepository.existsByPullRequestId(pullRequestId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findExistingPullRequestIds(Collection<Long> pullRequestIds) {
+        if (pullRequestIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(reviewActivity.pullRequestId)
+                .from(reviewActivity)
+                .where(reviewActivity.pullRequestId.in(pullRequestIds))
+                .fetch();
+    }
+
+    @Override
+    @Transactional
+    public List<ReviewActivity> saveAll(List<ReviewActivity> activities) {
+        return jpaReviewActivityRepository.saveAll(activities);
+    }
 }
@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -31,4 +33,16 @@ public class ReviewResponseTimeRepositoryAdapter implements ReviewResponseTimeRe
     public boolean existsByPullRequestId(Long pullRequestId) {
         return jpaReviewResponseTimeRepository.existsByPullRequestId(pullRequestId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewResponseTime> findAllByPullRequestIds(Collection<Long> pullRequestIds) {
+        return jpaReviewResponseTimeRepository.findAllByPullRequestIdIn(pullRequestIds);
+    }
+
+    @Override
+    @Transactional
+    public List<ReviewResponseTime> saveAll(List<ReviewResponseTime> responseTimes) {
+        return jpaReviewResponseTimeRepository.saveAll(responseTimes);
+    }
 }
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,4 +58,16 @@ public class ReviewSessionRepositoryAdapter implements ReviewSessionRepository {
                 )
                 .fetchFirst() != null;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewSession> findAllByPullRequestIds(Collection<Long> pullRequestIds) {
+        return jpaReviewSessionRepository.findAllByPullRequestIdIn(pullRequestIds);
+    }
+
+    @Override
+    @Transactional
+    public List<ReviewSession> saveAll(List<ReviewSession> sessions) {
+        return jpaReviewSessionRepository.saveAll(sessions);
+    }
 }
@@ -4,20 +4,16 @@ import static com.prism.statistics.domain.analysis.metadata.pullrequest.QCommit.
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.Commit;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.CommitRepository;
-import com.prism.statistics.global.config.properties.BatchInsertProperties;
+import com.prism.statistics.infrastructure.common.BulkInsertStatement;
+import com.prism.statistics.infrastructure.common.BulkJdbcWriter;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
-import java.sql.Types;
-import java.time.Clock;
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -25,11 +21,26 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommitRepositoryAdapter implements CommitRepository {
 
+    private static final BulkInsertStatement<Commit> INSERT_STATEMENT = new BulkInsertStatement<>(
+            "commits",
+            List.of(
+                    "github_pull_request_id",
+                    "pull_request_id",
+                    "commit_sha",
+                    "committed_at",
+                    "created_at"
+            ),
+            (parameters, commit) -> parameters
+                    .setLong(commit.getGithubPullRequestId())
+                    .setLong(commit.getPullRequestId())
+                    .setString(commit.getCommitSha())
+                    .setTimestamp(commit.getCommittedAt())
+                    .setBatchTimestamp()
+    );
+
     private final JpaCommitRepository jpaCommitRepository;
     private final JPAQueryFactory queryFactory;
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final Clock clock;
-    private final BatchInsertProperties batchInsertProperties;
+    private final BulkJdbcWriter bulkJdbcWriter;
 
     @Override
     @Transactional
@@ -68,6 +79,30 @@ public class CommitRepositoryAdapter implements CommitRepository {
                 .execute();
     }
 
+    @Override
+    @Transactional
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
+        return queryFactory
+                .update(commit)
+                .set(
+                        commit.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                commit.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                commit.pullRequestId
+                        )
+                )
+                .where(
+                        commit.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
+                        commit.pullRequestId.isNull()
+                )
+                .execute();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Set<String> findAllCommitShasByGithubPullRequestId(Long githubPullRequestId) {
@@ -83,49 +118,6 @@ public class CommitRepositoryAdapter implements CommitRepository {
     @Override
     @Transactional
     public void saveAllInBatch(List<Commit> commits) {
-        if (commits.isEmpty()) {
-            return;
-        }
-
-        String sql = """
-                INSERT INTO commits (
-                    github_pull_request_id,
-                    pull_request_id,
-                    commit_sha,
-                    committed_at,
-                    created_at
-                ) VALUES (
-                    :githubPullRequestId,
-                    :pullRequestId,
-                    :commitSha,
-                    :committedAt,
-                    :createdAt
-                )
-                """;
-
-        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
-        List<SqlParameterSource> parameterSources = commits.stream()
-                .map(commit -> toParameterSource(commit, now))
-                .toList();
-
-        batchUpdateInChunks(sql, parameterSources);
-    }
-
-    private SqlParameterSource toParameterSource(Commit commit, Timestamp now) {
-        return new MapSqlParameterSource()
-                .addValue("githubPullRequestId", commit.getGithubPullRequestId())
-                .addValue("pullRequestId", commit.getPullRequestId(), Types.BIGINT)
-                .addValue("commitSha", commit.getCommitSha())
-                .addValue("committedAt", Timestamp.valueOf(commit.getCommittedAt()))
-                .addValue("createdAt", now);
-    }
-
-    private void batchUpdateInChunks(String sql, List<SqlParameterSource> parameterSources) {
-        int chunkSize = batchInsertProperties.chunkSize();
-        for (int start = 0; start < parameterSources.size(); start += chunkSize) {
-            int end = Math.min(start + chunkSize, parameterSources.size());
-            SqlParameterSource[] chunk = parameterSources.subList(start, end).toArray(SqlParameterSource[]::new);
-            namedParameterJdbcTemplate.batchUpdate(sql, chunk);
-        }
+        bulkJdbcWriter.insert(INSERT_STATEMENT, commits);
     }
 }
@@ -4,7 +4,9 @@ import static com.prism.statistics.domain.analysis.metadata.pullrequest.history.
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestContentHistory;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestContentHistoryRepository;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,4 +36,28 @@ public class PullRequestContentHistoryRepositoryAdapter implements PullRequestCo
                 )
                 .execute();
     }
+
+    @Override
+    @Transactional
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
+        return queryFactory
+                .update(pullRequestContentHistory)
+                .set(
+                        pullRequestContentHistory.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                pullRequestContentHistory.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                pullRequestContentHistory.pullRequestId
+                        )
+                )
+                .where(
+                        pullRequestContentHistory.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
+                        pullRequestContentHistory.pullRequestId.isNull()
+                )
+                .execute();
+    }
 }
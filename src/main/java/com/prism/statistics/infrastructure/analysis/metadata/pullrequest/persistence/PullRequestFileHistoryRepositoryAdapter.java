@@ -3,31 +3,61 @@ package com.prism.statistics.infrastructure.analysis.metadata.pullrequest.persis
 import static com.prism.statistics.domain.analysis.metadata.pullrequest.history.QPullRequestFileHistory.pullRequestFileHistory;
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileHistory;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.QPullRequestFileHistory;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileHistoryRepository;
-import com.prism.statistics.global.config.properties.BatchInsertProperties;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileHistoryDto;
+import com.prism.statistics.infrastructure.common.BulkInsertStatement;
+import com.prism.statistics.infrastructure.common.BulkJdbcWriter;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
-import java.sql.Types;
-import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class PullRequestFileHistoryRepositoryAdapter implements PullRequestFileHistoryRepository {
 
+    private static final BulkInsertStatement<PullRequestFileHistory> INSERT_STATEMENT = new BulkInsertStatement<>(
+            "pull_request_file_histories",
+            List.of(
+                    "github_pull_request_id",
+                    "pull_request_id",
+                    "head_commit_sha",
+                    "file_name",
+                    "previous_file_name",
+                    "change_type",
+                    "additions",
+                    "deletions",
+                    "github_changed_at",
+                    "excluded",
+                    "full_snapshot",
+                    "created_at"
+            ),
+            (parameters, history) -> parameters
+                    .setLong(history.getGithubPullRequestId())
+                    .setLong(history.getPullRequestId())
+                    .setString(history.getHeadCommitSha())
+                    .setString(history.getFileName())
+                    .setString(history.getPreviousFileName().getValue())
+                    .setString(history.getChangeType().name())
+                    .setInt(history.getFileChanges().getAdditions())
+                    .setInt(history.getFileChanges().getDeletions())
+                    .setTimestamp(history.getGithubChangedAt())
+                    .setBoolean(history.isExcluded())
+                    .setBoolean(history.isFullSnapshot())
+                    .setBatchTimestamp()
+    );
+
     private final JpaPullRequestFileHistoryRepository jpaPullRequestFileHistoryRepository;
     private final JPAQueryFactory queryFactory;
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final Clock clock;
-    private final BatchInsertProperties batchInsertProperties;
+    private final BulkJdbcWriter bulkJdbcWriter;
 
     @Override
     @Transactional
@@ -56,65 +86,86 @@ public class PullRequestFileHistoryRepositoryAdapter implements PullRequestFileH
 
     @Override
     @Transactional
-    public void saveAllInBatch(List<PullRequestFileHistory> pullRequestFileHistories) {
-        if (pullRequestFileHistories.isEmpty()) {
-            return;
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
         }
 
-        String sql = """
-                INSERT INTO pull_request_file_histories (
-                    github_pull_request_id,
-                    pull_request_id,
-                    head_commit_sha,
-                    file_name,
-                    previous_file_name,
-                    change_type,
-                    additions,
-                    deletions,
-                    github_changed_at,
-                    created_at
-                ) VALUES (
-                    :githubPullRequestId,
-                    :pullRequestId,
-                    :headCommitSha,
-                    :fileName,
-                    :previousFileName,
-                    :changeType,
-                    :additions,
-                    :deletions,
-                    :githubChangedAt,
-                    :createdAt
+        return queryFactory
+                .update(pullRequestFileHistory)
+                .set(
+                        pullRequestFileHistory.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                pullRequestFileHistory.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                pullRequestFileHistory.pullRequestId
+                        )
+                )
+                .where(
+                        pullRequestFileHistory.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
+                        pullRequestFileHistory.pullRequestId.isNull()
+                )
+                .execute();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PullRequestFileHistoryDto> findAllChangedUntil(Long githubPullRequestId, LocalDateTime githubChangedAt) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                PullRequestFileHistoryDto.class,
+                                pullRequestFileHistory.githubChangedAt,
+                                pullRequestFileHistory.fileName,
+                                pullRequestFileHistory.changeType,
+                                pullRequestFileHistory.fileChanges.additions,
+                                pullRequestFileHistory.fileChanges.deletions,
+                                pullRequestFileHistory.previousFileName.value,
+                                pullRequestFileHistory.excluded,
+                                pullRequestFileHistory.fullSnapshot
+                        )
+                )
+                .from(pullRequestFileHistory)
+                .where(
+                        pullRequestFileHistory.githubPullRequestId.eq(githubPullRequestId),
+                        pullRequestFileHistory.githubChangedAt.loe(githubChangedAt)
                 )
-                """;
+                .orderBy(pullRequestFileHistory.githubChangedAt.asc(), pullRequestFileHistory.id.asc())
+                .fetch();
+    }
 
-        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
-        List<SqlParameterSource> parameterSources = pullRequestFileHistories.stream()
-                .map(history -> toParameterSource(history, now))
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public List<PullRequestFileHistory> findNextPushHistories(Long githubPullRequestId, LocalDateTime githubChangedAt) {
+        QPullRequestFileHistory laterHistory = new QPullRequestFileHistory("laterHistory");
 
-        batchUpdateInChunks(sql, parameterSources);
+        return queryFactory
+                .selectFrom(pullRequestFileHistory)
+                .where(
+                        pullRequestFileHistory.githubPullRequestId.eq(githubPullRequestId),
+                        pullRequestFileHistory.githubChangedAt.eq(
+                                JPAExpressions
+                                        .select(laterHistory.githubChangedAt.min())
+                                        .from(laterHistory)
+                                        .where(
+                                                laterHistory.githubPullRequestId.eq(githubPullRequestId),
+                                                laterHistory.githubChangedAt.gt(githubChangedAt)
+                                        )
+                        )
+                )
+                .orderBy(pullRequestFileHistory.id.asc())
+                .fetch();
     }
 
-    private SqlParameterSource toParameterSource(PullRequestFileHistory history, Timestamp now) {
-        return new MapSqlParameterSource()
-                .addValue("githubPullRequestId", history.getGithubPullRequestId())
-                .addValue("pullRequestId", history.getPullRequestId(), Types.BIGINT)
-                .addValue("headCommitSha", history.getHeadCommitSha())
-                .addValue("fileName", history.getFileName())
-                .addValue("previousFileName", history.getPreviousFileName().getValue(), Types.VARCHAR)
-                .addValue("changeType", history.getChangeType().name())
-                .addValue("additions", history.getFileChanges().getAdditions())
-                .addValue("deletions", history.getFileChanges().getDeletions())
-                .addValue("githubChangedAt", Timestamp.valueOf(history.getGithubChangedAt()))
-                .addValue("createdAt", now);
+    @Override
+    @Transactional
+    public void deleteAllByIdInBatch(List<Long> ids) {
+        bulkJdbcWriter.deleteAllById("pull_request_file_histories", ids);
     }
 
-    private void batchUpdateInChunks(String sql, List<SqlParameterSource> parameterSources) {
-        int chunkSize = batchInsertProperties.chunkSize();
-        for (int start = 0; start < parameterSources.size(); start += chunkSize) {
-            int end = Math.min(start + chunkSize, parameterSources.size());
-            SqlParameterSource[] chunk = parameterSources.subList(start, end).toArray(SqlParameterSource[]::new);
-            namedParameterJdbcTemplate.batchUpdate(sql, chunk);
-        }
+    @Override
+    @Transactional
+    public void saveAllInBatch(List<PullRequestFileHistory> pullRequestFileHistories) {
+        bulkJdbcWriter.insert(INSERT_STATEMENT, pullRequestFileHistories);
     }
 }
@@ -4,30 +4,49 @@ import static com.prism.statistics.domain.analysis.metadata.pullrequest.QPullReq
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestFile;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestFileRepository;
-import com.prism.statistics.global.config.properties.BatchInsertProperties;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileChangeTypeCountDto;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileSnapshotDto;
+import com.prism.statistics.infrastructure.common.BulkInsertStatement;
+import com.prism.statistics.infrastructure.common.BulkJdbcWriter;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
-import java.sql.Types;
-import java.time.Clock;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class PullRequestFileRepositoryAdapter implements PullRequestFileRepository {
 
+    private static final BulkInsertStatement<PullRequestFile> INSERT_STATEMENT = new BulkInsertStatement<>(
+            "pull_request_files",
+            List.of(
+                    "github_pull_request_id",
+                    "pull_request_id",
+                    "file_name",
+                    "change_type",
+                    "additions",
+                    "deletions",
+                    "created_at"
+            ),
+            (parameters, file) -> parameters
+                    .setLong(file.getGithubPullRequestId())
+                    .setLong(file.getPullRequestId())
+                    .setString(file.getFileName())
+                    .setString(file.getChangeType().name())
+                    .setInt(file.getFileChanges().getAdditions())
+                    .setInt(file.getFileChanges().getDeletions())
+                    .setBatchTimestamp()
+    );
+
     private final JpaPullRequestFileRepository jpaPullRequestFileRepository;
     private final JPAQueryFactory queryFactory;
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final Clock clock;
-    private final BatchInsertProperties batchInsertProperties;
+    private final BulkJdbcWriter bulkJdbcWriter;
 
     @Override
     @Transactional
@@ -50,6 +69,47 @@ public class PullRequestFileRepositoryAdapter implements PullRequestFileReposito
                 .fetch();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PullRequestFileSnapshotDto> findSnapshotsByPullRequestId(Long pullRequestId) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                PullRequestFileSnapshotDto.class,
+                                pullRequestFile.id,
+                                pullRequestFile.fileName,
+                                pullRequestFile.changeType,
+                                pullRequestFile.fileChanges.additions,
+                                pullRequestFile.fileChanges.deletions
+                        )
+                )
+                .from(pullRequestFile)
+                .where(pullRequestFile.pullRequestId.eq(pullRequestId))
+                .fetch();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PullRequestFileChangeTypeCountDto> countChangeTypesByPullRequestIds(Collection<Long> pullRequestIds) {
+        if (pullRequestIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                PullRequestFileChangeTypeCountDto.class,
+                                pullRequestFile.pullRequestId,
+                                pullRequestFile.changeType,
+                                pullRequestFile.count()
+                        )
+                )
+                .from(pullRequestFile)
+                .where(pullRequestFile.pullRequestId.in(pullRequestIds))
+                .groupBy(pullRequestFile.pullRequestId, pullRequestFile.changeType)
+                .fetch();
+    }
+
     @Override
     @Transactional
     public void deleteAllByPullRequestId(Long pullRequestId) {
@@ -59,6 +119,12 @@ public class PullRequestFileRepositoryAdapter implements PullRequestFileReposito
                 .execute();
     }
 
+    @Override
+    @Transactional
+    public void deleteAllByIdInBatch(List<Long> ids) {
+        bulkJdbcWriter.deleteAllById("pull_request_files", ids);
+    }
+
     @Override
     @Transactional
     public long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId) {
@@ -72,6 +138,30 @@ public class PullRequestFileRepositoryAdapter implements PullRequestFileReposito
                 .execute();
     }
 
+    @Override
+    @Transactional
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
+        return queryFactory
+                .update(pullRequestFile)
+                .set(
+                        pullRequestFile.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                pullRequestFile.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                pullRequestFile.pullRequestId
+                        )
+                )
+                .where(
+                        pullRequestFile.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
+                        pullRequestFile.pullRequestId.isNull()
+                )
+                .execute();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean existsByGithubPullRequestId(Long githubPullRequestId) {
@@ -85,55 +175,24 @@ public class PullRequestFileRepositoryAdapter implements PullRequestFileReposito
     @Override
     @Transactional
     public void saveAllInBatch(List<PullRequestFile> pullRequestFiles) {
-        if (pullRequestFiles.isEmpty()) {
-            return;
-        }
+        bulkJdbcWriter.insert(INSERT_STATEMENT, pullRequestFiles);
+    }
 
+    @Override
+    @Transactional
+    public void updateAllInBatch(List<PullRequestFileSnapshotDto> pullRequestFiles) {
         String sql = """
-                INSERT INTO pull_request_files (
-                    github_pull_request_id,
-                    pull_request_id,
-                    file_name,
-                    change_type,
-                    additions,
-                    deletions,
-                    created_at
-                ) VALUES (
-                    :githubPullRequestId,
-                    :pullRequestId,
-                    :fileName,
-                    :changeType,
-                    :additions,
-                    :deletions,
-                    :createdAt
-                )
+                UPDATE pull_request_files
+                SET change_type = ?,
+                    additions = ?,
+                    deletions = ?
+                WHERE id = ?
                 """;
 
-        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
-        List<SqlParameterSource> parameterSources = pullRequestFiles.stream()
-                .map(file -> toParameterSource(file, now))
-                .toList();
-
-        batchUpdateInChunks(sql, parameterSources);
-    }
-
-    private SqlParameterSource toParameterSource(PullRequestFile file, Timestamp now) {
-        return new MapSqlParameterSource()
-                .addValue("githubPullRequestId", file.getGithubPullRequestId())
-                .addValue("pullRequestId", file.getPullRequestId(), Types.BIGINT)
-                .addValue("fileName", file.getFileName())
-                .addValue("changeType", file.getChangeType().name())
-                .addValue("additions", file.getFileChanges().getAdditions())
-                .addValue("deletions", file.getFileChanges().getDeletions())
-                .addValue("createdAt", now);
-    }
-
-    private void batchUpdateInChunks(String sql, List<SqlParameterSource> parameterSources) {
-        int chunkSize = batchInsertProperties.chunkSize();
-        for (int start = 0; start < parameterSources.size(); start += chunkSize) {
-            int end = Math.min(start + chunkSize, parameterSources.size());
-            SqlParameterSource[] chunk = parameterSources.subList(start, end).toArray(SqlParameterSource[]::new);
-            namedParameterJdbcTemplate.batchUpdate(sql, chunk);
-        }
+        bulkJdbcWriter.update(sql, pullRequestFiles, (parameters, file) -> parameters
+                .setString(file.changeType().name())
+                .setInt(file.additions())
+                .setInt(file.deletions())
+                .setLong(file.id()));
     }
 }
@@ -4,7 +4,9 @@ import static com.prism.statistics.domain.analysis.metadata.pullrequest.history.
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestLabelHistory;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestLabelHistoryRepository;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +26,23 @@ public class PullRequestLabelHistoryRepositoryAdapter implements PullRequestLabe
 
     @Override
     @Transactional
-    public long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId) {
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
         return queryFactory
                 .update(pullRequestLabelHistory)
-                .set(pullRequestLabelHistory.pullRequestId, pullRequestId)
+                .set(
+                        pullRequestLabelHistory.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                pullRequestLabelHistory.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                pullRequestLabelHistory.pullRequestId
+                        )
+                )
                 .where(
-                        pullRequestLabelHistory.githubPullRequestId.eq(githubPullRequestId),
+                        pullRequestLabelHistory.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
                         pullRequestLabelHistory.pullRequestId.isNull()
                 )
                 .execute();
@@ -4,6 +4,7 @@ import static com.prism.statistics.domain.analysis.metadata.pullrequest.QPullReq
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestLabel;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestLabelRepository;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
 import com.prism.statistics.infrastructure.common.MysqlDuplicateKeyDetector;
 import com.prism.statistics.infrastructure.analysis.metadata.pullrequest.persistence.exception.PullRequestLabelNotFoundException;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -12,6 +13,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -86,12 +88,23 @@ public class PullRequestLabelRepositoryAdapter implements PullRequestLabelReposi
 
     @Override
     @Transactional
-    public long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId) {
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
         return queryFactory
                 .update(pullRequestLabel)
-                .set(pullRequestLabel.pullRequestId, pullRequestId)
+                .set(
+                        pullRequestLabel.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                pullRequestLabel.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                pullRequestLabel.pullRequestId
+                        )
+                )
                 .where(
-                        pullRequestLabel.githubPullRequestId.eq(githubPullRequestId),
+                        pullRequestLabel.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
                         pullRequestLabel.pullRequestId.isNull()
                 )
                 .execute();
@@ -4,12 +4,16 @@ import static com.prism.statistics.domain.analysis.metadata.pullrequest.QPullReq
 
 import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequest;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestChangeStats;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.LockModeType;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +23,7 @@ public class PullRequestRepositoryAdapter implements PullRequestRepository {
 
     private final JpaPullRequestRepository jpaPullRequestRepository;
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -47,17 +52,59 @@ public class PullRequestRepositoryAdapter implements PullRequestRepository {
     }
 
     @Override
-    @Transactional
-    public Optional<PullRequest> findWithLock(Long githubPullRequestId) {
+    @Transactional(readOnly = true)
+    public Optional<PullRequest> findByGithubId(Long githubPullRequestId) {
         return Optional.ofNullable(
                 queryFactory
                         .selectFrom(pullRequest)
                         .where(pullRequest.githubPullRequestId.eq(githubPullRequestId))
-                        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                         .fetchOne()
         );
     }
 
+    @Override
+    @Transactional
+    public void synchronizeHead(
+            PullRequest target,
+            String headCommitSha,
+            PullRequestChangeStats changeStats,
+            int commitCount
+    ) {
+        entityManager.flush();
+        JPAUpdateClause updateClause = queryFactory
+                .update(pullRequest)
+                .set(pullRequest.headCommitSha, headCommitSha)
+                .set(pullRequest.changeStats.changedFileCount, changeStats.getChangedFileCount())
+                .set(pullRequest.changeStats.additionCount, changeStats.getAdditionCount())
+                .set(pullRequest.changeStats.deletionCount, changeStats.getDeletionCount())
+                .set(pullRequest.commitCount, commitCount);
+
+        executeVersionChecked(target, updateClause);
+    }
+
+    @Override
+    @Transactional
+    public void increaseVersion(PullRequest target) {
+        entityManager.flush();
+        executeVersionChecked(target, queryFactory.update(pullRequest));
+    }
+
+    private void executeVersionChecked(PullRequest target, JPAUpdateClause updateClause) {
+        long updatedCount = updateClause
+                .set(pullRequest.version, pullRequest.version.add(1L))
+                .where(
+                        pullRequest.id.eq(target.getId()),
+                        pullRequest.version.eq(target.getVersion())
+                )
+                .execute();
+
+        if (updatedCount == 0L) {
+            throw new ObjectOptimisticLockingFailureException(PullRequest.class, target.getId());
+        }
+
+        entityManager.refresh(target);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<PullRequest> findAllByProjectId(Long projectId) {
@@ -79,4 +126,17 @@ public class PullRequestRepositoryAdapter implements PullRequestRepository {
                         .fetchOne()
         );
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PullRequest> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .selectFrom(pullRequest)
+                .where(pullRequest.id.in(ids))
+                .fetch();
+    }
 }
@@ -4,7 +4,9 @@ import static com.prism.statistics.domain.analysis.metadata.review.history.QRequ
 
 import com.prism.statistics.domain.analysis.metadata.review.history.RequestedReviewerHistory;
 import com.prism.statistics.domain.analysis.metadata.review.repository.RequestedReviewerHistoryRepository;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +26,23 @@ public class RequestedReviewerHistoryRepositoryAdapter implements RequestedRevie
 
     @Override
     @Transactional
-    public long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId) {
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
         return queryFactory
                 .update(requestedReviewerHistory)
-                .set(requestedReviewerHistory.pullRequestId, pullRequestId)
+                .set(
+                        requestedReviewerHistory.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                requestedReviewerHistory.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                requestedReviewerHistory.pullRequestId
+                        )
+                )
                 .where(
-                        requestedReviewerHistory.githubPullRequestId.eq(githubPullRequestId),
+                        requestedReviewerHistory.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
                         requestedReviewerHistory.pullRequestId.isNull()
                 )
                 .execute();
@@ -4,6 +4,7 @@ import static com.prism.statistics.domain.analysis.metadata.review.QRequestedRev
 
 import com.prism.statistics.domain.analysis.metadata.review.RequestedReviewer;
 import com.prism.statistics.domain.analysis.metadata.review.repository.RequestedReviewerRepository;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
 import com.prism.statistics.infrastructure.common.MysqlDuplicateKeyDetector;
 import com.prism.statistics.infrastructure.analysis.metadata.review.persistence.exception.RequestedReviewerNotFoundException;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -12,6 +13,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -86,12 +88,23 @@ public class RequestedReviewerRepositoryAdapter implements RequestedReviewerRepo
 
     @Override
     @Transactional
-    public long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId) {
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
         return queryFactory
                 .update(requestedReviewer)
-                .set(requestedReviewer.pullRequestId, pullRequestId)
+                .set(
+                        requestedReviewer.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                requestedReviewer.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                requestedReviewer.pullRequestId
+                        )
+                )
                 .where(
-                        requestedReviewer.githubPullRequestId.eq(githubPullRequestId),
+                        requestedReviewer.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
                         requestedReviewer.pullRequestId.isNull()
                 )
                 .execute();
@@ -4,13 +4,16 @@ import static com.prism.statistics.domain.analysis.metadata.review.QReview.revie
 
 import com.prism.statistics.domain.analysis.metadata.review.Review;
 import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewRepository;
+import com.prism.statistics.infrastructure.common.IdMappingCaseExpression;
 import com.prism.statistics.infrastructure.common.MysqlDuplicateKeyDetector;
 import com.prism.statistics.infrastructure.analysis.metadata.review.persistence.exception.ReviewNotFoundException;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -61,14 +64,51 @@ public class ReviewRepositoryAdapter implements ReviewRepository {
         return jpaReviewRepository.findAllByPullRequestId(pullRequestId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Review> findAllByPullRequestIds(Collection<Long> pullRequestIds) {
+        if (pullRequestIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .selectFrom(review)
+                .where(review.pullRequestId.in(pullRequestIds))
+                .fetch();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Review> findAllByGithubReviewIds(Collection<Long> githubReviewIds) {
+        if (githubReviewIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .selectFrom(review)
+                .where(review.githubReviewId.in(githubReviewIds))
+                .fetch();
+    }
+
     @Override
     @Transactional
-    public long backfillPullRequestId(Long githubPullRequestId, Long pullRequestId) {
+    public long backfillPullRequestIds(Map<Long, Long> pullRequestIdsByGithubPullRequestId) {
+        if (pullRequestIdsByGithubPullRequestId.isEmpty()) {
+            return 0L;
+        }
+
         return queryFactory
                 .update(review)
-                .set(review.pullRequestId, pullRequestId)
+                .set(
+                        review.pullRequestId,
+                        IdMappingCaseExpression.of(
+                                review.githubPullRequestId,
+                                pullRequestIdsByGithubPullRequestId,
+                                review.pullRequestId
+                        )
+                )
                 .where(
-                        review.githubPullRequestId.eq(githubPullRequestId),
+                        review.githubPullRequestId.in(pullRequestIdsByGithubPullRequestId.keySet()),
                         review.pullRequestId.isNull()
                 )
                 .execute();
@@ -3,6 +3,7 @@ package com.prism.statistics.infrastructure.collect.inbox;
 import com.prism.statistics.infrastructure.common.BoxEventTime;
 import com.prism.statistics.infrastructure.common.BoxProcessingLease;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,6 +15,7 @@ public class CollectInbox {
     private final Long projectId;
     private final long runId;
     private final String payloadJson;
+    private final LocalDateTime enqueuedAt;
 
     private CollectInboxStatus status;
     private int processingAttempt;
@@ -21,6 +23,7 @@ public class CollectInbox {
     private BoxEventTime processedTime;
     private BoxEventTime failedTime;
     private CollectInboxFailureSnapshot failure;
+    private BoxEventTime nextAttemptTime;
 
     public static CollectInbox pending(
             CollectInboxType collectType,
@@ -38,12 +41,14 @@ public class CollectInbox {
                 projectId,
                 runId,
                 payloadJson,
+                null,
                 CollectInboxStatus.PENDING,
                 0,
                 BoxProcessingLease.idle(),
                 BoxEventTime.absent(),
                 BoxEventTime.absent(),
-                CollectInboxFailureSnapshot.absent()
+                CollectInboxFailureSnapshot.absent(),
+                BoxEventTime.absent()
         );
     }
 
@@ -54,12 +59,14 @@ public class CollectInbox {
             Long projectId,
             long runId,
             String payloadJson,
+            LocalDateTime enqueuedAt,
             CollectInboxStatus status,
             int processingAttempt,
             BoxProcessingLease processingLease,
             BoxEventTime processedTime,
             BoxEventTime failedTime,
-            CollectInboxFailureSnapshot failure
+            CollectInboxFailureSnapshot failure,
+            BoxEventTime nextAttemptTime
     ) {
         validateId(id);
         validateCollectType(collectType);
@@ -71,7 +78,9 @@ public class CollectInbox {
         validateProcessedTime(processedTime);
         validateFailedTime(failedTime);
         validateFailure(failure);
+        validateNextAttemptTime(nextAttemptTime);
         validateState(status, processingAttempt, processingLease, processedTime, failedTime, failure);
+        validateNextAttemptState(status, nextAttemptTime);
 
         return new CollectInbox(
                 id,
@@ -79,12 +88,14 @@ public class CollectInbox {
                 projectId,
                 runId,
                 payloadJson,
+                enqueuedAt,
                 status,
                 processingAttempt,
                 processingLease,
                 processedTime,
                 failedTime,
-                failure
+                failure,
+                nextAttemptTime
         );
     }
 
@@ -94,24 +105,71 @@ public class CollectInbox {
             Long projectId,
             long runId,
             String payloadJson,
+            LocalDateTime enqueuedAt,
             CollectInboxStatus status,
             int processingAttempt,
             BoxProcessingLease processingLease,
             BoxEventTime processedTime,
             BoxEventTime failedTime,
-            CollectInboxFailureSnapshot failure
+            CollectInboxFailureSnapshot failure,
+            BoxEventTime nextAttemptTime
     ) {
         this.id = id;
         this.collectType = collectType;
         this.projectId = projectId;
         this.runId = runId;
         this.payloadJson = payloadJson;
+        this.enqueuedAt = enqueuedAt;
         this.status = status;
         this.processingAttempt = processingAttempt;
         this.processingLease = processingLease;
         this.processedTime = processedTime;
         this.failedTime = failedTime;
         this.failure = failure;
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    public CollectInboxFingerprint fingerprint() {
+        return CollectInboxFingerprint.of(collectType, runId);
+    }
+
+    public void markProcessing(Instant processingStartedAt) {
+        validateProcessingStartedAt(processingStartedAt);
+        markProcessing(BoxProcessingLease.claimed(processingStartedAt));
+    }
+
+    public void markProcessing(BoxProcessingLease processingLease) {
+        validateClaimedLease(processingLease);
+        validateClaimable();
+
+        this.status = CollectInboxStatus.PROCESSING;
+        this.processingAttempt = this.processingAttempt + 1;
+        this.processingLease = processingLease;
+        this.processedTime = BoxEventTime.absent();
+        this.failedTime = BoxEventTime.absent();
+        this.failure = CollectInboxFailureSnapshot.absent();
+        this.nextAttemptTime = BoxEventTime.absent();
+    }
+
+    public CollectInbox withCoalescedPayload(String coalescedPayloadJson) {
+        validatePayloadJson(coalescedPayloadJson);
+        validateTransition(CollectInboxStatus.PROCESSING, "payload 병합");
+
+        return new CollectInbox(
+                id,
+                collectType,
+                projectId,
+                runId,
+                coalescedPayloadJson,
+                enqueuedAt,
+                status,
+                processingAttempt,
+                processingLease,
+                processedTime,
+                failedTime,
+                failure,
+                nextAttemptTime
+        );
     }
 
     public void markProcessed(Instant processedAt) {
@@ -123,20 +181,48 @@ public class CollectInbox {
         this.processedTime = BoxEventTime.present(processedAt);
         this.failedTime = BoxEventTime.absent();
         this.failure = CollectInboxFailureSnapshot.absent();
+        this.nextAttemptTime = BoxEventTime.absent();
+    }
+
+    public void revertProcessed(BoxProcessingLease processingLease) {
+        if (this.status == CollectInboxStatus.PROCESSING) {
+            return;
+        }
+
+        validateClaimedLease(processingLease);
+        validateTransition(CollectInboxStatus.PROCESSED, "PROCESSING 복원");
+
+        this.status = CollectInboxStatus.PROCESSING;
+        this.processingLease = processingLease;
+        this.processedTime = BoxEventTime.absent();
     }
 
     public void markRetryPending(Instant failedAt, String failureReason) {
-        markRetryPending(failedAt, failureReason, CollectInboxFailureType.RETRYABLE);
+        markRetryPending(failedAt, failureReason, failedAt);
+    }
+
+    public void markRetryPending(Instant failedAt, String failureReason, Instant nextAttemptAt) {
+        markRetryPending(failedAt, failureReason, CollectInboxFailureType.RETRYABLE, nextAttemptAt);
     }
 
     public void markRetryPending(
             Instant failedAt,
             String failureReason,
             CollectInboxFailureType failureType
+    ) {
+        markRetryPending(failedAt, failureReason, failureType, failedAt);
+    }
+
+    public void markRetryPending(
+            Instant failedAt,
+            String failureReason,
+            CollectInboxFailureType failureType,
+            Instant nextAttemptAt
     ) {
         validateFailedAt(failedAt);
         validateFailureReason(failureReason);
         validateRetryPendingFailureType(failureType);
+        validateNextAttemptAt(failedAt, nextAttemptAt);
         validateTransition(CollectInboxStatus.PROCESSING, "RETRY_PENDING");
 
         this.status = CollectInboxStatus.RETRY_PENDING;
@@ -144,6 +230,7 @@ public class CollectInbox {
         this.processedTime = BoxEventTime.absent();
         this.failedTime = BoxEventTime.present(failedAt);
         this.failure = CollectInboxFailureSnapshot.present(failureReason, failureType);
+        this.nextAttemptTime = BoxEventTime.present(nextAttemptAt);
     }
 
     public void markFailed(
@@ -161,6 +248,7 @@ public class CollectInbox {
         this.processedTime = BoxEventTime.absent();
         this.failedTime = BoxEventTime.present(failedAt);
         this.failure = CollectInboxFailureSnapshot.present(failureReason, failureType);
+        this.nextAttemptTime = BoxEventTime.absent();
     }
 
     private static void validateId(Long id) {
@@ -223,6 +311,20 @@ public class CollectInbox {
         }
     }
 
+    private static void validateNextAttemptTime(BoxEventTime nextAttemptTime) {
+        if (nextAttemptTime == null) {
+            throw new IllegalArgumentException("nextAttemptTime은 비어 있을 수 없습니다.");
+        }
+    }
+
+    private static void validateNextAttemptState(CollectInboxStatus status, BoxEventTime nextAttemptTime) {
+        if (status == CollectInboxStatus.RETRY_PENDING || !nextAttemptTime.isPresent()) {
+            return;
+        }
+
+        throw new IllegalArgumentException(status + " 상태는 nextAttemptTime이 비어 있어야 합니다.");
+    }
+
     private static void validateState(
             CollectInboxStatus status,
             int processingAttempt,
@@ -386,6 +488,28 @@ public class CollectInbox {
         }
     }
 
+    private void validateProcessingStartedAt(Instant processingStartedAt) {
+        if (processingStartedAt == null) {
+            throw new IllegalArgumentException("processingStartedAt은 비어 있을 수 없습니다.");
+        }
+    }
+
+    private void validateClaimedLease(BoxProcessingLease processingLease) {
+        if (processingLease == null || !processingLease.isClaimed()) {
+            throw new IllegalArgumentException("PROCESSING 전이에는 보유한 processingLease가 필요합니다.");
+        }
+    }
+
+    private void validateClaimable() {
+        if (this.status.isClaimable()) {
+            return;
+        }
+
+        throw new IllegalStateException(
+                "PROCESSING 전이는 PENDING 또는 RETRY_PENDING 상태에서만 가능합니다. 현재: " + this.status
+        );
+    }
+
     private void validateProcessedAt(Instant processedAt) {
         if (processedAt == null) {
             throw new IllegalArgumentException("processedAt은 비어 있을 수 없습니다.");
@@ -398,6 +522,15 @@ public class CollectInbox {
         }
     }
 
+    private void validateNextAttemptAt(Instant failedAt, Instant nextAttemptAt) {
+        if (nextAttemptAt == null) {
+            throw new IllegalArgumentException("nextAttemptAt은 비어 있을 수 없습니다.");
+        }
+        if (nextAttemptAt.isBefore(failedAt)) {
+            throw new IllegalArgumentException("nextAttemptAt은 failedAt 이전일 수 없습니다.");
+        }
+    }
+
     private void validateFailureReason(String failureReason) {
         if (failureReason == null || failureReason.isBlank()) {
             throw new IllegalArgumentException("failureReason은 비어 있을 수 없습니다.");
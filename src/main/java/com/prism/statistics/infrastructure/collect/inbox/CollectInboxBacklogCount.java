@@ -0,0 +1,8 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+public record CollectInboxBacklogCount(
+        CollectInboxStatus status,
+        CollectInboxType collectType,
+        long count
+) {
+}
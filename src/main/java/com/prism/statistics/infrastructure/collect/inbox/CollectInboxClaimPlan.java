@@ -0,0 +1,11 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+import java.util.List;
+
+public record CollectInboxClaimPlan(List<Long> inboxIds, List<CollectInboxClaimQuota> quotas, int limit) {
+
+    public CollectInboxClaimPlan {
+        inboxIds = List.copyOf(inboxIds);
+        quotas = List.copyOf(quotas);
+    }
+}
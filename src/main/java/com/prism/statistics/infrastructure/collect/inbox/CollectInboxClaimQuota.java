@@ -0,0 +1,6 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+import java.util.Set;
+
+public record CollectInboxClaimQuota(Set<CollectInboxType> collectTypes, int limit) {
+}
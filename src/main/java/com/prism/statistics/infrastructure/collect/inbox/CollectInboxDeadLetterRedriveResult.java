@@ -0,0 +1,12 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+public record CollectInboxDeadLetterRedriveResult(int redrivenCount, int skippedCount, Long lastDeadLetterId) {
+
+    public static CollectInboxDeadLetterRedriveResult empty() {
+        return new CollectInboxDeadLetterRedriveResult(0, 0, null);
+    }
+
+    public int handledCount() {
+        return redrivenCount + skippedCount;
+    }
+}
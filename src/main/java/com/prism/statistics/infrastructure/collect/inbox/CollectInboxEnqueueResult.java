@@ -0,0 +1,17 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+public record CollectInboxEnqueueResult(
+        CollectInboxType collectType,
+        long runId,
+        boolean accepted,
+        Long inboxId
+) {
+
+    public static CollectInboxEnqueueResult accepted(CollectInbox inbox, Long inboxId) {
+        return new CollectInboxEnqueueResult(inbox.getCollectType(), inbox.getRunId(), true, inboxId);
+    }
+
+    public static CollectInboxEnqueueResult duplicated(CollectInbox inbox) {
+        return new CollectInboxEnqueueResult(inbox.getCollectType(), inbox.getRunId(), false, null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public record CollectInboxFingerprint(String value) {
+
+    public static final int LENGTH = 64;
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    public CollectInboxFingerprint {
+        if (value == null || value.length() != LENGTH) {
+            throw new IllegalArgumentException("collect inbox fingerprint는 64자리 16진수 문자열이어야 합니다.");
+        }
+    }
+
+    public static CollectInboxFingerprint of(CollectInboxType collectType, long runId) {
+        if (collectType == null) {
+            throw new IllegalArgumentException("collectType은 비어 있을 수 없습니다.");
+        }
+
+        byte[] source = (collectType.name() + ":" + runId).getBytes(StandardCharsets.UTF_8);
+        return new CollectInboxFingerprint(HEX_FORMAT.formatHex(createDigest().digest(source)));
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("collect inbox fingerprint 해시 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
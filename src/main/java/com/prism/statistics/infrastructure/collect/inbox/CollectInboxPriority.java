@@ -0,0 +1,8 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+public enum CollectInboxPriority {
+
+    HIGH,
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,43 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+import java.time.Instant;
+
+public record CollectInboxRedriveCondition(
+        Long projectId,
+        CollectInboxType collectType,
+        CollectInboxFailureType failureType,
+        Instant failedFrom,
+        Instant failedTo,
+        String failureReasonKeyword
+) {
+
+    public CollectInboxRedriveCondition {
+        if (projectId == null) {
+            throw new IllegalArgumentException("재처리 대상 프로젝트는 비어 있을 수 없습니다.");
+        }
+        if (failureType != null && !failureType.allowedInFailed()) {
+            throw new IllegalArgumentException("재처리 대상 실패 유형은 BUSINESS_INVARIANT 또는 RETRY_EXHAUSTED여야 합니다.");
+        }
+        if (failedFrom != null && failedTo != null && !failedFrom.isBefore(failedTo)) {
+            throw new IllegalArgumentException("재처리 대상 실패 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        if (failureReasonKeyword != null && failureReasonKeyword.isBlank()) {
+            failureReasonKeyword = null;
+        }
+    }
+
+    public CollectInboxRedriveCondition failedNoLaterThan(Instant upperBound) {
+        if (failedTo != null && !failedTo.isAfter(upperBound)) {
+            return this;
+        }
+
+        return new CollectInboxRedriveCondition(
+                projectId,
+                collectType,
+                failureType,
+                failedFrom,
+                upperBound,
+                failureReasonKeyword
+        );
+    }
+}
@@ -6,5 +6,9 @@ public enum CollectInboxStatus {
     PROCESSING,
     RETRY_PENDING,
     PROCESSED,
-    FAILED
+    FAILED;
+
+    public boolean isClaimable() {
+        return this == PENDING || this == RETRY_PENDING;
+    }
 }
@@ -1,19 +1,28 @@
 package com.prism.statistics.infrastructure.collect.inbox;
 
+import lombok.Getter;
+
+@Getter
 public enum CollectInboxType {
 
-    PULL_REQUEST_OPENED,
-    PULL_REQUEST_CLOSED,
-    PULL_REQUEST_SYNCHRONIZED,
-    PULL_REQUEST_READY_FOR_REVIEW,
-    PULL_REQUEST_REOPENED,
-    PULL_REQUEST_CONVERTED_TO_DRAFT,
-    PULL_REQUEST_LABEL_ADDED,
-    PULL_REQUEST_LABEL_REMOVED,
-    REVIEW_SUBMITTED,
-    REVIEWER_ADDED,
-    REVIEWER_REMOVED,
-    REVIEW_COMMENT_CREATED,
-    REVIEW_COMMENT_EDITED,
-    REVIEW_COMMENT_DELETED
+    PULL_REQUEST_OPENED(CollectInboxPriority.HIGH),
+    PULL_REQUEST_CLOSED(CollectInboxPriority.HIGH),
+    PULL_REQUEST_SYNCHRONIZED(CollectInboxPriority.LOW),
+    PULL_REQUEST_READY_FOR_REVIEW(CollectInboxPriority.HIGH),
+    PULL_REQUEST_REOPENED(CollectInboxPriority.HIGH),
+    PULL_REQUEST_CONVERTED_TO_DRAFT(CollectInboxPriority.HIGH),
+    PULL_REQUEST_LABEL_ADDED(CollectInboxPriority.NORMAL),
+    PULL_REQUEST_LABEL_REMOVED(CollectInboxPriority.NORMAL),
+    REVIEW_SUBMITTED(CollectInboxPriority.HIGH),
+    REVIEWER_ADDED(CollectInboxPriority.NORMAL),
+    REVIEWER_REMOVED(CollectInboxPriority.NORMAL),
+    REVIEW_COMMENT_CREATED(CollectInboxPriority.NORMAL),
+    REVIEW_COMMENT_EDITED(CollectInboxPriority.NORMAL),
+    REVIEW_COMMENT_DELETED(CollectInboxPriority.NORMAL);
+
+    private final CollectInboxPriority defaultPriority;
+
+    CollectInboxType(CollectInboxPriority defaultPriority) {
+        this.defaultPriority = defaultPriority;
+    }
 }
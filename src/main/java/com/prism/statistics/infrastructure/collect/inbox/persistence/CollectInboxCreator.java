@@ -1,8 +1,27 @@
 package com.prism.statistics.infrastructure.collect.inbox.persistence;
 
+import static com.prism.statistics.infrastructure.collect.inbox.persistence.QCollectInboxJpaEntity.collectInboxJpaEntity;
+
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
-import jakarta.persistence.EntityManager;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,14 +30,151 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CollectInboxCreator {
 
-    private final EntityManager entityManager;
-    private final JpaCollectInboxRepository repository;
+    private static final String INSERT_SQL = """
+            INSERT INTO collect_inbox (
+                created_at,
+                updated_at,
+                collect_type,
+                project_id,
+                run_id,
+                fingerprint,
+                payload_json,
+                payload_bytes,
+                payload_codec,
+                status,
+                processing_attempt
+            ) VALUES (
+                :createdAt,
+                :updatedAt,
+                :collectType,
+                :projectId,
+                :runId,
+                :fingerprint,
+                :payloadJson,
+                :payloadBytes,
+                :payloadCodec,
+                :status,
+                :processingAttempt
+            )
+            """;
+
+    private static final String[] ID_COLUMN_NAMES = {"id"};
+
+    private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final CollectInboxPayloadCodecPolicy payloadCodecPolicy;
+    private final Clock clock;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Long> insertIfAbsent(CollectInbox inbox) {
+        if (!findExistingFingerprints(List.of(inbox)).isEmpty()) {
+            return Optional.empty();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        try {
+            namedParameterJdbcTemplate.update(INSERT_SQL, toParameterSource(inbox, now), keyHolder);
+        } catch (DuplicateKeyException ignored) {
+            return Optional.empty();
+        }
+
+        return Optional.of(keyHolder.getKeyAs(Number.class).longValue());
+    }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveNew(CollectInbox inbox) {
-        CollectInboxJpaEntity entity = new CollectInboxJpaEntity();
-        entity.apply(inbox);
-        repository.save(entity);
-        entityManager.flush();
+    public List<CollectInboxEnqueueResult> saveAllIfAbsent(List<CollectInbox> pendingInboxes) {
+        Set<String> occupiedFingerprints = findExistingFingerprints(pendingInboxes);
+        List<CollectInbox> acceptedInboxes = new ArrayList<>();
+        boolean[] accepted = new boolean[pendingInboxes.size()];
+
+        for (int i = 0; i < pendingInboxes.size(); i++) {
+            CollectInbox pendingInbox = pendingInboxes.get(i);
+            if (occupiedFingerprints.add(pendingInbox.fingerprint().value())) {
+                accepted[i] = true;
+                acceptedInboxes.add(pendingInbox);
+            }
+        }
+
+        Iterator<Long> insertedIds = insertInBatch(acceptedInboxes).iterator();
+        List<CollectInboxEnqueueResult> results = new ArrayList<>(pendingInboxes.size());
+        for (int i = 0; i < pendingInboxes.size(); i++) {
+            CollectInbox pendingInbox = pendingInboxes.get(i);
+            if (accepted[i]) {
+                results.add(CollectInboxEnqueueResult.accepted(pendingInbox, insertedIds.next()));
+                continue;
+            }
+
+            results.add(CollectInboxEnqueueResult.duplicated(pendingInbox));
+        }
+
+        return results;
+    }
+
+    private Set<String> findExistingFingerprints(List<CollectInbox> pendingInboxes) {
+        List<String> fingerprints = pendingInboxes.stream()
+                .map(inbox -> inbox.fingerprint().value())
+                .distinct()
+                .toList();
+
+        return new HashSet<>(
+                queryFactory
+                        .select(collectInboxJpaEntity.fingerprint)
+                        .from(collectInboxJpaEntity)
+                        .where(collectInboxJpaEntity.fingerprint.in(fingerprints))
+                        .fetch()
+        );
+    }
+
+    private List<Long> insertInBatch(List<CollectInbox> acceptedInboxes) {
+        if (acceptedInboxes.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        SqlParameterSource[] parameterSources = acceptedInboxes.stream()
+                .map(inbox -> toParameterSource(inbox, now))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, parameterSources, keyHolder, ID_COLUMN_NAMES);
+        return keyHolder.getKeyList()
+                .stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    private SqlParameterSource toParameterSource(CollectInbox inbox, Timestamp now) {
+        String payloadJson = inbox.getPayloadJson();
+        CollectInboxPayloadCodec codec = payloadCodecPolicy.select(payloadJson);
+
+        return new MapSqlParameterSource()
+                .addValue("createdAt", now)
+                .addValue("updatedAt", now)
+                .addValue("collectType", inbox.getCollectType().name())
+                .addValue("projectId", inbox.getProjectId(), Types.BIGINT)
+                .addValue("runId", inbox.getRunId())
+                .addValue("fingerprint", inbox.fingerprint().value())
+                .addValue("payloadJson", toPlainPayload(payloadJson, codec), Types.CLOB)
+                .addValue("payloadBytes", toEncodedPayload(payloadJson, codec), Types.BLOB)
+                .addValue("payloadCodec", codec.name())
+                .addValue("status", inbox.getStatus().name())
+                .addValue("processingAttempt", inbox.getProcessingAttempt());
+    }
+
+    private String toPlainPayload(String payloadJson, CollectInboxPayloadCodec codec) {
+        if (codec.isPlain()) {
+            return payloadJson;
+        }
+
+        return null;
+    }
+
+    private byte[] toEncodedPayload(String payloadJson, CollectInboxPayloadCodec codec) {
+        if (codec.isPlain()) {
+            return null;
+        }
+
+        return codec.encode(payloadJson);
     }
 }
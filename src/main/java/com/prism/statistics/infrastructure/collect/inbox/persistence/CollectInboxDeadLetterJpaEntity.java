@@ -0,0 +1,48 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import com.prism.statistics.domain.common.BaseTimeEntity;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "collect_inbox_dead_letter")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CollectInboxDeadLetterJpaEntity extends BaseTimeEntity {
+
+    private Long inboxId;
+
+    @Enumerated(EnumType.STRING)
+    private CollectInboxType collectType;
+
+    private Long projectId;
+
+    private long runId;
+
+    @Lob
+    private String payloadJson;
+
+    @Lob
+    private byte[] payloadBytes;
+
+    @Enumerated(EnumType.STRING)
+    private CollectInboxPayloadCodec payloadCodec;
+
+    private int processingAttempt;
+
+    private Instant failedAt;
+
+    private String failureReason;
+
+    @Enumerated(EnumType.STRING)
+    private CollectInboxFailureType failureType;
+}
@@ -0,0 +1,62 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import com.prism.statistics.global.config.properties.CollectInboxDedupProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFingerprint;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxFingerprintFilter {
+
+    private final CollectInboxDedupProperties dedupProperties;
+    private final Map<String, Boolean> recentFingerprints;
+
+    public CollectInboxFingerprintFilter(CollectInboxDedupProperties dedupProperties) {
+        this.dedupProperties = dedupProperties;
+        this.recentFingerprints = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupProperties.preFilterCapacity();
+            }
+        };
+    }
+
+    public boolean isKnownDuplicate(CollectInboxFingerprint fingerprint) {
+        if (!dedupProperties.preFilterEnabled()) {
+            return false;
+        }
+
+        synchronized (recentFingerprints) {
+            return recentFingerprints.get(fingerprint.value()) != null;
+        }
+    }
+
+    public void remember(CollectInboxFingerprint fingerprint) {
+        rememberAll(List.of(fingerprint));
+    }
+
+    public void rememberAll(Collection<CollectInboxFingerprint> fingerprints) {
+        if (!dedupProperties.preFilterEnabled()) {
+            return;
+        }
+
+        synchronized (recentFingerprints) {
+            fingerprints.forEach(fingerprint -> recentFingerprints.put(fingerprint.value(), Boolean.TRUE));
+        }
+    }
+
+    public void clear() {
+        synchronized (recentFingerprints) {
+            recentFingerprints.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (recentFingerprints) {
+            return recentFingerprints.size();
+        }
+    }
+}
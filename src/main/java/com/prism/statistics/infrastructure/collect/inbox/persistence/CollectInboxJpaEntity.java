@@ -31,9 +31,17 @@ public class CollectInboxJpaEntity extends BaseTimeEntity {
 
     private long runId;
 
+    private String fingerprint;
+
     @Lob
     private String payloadJson;
 
+    @Lob
+    private byte[] payloadBytes;
+
+    @Enumerated(EnumType.STRING)
+    private CollectInboxPayloadCodec payloadCodec;
+
     @Enumerated(EnumType.STRING)
     private CollectInboxStatus status;
 
@@ -41,8 +49,14 @@ public class CollectInboxJpaEntity extends BaseTimeEntity {
 
     private Instant processingStartedAt;
 
+    private String leaseOwner;
+
+    private Instant leaseExpiresAt;
+
     private Instant processedAt;
 
+    private String processedReason;
+
     private Instant failedAt;
 
     private String failureReason;
@@ -50,19 +64,23 @@ public class CollectInboxJpaEntity extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private CollectInboxFailureType failureType;
 
+    private Instant nextAttemptAt;
+
     public CollectInbox toDomain() {
         return CollectInbox.rehydrateBuilder()
                 .id(getId())
                 .collectType(collectType)
                 .projectId(projectId)
                 .runId(runId)
-                .payloadJson(payloadJson)
+                .payloadJson(readPayload())
+                .enqueuedAt(getCreatedAt())
                 .status(status)
                 .processingAttempt(processingAttempt)
                 .processingLease(toProcessingLease())
                 .processedTime(toProcessedTime())
                 .failedTime(toFailedTime())
                 .failure(toFailure())
+                .nextAttemptTime(toNextAttemptTime())
                 .build();
     }
 
@@ -70,19 +88,53 @@ public class CollectInboxJpaEntity extends BaseTimeEntity {
         this.collectType = inbox.getCollectType();
         this.projectId = inbox.getProjectId();
         this.runId = inbox.getRunId();
-        this.payloadJson = inbox.getPayloadJson();
+        this.fingerprint = inbox.fingerprint().value();
         this.status = inbox.getStatus();
         this.processingAttempt = inbox.getProcessingAttempt();
         applyProcessingLease(inbox);
         applyProcessedTime(inbox);
         applyFailedTime(inbox);
         applyFailure(inbox);
+        applyNextAttemptTime(inbox);
+    }
+
+    public void applyPayload(String payloadJson, CollectInboxPayloadCodec codec) {
+        this.payloadCodec = codec;
+        if (codec.isPlain()) {
+            this.payloadJson = payloadJson;
+            this.payloadBytes = null;
+            return;
+        }
+
+        this.payloadJson = null;
+        this.payloadBytes = codec.encode(payloadJson);
+    }
+
+    private String readPayload() {
+        if (payloadCodec == null || payloadCodec.isPlain()) {
+            return payloadJson;
+        }
+        if (payloadBytes == null) {
+            throw new IllegalStateException("압축된 payload가 비어 있습니다.");
+        }
+
+        return payloadCodec.decode(payloadBytes);
     }
 
     private void applyProcessingLease(CollectInbox inbox) {
         this.processingStartedAt = null;
-        if (inbox.getProcessingLease().isClaimed()) {
-            this.processingStartedAt = inbox.getProcessingLease().startedAt();
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+
+        BoxProcessingLease processingLease = inbox.getProcessingLease();
+        if (!processingLease.isClaimed()) {
+            return;
+        }
+
+        this.processingStartedAt = processingLease.startedAt();
+        if (processingLease.hasOwner()) {
+            this.leaseOwner = processingLease.ownerId();
+            this.leaseExpiresAt = processingLease.expiresAt();
         }
     }
 
@@ -113,12 +165,22 @@ public class CollectInboxJpaEntity extends BaseTimeEntity {
         this.failureType = failure.type();
     }
 
+    private void applyNextAttemptTime(CollectInbox inbox) {
+        this.nextAttemptAt = null;
+        if (inbox.getNextAttemptTime().isPresent()) {
+            this.nextAttemptAt = inbox.getNextAttemptTime().occurredAt();
+        }
+    }
+
     private BoxProcessingLease toProcessingLease() {
         if (processingStartedAt == null) {
             return BoxProcessingLease.idle();
         }
+        if (leaseOwner == null || leaseExpiresAt == null) {
+            return BoxProcessingLease.claimed(processingStartedAt);
+        }
 
-        return BoxProcessingLease.claimed(processingStartedAt);
+        return BoxProcessingLease.claimed(processingStartedAt, leaseOwner, leaseExpiresAt);
     }
 
     private BoxEventTime toProcessedTime() {
@@ -137,6 +199,14 @@ public class CollectInboxJpaEntity extends BaseTimeEntity {
         return BoxEventTime.present(failedAt);
     }
 
+    private BoxEventTime toNextAttemptTime() {
+        if (nextAttemptAt == null) {
+            return BoxEventTime.absent();
+        }
+
+        return BoxEventTime.present(nextAttemptAt);
+    }
+
     private CollectInboxFailureSnapshot toFailure() {
         if (failureReason == null && failureType == null) {
             return CollectInboxFailureSnapshot.absent();
@@ -0,0 +1,85 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public enum CollectInboxPayloadCodec {
+
+    PLAIN {
+        @Override
+        public byte[] encode(String payloadJson) {
+            return payloadJson.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] payloadBytes) {
+            return new String(payloadBytes, StandardCharsets.UTF_8);
+        }
+    },
+    DEFLATE {
+        @Override
+        public byte[] encode(String payloadJson) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(payloadJson.getBytes(StandardCharsets.UTF_8));
+                deflater.finish();
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[BUFFER_SIZE];
+                while (!deflater.finished()) {
+                    int length = deflater.deflate(buffer);
+                    outputStream.write(buffer, 0, length);
+                }
+                return outputStream.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        public String decode(byte[] payloadBytes) {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(payloadBytes);
+
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream(payloadBytes.length * 4);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                while (!inflater.finished()) {
+                    int length = inflater.inflate(buffer);
+                    if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalStateException("압축된 collect inbox payload가 손상되었습니다.");
+                    }
+                    outputStream.write(buffer, 0, length);
+                }
+                return outputStream.toString(StandardCharsets.UTF_8);
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("압축된 collect inbox payload를 해제하지 못했습니다.", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8_192;
+
+    public static CollectInboxPayloadCodec from(String name) {
+        for (CollectInboxPayloadCodec codec : values()) {
+            if (codec.name().equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+
+        throw new IllegalArgumentException("지원하지 않는 collect inbox payload 코덱입니다: " + name);
+    }
+
+    public abstract byte[] encode(String payloadJson);
+
+    public abstract String decode(byte[] payloadBytes);
+
+    public boolean isPlain() {
+        return this == PLAIN;
+    }
+}
@@ -0,0 +1,33 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import com.prism.statistics.global.config.properties.CollectInboxPayloadProperties;
+import java.nio.charset.StandardCharsets;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CollectInboxPayloadCodecPolicy {
+
+    private final CollectInboxPayloadCodec codec;
+    private final int compressionThresholdBytes;
+
+    public CollectInboxPayloadCodecPolicy(CollectInboxPayloadProperties payloadProperties) {
+        this.codec = CollectInboxPayloadCodec.from(payloadProperties.codec());
+        this.compressionThresholdBytes = payloadProperties.compressionThresholdBytes();
+    }
+
+    public CollectInboxPayloadCodec select(String payloadJson) {
+        if (utf8Length(payloadJson) < compressionThresholdBytes) {
+            return CollectInboxPayloadCodec.PLAIN;
+        }
+
+        return codec;
+    }
+
+    private int utf8Length(String payloadJson) {
+        if (payloadJson.length() >= compressionThresholdBytes) {
+            return payloadJson.length();
+        }
+
+        return payloadJson.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
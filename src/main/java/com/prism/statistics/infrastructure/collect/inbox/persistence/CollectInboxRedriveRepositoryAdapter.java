@@ -0,0 +1,251 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import static com.prism.statistics.infrastructure.collect.inbox.persistence.QCollectInboxDeadLetterJpaEntity.collectInboxDeadLetterJpaEntity;
+import static com.prism.statistics.infrastructure.collect.inbox.persistence.QCollectInboxJpaEntity.collectInboxJpaEntity;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxDeadLetterRedriveResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFingerprint;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxRedriveCondition;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRedriveRepository;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class CollectInboxRedriveRepositoryAdapter implements CollectInboxRedriveRepository {
+
+    private static final String REDRIVE_DEAD_LETTER_SQL = """
+            INSERT INTO collect_inbox (
+                created_at,
+                updated_at,
+                collect_type,
+                project_id,
+                run_id,
+                fingerprint,
+                payload_json,
+                payload_bytes,
+                payload_codec,
+                status,
+                processing_attempt
+            )
+            SELECT
+                :now,
+                :now,
+                dead_letter.collect_type,
+                dead_letter.project_id,
+                dead_letter.run_id,
+                :fingerprint,
+                dead_letter.payload_json,
+                dead_letter.payload_bytes,
+                dead_letter.payload_codec,
+                'PENDING',
+                0
+            FROM collect_inbox_dead_letter dead_letter
+            WHERE dead_letter.id = :deadLetterId
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM collect_inbox inbox
+                  WHERE inbox.collect_type = dead_letter.collect_type
+                    AND inbox.run_id = dead_letter.run_id
+              )
+            """;
+
+    private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Clock clock;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countFailed(CollectInboxRedriveCondition condition) {
+        Long count = queryFactory
+                .select(collectInboxJpaEntity.id.count())
+                .from(collectInboxJpaEntity)
+                .where(failedInboxMatches(condition))
+                .fetchOne();
+
+        return Objects.requireNonNullElse(count, 0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countDeadLettered(CollectInboxRedriveCondition condition) {
+        Long count = queryFactory
+                .select(collectInboxDeadLetterJpaEntity.id.count())
+                .from(collectInboxDeadLetterJpaEntity)
+                .where(deadLetterMatches(condition))
+                .fetchOne();
+
+        return Objects.requireNonNullElse(count, 0L);
+    }
+
+    @Override
+    @Transactional
+    public int redriveFailed(CollectInboxRedriveCondition condition, int chunkSize) {
+        List<Long> failedIds = queryFactory
+                .select(collectInboxJpaEntity.id)
+                .from(collectInboxJpaEntity)
+                .where(failedInboxMatches(condition))
+                .orderBy(collectInboxJpaEntity.id.asc())
+                .limit(chunkSize)
+                .fetch();
+
+        if (failedIds.isEmpty()) {
+            return 0;
+        }
+
+        long redrivenCount = queryFactory
+                .update(collectInboxJpaEntity)
+                .set(collectInboxJpaEntity.status, CollectInboxStatus.PENDING)
+                .set(collectInboxJpaEntity.processingAttempt, 0)
+                .set(collectInboxJpaEntity.processingStartedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.leaseOwner, Expressions.nullExpression(String.class))
+                .set(collectInboxJpaEntity.leaseExpiresAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.processedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.processedReason, Expressions.nullExpression(String.class))
+                .set(collectInboxJpaEntity.failedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.failureReason, Expressions.nullExpression(String.class))
+                .set(
+                        collectInboxJpaEntity.failureType,
+                        Expressions.nullExpression(CollectInboxFailureType.class)
+                )
+                .set(collectInboxJpaEntity.nextAttemptAt, Expressions.nullExpression(Instant.class))
+                .where(
+                        collectInboxJpaEntity.id.in(failedIds),
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.FAILED)
+                )
+                .execute();
+
+        return Math.toIntExact(redrivenCount);
+    }
+
+    @Override
+    @Transactional
+    public CollectInboxDeadLetterRedriveResult redriveDeadLettered(
+            CollectInboxRedriveCondition condition,
+            Long afterDeadLetterId,
+            int chunkSize
+    ) {
+        List<Tuple> deadLetters = queryFactory
+                .select(
+                        collectInboxDeadLetterJpaEntity.id,
+                        collectInboxDeadLetterJpaEntity.collectType,
+                        collectInboxDeadLetterJpaEntity.runId
+                )
+                .from(collectInboxDeadLetterJpaEntity)
+                .where(deadLetterMatches(condition), deadLetterAfter(afterDeadLetterId))
+                .orderBy(collectInboxDeadLetterJpaEntity.id.asc())
+                .limit(chunkSize)
+                .fetch();
+
+        if (deadLetters.isEmpty()) {
+            return CollectInboxDeadLetterRedriveResult.empty();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        SqlParameterSource[] parameterSources = deadLetters.stream()
+                .map(deadLetter -> toRedriveParameterSource(deadLetter, now))
+                .toArray(SqlParameterSource[]::new);
+        int[] insertedCounts = namedParameterJdbcTemplate.batchUpdate(REDRIVE_DEAD_LETTER_SQL, parameterSources);
+
+        List<Long> redrivenIds = IntStream.range(0, deadLetters.size())
+                .filter(index -> insertedCounts[index] == 1)
+                .mapToObj(index -> deadLetters.get(index).get(collectInboxDeadLetterJpaEntity.id))
+                .toList();
+        if (!redrivenIds.isEmpty()) {
+            queryFactory
+                    .delete(collectInboxDeadLetterJpaEntity)
+                    .where(collectInboxDeadLetterJpaEntity.id.in(redrivenIds))
+                    .execute();
+        }
+
+        Long lastDeadLetterId = deadLetters.get(deadLetters.size() - 1).get(collectInboxDeadLetterJpaEntity.id);
+        return new CollectInboxDeadLetterRedriveResult(
+                redrivenIds.size(),
+                deadLetters.size() - redrivenIds.size(),
+                lastDeadLetterId
+        );
+    }
+
+    private SqlParameterSource toRedriveParameterSource(Tuple deadLetter, Timestamp now) {
+        CollectInboxType collectType = deadLetter.get(collectInboxDeadLetterJpaEntity.collectType);
+        long runId = deadLetter.get(collectInboxDeadLetterJpaEntity.runId);
+
+        return new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("fingerprint", CollectInboxFingerprint.of(collectType, runId).value())
+                .addValue("deadLetterId", deadLetter.get(collectInboxDeadLetterJpaEntity.id));
+    }
+
+    private BooleanExpression failedInboxMatches(CollectInboxRedriveCondition condition) {
+        BooleanExpression matches = collectInboxJpaEntity.status.eq(CollectInboxStatus.FAILED)
+                .and(collectInboxJpaEntity.projectId.eq(condition.projectId()));
+
+        if (condition.collectType() != null) {
+            matches = matches.and(collectInboxJpaEntity.collectType.eq(condition.collectType()));
+        }
+        if (condition.failureType() != null) {
+            matches = matches.and(collectInboxJpaEntity.failureType.eq(condition.failureType()));
+        }
+        if (condition.failedFrom() != null) {
+            matches = matches.and(collectInboxJpaEntity.failedAt.goe(condition.failedFrom()));
+        }
+        if (condition.failedTo() != null) {
+            matches = matches.and(collectInboxJpaEntity.failedAt.lt(condition.failedTo()));
+        }
+        if (condition.failureReasonKeyword() != null) {
+            matches = matches.and(collectInboxJpaEntity.failureReason.contains(condition.failureReasonKeyword()));
+        }
+
+        return matches;
+    }
+
+    private BooleanExpression deadLetterAfter(Long afterDeadLetterId) {
+        if (afterDeadLetterId == null) {
+            return null;
+        }
+
+        return collectInboxDeadLetterJpaEntity.id.gt(afterDeadLetterId);
+    }
+
+    private BooleanExpression deadLetterMatches(CollectInboxRedriveCondition condition) {
+        BooleanExpression matches = collectInboxDeadLetterJpaEntity.projectId.eq(condition.projectId());
+
+        if (condition.collectType() != null) {
+            matches = matches.and(collectInboxDeadLetterJpaEntity.collectType.eq(condition.collectType()));
+        }
+        if (condition.failureType() != null) {
+            matches = matches.and(collectInboxDeadLetterJpaEntity.failureType.eq(condition.failureType()));
+        }
+        if (condition.failedFrom() != null) {
+            matches = matches.and(collectInboxDeadLetterJpaEntity.failedAt.goe(condition.failedFrom()));
+        }
+        if (condition.failedTo() != null) {
+            matches = matches.and(collectInboxDeadLetterJpaEntity.failedAt.lt(condition.failedTo()));
+        }
+        if (condition.failureReasonKeyword() != null) {
+            matches = matches.and(
+                    collectInboxDeadLetterJpaEntity.failureReason.contains(condition.failureReasonKeyword())
+            );
+        }
+
+        return matches;
+    }
+}
@@ -3,20 +3,37 @@ package com.prism.statistics.infrastructure.collect.inbox.persistence;
 import static com.prism.statistics.infrastructure.collect.inbox.persistence.QCollectInboxJpaEntity.collectInboxJpaEntity;
 
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxBacklogCount;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimPlan;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimQuota;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFingerprint;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRepository;
-import com.prism.statistics.infrastructure.common.MysqlDuplicateKeyDetector;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.hibernate.LockOptions;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,80 +41,259 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CollectInboxRepositoryAdapter implements CollectInboxRepository {
 
-    private static final List<CollectInboxStatus> CLAIMABLE_STATUSES = List.of(
-            CollectInboxStatus.PENDING,
-            CollectInboxStatus.RETRY_PENDING
-    );
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
 
     private final JPAQueryFactory queryFactory;
     private final JpaCollectInboxRepository repository;
     private final CollectInboxCreator inboxCreator;
-    private final MysqlDuplicateKeyDetector mysqlDuplicateKeyDetector;
+    private final CollectInboxPayloadCodecPolicy payloadCodecPolicy;
+    private final CollectInboxFingerprintFilter fingerprintFilter;
 
     @Override
-    public boolean enqueue(CollectInboxType collectType, Long projectId, long runId, String payloadJson) {
+    public Optional<Long> enqueue(CollectInboxType collectType, Long projectId, long runId, String payloadJson) {
         CollectInbox inbox = CollectInbox.pending(collectType, projectId, runId, payloadJson);
+        CollectInboxFingerprint fingerprint = inbox.fingerprint();
+        if (fingerprintFilter.isKnownDuplicate(fingerprint)) {
+            return Optional.empty();
+        }
 
-        try {
-            inboxCreator.saveNew(inbox);
-            return true;
-        } catch (DataIntegrityViolationException exception) {
-            if (!mysqlDuplicateKeyDetector.isDuplicateKey(exception)) {
-                throw exception;
-            }
-            return false;
+        Optional<Long> insertedId = inboxCreator.insertIfAbsent(inbox);
+        fingerprintFilter.remember(fingerprint);
+        return insertedId;
+    }
+
+    @Override
+    public List<CollectInboxEnqueueResult> enqueueAll(List<CollectInbox> pendingInboxes) {
+        if (pendingInboxes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<CollectInbox> unknownInboxes = pendingInboxes.stream()
+                .filter(inbox -> !fingerprintFilter.isKnownDuplicate(inbox.fingerprint()))
+                .toList();
+        List<CollectInboxEnqueueResult> unknownResults = saveAllIfAbsent(unknownInboxes);
+        Map<CollectInbox, CollectInboxEnqueueResult> resultsByInbox = new IdentityHashMap<>();
+        for (int i = 0; i < unknownInboxes.size(); i++) {
+            resultsByInbox.put(unknownInboxes.get(i), unknownResults.get(i));
         }
+        fingerprintFilter.rememberAll(unknownInboxes.stream().map(inbox -> inbox.fingerprint()).toList());
+
+        return pendingInboxes.stream()
+                .map(inbox -> resultsByInbox.getOrDefault(inbox, CollectInboxEnqueueResult.duplicated(inbox)))
+                .toList();
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<CollectInbox> findClaimable(int limit) {
+    @Transactional
+    public List<CollectInbox> claimBatch(int limit, BoxProcessingLease processingLease) {
         if (limit <= 0) {
             return Collections.emptyList();
         }
 
-        return queryFactory
-                .selectFrom(collectInboxJpaEntity)
-                .where(collectInboxJpaEntity.status.in(CLAIMABLE_STATUSES))
-                .orderBy(collectInboxJpaEntity.id.asc())
-                .limit(limit)
-                .fetch()
-                .stream()
-                .map(inboxJpaEntity -> inboxJpaEntity.toDomain())
-                .toList();
+        List<CollectInboxJpaEntity> claimableEntities = lockClaimable(limit, processingLease.startedAt(), null);
+
+        return claim(claimableEntities, processingLease);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Optional<CollectInbox> findById(Long inboxId) {
-        return repository.findDomainById(inboxId);
+    @Transactional
+    public List<CollectInbox> claimBatch(
+            int limit,
+            Set<CollectInboxType> collectTypes,
+            BoxProcessingLease processingLease
+    ) {
+        if (limit <= 0 || collectTypes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<CollectInboxJpaEntity> claimableEntities = lockClaimable(
+                limit,
+                processingLease.startedAt(),
+                collectInboxJpaEntity.collectType.in(collectTypes)
+        );
+
+        return claim(claimableEntities, processingLease);
+    }
+
+    @Override
+    @Transactional
+    public List<CollectInbox> claimByIds(List<Long> inboxIds, BoxProcessingLease processingLease) {
+        if (inboxIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<CollectInboxJpaEntity> claimableEntities = lockClaimableByIds(inboxIds, processingLease.startedAt());
+
+        return claim(claimableEntities, processingLease);
     }
 
     @Override
     @Transactional
-    public boolean markProcessingIfClaimable(Long inboxId, Instant processingStartedAt) {
-        long updatedCount = queryFactory
+    public List<CollectInbox> claimBatch(CollectInboxClaimPlan claimPlan, BoxProcessingLease processingLease) {
+        if (claimPlan.limit() <= 0) {
+            return Collections.emptyList();
+        }
+
+        Instant now = processingLease.startedAt();
+        List<CollectInboxJpaEntity> claimableEntities = new ArrayList<>();
+        if (!claimPlan.inboxIds().isEmpty()) {
+            claimableEntities.addAll(lockClaimableByIds(claimPlan.inboxIds(), now));
+        }
+        for (CollectInboxClaimQuota quota : claimPlan.quotas()) {
+            int quotaLimit = Math.min(quota.limit(), claimPlan.limit() - claimableEntities.size());
+            if (quotaLimit <= 0 || quota.collectTypes().isEmpty()) {
+                continue;
+            }
+
+            claimableEntities.addAll(lockClaimable(
+                    quotaLimit,
+                    now,
+                    collectInboxJpaEntity.collectType.in(quota.collectTypes())
+                            .and(excluding(claimableEntities))
+            ));
+        }
+
+        int remainingLimit = claimPlan.limit() - claimableEntities.size();
+        if (remainingLimit > 0) {
+            claimableEntities.addAll(lockClaimable(remainingLimit, now, excluding(claimableEntities)));
+        }
+        claimableEntities.sort(Comparator.comparing(inboxJpaEntity -> inboxJpaEntity.getId()));
+
+        return claim(claimableEntities, processingLease);
+    }
+
+    @Override
+    @Transactional
+    public int renewLeases(List<Long> inboxIds, String leaseOwner, Instant leaseExpiresAt) {
+        if (inboxIds.isEmpty()) {
+            return 0;
+        }
+
+        long renewedCount = queryFactory
                 .update(collectInboxJpaEntity)
-                .set(collectInboxJpaEntity.status, CollectInboxStatus.PROCESSING)
-                .set(
-                        collectInboxJpaEntity.processingAttempt,
-                        collectInboxJpaEntity.processingAttempt.add(1)
+                .set(collectInboxJpaEntity.leaseExpiresAt, leaseExpiresAt)
+                .where(
+                        collectInboxJpaEntity.id.in(inboxIds),
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.PROCESSING),
+                        collectInboxJpaEntity.leaseOwner.eq(leaseOwner)
                 )
-                .set(collectInboxJpaEntity.processingStartedAt, processingStartedAt)
-                .set(collectInboxJpaEntity.processedAt, Expressions.nullExpression(Instant.class))
-                .set(collectInboxJpaEntity.failedAt, Expressions.nullExpression(Instant.class))
-                .set(collectInboxJpaEntity.failureReason, Expressions.nullExpression(String.class))
+                .execute();
+
+        return Math.toIntExact(renewedCount);
+    }
+
+    @Override
+    @Transactional
+    public int releaseClaims(
+            List<Long> inboxIds,
+            BoxProcessingLease heldLease,
+            Instant releasedAt,
+            String releasedReason
+    ) {
+        if (inboxIds.isEmpty()) {
+            return 0;
+        }
+
+        long pendingCount = queryFactory
+                .update(collectInboxJpaEntity)
+                .set(collectInboxJpaEntity.status, CollectInboxStatus.PENDING)
+                .set(collectInboxJpaEntity.processingAttempt, 0)
+                .set(collectInboxJpaEntity.processingStartedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.leaseOwner, Expressions.nullExpression(String.class))
+                .set(collectInboxJpaEntity.leaseExpiresAt, Expressions.nullExpression(Instant.class))
+                .where(
+                        collectInboxJpaEntity.id.in(inboxIds),
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.PROCESSING),
+                        collectInboxJpaEntity.processingAttempt.eq(1),
+                        leaseOwnedBy(heldLease)
+                )
+                .execute();
+
+        long retryPendingCount = queryFactory
+                .update(collectInboxJpaEntity)
+                .set(collectInboxJpaEntity.status, CollectInboxStatus.RETRY_PENDING)
                 .set(
-                        collectInboxJpaEntity.failureType,
-                        Expressions.nullExpression(CollectInboxFailureType.class)
+                        collectInboxJpaEntity.processingAttempt,
+                        collectInboxJpaEntity.processingAttempt.subtract(1)
                 )
+                .set(collectInboxJpaEntity.processingStartedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.leaseOwner, Expressions.nullExpression(String.class))
+                .set(collectInboxJpaEntity.leaseExpiresAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.failedAt, releasedAt)
+                .set(collectInboxJpaEntity.failureReason, releasedReason)
+                .set(collectInboxJpaEntity.failureType, CollectInboxFailureType.RETRYABLE)
+                .set(collectInboxJpaEntity.nextAttemptAt, Expressions.nullExpression(Instant.class))
                 .where(
-                        collectInboxJpaEntity.id.eq(inboxId),
-                        collectInboxJpaEntity.status.in(CLAIMABLE_STATUSES)
+                        collectInboxJpaEntity.id.in(inboxIds),
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.PROCESSING),
+                        collectInboxJpaEntity.processingAttempt.gt(1),
+                        leaseOwnedBy(heldLease)
                 )
                 .execute();
 
-        return updatedCount > 0;
+        return Math.toIntExact(pendingCount + retryPendingCount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CollectInbox> findById(Long inboxId) {
+        return repository.findDomainById(inboxId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<CollectInboxType, Long> countClaimableByType(Instant now) {
+        NumberExpression<Long> claimableCount = collectInboxJpaEntity.id.count();
+        List<Tuple> counts = queryFactory
+                .select(collectInboxJpaEntity.collectType, claimableCount)
+                .from(collectInboxJpaEntity)
+                .where(claimableAt(now))
+                .groupBy(collectInboxJpaEntity.collectType)
+                .fetch();
+
+        Map<CollectInboxType, Long> countsByType = new EnumMap<>(CollectInboxType.class);
+        for (Tuple count : counts) {
+            countsByType.put(count.get(collectInboxJpaEntity.collectType), count.get(claimableCount));
+        }
+        return countsByType;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CollectInboxBacklogCount> countBacklog(Long projectId) {
+        NumberExpression<Long> backlogCount = collectInboxJpaEntity.id.count();
+        List<Tuple> counts = queryFactory
+                .select(collectInboxJpaEntity.status, collectInboxJpaEntity.collectType, backlogCount)
+                .from(collectInboxJpaEntity)
+                .where(
+                        collectInboxJpaEntity.projectId.eq(projectId),
+                        collectInboxJpaEntity.status.ne(CollectInboxStatus.PROCESSED)
+                )
+                .groupBy(collectInboxJpaEntity.status, collectInboxJpaEntity.collectType)
+                .fetch();
+
+        return counts.stream()
+                .map(count -> new CollectInboxBacklogCount(
+                        count.get(collectInboxJpaEntity.status),
+                        count.get(collectInboxJpaEntity.collectType),
+                        count.get(backlogCount)
+                ))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findOldestPendingEnqueuedAt(Long projectId) {
+        LocalDateTime oldestEnqueuedAt = queryFactory
+                .select(collectInboxJpaEntity.createdAt.min())
+                .from(collectInboxJpaEntity)
+                .where(
+                        collectInboxJpaEntity.projectId.eq(projectId),
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.PENDING)
+                )
+                .fetchOne();
+
+        return Optional.ofNullable(oldestEnqueuedAt);
     }
 
     @Override
@@ -108,17 +304,25 @@ public class CollectInboxRepositoryAdapter implements CollectInboxRepository {
             String failureReason,
             int maxAttempts
     ) {
-        BooleanExpression timeoutCondition = collectInboxJpaEntity.processingStartedAt.isNull()
-                .or(collectInboxJpaEntity.processingStartedAt.lt(processingStartedBefore));
+        BooleanExpression legacyTimeoutCondition = collectInboxJpaEntity.leaseExpiresAt.isNull()
+                .and(
+                        collectInboxJpaEntity.processingStartedAt.isNull()
+                                .or(collectInboxJpaEntity.processingStartedAt.lt(processingStartedBefore))
+                );
+        BooleanExpression timeoutCondition = collectInboxJpaEntity.leaseExpiresAt.loe(failedAt)
+                .or(legacyTimeoutCondition);
 
         long exhaustedCount = queryFactory
                 .update(collectInboxJpaEntity)
                 .set(collectInboxJpaEntity.status, CollectInboxStatus.FAILED)
                 .set(collectInboxJpaEntity.processingStartedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.leaseOwner, Expressions.nullExpression(String.class))
+                .set(collectInboxJpaEntity.leaseExpiresAt, Expressions.nullExpression(Instant.class))
                 .set(collectInboxJpaEntity.processedAt, Expressions.nullExpression(Instant.class))
                 .set(collectInboxJpaEntity.failedAt, failedAt)
                 .set(collectInboxJpaEntity.failureReason, failureReason)
                 .set(collectInboxJpaEntity.failureType, CollectInboxFailureType.RETRY_EXHAUSTED)
+                .set(collectInboxJpaEntity.nextAttemptAt, Expressions.nullExpression(Instant.class))
                 .where(
                         collectInboxJpaEntity.status.eq(CollectInboxStatus.PROCESSING),
                         timeoutCondition,
@@ -130,10 +334,13 @@ public class CollectInboxRepositoryAdapter implements CollectInboxRepository {
                 .update(collectInboxJpaEntity)
                 .set(collectInboxJpaEntity.status, CollectInboxStatus.RETRY_PENDING)
                 .set(collectInboxJpaEntity.processingStartedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.leaseOwner, Expressions.nullExpression(String.class))
+                .set(collectInboxJpaEntity.leaseExpiresAt, Expressions.nullExpression(Instant.class))
                 .set(collectInboxJpaEntity.processedAt, Expressions.nullExpression(Instant.class))
                 .set(collectInboxJpaEntity.failedAt, failedAt)
                 .set(collectInboxJpaEntity.failureReason, failureReason)
                 .set(collectInboxJpaEntity.failureType, CollectInboxFailureType.PROCESSING_TIMEOUT)
+                .set(collectInboxJpaEntity.nextAttemptAt, failedAt)
                 .where(
                         collectInboxJpaEntity.status.eq(CollectInboxStatus.PROCESSING),
                         timeoutCondition,
@@ -144,6 +351,35 @@ public class CollectInboxRepositoryAdapter implements CollectInboxRepository {
         return Math.toIntExact(exhaustedCount + recoveredCount);
     }
 
+    @Override
+    @Transactional
+    public void coalesce(
+            CollectInbox survivor,
+            List<Long> supersededIds,
+            Instant processedAt,
+            String processedReason
+    ) {
+        Long survivorId = survivor.getId();
+        CollectInboxJpaEntity survivorEntity = repository.findById(survivorId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 collectInbox입니다. id=" + survivorId));
+        String payloadJson = survivor.getPayloadJson();
+        survivorEntity.applyPayload(payloadJson, payloadCodecPolicy.select(payloadJson));
+
+        queryFactory
+                .update(collectInboxJpaEntity)
+                .set(collectInboxJpaEntity.status, CollectInboxStatus.PROCESSED)
+                .set(collectInboxJpaEntity.processingStartedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.leaseOwner, Expressions.nullExpression(String.class))
+                .set(collectInboxJpaEntity.leaseExpiresAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.processedAt, processedAt)
+                .set(collectInboxJpaEntity.processedReason, processedReason)
+                .where(
+                        collectInboxJpaEntity.id.in(supersededIds),
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.PROCESSING)
+                )
+                .execute();
+    }
+
     @Override
     @Transactional
     public CollectInbox save(CollectInbox inbox) {
@@ -151,6 +387,7 @@ public class CollectInboxRepositoryAdapter implements CollectInboxRepository {
         if (inboxId == null) {
             CollectInboxJpaEntity newEntity = new CollectInboxJpaEntity();
             newEntity.apply(inbox);
+            newEntity.applyPayload(inbox.getPayloadJson(), payloadCodecPolicy.select(inbox.getPayloadJson()));
             return repository.save(newEntity).toDomain();
         }
 
@@ -159,4 +396,193 @@ public class CollectInboxRepositoryAdapter implements CollectInboxRepository {
         persistedEntity.apply(inbox);
         return repository.save(persistedEntity).toDomain();
     }
+
+    @Override
+    @Transactional
+    public boolean saveIfLeaseHeld(CollectInbox inbox, BoxProcessingLease heldLease) {
+        CollectInboxJpaEntity heldEntity = queryFactory
+                .selectFrom(collectInboxJpaEntity)
+                .where(
+                        collectInboxJpaEntity.id.eq(inbox.getId()),
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.PROCESSING),
+                        collectInboxJpaEntity.processingAttempt.eq(inbox.getProcessingAttempt()),
+                        leaseOwnedBy(heldLease)
+                )
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchOne();
+
+        if (heldEntity == null) {
+            return false;
+        }
+
+        heldEntity.apply(inbox);
+        repository.save(heldEntity);
+        return true;
+    }
+
+    private BooleanExpression leaseOwnedBy(BoxProcessingLease heldLease) {
+        if (!heldLease.hasOwner()) {
+            return null;
+        }
+
+        return collectInboxJpaEntity.leaseOwner.eq(heldLease.ownerId());
+    }
+
+    private List<CollectInboxEnqueueResult> saveAllIfAbsent(List<CollectInbox> pendingInboxes) {
+        if (pendingInboxes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return inboxCreator.saveAllIfAbsent(pendingInboxes);
+        } catch (DuplicateKeyException exception) {
+            return pendingInboxes.stream()
+                    .map(inbox -> enqueueOne(inbox))
+                    .toList();
+        }
+    }
+
+    private CollectInboxEnqueueResult enqueueOne(CollectInbox pendingInbox) {
+        return inboxCreator.insertIfAbsent(pendingInbox)
+                .map(inboxId -> CollectInboxEnqueueResult.accepted(pendingInbox, inboxId))
+                .orElseGet(() -> CollectInboxEnqueueResult.duplicated(pendingInbox));
+    }
+
+    private BooleanExpression claimableAt(Instant now) {
+        return collectInboxJpaEntity.status.eq(CollectInboxStatus.PENDING).or(retryDueAt(now));
+    }
+
+    private BooleanExpression retryDueAt(Instant now) {
+        return collectInboxJpaEntity.status.eq(CollectInboxStatus.RETRY_PENDING)
+                .and(
+                        collectInboxJpaEntity.nextAttemptAt.isNull()
+                                .or(collectInboxJpaEntity.nextAttemptAt.loe(now))
+                );
+    }
+
+    private List<CollectInboxJpaEntity> lockClaimableByIds(List<Long> inboxIds, Instant now) {
+        return queryFactory
+                .selectFrom(collectInboxJpaEntity)
+                .where(
+                        collectInboxJpaEntity.id.in(inboxIds),
+                        claimableAt(now)
+                )
+                .orderBy(collectInboxJpaEntity.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    private BooleanExpression excluding(List<CollectInboxJpaEntity> lockedEntities) {
+        if (lockedEntities.isEmpty()) {
+            return null;
+        }
+
+        return collectInboxJpaEntity.id.notIn(
+                lockedEntities.stream()
+                        .map(inboxJpaEntity -> inboxJpaEntity.getId())
+                        .toList()
+        );
+    }
+
+    private List<CollectInboxJpaEntity> lockClaimable(
+            int limit,
+            Instant now,
+            BooleanExpression claimCondition
+    ) {
+        List<CollectInboxJpaEntity> pendingEntities = lockClaimable(
+                limit,
+                claimCondition,
+                collectInboxJpaEntity.status.eq(CollectInboxStatus.PENDING)
+        );
+        int remainingLimit = limit - pendingEntities.size();
+        if (remainingLimit <= 0) {
+            return pendingEntities;
+        }
+
+        List<CollectInboxJpaEntity> retryDueEntities = lockClaimable(
+                remainingLimit,
+                claimCondition,
+                retryDueAt(now)
+        );
+
+        return Stream.concat(pendingEntities.stream(), retryDueEntities.stream())
+                .sorted(Comparator.comparing(inboxJpaEntity -> inboxJpaEntity.getId()))
+                .toList();
+    }
+
+    private List<CollectInboxJpaEntity> lockClaimable(
+            int limit,
+            BooleanExpression claimCondition,
+            BooleanExpression statusCondition
+    ) {
+        return queryFactory
+                .selectFrom(collectInboxJpaEntity)
+                .where(statusCondition, claimCondition)
+                .orderBy(collectInboxJpaEntity.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    private List<CollectInbox> claim(
+            List<CollectInboxJpaEntity> claimableEntities,
+            BoxProcessingLease processingLease
+    ) {
+        if (claimableEntities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<CollectInbox> claimedInboxes = claimableEntities.stream()
+                .map(inboxJpaEntity -> inboxJpaEntity.toDomain())
+                .toList();
+        List<Long> claimedIds = claimedInboxes.stream()
+                .map(inbox -> inbox.getId())
+                .toList();
+
+        markProcessing(claimedIds, processingLease);
+        claimedInboxes.forEach(inbox -> inbox.markProcessing(processingLease));
+
+        return claimedInboxes;
+    }
+
+    private void markProcessing(List<Long> inboxIds, BoxProcessingLease processingLease) {
+        queryFactory
+                .update(collectInboxJpaEntity)
+                .set(collectInboxJpaEntity.status, CollectInboxStatus.PROCESSING)
+                .set(
+                        collectInboxJpaEntity.processingAttempt,
+                        collectInboxJpaEntity.processingAttempt.add(1)
+                )
+                .set(collectInboxJpaEntity.processingStartedAt, processingLease.startedAt())
+                .set(collectInboxJpaEntity.leaseOwner, leaseOwnerOf(processingLease))
+                .set(collectInboxJpaEntity.leaseExpiresAt, leaseExpiresAtOf(processingLease))
+                .set(collectInboxJpaEntity.processedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.failedAt, Expressions.nullExpression(Instant.class))
+                .set(collectInboxJpaEntity.failureReason, Expressions.nullExpression(String.class))
+                .set(
+                        collectInboxJpaEntity.failureType,
+                        Expressions.nullExpression(CollectInboxFailureType.class)
+                )
+                .set(collectInboxJpaEntity.nextAttemptAt, Expressions.nullExpression(Instant.class))
+                .where(collectInboxJpaEntity.id.in(inboxIds))
+                .execute();
+    }
+
+    private String leaseOwnerOf(BoxProcessingLease processingLease) {
+        if (!processingLease.hasOwner()) {
+            return null;
+        }
+
+        return processingLease.ownerId();
+    }
+
+    private Instant leaseExpiresAtOf(BoxProcessingLease processingLease) {
+        if (!processingLease.hasOwner()) {
+            return null;
+        }
+
+        return processingLease.expiresAt();
+    }
 }
@@ -0,0 +1,120 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import static com.prism.statistics.infrastructure.collect.inbox.persistence.QCollectInboxJpaEntity.collectInboxJpaEntity;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRetentionRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class CollectInboxRetentionRepositoryAdapter implements CollectInboxRetentionRepository {
+
+    private static final String MOVE_TO_DEAD_LETTER_SQL = """
+            INSERT INTO collect_inbox_dead_letter (
+                created_at,
+                updated_at,
+                inbox_id,
+                collect_type,
+                project_id,
+                run_id,
+                payload_json,
+                payload_bytes,
+                payload_codec,
+                processing_attempt,
+                failed_at,
+                failure_reason,
+                failure_type
+            )
+            SELECT
+                :now,
+                :now,
+                id,
+                collect_type,
+                project_id,
+                run_id,
+                payload_json,
+                payload_bytes,
+                payload_codec,
+                processing_attempt,
+                failed_at,
+                failure_reason,
+                failure_type
+            FROM collect_inbox
+            WHERE id IN (:ids)
+              AND status = 'FAILED'
+            """;
+
+    private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Clock clock;
+
+    @Override
+    @Transactional
+    public int purgeProcessed(Instant processedBefore, int chunkSize) {
+        List<Long> expiredIds = queryFactory
+                .select(collectInboxJpaEntity.id)
+                .from(collectInboxJpaEntity)
+                .where(
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.PROCESSED),
+                        collectInboxJpaEntity.processedAt.lt(processedBefore)
+                )
+                .orderBy(collectInboxJpaEntity.processedAt.asc(), collectInboxJpaEntity.id.asc())
+                .limit(chunkSize)
+                .fetch();
+
+        return deleteByIds(expiredIds, CollectInboxStatus.PROCESSED);
+    }
+
+    @Override
+    @Transactional
+    public int moveFailedToDeadLetter(Instant failedBefore, int chunkSize) {
+        List<Long> failedIds = queryFactory
+                .select(collectInboxJpaEntity.id)
+                .from(collectInboxJpaEntity)
+                .where(
+                        collectInboxJpaEntity.status.eq(CollectInboxStatus.FAILED),
+                        collectInboxJpaEntity.failedAt.lt(failedBefore)
+                )
+                .orderBy(collectInboxJpaEntity.failedAt.asc(), collectInboxJpaEntity.id.asc())
+                .limit(chunkSize)
+                .fetch();
+
+        if (failedIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now(clock)))
+                .addValue("ids", failedIds);
+        namedParameterJdbcTemplate.update(MOVE_TO_DEAD_LETTER_SQL, parameterSource);
+
+        return deleteByIds(failedIds, CollectInboxStatus.FAILED);
+    }
+
+    private int deleteByIds(List<Long> inboxIds, CollectInboxStatus status) {
+        if (inboxIds.isEmpty()) {
+            return 0;
+        }
+
+        long deletedCount = queryFactory
+                .delete(collectInboxJpaEntity)
+                .where(
+                        collectInboxJpaEntity.id.in(inboxIds),
+                        collectInboxJpaEntity.status.eq(status)
+                )
+                .execute();
+
+        return Math.toIntExact(deletedCount);
+    }
+}
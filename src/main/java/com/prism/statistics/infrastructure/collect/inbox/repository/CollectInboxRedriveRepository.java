@@ -0,0 +1,19 @@
+package com.prism.statistics.infrastructure.collect.inbox.repository;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxDeadLetterRedriveResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxRedriveCondition;
+
+public interface CollectInboxRedriveRepository {
+
+    long countFailed(CollectInboxRedriveCondition condition);
+
+    long countDeadLettered(CollectInboxRedriveCondition condition);
+
+    int redriveFailed(CollectInboxRedriveCondition condition, int chunkSize);
+
+    CollectInboxDeadLetterRedriveResult redriveDeadLettered(
+            CollectInboxRedriveCondition condition,
+            Long afterDeadLetterId,
+            int chunkSize
+    );
+}
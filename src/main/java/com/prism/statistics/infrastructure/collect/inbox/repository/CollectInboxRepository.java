@@ -1,22 +1,49 @@
 package com.prism.statistics.infrastructure.collect.inbox.repository;
 
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxBacklogCount;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimPlan;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CollectInboxRepository {
 
-    boolean enqueue(CollectInboxType collectType, Long projectId, long runId, String payloadJson);
+    Optional<Long> enqueue(CollectInboxType collectType, Long projectId, long runId, String payloadJson);
 
-    List<CollectInbox> findClaimable(int limit);
+    List<CollectInboxEnqueueResult> enqueueAll(List<CollectInbox> pendingInboxes);
+
+    List<CollectInbox> claimBatch(int limit, BoxProcessingLease processingLease);
+
+    List<CollectInbox> claimBatch(int limit, Set<CollectInboxType> collectTypes, BoxProcessingLease processingLease);
+
+    List<CollectInbox> claimByIds(List<Long> inboxIds, BoxProcessingLease processingLease);
+
+    List<CollectInbox> claimBatch(CollectInboxClaimPlan claimPlan, BoxProcessingLease processingLease);
+
+    int renewLeases(List<Long> inboxIds, String leaseOwner, Instant leaseExpiresAt);
+
+    int releaseClaims(List<Long> inboxIds, BoxProcessingLease heldLease, Instant releasedAt, String releasedReason);
 
     Optional<CollectInbox> findById(Long inboxId);
 
-    boolean markProcessingIfClaimable(Long inboxId, Instant processingStartedAt);
+    Map<CollectInboxType, Long> countClaimableByType(Instant now);
+
+    List<CollectInboxBacklogCount> countBacklog(Long projectId);
+
+    Optional<LocalDateTime> findOldestPendingEnqueuedAt(Long projectId);
 
     int recoverTimeoutProcessing(Instant processingStartedBefore, Instant failedAt, String failureReason, int maxAttempts);
 
+    void coalesce(CollectInbox survivor, List<Long> supersededIds, Instant processedAt, String processedReason);
+
     CollectInbox save(CollectInbox inbox);
+
+    boolean saveIfLeaseHeld(CollectInbox inbox, BoxProcessingLease heldLease);
 }
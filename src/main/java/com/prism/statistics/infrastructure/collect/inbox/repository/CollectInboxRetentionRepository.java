@@ -0,0 +1,10 @@
+package com.prism.statistics.infrastructure.collect.inbox.repository;
+
+import java.time.Instant;
+
+public interface CollectInboxRetentionRepository {
+
+    int purgeProcessed(Instant processedBefore, int chunkSize);
+
+    int moveFailedToDeadLetter(Instant failedBefore, int chunkSize);
+}
@@ -14,7 +14,21 @@ public sealed interface BoxProcessingLease
             throw new IllegalArgumentException("processingStartedAt은 비어 있을 수 없습니다.");
         }
 
-        return new ClaimedBoxProcessingLease(startedAt);
+        return new ClaimedBoxProcessingLease(startedAt, null, null);
+    }
+
+    static BoxProcessingLease claimed(Instant startedAt, String ownerId, Instant expiresAt) {
+        if (startedAt == null) {
+            throw new IllegalArgumentException("processingStartedAt은 비어 있을 수 없습니다.");
+        }
+        if (ownerId == null || ownerId.isBlank()) {
+            throw new IllegalArgumentException("lease ownerId는 비어 있을 수 없습니다.");
+        }
+        if (expiresAt == null || !expiresAt.isAfter(startedAt)) {
+            throw new IllegalArgumentException("lease 만료 시각은 processingStartedAt 이후여야 합니다.");
+        }
+
+        return new ClaimedBoxProcessingLease(startedAt, ownerId, expiresAt);
     }
 
     boolean isClaimed();
@@ -23,6 +37,18 @@ public sealed interface BoxProcessingLease
         throw new IllegalStateException("lease를 보유하지 않은 상태입니다.");
     }
 
+    default String ownerId() {
+        throw new IllegalStateException("lease를 보유하지 않은 상태입니다.");
+    }
+
+    default Instant expiresAt() {
+        throw new IllegalStateException("lease를 보유하지 않은 상태입니다.");
+    }
+
+    default boolean hasOwner() {
+        return false;
+    }
+
     final class IdleBoxProcessingLease implements BoxProcessingLease {
 
         private static final IdleBoxProcessingLease INSTANCE = new IdleBoxProcessingLease();
@@ -36,17 +62,26 @@ public sealed interface BoxProcessingLease
         }
     }
 
-    record ClaimedBoxProcessingLease(Instant startedAt) implements BoxProcessingLease {
+    record ClaimedBoxProcessingLease(Instant startedAt, String ownerId, Instant expiresAt)
+            implements BoxProcessingLease {
 
         public ClaimedBoxProcessingLease {
             if (startedAt == null) {
                 throw new IllegalArgumentException("processingStartedAt은 비어 있을 수 없습니다.");
             }
+            if ((ownerId == null) != (expiresAt == null)) {
+                throw new IllegalArgumentException("lease ownerId와 만료 시각은 함께 있어야 합니다.");
+            }
         }
 
         @Override
         public boolean isClaimed() {
             return true;
         }
+
+        @Override
+        public boolean hasOwner() {
+            return ownerId != null;
+        }
     }
 }
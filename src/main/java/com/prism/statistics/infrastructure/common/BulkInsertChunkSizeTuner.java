@@ -0,0 +1,39 @@
+package com.prism.statistics.infrastructure.common;
+
+import com.prism.statistics.global.config.properties.BatchInsertProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BulkInsertChunkSizeTuner {
+
+    private static final int MAX_PLACEHOLDER_COUNT = 65_535;
+
+    private final BatchInsertProperties batchInsertProperties;
+    private final Map<String, Integer> chunkSizes = new ConcurrentHashMap<>();
+
+    public int chunkSize(String tableName, int columnCount) {
+        int chunkSize = chunkSizes.getOrDefault(tableName, batchInsertProperties.chunkSize());
+
+        return Math.min(chunkSize, maxChunkSize(columnCount));
+    }
+
+    public void record(String tableName, int columnCount, int rowCount, long elapsedMs) {
+        int chunkSize = chunkSize(tableName, columnCount);
+
+        if (elapsedMs > batchInsertProperties.targetStatementMs()) {
+            chunkSizes.put(tableName, Math.max(1, chunkSize / 2));
+            return;
+        }
+        if (rowCount == chunkSize) {
+            chunkSizes.put(tableName, Math.min(chunkSize * 2, maxChunkSize(columnCount)));
+        }
+    }
+
+    private int maxChunkSize(int columnCount) {
+        return Math.min(batchInsertProperties.maxChunkSize(), MAX_PLACEHOLDER_COUNT / columnCount);
+    }
+}
@@ -0,0 +1,36 @@
+package com.prism.statistics.infrastructure.common;
+
+import java.util.Collections;
+import java.util.List;
+
+public record BulkInsertStatement<T>(
+        String tableName,
+        List<String> columnNames,
+        BulkRowBinder<T> rowBinder
+) {
+
+    public BulkInsertStatement {
+        if (tableName == null || tableName.isBlank()) {
+            throw new IllegalArgumentException("INSERT 대상 테이블명은 필수입니다.");
+        }
+        if (columnNames == null || columnNames.isEmpty()) {
+            throw new IllegalArgumentException("INSERT 대상 컬럼은 1개 이상이어야 합니다.");
+        }
+        if (rowBinder == null) {
+            throw new IllegalArgumentException("행 바인더는 필수입니다.");
+        }
+        columnNames = List.copyOf(columnNames);
+    }
+
+    public int columnCount() {
+        return columnNames.size();
+    }
+
+    public String toSql(int rowCount) {
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columnCount(), "?")) + ")";
+
+        return "INSERT INTO " + tableName
+                + " (" + String.join(", ", columnNames) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rowCount, rowPlaceholders));
+    }
+}
@@ -0,0 +1,89 @@
+package com.prism.statistics.infrastructure.common;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BulkJdbcWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final BulkInsertChunkSizeTuner chunkSizeTuner;
+
+    public <T> void insert(BulkInsertStatement<T> statement, List<T> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp batchTimestamp = Timestamp.valueOf(LocalDateTime.now(clock));
+        int start = 0;
+        while (start < rows.size()) {
+            int chunkSize = chunkSizeTuner.chunkSize(statement.tableName(), statement.columnCount());
+            int end = Math.min(start + chunkSize, rows.size());
+
+            insertChunk(statement, rows.subList(start, end), batchTimestamp);
+            start = end;
+        }
+    }
+
+    public <T> void update(String sql, List<T> rows, BulkRowBinder<T> rowBinder) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp batchTimestamp = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                rowBinder.bind(new BulkStatementParameters(preparedStatement, batchTimestamp), rows.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    public void deleteAllById(String tableName, List<Long> ids) {
+        int start = 0;
+        while (start < ids.size()) {
+            int chunkSize = chunkSizeTuner.chunkSize(tableName, 1);
+            int end = Math.min(start + chunkSize, ids.size());
+            List<Long> chunk = ids.subList(start, end);
+
+            String sql = "DELETE FROM " + tableName + " WHERE id IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.update(sql, chunk.toArray());
+            start = end;
+        }
+    }
+
+    private <T> void insertChunk(BulkInsertStatement<T> statement, List<T> chunk, Timestamp batchTimestamp) {
+        long startedAt = clock.millis();
+
+        jdbcTemplate.update(statement.toSql(chunk.size()), preparedStatement -> {
+            BulkStatementParameters parameters = new BulkStatementParameters(preparedStatement, batchTimestamp);
+            for (T row : chunk) {
+                statement.rowBinder().bind(parameters, row);
+            }
+        });
+
+        chunkSizeTuner.record(
+                statement.tableName(),
+                statement.columnCount(),
+                chunk.size(),
+                clock.millis() - startedAt
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.prism.statistics.infrastructure.common;
+
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface BulkRowBinder<T> {
+
+    void bind(BulkStatementParameters parameters, T row) throws SQLException;
+}
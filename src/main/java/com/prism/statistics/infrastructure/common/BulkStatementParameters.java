@@ -0,0 +1,55 @@
+package com.prism.statistics.infrastructure.common;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+public class BulkStatementParameters {
+
+    private final PreparedStatement preparedStatement;
+    private final Timestamp batchTimestamp;
+    private int index;
+
+    BulkStatementParameters(PreparedStatement preparedStatement, Timestamp batchTimestamp) {
+        this.preparedStatement = preparedStatement;
+        this.batchTimestamp = batchTimestamp;
+    }
+
+    public BulkStatementParameters setLong(Long value) throws SQLException {
+        preparedStatement.setObject(++index, value, Types.BIGINT);
+        return this;
+    }
+
+    public BulkStatementParameters setInt(int value) throws SQLException {
+        preparedStatement.setInt(++index, value);
+        return this;
+    }
+
+    public BulkStatementParameters setBoolean(boolean value) throws SQLException {
+        preparedStatement.setBoolean(++index, value);
+        return this;
+    }
+
+    public BulkStatementParameters setBigDecimal(BigDecimal value) throws SQLException {
+        preparedStatement.setBigDecimal(++index, value);
+        return this;
+    }
+
+    public BulkStatementParameters setString(String value) throws SQLException {
+        preparedStatement.setObject(++index, value, Types.VARCHAR);
+        return this;
+    }
+
+    public BulkStatementParameters setTimestamp(LocalDateTime value) throws SQLException {
+        preparedStatement.setObject(++index, value == null ? null : Timestamp.valueOf(value), Types.TIMESTAMP);
+        return this;
+    }
+
+    public BulkStatementParameters setBatchTimestamp() throws SQLException {
+        preparedStatement.setTimestamp(++index, batchTimestamp);
+        return this;
+    }
+}
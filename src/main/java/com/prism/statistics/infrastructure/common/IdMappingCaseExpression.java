@@ -0,0 +1,31 @@
+package com.prism.statistics.infrastructure.common;
+
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.util.Map;
+
+public final class IdMappingCaseExpression {
+
+    private IdMappingCaseExpression() {
+    }
+
+    public static NumberExpression<Long> of(
+            NumberPath<Long> sourceId,
+            Map<Long, Long> targetIdsBySourceId,
+            NumberPath<Long> targetId
+    ) {
+        if (targetIdsBySourceId.isEmpty()) {
+            throw new IllegalArgumentException("연결할 ID가 비어 있습니다.");
+        }
+
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<Long, Long> entry : targetIdsBySourceId.entrySet()) {
+            cases = cases == null
+                    ? new CaseBuilder().when(sourceId.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(sourceId.eq(entry.getKey())).then(entry.getValue());
+        }
+
+        return cases.otherwise(targetId);
+    }
+}
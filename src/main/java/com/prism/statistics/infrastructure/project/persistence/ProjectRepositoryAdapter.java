@@ -35,6 +35,19 @@ public class ProjectRepositoryAdapter implements ProjectRepository {
         );
     }
 
+    @Override
+    public Optional<Project> findByIdAndUserId(Long projectId, Long userId) {
+        return Optional.ofNullable(
+                queryFactory
+                        .selectFrom(project)
+                        .where(
+                                project.id.eq(projectId),
+                                project.userId.eq(userId)
+                        )
+                        .fetchOne()
+        );
+    }
+
     @Override
     public List<Project> findAllProjectsByUserId(Long userId) {
         return jpaProjectRepository.findByUserId(userId);
@@ -0,0 +1,41 @@
+package com.prism.statistics.presentation.collect;
+
+import com.prism.statistics.application.collect.CollectBulkImportService;
+import com.prism.statistics.application.collect.dto.response.CollectBulkImportJobResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/collect/import")
+@RequiredArgsConstructor
+public class CollectBulkImportController {
+
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private final CollectBulkImportService collectBulkImportService;
+
+    @PostMapping(consumes = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<CollectBulkImportJobResponse> importArchive(
+            @RequestHeader("X-API-Key") String apiKey,
+            @RequestBody String archive
+    ) {
+        CollectBulkImportJobResponse response = collectBulkImportService.importArchive(apiKey, archive);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<CollectBulkImportJobResponse> findImportJob(
+            @RequestHeader("X-API-Key") String apiKey,
+            @PathVariable String jobId
+    ) {
+        CollectBulkImportJobResponse response = collectBulkImportService.findJob(apiKey, jobId);
+        return ResponseEntity.ok(response);
+    }
+}
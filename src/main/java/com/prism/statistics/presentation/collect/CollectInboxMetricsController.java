@@ -0,0 +1,24 @@
+package com.prism.statistics.presentation.collect;
+
+import com.prism.statistics.application.collect.CollectInboxMetricsService;
+import com.prism.statistics.application.collect.dto.response.CollectInboxMetricsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/collect/inbox")
+@RequiredArgsConstructor
+public class CollectInboxMetricsController {
+
+    private final CollectInboxMetricsService collectInboxMetricsService;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<CollectInboxMetricsResponse> findMetrics(@RequestHeader("X-API-Key") String apiKey) {
+        CollectInboxMetricsResponse response = collectInboxMetricsService.findMetrics(apiKey);
+        return ResponseEntity.ok(response);
+    }
+}
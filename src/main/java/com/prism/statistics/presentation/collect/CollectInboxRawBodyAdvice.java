@@ -0,0 +1,57 @@
+package com.prism.statistics.presentation.collect;
+
+import com.prism.statistics.application.collect.inbox.CollectInboxRawPayloadContext;
+import com.prism.statistics.application.collect.inbox.CollectInboxRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+@ControllerAdvice(basePackages = "com.prism.statistics.presentation.collect")
+@RequiredArgsConstructor
+public class CollectInboxRawBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private final CollectInboxRawPayloadContext rawPayloadContext;
+
+    @Override
+    public boolean supports(
+            MethodParameter methodParameter,
+            Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        return CollectInboxRequest.class.isAssignableFrom(methodParameter.getParameterType());
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(
+            HttpInputMessage inputMessage,
+            MethodParameter parameter,
+            Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType
+    ) throws IOException {
+        byte[] rawBody = inputMessage.getBody().readAllBytes();
+        rawPayloadContext.bind(rawBody);
+
+        return new CapturedHttpInputMessage(inputMessage.getHeaders(), rawBody);
+    }
+
+    private record CapturedHttpInputMessage(HttpHeaders headers, byte[] rawBody) implements HttpInputMessage {
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(rawBody);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.prism.statistics.presentation.collect;
+
+import com.prism.statistics.application.collect.inbox.CollectInboxRawPayloadContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class CollectInboxRawPayloadClearInterceptor implements HandlerInterceptor {
+
+    private final CollectInboxRawPayloadContext rawPayloadContext;
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex
+    ) {
+        rawPayloadContext.clear();
+    }
+}
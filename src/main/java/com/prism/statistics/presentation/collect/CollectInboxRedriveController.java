@@ -0,0 +1,65 @@
+package com.prism.statistics.presentation.collect;
+
+import com.prism.statistics.application.collect.CollectInboxRedriveService;
+import com.prism.statistics.application.collect.dto.request.CollectInboxRedriveRequest;
+import com.prism.statistics.application.collect.dto.response.CollectInboxRedriveCountResponse;
+import com.prism.statistics.application.collect.dto.response.CollectInboxRedriveJobResponse;
+import com.prism.statistics.global.auth.AuthUserId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/projects/{projectId}/collect-inbox/redrive")
+@RequiredArgsConstructor
+public class CollectInboxRedriveController {
+
+    private final CollectInboxRedriveService collectInboxRedriveService;
+
+    @PostMapping("/dry-run")
+    public ResponseEntity<CollectInboxRedriveCountResponse> countRedriveTargets(
+            @PathVariable Long projectId,
+            @RequestBody CollectInboxRedriveRequest request,
+            AuthUserId authUserId
+    ) {
+        CollectInboxRedriveCountResponse response = collectInboxRedriveService.count(
+                authUserId.userId(),
+                projectId,
+                request
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping
+    public ResponseEntity<CollectInboxRedriveJobResponse> redrive(
+            @PathVariable Long projectId,
+            @RequestBody CollectInboxRedriveRequest request,
+            AuthUserId authUserId
+    ) {
+        CollectInboxRedriveJobResponse response = collectInboxRedriveService.redrive(
+                authUserId.userId(),
+                projectId,
+                request
+        );
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<CollectInboxRedriveJobResponse> findRedriveJob(
+            @PathVariable Long projectId,
+            @PathVariable String jobId,
+            AuthUserId authUserId
+    ) {
+        CollectInboxRedriveJobResponse response = collectInboxRedriveService.findJob(
+                authUserId.userId(),
+                projectId,
+                jobId
+        );
+        return ResponseEntity.ok(response);
+    }
+}
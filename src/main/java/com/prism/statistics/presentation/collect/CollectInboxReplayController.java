@@ -0,0 +1,29 @@
+package com.prism.statistics.presentation.collect;
+
+import com.prism.statistics.application.collect.CollectInboxReplayService;
+import com.prism.statistics.application.collect.dto.request.CollectInboxReplayRequest;
+import com.prism.statistics.application.collect.dto.response.CollectInboxReplayResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/collect")
+@RequiredArgsConstructor
+public class CollectInboxReplayController {
+
+    private final CollectInboxReplayService collectInboxReplayService;
+
+    @PostMapping("/replay")
+    public ResponseEntity<CollectInboxReplayResponse> replayEvents(
+            @RequestHeader("X-API-Key") String apiKey,
+            @RequestBody CollectInboxReplayRequest request
+    ) {
+        CollectInboxReplayResponse response = collectInboxReplayService.replay(apiKey, request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -24,6 +24,6 @@ public class PullRequestClosedController {
             @RequestBody PullRequestClosedRequest request
     ) {
         projectIdResolvingFacade.closePullRequest(apiKey, request);
-        return ResponseEntityConst.NO_CONTENT;
+        return ResponseEntityConst.ACCEPTED;
     }
 }
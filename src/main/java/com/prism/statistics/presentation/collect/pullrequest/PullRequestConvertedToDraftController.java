@@ -24,6 +24,6 @@ public class PullRequestConvertedToDraftController {
             @RequestBody PullRequestConvertedToDraftRequest request
     ) {
         projectIdResolvingFacade.convertToDraft(apiKey, request);
-        return ResponseEntityConst.NO_CONTENT;
+        return ResponseEntityConst.ACCEPTED;
     }
 }
@@ -24,6 +24,6 @@ public class PullRequestOpenedController {
             @RequestBody PullRequestOpenedRequest request
     ) {
         projectIdResolvingFacade.createPullRequest(apiKey, request);
-        return ResponseEntityConst.NO_CONTENT;
+        return ResponseEntityConst.ACCEPTED;
     }
 }
@@ -24,6 +24,6 @@ public class PullRequestReadyForReviewController {
             @RequestBody PullRequestReadyForReviewRequest request
     ) {
         projectIdResolvingFacade.readyForReview(apiKey, request);
-        return ResponseEntityConst.NO_CONTENT;
+        return ResponseEntityConst.ACCEPTED;
     }
 }
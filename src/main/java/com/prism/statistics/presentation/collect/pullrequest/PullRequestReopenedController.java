@@ -24,6 +24,6 @@ public class PullRequestReopenedController {
             @RequestBody PullRequestReopenedRequest request
     ) {
         projectIdResolvingFacade.reopenPullRequest(apiKey, request);
-        return ResponseEntityConst.NO_CONTENT;
+        return ResponseEntityConst.ACCEPTED;
     }
 }
@@ -25,8 +25,8 @@ public class PullRequestSynchronizedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody PullRequestSynchronizedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        pullRequestSynchronizedService.synchronizePullRequest(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        pullRequestSynchronizedService.synchronizePullRequest(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
@@ -25,8 +25,8 @@ public class PullRequestLabelAddedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody PullRequestLabelAddedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        pullRequestLabelAddedService.addPullRequestLabel(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        pullRequestLabelAddedService.addPullRequestLabel(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
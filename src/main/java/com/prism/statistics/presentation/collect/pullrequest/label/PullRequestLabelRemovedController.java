@@ -25,8 +25,8 @@ public class PullRequestLabelRemovedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody PullRequestLabelRemovedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        pullRequestLabelRemovedService.removePullRequestLabel(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        pullRequestLabelRemovedService.removePullRequestLabel(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
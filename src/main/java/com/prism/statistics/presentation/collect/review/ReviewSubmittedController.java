@@ -25,8 +25,8 @@ public class ReviewSubmittedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody ReviewSubmittedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        reviewSubmittedService.submitReview(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        reviewSubmittedService.submitReview(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
@@ -25,8 +25,8 @@ public class ReviewCommentCreatedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody ReviewCommentCreatedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        reviewCommentCreatedService.createReviewComment(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        reviewCommentCreatedService.createReviewComment(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
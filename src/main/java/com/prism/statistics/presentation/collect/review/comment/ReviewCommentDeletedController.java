@@ -25,8 +25,8 @@ public class ReviewCommentDeletedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody ReviewCommentDeletedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        reviewCommentDeletedService.deleteReviewComment(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        reviewCommentDeletedService.deleteReviewComment(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
@@ -25,8 +25,8 @@ public class ReviewCommentEditedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody ReviewCommentEditedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        reviewCommentEditedService.editReviewComment(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        reviewCommentEditedService.editReviewComment(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
@@ -25,8 +25,8 @@ public class ReviewerAddedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody ReviewerAddedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        reviewerAddedService.addReviewer(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        reviewerAddedService.addReviewer(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
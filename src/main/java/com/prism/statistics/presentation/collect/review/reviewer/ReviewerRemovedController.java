@@ -25,8 +25,8 @@ public class ReviewerRemovedController {
             @RequestHeader("X-API-Key") String apiKey,
             @RequestBody ReviewerRemovedRequest request
     ) {
-        projectApiKeyService.validateApiKey(apiKey);
-        reviewerRemovedService.removeReviewer(request);
-        return ResponseEntityConst.NO_CONTENT;
+        Long projectId = projectApiKeyService.resolveProjectId(apiKey);
+        reviewerRemovedService.removeReviewer(projectId, request);
+        return ResponseEntityConst.ACCEPTED;
     }
 }
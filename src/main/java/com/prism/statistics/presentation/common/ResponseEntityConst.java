@@ -8,4 +8,5 @@ import org.springframework.http.ResponseEntity;
 public final class ResponseEntityConst {
 
     public static final ResponseEntity<Void> NO_CONTENT = ResponseEntity.noContent().build();
+    public static final ResponseEntity<Void> ACCEPTED = ResponseEntity.accepted().build();
 }
@@ -4,12 +4,14 @@ import com.prism.statistics.application.project.ProjectService;
 import com.prism.statistics.application.project.dto.request.CreateProjectRequest;
 import com.prism.statistics.application.project.dto.response.CreateProjectResponse;
 import com.prism.statistics.application.project.dto.response.ProjectListResponse;
+import com.prism.statistics.application.project.dto.response.RotateProjectApiKeyResponse;
 import com.prism.statistics.global.auth.AuthUserId;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -38,4 +40,13 @@ public class ProjectController {
         ProjectListResponse response = projectService.find(authUserId.userId());
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/{projectId}/api-key")
+    public ResponseEntity<RotateProjectApiKeyResponse> rotateApiKey(
+            @PathVariable Long projectId,
+            AuthUserId authUserId
+    ) {
+        RotateProjectApiKeyResponse response = projectService.rotateApiKey(authUserId.userId(), projectId);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,114 @@
+package com.prism.statistics.application.analysis.insight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.PullRequestState;
+import com.prism.statistics.global.config.properties.DeferredInsightProperties;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DeferredInsightDeriverTest {
+
+    @Mock
+    PullRequestMetricsService pullRequestMetricsService;
+
+    @Mock
+    ReviewActivityMetricsService reviewActivityMetricsService;
+
+    @Mock
+    PullRequestClosureMetricsService closureMetricsService;
+
+    @Test
+    void 미뤄둔_인사이트를_묶음_크기만큼_나눠_한_번에_도출한다() {
+        // given
+        DeferredInsightDeriver deriver = createDeriver(2);
+        DeferredInsights deferredInsights = new DeferredInsights();
+        deferredInsights.addPullRequestMetrics(new PullRequestMetricsEvent(1L));
+        deferredInsights.addPullRequestMetrics(new PullRequestMetricsEvent(2L));
+        deferredInsights.addPullRequestMetrics(new PullRequestMetricsEvent(3L));
+        deferredInsights.addReviewActivity(new ReviewActivityEvent(10L));
+        PullRequestClosureMetricsEvent closure = new PullRequestClosureMetricsEvent(
+                1L,
+                PullRequestState.MERGED,
+                LocalDateTime.of(2024, 1, 16, 10, 0)
+        );
+        deferredInsights.addClosureMetrics(closure);
+
+        // when
+        DeferredInsightReport actual = deriver.derive(deferredInsights);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(new DeferredInsightReport(5, 0)),
+                () -> verify(pullRequestMetricsService).deriveAllMetrics(List.of(1L, 2L)),
+                () -> verify(pullRequestMetricsService).deriveAllMetrics(List.of(3L)),
+                () -> verify(reviewActivityMetricsService).deriveAllMetrics(List.of(10L)),
+                () -> verify(closureMetricsService).deriveAllClosureMetrics(List.of(closure)),
+                () -> verify(pullRequestMetricsService, never()).deriveMetrics(any())
+        );
+    }
+
+    @Test
+    void 묶음_도출에_실패하면_해당_묶음만_건별로_다시_도출하고_실패한_건수를_집계한다() {
+        // given
+        DeferredInsightDeriver deriver = createDeriver(10);
+        DeferredInsights deferredInsights = new DeferredInsights();
+        deferredInsights.addReviewActivity(new ReviewActivityEvent(10L));
+        deferredInsights.addReviewActivity(new ReviewActivityEvent(20L));
+        willThrow(new IllegalStateException("DB 오류"))
+                .given(reviewActivityMetricsService).deriveAllMetrics(anyCollection());
+        willThrow(new IllegalStateException("DB 오류"))
+                .given(reviewActivityMetricsService).deriveMetrics(20L);
+
+        // when
+        DeferredInsightReport actual = deriver.derive(deferredInsights);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(new DeferredInsightReport(1, 1)),
+                () -> verify(reviewActivityMetricsService).deriveMetrics(10L),
+                () -> verify(reviewActivityMetricsService).deriveMetrics(20L)
+        );
+    }
+
+    @Test
+    void 미뤄둔_인사이트가_없으면_아무것도_도출하지_않는다() {
+        // given
+        DeferredInsightDeriver deriver = createDeriver(10);
+
+        // when
+        DeferredInsightReport actual = deriver.derive(new DeferredInsights());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(new DeferredInsightReport(0, 0)),
+                () -> verify(pullRequestMetricsService, never()).deriveAllMetrics(anyCollection()),
+                () -> verify(reviewActivityMetricsService, never()).deriveAllMetrics(anyCollection()),
+                () -> verify(closureMetricsService, never()).deriveAllClosureMetrics(anyCollection())
+        );
+    }
+
+    private DeferredInsightDeriver createDeriver(int chunkSize) {
+        return new DeferredInsightDeriver(
+                new DeferredInsightProperties(chunkSize),
+                pullRequestMetricsService,
+                reviewActivityMetricsService,
+                closureMetricsService
+        );
+    }
+}
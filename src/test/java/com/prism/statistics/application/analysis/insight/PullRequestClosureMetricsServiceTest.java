@@ -225,9 +225,93 @@ class PullRequestClosureMetricsServiceTest {
         assertThat(updated.getMergeWait()).isNotNull();
     }
 
+    @Test
+    void 여러_PR의_closure_메트릭을_한_번에_생성하면_PR별로_lifecycle과_reviewActivity가_저장된다() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+        LocalDateTime mergedAt = LocalDateTime.of(2024, 1, 16, 14, 30);
+        LocalDateTime closedAt = LocalDateTime.of(2024, 1, 16, 10, 0);
+        PullRequest mergedPullRequest = createAndSavePullRequest(createdAt);
+        createAndSaveReview(mergedPullRequest);
+        PullRequest closedPullRequest = createAndSavePullRequest(67890L, createdAt);
+        PullRequest openPullRequest = createAndSavePullRequest(13579L, createdAt);
+
+        PullRequestBottleneck bottleneck = PullRequestBottleneck.createOnFirstReview(
+                mergedPullRequest.getId(),
+                createdAt,
+                LocalDateTime.of(2024, 1, 15, 12, 0),
+                true
+        );
+        pullRequestBottleneckRepository.save(bottleneck);
+
+        // when
+        closureMetricsService.deriveAllClosureMetrics(List.of(
+                new PullRequestClosureMetricsEvent(mergedPullRequest.getId(), PullRequestState.MERGED, mergedAt),
+                new PullRequestClosureMetricsEvent(closedPullRequest.getId(), PullRequestState.CLOSED, closedAt),
+                new PullRequestClosureMetricsEvent(openPullRequest.getId(), PullRequestState.OPEN, closedAt)
+        ));
+
+        // then
+        List<PullRequestLifecycle> lifecycles = lifecycleRepository.findAll();
+        List<ReviewActivity> activities = reviewActivityRepository.findAll();
+        PullRequestBottleneck updated = pullRequestBottleneckRepository
+                .findByPullRequestId(mergedPullRequest.getId())
+                .orElseThrow();
+
+        assertAll(
+                () -> assertThat(lifecycles)
+                        .hasSize(2)
+                        .anySatisfy(lifecycle -> assertAll(
+                                () -> assertThat(lifecycle.getPullRequestId()).isEqualTo(mergedPullRequest.getId()),
+                                () -> assertThat(lifecycle.isMerged()).isTrue(),
+                                () -> assertThat(lifecycle.getTimeToMerge().getMinutes()).isEqualTo(1710L)
+                        ))
+                        .anySatisfy(lifecycle -> assertAll(
+                                () -> assertThat(lifecycle.getPullRequestId()).isEqualTo(closedPullRequest.getId()),
+                                () -> assertThat(lifecycle.isMerged()).isFalse(),
+                                () -> assertThat(lifecycle.isClosedWithoutReview()).isTrue()
+                        )),
+                () -> assertThat(activities)
+                        .hasSize(2)
+                        .anySatisfy(activity -> assertAll(
+                                () -> assertThat(activity.getPullRequestId()).isEqualTo(mergedPullRequest.getId()),
+                                () -> assertThat(activity.getTotalCommentCount()).isEqualTo(3)
+                        ))
+                        .anySatisfy(activity -> assertAll(
+                                () -> assertThat(activity.getPullRequestId()).isEqualTo(closedPullRequest.getId()),
+                                () -> assertThat(activity.hasReviewActivity()).isFalse()
+                        )),
+                () -> assertThat(updated.isMerged()).isTrue()
+        );
+    }
+
+    @Test
+    void 이미_reviewActivity가_있는_PR은_한_번에_생성할_때_다시_저장하지_않는다() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+        LocalDateTime closedAt = LocalDateTime.of(2024, 1, 16, 10, 0);
+        PullRequest savedPullRequest = createAndSavePullRequest(createdAt);
+        closureMetricsService.deriveClosureMetrics(savedPullRequest.getId(), PullRequestState.CLOSED, closedAt);
+
+        // when
+        closureMetricsService.deriveAllClosureMetrics(List.of(
+                new PullRequestClosureMetricsEvent(savedPullRequest.getId(), PullRequestState.CLOSED, closedAt)
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(lifecycleRepository.findAll()).hasSize(1),
+                () -> assertThat(reviewActivityRepository.findAll()).hasSize(1)
+        );
+    }
+
     private PullRequest createAndSavePullRequest(LocalDateTime createdAt) {
+        return createAndSavePullRequest(12345L, createdAt);
+    }
+
+    private PullRequest createAndSavePullRequest(Long githubPullRequestId, LocalDateTime createdAt) {
         PullRequest pullRequest = PullRequest.builder()
-                .githubPullRequestId(12345L)
+                .githubPullRequestId(githubPullRequestId)
                 .projectId(10L)
                 .author(GithubUser.create("testuser", 1L))
                 .pullRequestNumber(1)
@@ -157,9 +157,76 @@ class PullRequestMetricsServiceTest {
                 ));
     }
 
+    @Test
+    void 여러_PR의_메트릭을_한_번에_생성하면_PR별_파생_지표가_저장되고_기존_크기는_갱신된다() {
+        // given
+        PullRequest firstPullRequest = createAndSavePullRequest();
+        createAndSavePullRequestFiles(firstPullRequest.getId());
+        metricsService.deriveMetrics(firstPullRequest.getId());
+        changeSummaryRepository.deleteAll();
+        commitDensityRepository.deleteAll();
+        fileChangeRepository.deleteAll();
+
+        firstPullRequest.synchronize(
+                "def456",
+                PullRequestChangeStats.create(4, 20, 8),
+                6
+        );
+        pullRequestRepository.save(firstPullRequest);
+        PullRequest secondPullRequest = createAndSavePullRequest(67890L);
+
+        // when
+        metricsService.deriveAllMetrics(List.of(firstPullRequest.getId(), secondPullRequest.getId()));
+
+        // then
+        List<PullRequestOpenedChangeSummary> changeSummaries = changeSummaryRepository.findAll();
+        List<PullRequestOpenedCommitDensity> commitDensities = commitDensityRepository.findAll();
+        List<PullRequestOpenedFileChange> fileChanges = fileChangeRepository.findAll();
+        List<PullRequestSize> pullRequestSizes = pullRequestSizeRepository.findAll();
+
+        assertAll(
+                () -> assertThat(changeSummaries)
+                        .extracting(summary -> summary.getPullRequestId())
+                        .containsExactlyInAnyOrder(firstPullRequest.getId(), secondPullRequest.getId()),
+                () -> assertThat(commitDensities)
+                        .extracting(density -> density.getPullRequestId())
+                        .containsExactlyInAnyOrder(firstPullRequest.getId(), secondPullRequest.getId()),
+                () -> assertThat(fileChanges)
+                        .hasSize(2)
+                        .allSatisfy(item -> assertThat(item.getPullRequestId()).isEqualTo(firstPullRequest.getId())),
+                () -> assertThat(pullRequestSizes)
+                        .hasSize(2)
+                        .anySatisfy(size -> assertAll(
+                                () -> assertThat(size.getPullRequestId()).isEqualTo(firstPullRequest.getId()),
+                                () -> assertThat(size.getAdditionCount()).isEqualTo(20),
+                                () -> assertThat(size.getFileChangeDiversity()).isEqualByComparingTo(new BigDecimal("0.5"))
+                        ))
+                        .anySatisfy(size -> assertAll(
+                                () -> assertThat(size.getPullRequestId()).isEqualTo(secondPullRequest.getId()),
+                                () -> assertThat(size.getAdditionCount()).isEqualTo(10)
+                        ))
+        );
+    }
+
+    @Test
+    void 여러_PR의_메트릭을_한_번에_생성할_때_존재하지_않는_PR이_있으면_예외가_발생한다() {
+        // given
+        PullRequest savedPullRequest = createAndSavePullRequest();
+
+        // when & then
+        org.assertj.core.api.Assertions.assertThatThrownBy(() ->
+                metricsService.deriveAllMetrics(List.of(savedPullRequest.getId(), 999999L))
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("PullRequest not found");
+    }
+
     private PullRequest createAndSavePullRequest() {
+        return createAndSavePullRequest(12345L);
+    }
+
+    private PullRequest createAndSavePullRequest(Long githubPullRequestId) {
         PullRequest pullRequest = PullRequest.builder()
-                .githubPullRequestId(12345L)
+                .githubPullRequestId(githubPullRequestId)
                 .projectId(10L)
                 .author(GithubUser.create("testuser", 1L))
                 .pullRequestNumber(1)
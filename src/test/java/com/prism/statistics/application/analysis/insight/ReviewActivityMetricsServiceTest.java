@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.prism.statistics.application.IntegrationTest;
+import com.prism.statistics.domain.analysis.insight.bottleneck.PullRequestBottleneck;
 import com.prism.statistics.domain.analysis.insight.review.ReviewResponseTime;
 import com.prism.statistics.domain.analysis.insight.review.ReviewSession;
 import com.prism.statistics.domain.analysis.metadata.common.vo.GithubUser;
@@ -14,6 +15,7 @@ import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestT
 import com.prism.statistics.domain.analysis.metadata.review.Review;
 import com.prism.statistics.domain.analysis.metadata.review.enums.ReviewState;
 import com.prism.statistics.domain.analysis.metadata.review.exception.ReviewNotFoundException;
+import com.prism.statistics.infrastructure.analysis.insight.persistence.JpaPullRequestBottleneckRepository;
 import com.prism.statistics.infrastructure.analysis.insight.persistence.JpaReviewResponseTimeRepository;
 import com.prism.statistics.infrastructure.analysis.insight.persistence.JpaReviewSessionRepository;
 import com.prism.statistics.infrastructure.analysis.metadata.pullrequest.persistence.JpaPullRequestRepository;
@@ -45,6 +47,9 @@ class ReviewActivityMetricsServiceTest {
     @Autowired
     private JpaReviewResponseTimeRepository reviewResponseTimeRepository;
 
+    @Autowired
+    private JpaPullRequestBottleneckRepository pullRequestBottleneckRepository;
+
     @Test
     void APPROVED_리뷰가_제출되면_ReviewSession이_생성된다() {
         // given
@@ -273,6 +278,68 @@ class ReviewActivityMetricsServiceTest {
                 ));
     }
 
+    @Test
+    void 여러_리뷰의_메트릭을_한_번에_생성하면_리뷰_순서대로_세션과_응답_시간과_병목이_반영된다() {
+        // given
+        PullRequest savedPullRequest = createAndSavePullRequest();
+        LocalDateTime changesRequestedAt = LocalDateTime.of(2024, 1, 16, 10, 0);
+        LocalDateTime commentedAt = LocalDateTime.of(2024, 1, 16, 12, 0);
+        LocalDateTime approvedAt = LocalDateTime.of(2024, 1, 17, 14, 30);
+
+        Review changesRequestedReview = createAndSaveReview(
+                savedPullRequest, ReviewState.CHANGES_REQUESTED, 2, changesRequestedAt, 99999L
+        );
+        Review commentedReview = createAndSaveReview(
+                savedPullRequest, ReviewState.COMMENTED, 1, commentedAt, 88888L
+        );
+        Review approvedReview = createAndSaveReview(
+                savedPullRequest, ReviewState.APPROVED, 0, approvedAt, 77777L
+        );
+
+        // when
+        reviewActivityMetricsService.deriveAllMetrics(List.of(
+                changesRequestedReview.getGithubReviewId(),
+                commentedReview.getGithubReviewId(),
+                approvedReview.getGithubReviewId()
+        ));
+
+        // then
+        List<ReviewSession> sessions = reviewSessionRepository.findAll();
+        List<ReviewResponseTime> responseTimes = reviewResponseTimeRepository.findAll();
+        List<PullRequestBottleneck> bottlenecks = pullRequestBottleneckRepository.findAll();
+
+        assertAll(
+                () -> assertThat(sessions)
+                        .singleElement()
+                        .satisfies(session -> assertAll(
+                                () -> assertThat(session.getReviewCount()).isEqualTo(3),
+                                () -> assertThat(session.getFirstActivityAt()).isEqualTo(changesRequestedAt),
+                                () -> assertThat(session.getLastActivityAt()).isEqualTo(approvedAt)
+                        )),
+                () -> assertThat(responseTimes)
+                        .singleElement()
+                        .satisfies(responseTime -> assertAll(
+                                () -> assertThat(responseTime.isResolved()).isTrue(),
+                                () -> assertThat(responseTime.getChangesResolution().getMinutes()).isEqualTo(1710L)
+                        )),
+                () -> assertThat(bottlenecks)
+                        .singleElement()
+                        .satisfies(bottleneck -> assertThat(bottleneck.getPullRequestId()).isEqualTo(savedPullRequest.getId()))
+        );
+    }
+
+    @Test
+    void 여러_리뷰의_메트릭을_한_번에_생성할_때_존재하지_않는_리뷰가_있으면_예외가_발생한다() {
+        // given
+        PullRequest savedPullRequest = createAndSavePullRequest();
+        Review savedReview = createAndSaveReview(savedPullRequest, ReviewState.APPROVED, 3);
+
+        // when & then
+        org.assertj.core.api.Assertions.assertThatThrownBy(() ->
+                reviewActivityMetricsService.deriveAllMetrics(List.of(savedReview.getGithubReviewId(), 999999L))
+        ).isInstanceOf(ReviewNotFoundException.class);
+    }
+
     private PullRequest createAndSavePullRequest() {
         PullRequest pullRequest = PullRequest.builder()
                 .githubPullRequestId(12345L)
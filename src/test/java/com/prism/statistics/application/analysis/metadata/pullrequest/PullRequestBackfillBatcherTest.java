@@ -0,0 +1,227 @@
+package com.prism.statistics.application.analysis.metadata.pullrequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSavedEvent;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanLinkTarget;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanParentType;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanReconciler;
+import com.prism.statistics.global.config.properties.PullRequestBackfillProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@SuppressWarnings({"NonAsciiCharacters", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PullRequestBackfillBatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final long WINDOW_MS = 50L;
+
+    @Mock
+    PullRequestBackfiller pullRequestBackfiller;
+
+    @Mock
+    OrphanReconciler orphanReconciler;
+
+    @Mock
+    TaskScheduler backfillScheduler;
+
+    List<Runnable> scheduledTasks = new ArrayList<>();
+
+    @Test
+    void 대기_시간_뒤에_쌓인_이벤트를_한_묶음으로_backfill한다() {
+        // given
+        PullRequestBackfillBatcher batcher = createStartedBatcher(runnable -> runnable.run(), 10);
+
+        // when
+        batcher.submit(new PullRequestSavedEvent(100L, 1L));
+        batcher.submit(new PullRequestSavedEvent(200L, 2L));
+        runScheduledTasks();
+
+        // then
+        assertAll(
+                () -> verify(backfillScheduler).schedule(any(Runnable.class), eq(NOW.plusMillis(WINDOW_MS))),
+                () -> verify(pullRequestBackfiller).backfill(Map.of(100L, 1L, 200L, 2L))
+        );
+    }
+
+    @Test
+    void 대기_시간이_지나기_전에는_backfill하지_않는다() {
+        // given
+        PullRequestBackfillBatcher batcher = createStartedBatcher(runnable -> runnable.run(), 10);
+
+        // when
+        batcher.submit(new PullRequestSavedEvent(100L, 1L));
+
+        // then
+        assertAll(
+                () -> verify(backfillScheduler).schedule(any(Runnable.class), any(Instant.class)),
+                () -> verify(pullRequestBackfiller, never()).backfill(any())
+        );
+    }
+
+    @Test
+    void 묶음_크기를_넘는_이벤트는_여러_묶음으로_나누어_backfill한다() {
+        // given
+        PullRequestBackfillBatcher batcher = createStartedBatcher(runnable -> runnable.run(), 2);
+        ArgumentCaptor<Map<Long, Long>> batchCaptor = ArgumentCaptor.forClass(Map.class);
+
+        // when
+        batcher.submit(new PullRequestSavedEvent(100L, 1L));
+        batcher.submit(new PullRequestSavedEvent(200L, 2L));
+        batcher.submit(new PullRequestSavedEvent(300L, 3L));
+        runScheduledTasks();
+
+        // then
+        verify(pullRequestBackfiller, times(2)).backfill(batchCaptor.capture());
+        assertAll(
+                () -> assertThat(batchCaptor.getAllValues().get(0)).containsOnlyKeys(100L, 200L),
+                () -> assertThat(batchCaptor.getAllValues().get(1)).containsOnlyKeys(300L)
+        );
+    }
+
+    @Test
+    void 묶음을_처리한_뒤_들어온_이벤트는_새로_예약한다() {
+        // given
+        PullRequestBackfillBatcher batcher = createStartedBatcher(runnable -> runnable.run(), 10);
+
+        // when
+        batcher.submit(new PullRequestSavedEvent(100L, 1L));
+        runScheduledTasks();
+        batcher.submit(new PullRequestSavedEvent(200L, 2L));
+        runScheduledTasks();
+
+        // then
+        assertAll(
+                () -> verify(backfillScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class)),
+                () -> verify(pullRequestBackfiller).backfill(Map.of(100L, 1L)),
+                () -> verify(pullRequestBackfiller).backfill(Map.of(200L, 2L))
+        );
+    }
+
+    @Test
+    void 실행기가_작업을_거절하면_예약_스레드에서_backfill한다() {
+        // given
+        PullRequestBackfillBatcher batcher = createStartedBatcher(runnable -> {
+            throw new RejectedExecutionException("거절");
+        }, 10);
+
+        // when
+        batcher.submit(new PullRequestSavedEvent(100L, 1L));
+        runScheduledTasks();
+
+        // then
+        verify(pullRequestBackfiller).backfill(Map.of(100L, 1L));
+    }
+
+    @Test
+    void 중지하면_대기_중인_이벤트를_바로_backfill한다() {
+        // given
+        PullRequestBackfillBatcher batcher = createStartedBatcher(runnable -> runnable.run(), 10);
+        batcher.submit(new PullRequestSavedEvent(100L, 1L));
+
+        // when
+        batcher.stop();
+
+        // then
+        assertAll(
+                () -> assertThat(batcher.isRunning()).isFalse(),
+                () -> verify(pullRequestBackfiller).backfill(Map.of(100L, 1L))
+        );
+    }
+
+    @Test
+    void 중지된_뒤_들어온_이벤트는_현재_스레드에서_backfill한다() {
+        // given
+        PullRequestBackfillBatcher batcher = createBatcher(runnable -> runnable.run(), 10);
+        batcher.start();
+        batcher.stop();
+
+        // when
+        batcher.submit(new PullRequestSavedEvent(100L, 1L));
+
+        // then
+        assertAll(
+                () -> verify(backfillScheduler, never()).schedule(any(Runnable.class), any(Instant.class)),
+                () -> verify(pullRequestBackfiller).backfill(Map.of(100L, 1L))
+        );
+    }
+
+    @Test
+    void backfill이_실패하면_Pull_Request별로_고아_데이터_연결을_다시_시도한다() {
+        // given
+        PullRequestBackfillBatcher batcher = createStartedBatcher(runnable -> runnable.run(), 10);
+        given(pullRequestBackfiller.backfill(any())).willThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        batcher.submit(new PullRequestSavedEvent(100L, 1L));
+        batcher.submit(new PullRequestSavedEvent(200L, 2L));
+        runScheduledTasks();
+
+        // then
+        assertAll(
+                () -> verify(orphanReconciler).register(
+                        OrphanParentType.PULL_REQUEST,
+                        100L,
+                        OrphanLinkTarget.belongingTo(OrphanParentType.PULL_REQUEST)
+                ),
+                () -> verify(orphanReconciler).register(
+                        OrphanParentType.PULL_REQUEST,
+                        200L,
+                        OrphanLinkTarget.belongingTo(OrphanParentType.PULL_REQUEST)
+                )
+        );
+    }
+
+    private PullRequestBackfillBatcher createStartedBatcher(Executor executor, int maxBatchSize) {
+        given(backfillScheduler.schedule(any(Runnable.class), any(Instant.class))).willAnswer(invocation -> {
+            scheduledTasks.add(invocation.getArgument(0));
+            return null;
+        });
+
+        PullRequestBackfillBatcher batcher = createBatcher(executor, maxBatchSize);
+        batcher.start();
+
+        return batcher;
+    }
+
+    private PullRequestBackfillBatcher createBatcher(Executor executor, int maxBatchSize) {
+        return new PullRequestBackfillBatcher(
+                FIXED_CLOCK,
+                new PullRequestBackfillProperties(WINDOW_MS, maxBatchSize),
+                pullRequestBackfiller,
+                orphanReconciler,
+                backfillScheduler,
+                executor
+        );
+    }
+
+    private void runScheduledTasks() {
+        List<Runnable> tasks = List.copyOf(scheduledTasks);
+        scheduledTasks.clear();
+        tasks.forEach(task -> task.run());
+    }
+}
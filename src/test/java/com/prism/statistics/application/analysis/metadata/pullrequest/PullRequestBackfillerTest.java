@@ -0,0 +1,73 @@
+package com.prism.statistics.application.analysis.metadata.pullrequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.application.IntegrationTest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PullRequestBackfillerTest {
+
+    @Autowired
+    private PullRequestBackfiller pullRequestBackfiller;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Sql("/sql/pullrequest/insert_unlinked_pull_request_children.sql")
+    @Test
+    void 여러_Pull_Request의_하위_데이터를_한_트랜잭션에서_연결한다() {
+        // given
+        Map<Long, Long> pullRequestIds = new LinkedHashMap<>();
+        pullRequestIds.put(100L, 1L);
+        pullRequestIds.put(200L, 2L);
+
+        // when
+        long actual = pullRequestBackfiller.backfill(pullRequestIds);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(12L),
+                () -> assertThat(findPullRequestIds("pull_request_labels")).containsExactly(1L, 2L, null),
+                () -> assertThat(findPullRequestIds("pull_request_label_histories")).containsExactly(1L, 99L),
+                () -> assertThat(findPullRequestIds("requested_reviewers")).containsExactly(1L),
+                () -> assertThat(findPullRequestIds("requested_reviewer_histories")).containsExactly(2L),
+                () -> assertThat(findPullRequestIds("reviews")).containsExactly(1L, 2L),
+                () -> assertThat(findPullRequestIds("commits")).containsExactly(1L, 2L, null),
+                () -> assertThat(findPullRequestIds("pull_request_files")).containsExactly(1L, 99L),
+                () -> assertThat(findPullRequestIds("pull_request_content_histories")).containsExactly(2L),
+                () -> assertThat(findPullRequestIds("pull_request_file_histories")).containsExactly(1L)
+        );
+    }
+
+    @Sql("/sql/pullrequest/insert_unlinked_pull_request_children.sql")
+    @Test
+    void 연결할_Pull_Request가_없으면_아무것도_갱신하지_않는다() {
+        // when
+        long actual = pullRequestBackfiller.backfill(Map.of());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isZero(),
+                () -> assertThat(findPullRequestIds("reviews")).containsOnlyNulls()
+        );
+    }
+
+    private List<Long> findPullRequestIds(String tableName) {
+        return jdbcTemplate.queryForList(
+                "SELECT pull_request_id FROM " + tableName + " ORDER BY id",
+                Long.class
+        );
+    }
+}
@@ -52,7 +52,7 @@ class PullRequestLabelAddedServiceTest {
         PullRequestLabelAddedRequest request = createLabelAddedRequest("bug");
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(1L, request));
 
         // then
         assertAll(
@@ -69,7 +69,7 @@ class PullRequestLabelAddedServiceTest {
         PullRequestLabelAddedRequest request = createLabelAddedRequest(labelName);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(1L, request));
 
         // then
         PullRequestLabel pullRequestLabel = jpaPullRequestLabelRepository.findAll().getFirst();
@@ -89,7 +89,7 @@ class PullRequestLabelAddedServiceTest {
         PullRequestLabelAddedRequest request = createLabelAddedRequest(labelName);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(1L, request));
 
         // then
         PullRequestLabelHistory pullRequestLabelHistory = jpaPullRequestLabelHistoryRepository.findAll().getFirst();
@@ -108,8 +108,8 @@ class PullRequestLabelAddedServiceTest {
         PullRequestLabelAddedRequest request = createLabelAddedRequest(labelName);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(request));
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(1L, request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(1L, request));
 
         // then
         assertAll(
@@ -125,7 +125,7 @@ class PullRequestLabelAddedServiceTest {
         PullRequestLabelAddedRequest request = createLabelAddedRequest("bug");
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(1L, request));
 
         // then
         PullRequestLabel pullRequestLabel = jpaPullRequestLabelRepository.findAll().getFirst();
@@ -159,7 +159,7 @@ class PullRequestLabelAddedServiceTest {
                         throw new IllegalStateException("시작 대기 중 인터럽트 발생", e);
                     }
                     // when
-                    processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(request));
+                    processingSourceContext.withInboxProcessing(() -> pullRequestLabelAddedService.addPullRequestLabel(1L, request));
                     return null;
                 }));
             }
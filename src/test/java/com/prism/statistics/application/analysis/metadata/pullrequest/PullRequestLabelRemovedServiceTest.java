@@ -51,7 +51,7 @@ class PullRequestLabelRemovedServiceTest {
         PullRequestLabelRemovedRequest request = createLabelRemovedRequest("bug");
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(1L, request));
 
         // then
         assertAll(
@@ -68,7 +68,7 @@ class PullRequestLabelRemovedServiceTest {
         PullRequestLabelRemovedRequest request = createLabelRemovedRequest(labelName);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(1L, request));
 
         // then
         PullRequestLabelHistory pullRequestLabelHistory = jpaPullRequestLabelHistoryRepository.findAll().getFirst();
@@ -86,7 +86,7 @@ class PullRequestLabelRemovedServiceTest {
         PullRequestLabelRemovedRequest request = createLabelRemovedRequest("non-existent-label");
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(1L, request));
 
         // then
         assertAll(
@@ -102,8 +102,8 @@ class PullRequestLabelRemovedServiceTest {
         PullRequestLabelRemovedRequest request = createLabelRemovedRequest("bug");
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(request));
-        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(1L, request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(1L, request));
 
         // then
         assertAll(
@@ -135,7 +135,7 @@ class PullRequestLabelRemovedServiceTest {
                         throw new IllegalStateException("시작 대기 중 인터럽트 발생", e);
                     }
                     // when
-                    processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(request));
+                    processingSourceContext.withInboxProcessing(() -> pullRequestLabelRemovedService.removePullRequestLabel(1L, request));
                     return null;
                 }));
             }
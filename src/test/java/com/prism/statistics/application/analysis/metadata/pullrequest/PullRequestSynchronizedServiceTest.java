@@ -8,16 +8,26 @@ import com.prism.statistics.application.analysis.metadata.pullrequest.dto.reques
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest.FileData;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestEarlySynchronizedEvent;
 import com.prism.statistics.application.analysis.metadata.pullrequest.event.PullRequestSynchronizedEvent;
+import com.prism.statistics.application.analysis.metadata.utils.LocalDateTimeConverter;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequest;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.PullRequestFile;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
 import com.prism.statistics.domain.analysis.metadata.pullrequest.exception.HeadCommitNotFoundException;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.history.PullRequestFileSnapshot;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestRepository;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.PullRequestChangeStats;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.FileChanges;
 import com.prism.statistics.infrastructure.analysis.metadata.pullrequest.persistence.*;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.event.ApplicationEvents;
 import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.List;
@@ -57,9 +67,24 @@ class PullRequestSynchronizedServiceTest {
     @Autowired
     private JpaPullRequestFileHistoryRepository jpaPullRequestFileHistoryRepository;
 
+    @Autowired
+    private PullRequestFileSnapshotReader pullRequestFileSnapshotReader;
+
+    @Autowired
+    private LocalDateTimeConverter localDateTimeConverter;
+
     @Autowired
     private ApplicationEvents applicationEvents;
 
+    @Autowired
+    private PullRequestRepository pullRequestRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Sql("/sql/webhook/insert_project_pr_commits_and_files.sql")
     @Test
     void synchronize_이벤트를_처리하면_PullRequestSynchronizedEvent가_발행된다() {
@@ -67,7 +92,7 @@ class PullRequestSynchronizedServiceTest {
         PullRequestSynchronizedRequest request = createNewerRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
 
         // then
         long eventCount = applicationEvents.stream(PullRequestSynchronizedEvent.class).count();
@@ -81,7 +106,7 @@ class PullRequestSynchronizedServiceTest {
         PullRequestSynchronizedRequest request = createNewerRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
 
         // then
         PullRequest pullRequest = jpaPullRequestRepository.findAll().getFirst();
@@ -99,18 +124,56 @@ class PullRequestSynchronizedServiceTest {
     void 오래된_데이터면_PR_엔티티가_업데이트되지_않는다() {
         // given
         PullRequestSynchronizedRequest newerRequest = createNewerRequest();
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(newerRequest));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, newerRequest));
 
         PullRequestSynchronizedRequest olderRequest = createOlderRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(olderRequest));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, olderRequest));
 
         // then
         PullRequest pullRequest = jpaPullRequestRepository.findAll().getFirst();
         assertThat(pullRequest.getHeadCommitSha()).isEqualTo("sha3");
     }
 
+    @Sql("/sql/webhook/insert_project_pr_commits_and_files.sql")
+    @Test
+    void 오래된_데이터여도_PR_버전은_증가한다() {
+        // given
+        PullRequestSynchronizedRequest newerRequest = createNewerRequest();
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, newerRequest));
+        Long previousVersion = jpaPullRequestRepository.findAll().getFirst().getVersion();
+
+        PullRequestSynchronizedRequest olderRequest = createOlderRequest();
+
+        // when
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, olderRequest));
+
+        // then
+        PullRequest pullRequest = jpaPullRequestRepository.findAll().getFirst();
+        assertAll(
+                () -> assertThat(pullRequest.getHeadCommitSha()).isEqualTo("sha3"),
+                () -> assertThat(pullRequest.getVersion()).isGreaterThan(previousVersion)
+        );
+    }
+
+    @Sql("/sql/webhook/insert_project_pr_commits_and_files.sql")
+    @Test
+    void 조회_이후_다른_작업이_PR을_수정했으면_head_갱신이_동시_수정_충돌로_실패한다() {
+        // given
+        PullRequestChangeStats changeStats = PullRequestChangeStats.create(16, 205, 82);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                    PullRequest pullRequest = pullRequestRepository.findByGithubId(TEST_GITHUB_PULL_REQUEST_ID).orElseThrow();
+                    jdbcTemplate.update("UPDATE pull_requests SET version = version + 1 WHERE id = ?", pullRequest.getId());
+                    pullRequestRepository.synchronizeHead(pullRequest, "sha3", changeStats, 3);
+                })).isInstanceOf(OptimisticLockingFailureException.class),
+                () -> assertThat(jpaPullRequestRepository.findAll().getFirst().getHeadCommitSha()).isNotEqualTo("sha3")
+        );
+    }
+
     @Sql("/sql/webhook/insert_project_pr_commits_and_files.sql")
     @Test
     void 새_커밋만_저장되고_기존_커밋은_중복_저장되지_않는다() {
@@ -118,7 +181,7 @@ class PullRequestSynchronizedServiceTest {
         PullRequestSynchronizedRequest request = createNewerRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
 
         // then
         assertThat(jpaCommitRepository.count()).isEqualTo(3);
@@ -131,7 +194,7 @@ class PullRequestSynchronizedServiceTest {
         PullRequestSynchronizedRequest request = createNewerRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
 
         // then
         assertAll(
@@ -143,17 +206,43 @@ class PullRequestSynchronizedServiceTest {
         );
     }
 
+    @Sql("/sql/webhook/insert_project_pr_commits_and_files.sql")
+    @Test
+    void 최신_데이터면_달라진_PullRequestFile만_반영하고_그대로인_파일은_유지한다() {
+        // given
+        Long unchangedFileId = findFileId("src/main/java/OldFile.java");
+        Long changedFileId = findFileId("src/main/java/OldFile2.java");
+        PullRequestSynchronizedRequest request = createNewerRequest(List.of(
+                new FileData("src/main/java/OldFile.java", "modified", 50, 30, null),
+                new FileData("src/main/java/OldFile2.java", "modified", 70, 20, null),
+                new FileData("src/main/java/NewFile.java", "added", 100, 0, null)
+        ));
+
+        // when
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
+
+        // then
+        PullRequestFile changedFile = jpaPullRequestFileRepository.findById(changedFileId).orElseThrow();
+        assertAll(
+                () -> assertThat(jpaPullRequestFileRepository.count()).isEqualTo(3),
+                () -> assertThat(jpaPullRequestFileRepository.findById(unchangedFileId)).isPresent(),
+                () -> assertThat(changedFile.getChangeType()).isEqualTo(FileChangeType.MODIFIED),
+                () -> assertThat(changedFile.getFileChanges()).isEqualTo(FileChanges.create(70, 20)),
+                () -> assertThat(findFileId("src/main/java/NewFile.java")).isNotNull()
+        );
+    }
+
     @Sql("/sql/webhook/insert_project_pr_commits_and_files.sql")
     @Test
     void 오래된_데이터면_PullRequestFile이_유지된다() {
         // given
         PullRequestSynchronizedRequest newerRequest = createNewerRequest();
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(newerRequest));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, newerRequest));
 
         PullRequestSynchronizedRequest olderRequest = createOlderRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(olderRequest));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, olderRequest));
 
         // then
         assertAll(
@@ -170,12 +259,12 @@ class PullRequestSynchronizedServiceTest {
     void ContentHistory는_항상_저장된다() {
         // given
         PullRequestSynchronizedRequest newerRequest = createNewerRequest();
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(newerRequest));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, newerRequest));
 
         PullRequestSynchronizedRequest olderRequest = createOlderRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(olderRequest));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, olderRequest));
 
         // then
         assertThat(jpaPullRequestContentHistoryRepository.count()).isEqualTo(2);
@@ -186,15 +275,65 @@ class PullRequestSynchronizedServiceTest {
     void FileHistory는_항상_저장된다() {
         // given
         PullRequestSynchronizedRequest newerRequest = createNewerRequest();
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(newerRequest));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, newerRequest));
+
+        PullRequestSynchronizedRequest olderRequest = createOlderRequest();
+
+        // when
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, olderRequest));
+
+        // then
+        assertThat(jpaPullRequestFileHistoryRepository.count()).isEqualTo(8);
+    }
+
+    @Sql("/sql/webhook/insert_project_pr_commits_and_files.sql")
+    @Test
+    void 같은_파일_목록으로_다시_push하면_FileHistory를_추가로_저장하지_않는다() {
+        // given
+        PullRequestSynchronizedRequest request = createNewerRequest();
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
+
+        // when
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
+
+        // then
+        assertThat(jpaPullRequestFileHistoryRepository.count()).isEqualTo(4);
+    }
+
+    @Sql("/sql/webhook/insert_project_pr_commits_and_files.sql")
+    @Test
+    void 늦게_도착한_오래된_push가_있어도_각_시점의_파일_스냅샷을_복원한다() {
+        // given
+        PullRequestSynchronizedRequest newerRequest = createNewerRequest();
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, newerRequest));
 
         PullRequestSynchronizedRequest olderRequest = createOlderRequest();
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, olderRequest));
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(olderRequest));
+        PullRequestFileSnapshot olderSnapshot = pullRequestFileSnapshotReader.read(
+                TEST_GITHUB_PULL_REQUEST_ID,
+                localDateTimeConverter.toLocalDateTime(Instant.parse("2024-01-15T09:45:00Z"))
+        );
+        PullRequestFileSnapshot newerSnapshot = pullRequestFileSnapshotReader.read(
+                TEST_GITHUB_PULL_REQUEST_ID,
+                localDateTimeConverter.toLocalDateTime(Instant.parse("2024-01-15T10:00:00Z"))
+        );
 
         // then
-        assertThat(jpaPullRequestFileHistoryRepository.count()).isEqualTo(6);
+        assertAll(
+                () -> assertThat(olderSnapshot.getFiles())
+                        .extracting(file -> file.fileName())
+                        .containsExactlyInAnyOrder("src/main/java/OlderFile.java", "src/main/java/OlderFile2.java"),
+                () -> assertThat(newerSnapshot.getFiles())
+                        .extracting(file -> file.fileName())
+                        .containsExactlyInAnyOrder(
+                                "src/main/java/NewFile.java",
+                                "src/main/java/NewFile2.java",
+                                "src/main/java/NewFile3.java",
+                                "src/main/java/RenamedFile.java"
+                        )
+        );
     }
 
     @Sql("/sql/webhook/insert_project.sql")
@@ -204,7 +343,7 @@ class PullRequestSynchronizedServiceTest {
         PullRequestSynchronizedRequest request = createNewerRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
 
         // then
         long eventCount = applicationEvents.stream(PullRequestEarlySynchronizedEvent.class).count();
@@ -218,7 +357,7 @@ class PullRequestSynchronizedServiceTest {
         PullRequestSynchronizedRequest request = createNewerRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
 
         // then
         assertAll(
@@ -236,7 +375,7 @@ class PullRequestSynchronizedServiceTest {
         PullRequestSynchronizedRequest request = createNewerRequest();
 
         // when
-        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(request));
+        processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request));
 
         // then
         assertAll(
@@ -271,7 +410,7 @@ class PullRequestSynchronizedServiceTest {
         );
 
         // when & then
-        assertThatThrownBy(() -> processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(request)))
+        assertThatThrownBy(() -> processingSourceContext.withInboxProcessing(() -> pullRequestSynchronizedService.synchronizePullRequest(1L, request)))
                 .isInstanceOf(HeadCommitNotFoundException.class);
     }
 
@@ -281,17 +420,19 @@ class PullRequestSynchronizedServiceTest {
      * 기존 커밋: sha1, sha2 / 새 커밋: sha3 (1개만 추가)
      */
     private PullRequestSynchronizedRequest createNewerRequest() {
-        List<CommitNode> commitNodes = List.of(
-                new CommitNode("sha1", Instant.parse("2024-01-15T09:00:00Z")),
-                new CommitNode("sha2", Instant.parse("2024-01-15T09:30:00Z")),
-                new CommitNode("sha3", Instant.parse("2024-01-15T10:00:00Z"))
-        );
-
-        List<FileData> files = List.of(
+        return createNewerRequest(List.of(
                 new FileData("src/main/java/NewFile.java", "added", 100, 0, null),
                 new FileData("src/main/java/NewFile2.java", "modified", 60, 40, null),
                 new FileData("src/main/java/NewFile3.java", "added", 40, 40, null),
                 new FileData("src/main/java/RenamedFile.java", "renamed", 5, 2, "src/main/java/OldName.java")
+        ));
+    }
+
+    private PullRequestSynchronizedRequest createNewerRequest(List<FileData> files) {
+        List<CommitNode> commitNodes = List.of(
+                new CommitNode("sha1", Instant.parse("2024-01-15T09:00:00Z")),
+                new CommitNode("sha2", Instant.parse("2024-01-15T09:30:00Z")),
+                new CommitNode("sha3", Instant.parse("2024-01-15T10:00:00Z"))
         );
 
         return new PullRequestSynchronizedRequest(
@@ -307,6 +448,15 @@ class PullRequestSynchronizedServiceTest {
         );
     }
 
+    private Long findFileId(String fileName) {
+        return jpaPullRequestFileRepository.findAll()
+                .stream()
+                .filter(file -> file.getFileName().equals(fileName))
+                .map(file -> file.getId())
+                .findFirst()
+                .orElse(null);
+    }
+
     /**
      * 오래된 데이터 요청 (isNewer = false)
      * newerRequest 실행 후 headCommitSha = "sha3"이 된 상태에서
@@ -0,0 +1,287 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.PullRequestRepository;
+import com.prism.statistics.domain.analysis.metadata.review.repository.ReviewRepository;
+import com.prism.statistics.global.config.properties.OrphanReconciliationProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OrphanReconcilerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final long STALE_AFTER_MS = 300_000L;
+    private static final long REPORT_AFTER_MS = 3_600_000L;
+    private static final long EXPIRE_AFTER_MS = 86_400_000L;
+
+    @Mock
+    OrphanLinker orphanLinker;
+
+    @Mock
+    PullRequestRepository pullRequestRepository;
+
+    @Mock
+    ReviewRepository reviewRepository;
+
+    PendingLinkIndex pendingLinkIndex = new PendingLinkIndex();
+
+    @Test
+    void 부모가_저장되면_추적_여부와_관계없이_부모_유형의_모든_대상을_연결한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        given(orphanLinker.link(any(PendingLink.class), any())).willReturn(3L);
+
+        // when
+        long actual = reconciler.reconcile(OrphanParentType.PULL_REQUEST, 10L, 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(3L),
+                () -> verify(orphanLinker).link(
+                        new PendingLink(
+                                OrphanParentType.PULL_REQUEST,
+                                10L,
+                                EnumSet.of(
+                                        OrphanLinkTarget.COMMIT,
+                                        OrphanLinkTarget.PULL_REQUEST_FILE,
+                                        OrphanLinkTarget.PULL_REQUEST_CONTENT_HISTORY,
+                                        OrphanLinkTarget.PULL_REQUEST_FILE_HISTORY
+                                ),
+                                NOW
+                        ),
+                        1L
+                )
+        );
+    }
+
+    @Test
+    void 부모가_저장되면_추적_중인_orphan을_추적_대상에서_제거한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        pendingLinkIndex.register(pullRequestLink(10L, NOW));
+        given(orphanLinker.link(any(PendingLink.class), any())).willReturn(1L);
+
+        // when
+        reconciler.reconcile(OrphanParentType.PULL_REQUEST, 10L, 1L);
+
+        // then
+        assertThat(pendingLinkIndex.size()).isZero();
+    }
+
+    @Test
+    void 여러_부모의_orphan을_연결하지_않고_추적_대상에서만_제거한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        pendingLinkIndex.register(pullRequestLink(10L, NOW));
+        pendingLinkIndex.register(pullRequestLink(20L, NOW));
+        pendingLinkIndex.register(pullRequestLink(30L, NOW));
+
+        // when
+        reconciler.untrack(OrphanParentType.PULL_REQUEST, List.of(10L, 20L));
+
+        // then
+        assertAll(
+                () -> assertThat(pendingLinkIndex.size()).isEqualTo(1),
+                () -> verify(orphanLinker, never()).link(any(PendingLink.class), any())
+        );
+    }
+
+    @Test
+    void 등록_시_부모가_없으면_추적_대상으로_등록한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        given(pullRequestRepository.findIdByGithubId(10L)).willReturn(Optional.empty());
+
+        // when
+        reconciler.register(OrphanParentType.PULL_REQUEST, 10L, EnumSet.of(OrphanLinkTarget.COMMIT));
+
+        // then
+        assertAll(
+                () -> assertThat(pendingLinkIndex.size()).isEqualTo(1),
+                () -> verify(orphanLinker, never()).link(any(PendingLink.class), any())
+        );
+    }
+
+    @Test
+    void 등록_시_부모가_이미_저장되어_있으면_바로_연결한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        given(reviewRepository.findIdByGithubReviewId(20L)).willReturn(Optional.of(2L));
+        given(orphanLinker.link(any(PendingLink.class), any())).willReturn(1L);
+
+        // when
+        reconciler.register(OrphanParentType.REVIEW, 20L, EnumSet.of(OrphanLinkTarget.REVIEW_COMMENT));
+
+        // then
+        assertAll(
+                () -> assertThat(pendingLinkIndex.size()).isZero(),
+                () -> verify(orphanLinker).link(
+                        new PendingLink(OrphanParentType.REVIEW, 20L, EnumSet.of(OrphanLinkTarget.REVIEW_COMMENT), NOW),
+                        2L
+                )
+        );
+    }
+
+    @Test
+    void 등록_시_바로_연결에_실패하면_추적_대상으로_등록한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        given(reviewRepository.findIdByGithubReviewId(20L)).willReturn(Optional.of(2L));
+        given(orphanLinker.link(any(PendingLink.class), any())).willThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        reconciler.register(OrphanParentType.REVIEW, 20L, EnumSet.of(OrphanLinkTarget.REVIEW_COMMENT));
+
+        // then
+        assertThat(pendingLinkIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 연결에_실패하면_orphan을_다시_추적_대상으로_등록한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        given(orphanLinker.link(any(PendingLink.class), any())).willThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> reconciler.reconcile(OrphanParentType.PULL_REQUEST, 10L, 1L))
+                        .isInstanceOf(IllegalStateException.class),
+                () -> assertThat(pendingLinkIndex.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 점검_시_부모가_저장된_orphan을_연결한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        pendingLinkIndex.register(pullRequestLink(10L, NOW.minusMillis(STALE_AFTER_MS + 1L)));
+        given(pullRequestRepository.findIdByGithubId(10L)).willReturn(Optional.of(1L));
+        given(orphanLinker.link(any(PendingLink.class), any())).willReturn(1L);
+
+        // when
+        OrphanSweepReport actual = reconciler.sweepStaleLinks();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(new OrphanSweepReport(1, 0, 0)),
+                () -> assertThat(pendingLinkIndex.size()).isZero()
+        );
+    }
+
+    @Test
+    void 점검_시_재연결_대기_시간이_지나지_않은_orphan은_건너뛴다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        pendingLinkIndex.register(pullRequestLink(10L, NOW));
+
+        // when
+        OrphanSweepReport actual = reconciler.sweepStaleLinks();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.isEmpty()).isTrue(),
+                () -> verify(pullRequestRepository, never()).findIdByGithubId(anyLong())
+        );
+    }
+
+    @Test
+    void 보고_대기_시간이_지나도록_부모가_없는_orphan은_한_번만_보고한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        pendingLinkIndex.register(pullRequestLink(10L, NOW.minusMillis(REPORT_AFTER_MS + 1L)));
+        given(pullRequestRepository.findIdByGithubId(10L)).willReturn(Optional.empty());
+
+        // when
+        OrphanSweepReport first = reconciler.sweepStaleLinks();
+        OrphanSweepReport second = reconciler.sweepStaleLinks();
+
+        // then
+        assertAll(
+                () -> assertThat(first).isEqualTo(new OrphanSweepReport(0, 1, 0)),
+                () -> assertThat(second.isEmpty()).isTrue(),
+                () -> assertThat(pendingLinkIndex.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 만료_시간이_지나도록_부모가_없는_orphan은_추적을_종료한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        pendingLinkIndex.register(pullRequestLink(10L, NOW.minusMillis(EXPIRE_AFTER_MS + 1L)));
+        given(pullRequestRepository.findIdByGithubId(10L)).willReturn(Optional.empty());
+
+        // when
+        OrphanSweepReport actual = reconciler.sweepStaleLinks();
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(new OrphanSweepReport(0, 0, 1)),
+                () -> assertThat(pendingLinkIndex.size()).isZero()
+        );
+    }
+
+    @Test
+    void 리뷰_orphan은_리뷰_ID로_부모를_조회한다() {
+        // given
+        OrphanReconciler reconciler = createReconciler();
+        pendingLinkIndex.register(new PendingLink(
+                OrphanParentType.REVIEW,
+                20L,
+                EnumSet.of(OrphanLinkTarget.REVIEW_COMMENT),
+                NOW.minusMillis(STALE_AFTER_MS + 1L)
+        ));
+        given(reviewRepository.findIdByGithubReviewId(20L)).willReturn(Optional.of(2L));
+        given(orphanLinker.link(any(PendingLink.class), any())).willReturn(1L);
+
+        // when
+        OrphanSweepReport actual = reconciler.sweepStaleLinks();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.linkedCount()).isEqualTo(1),
+                () -> verify(pullRequestRepository, never()).findIdByGithubId(anyLong())
+        );
+    }
+
+    private OrphanReconciler createReconciler() {
+        return new OrphanReconciler(
+                FIXED_CLOCK,
+                new OrphanReconciliationProperties(60_000L, STALE_AFTER_MS, REPORT_AFTER_MS, EXPIRE_AFTER_MS),
+                pendingLinkIndex,
+                orphanLinker,
+                pullRequestRepository,
+                reviewRepository
+        );
+    }
+
+    private PendingLink pullRequestLink(Long githubPullRequestId, Instant registeredAt) {
+        return new PendingLink(
+                OrphanParentType.PULL_REQUEST,
+                githubPullRequestId,
+                EnumSet.of(OrphanLinkTarget.COMMIT),
+                registeredAt
+        );
+    }
+}
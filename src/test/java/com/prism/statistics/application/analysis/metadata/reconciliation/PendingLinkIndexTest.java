@@ -0,0 +1,105 @@
+package com.prism.statistics.application.analysis.metadata.reconciliation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PendingLinkIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+
+    PendingLinkIndex pendingLinkIndex = new PendingLinkIndex();
+
+    @Test
+    void 같은_부모에_등록된_대상은_하나의_항목으로_합치고_가장_이른_등록_시각을_유지한다() {
+        // given
+        pendingLinkIndex.register(pullRequestLink(10L, EnumSet.of(OrphanLinkTarget.COMMIT), NOW));
+        pendingLinkIndex.register(pullRequestLink(10L, EnumSet.of(OrphanLinkTarget.PULL_REQUEST_FILE), NOW.minusSeconds(60L)));
+
+        // when
+        Optional<PendingLink> actual = pendingLinkIndex.take(OrphanParentType.PULL_REQUEST, 10L);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isPresent(),
+                () -> assertThat(actual.get().targets())
+                        .containsExactlyInAnyOrder(OrphanLinkTarget.COMMIT, OrphanLinkTarget.PULL_REQUEST_FILE),
+                () -> assertThat(actual.get().registeredAt()).isEqualTo(NOW.minusSeconds(60L)),
+                () -> assertThat(pendingLinkIndex.size()).isZero()
+        );
+    }
+
+    @Test
+    void 등록되지_않은_부모를_꺼내면_빈_값을_반환한다() {
+        // when
+        Optional<PendingLink> actual = pendingLinkIndex.take(OrphanParentType.PULL_REQUEST, 10L);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 부모_유형이_다르면_같은_GitHub_ID라도_별도로_관리한다() {
+        // given
+        pendingLinkIndex.register(pullRequestLink(10L, EnumSet.of(OrphanLinkTarget.COMMIT), NOW));
+        pendingLinkIndex.register(new PendingLink(
+                OrphanParentType.REVIEW,
+                10L,
+                EnumSet.of(OrphanLinkTarget.REVIEW_COMMENT),
+                NOW
+        ));
+
+        // when
+        pendingLinkIndex.take(OrphanParentType.REVIEW, 10L);
+
+        // then
+        assertAll(
+                () -> assertThat(pendingLinkIndex.size()).isEqualTo(1),
+                () -> assertThat(pendingLinkIndex.take(OrphanParentType.PULL_REQUEST, 10L)).isPresent()
+        );
+    }
+
+    @Test
+    void 기준_시각_이전에_등록된_항목만_조회한다() {
+        // given
+        pendingLinkIndex.register(pullRequestLink(10L, EnumSet.of(OrphanLinkTarget.COMMIT), NOW.minusSeconds(600L)));
+        pendingLinkIndex.register(pullRequestLink(11L, EnumSet.of(OrphanLinkTarget.COMMIT), NOW));
+
+        // when
+        List<PendingLink> actual = pendingLinkIndex.findRegisteredBefore(NOW.minusSeconds(300L));
+
+        // then
+        assertThat(actual).extracting(pendingLink -> pendingLink.githubParentId())
+                .containsExactly(10L);
+    }
+
+    @Test
+    void 같은_항목은_한_번만_보고_대상으로_표시한다() {
+        // given
+        PendingLink pendingLink = pullRequestLink(10L, EnumSet.of(OrphanLinkTarget.COMMIT), NOW);
+        pendingLinkIndex.register(pendingLink);
+
+        // when
+        boolean first = pendingLinkIndex.markReported(pendingLink);
+        boolean second = pendingLinkIndex.markReported(pendingLink);
+
+        // then
+        assertAll(
+                () -> assertThat(first).isTrue(),
+                () -> assertThat(second).isFalse()
+        );
+    }
+
+    private PendingLink pullRequestLink(Long githubPullRequestId, EnumSet<OrphanLinkTarget> targets, Instant registeredAt) {
+        return new PendingLink(OrphanParentType.PULL_REQUEST, githubPullRequestId, targets, registeredAt);
+    }
+}
@@ -5,6 +5,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.prism.statistics.application.IntegrationTest;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanLinkTarget;
+import com.prism.statistics.application.analysis.metadata.reconciliation.OrphanParentType;
+import com.prism.statistics.application.analysis.metadata.reconciliation.PendingLinkIndex;
 import com.prism.statistics.application.collect.inbox.ProcessingSourceContext;
 import com.prism.statistics.application.analysis.metadata.review.dto.request.ReviewCommentCreatedRequest;
 import com.prism.statistics.application.analysis.metadata.review.dto.request.ReviewCommentCreatedRequest.CommentAuthorData;
@@ -39,6 +42,9 @@ class ReviewCommentCreatedServiceTest {
     @Autowired
     private JpaReviewCommentRepository jpaReviewCommentRepository;
 
+    @Autowired
+    private PendingLinkIndex pendingLinkIndex;
+
     @Sql("/sql/webhook/insert_project.sql")
     @Test
     void 리뷰_댓글_생성_시_ReviewComment가_저장된다() {
@@ -46,7 +52,7 @@ class ReviewCommentCreatedServiceTest {
         ReviewCommentCreatedRequest request = createReviewCommentCreatedRequest(100L);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
 
         // then
         assertThat(jpaReviewCommentRepository.count()).isEqualTo(1);
@@ -72,7 +78,7 @@ class ReviewCommentCreatedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
 
         // then
         List<ReviewComment> comments = jpaReviewCommentRepository.findAll();
@@ -114,7 +120,7 @@ class ReviewCommentCreatedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
 
         // then
         ReviewComment comment = jpaReviewCommentRepository.findAll().get(0);
@@ -142,7 +148,7 @@ class ReviewCommentCreatedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
 
         // then
         ReviewComment comment = jpaReviewCommentRepository.findAll().get(0);
@@ -168,7 +174,7 @@ class ReviewCommentCreatedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
 
         // then
         ReviewComment comment = jpaReviewCommentRepository.findAll().get(0);
@@ -182,7 +188,7 @@ class ReviewCommentCreatedServiceTest {
         ReviewCommentCreatedRequest request = createReviewCommentCreatedRequest(100L);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
 
         // then
         ReviewComment comment = jpaReviewCommentRepository.findAll().getFirst();
@@ -196,13 +202,41 @@ class ReviewCommentCreatedServiceTest {
         ReviewCommentCreatedRequest request = createReviewCommentCreatedRequest(100L);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
 
         // then
         ReviewComment comment = jpaReviewCommentRepository.findAll().getFirst();
         assertThat(comment.getReviewId()).isNull();
     }
 
+    @Sql("/sql/webhook/insert_project.sql")
+    @Test
+    void Review가_없으면_댓글을_리뷰_연결_대기_대상으로_등록한다() {
+        // given
+        ReviewCommentCreatedRequest request = createReviewCommentCreatedRequest(100L);
+
+        // when
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
+
+        // then
+        assertThat(pendingLinkIndex.take(OrphanParentType.REVIEW, 200L))
+                .hasValueSatisfying(pendingLink -> assertThat(pendingLink.targets())
+                        .containsExactly(OrphanLinkTarget.REVIEW_COMMENT));
+    }
+
+    @Sql("/sql/webhook/insert_project_and_review.sql")
+    @Test
+    void Review가_존재하면_리뷰_연결_대기_대상으로_등록하지_않는다() {
+        // given
+        ReviewCommentCreatedRequest request = createReviewCommentCreatedRequest(100L);
+
+        // when
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
+
+        // then
+        assertThat(pendingLinkIndex.size()).isZero();
+    }
+
     @Sql("/sql/webhook/insert_project.sql")
     @Test
     void 중복_댓글_생성_시_저장되지_않는다() {
@@ -211,8 +245,8 @@ class ReviewCommentCreatedServiceTest {
         ReviewCommentCreatedRequest request = createReviewCommentCreatedRequest(sameGithubCommentId);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
-        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentCreatedService.createReviewComment(1L, request));
 
         // then
         assertThat(jpaReviewCommentRepository.count()).isEqualTo(1);
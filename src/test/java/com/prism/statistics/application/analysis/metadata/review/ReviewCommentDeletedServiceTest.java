@@ -53,7 +53,7 @@ class ReviewCommentDeletedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentDeletedService.deleteReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentDeletedService.deleteReviewComment(1L, request));
 
         // then
         ReviewComment result = jpaReviewCommentRepository.findByGithubCommentId(EXISTING_COMMENT_ID).orElseThrow();
@@ -77,7 +77,7 @@ class ReviewCommentDeletedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentDeletedService.deleteReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentDeletedService.deleteReviewComment(1L, request));
 
         // then
         ReviewComment result = jpaReviewCommentRepository.findByGithubCommentId(EXISTING_COMMENT_ID).orElseThrow();
@@ -100,7 +100,7 @@ class ReviewCommentDeletedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentDeletedService.deleteReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentDeletedService.deleteReviewComment(1L, request));
 
         // then
         ReviewComment result = jpaReviewCommentRepository.findByGithubCommentId(EXISTING_COMMENT_ID).orElseThrow();
@@ -122,7 +122,7 @@ class ReviewCommentDeletedServiceTest {
         );
 
         // when & then
-        assertThatThrownBy(() -> processingSourceContext.withInboxProcessing(() -> reviewCommentDeletedService.deleteReviewComment(request)))
+        assertThatThrownBy(() -> processingSourceContext.withInboxProcessing(() -> reviewCommentDeletedService.deleteReviewComment(1L, request)))
                 .isInstanceOf(ReviewCommentNotFoundException.class);
     }
 }
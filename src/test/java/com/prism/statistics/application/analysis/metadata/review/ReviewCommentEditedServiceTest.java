@@ -54,7 +54,7 @@ class ReviewCommentEditedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentEditedService.editReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentEditedService.editReviewComment(1L, request));
 
         // then
         ReviewComment result = jpaReviewCommentRepository.findByGithubCommentId(EXISTING_COMMENT_ID).orElseThrow();
@@ -79,7 +79,7 @@ class ReviewCommentEditedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentEditedService.editReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentEditedService.editReviewComment(1L, request));
 
         // then
         ReviewComment result = jpaReviewCommentRepository.findByGithubCommentId(EXISTING_COMMENT_ID).orElseThrow();
@@ -104,7 +104,7 @@ class ReviewCommentEditedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewCommentEditedService.editReviewComment(request));
+        processingSourceContext.withInboxProcessing(() -> reviewCommentEditedService.editReviewComment(1L, request));
 
         // then
         ReviewComment result = jpaReviewCommentRepository.findByGithubCommentId(EXISTING_COMMENT_ID).orElseThrow();
@@ -127,7 +127,7 @@ class ReviewCommentEditedServiceTest {
         );
 
         // when & then
-        assertThatThrownBy(() -> processingSourceContext.withInboxProcessing(() -> reviewCommentEditedService.editReviewComment(request)))
+        assertThatThrownBy(() -> processingSourceContext.withInboxProcessing(() -> reviewCommentEditedService.editReviewComment(1L, request)))
                 .isInstanceOf(ReviewCommentNotFoundException.class);
     }
 }
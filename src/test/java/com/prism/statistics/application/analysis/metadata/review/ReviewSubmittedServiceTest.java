@@ -45,7 +45,7 @@ class ReviewSubmittedServiceTest {
         ReviewSubmittedRequest request = createReviewSubmittedRequest(100L, "approved");
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(request));
+        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(1L, request));
 
         // then
         assertThat(jpaReviewRepository.count()).isEqualTo(1);
@@ -64,7 +64,7 @@ class ReviewSubmittedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(request));
+        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(1L, request));
 
         // then
         List<Review> reviews = jpaReviewRepository.findAll();
@@ -91,7 +91,7 @@ class ReviewSubmittedServiceTest {
         ReviewSubmittedRequest request = createReviewSubmittedRequest(100L, "changes_requested");
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(request));
+        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(1L, request));
 
         // then
         Review review = jpaReviewRepository.findAll().get(0);
@@ -108,7 +108,7 @@ class ReviewSubmittedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(request));
+        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(1L, request));
 
         // then
         Review review = jpaReviewRepository.findAll().get(0);
@@ -128,7 +128,7 @@ class ReviewSubmittedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(request));
+        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(1L, request));
 
         // then
         Review review = jpaReviewRepository.findAll().getFirst();
@@ -143,8 +143,8 @@ class ReviewSubmittedServiceTest {
         ReviewSubmittedRequest request = createReviewSubmittedRequest(sameGithubReviewId, "approved");
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(request));
-        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(request));
+        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(1L, request));
+        processingSourceContext.withInboxProcessing(() -> reviewSubmittedService.submitReview(1L, request));
 
         // then
         assertThat(jpaReviewRepository.count()).isEqualTo(1);
@@ -55,7 +55,7 @@ class ReviewerAddedServiceTest {
         ReviewerAddedRequest request = createReviewerAddedRequest("reviewer1", 12345L);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(1L, request));
 
         // then
         assertAll(
@@ -73,7 +73,7 @@ class ReviewerAddedServiceTest {
         ReviewerAddedRequest request = createReviewerAddedRequest(githubMention, githubUid);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(1L, request));
 
         // then
         List<RequestedReviewer> reviewers = jpaRequestedReviewerRepository.findAll();
@@ -98,7 +98,7 @@ class ReviewerAddedServiceTest {
         ReviewerAddedRequest request = createReviewerAddedRequest(githubMention, githubUid);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(1L, request));
 
         // then
         List<RequestedReviewerHistory> histories = jpaRequestedReviewerHistoryRepository.findAll();
@@ -125,7 +125,7 @@ class ReviewerAddedServiceTest {
         );
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(1L, request));
 
         // then
         RequestedReviewer requestedReviewer = jpaRequestedReviewerRepository.findAll().getFirst();
@@ -143,8 +143,8 @@ class ReviewerAddedServiceTest {
         ReviewerAddedRequest request = createReviewerAddedRequest("reviewer1", 12345L);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(request));
-        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(1L, request));
+        processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(1L, request));
 
         // then
         assertAll(
@@ -177,7 +177,7 @@ class ReviewerAddedServiceTest {
                         throw new IllegalStateException("시작 대기 중 인터럽트 발생", e);
                     }
                     // when
-                    processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(request));
+                    processingSourceContext.withInboxProcessing(() -> reviewerAddedService.addReviewer(1L, request));
                     return null;
                 }));
             }
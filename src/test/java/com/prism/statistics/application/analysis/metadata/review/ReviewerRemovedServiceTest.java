@@ -54,7 +54,7 @@ class ReviewerRemovedServiceTest {
         ReviewerRemovedRequest request = createReviewerRemovedRequest("reviewer1", 12345L);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(1L, request));
 
         // then
         assertAll(
@@ -72,7 +72,7 @@ class ReviewerRemovedServiceTest {
         ReviewerRemovedRequest request = createReviewerRemovedRequest(githubMention, githubUid);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(1L, request));
 
         // then
         List<RequestedReviewerHistory> histories = jpaRequestedReviewerHistoryRepository.findAll();
@@ -97,7 +97,7 @@ class ReviewerRemovedServiceTest {
         ReviewerRemovedRequest request = createReviewerRemovedRequest("non-existent", 99999L);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(1L, request));
 
         // then
         assertAll(
@@ -113,8 +113,8 @@ class ReviewerRemovedServiceTest {
         ReviewerRemovedRequest request = createReviewerRemovedRequest("reviewer1", 12345L);
 
         // when
-        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(request));
-        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(request));
+        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(1L, request));
+        processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(1L, request));
 
         // then
         assertAll(
@@ -147,7 +147,7 @@ class ReviewerRemovedServiceTest {
                         throw new IllegalStateException("시작 대기 중 인터럽트 발생", e);
                     }
                     // when
-                    processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(request));
+                    processingSourceContext.withInboxProcessing(() -> reviewerRemovedService.removeReviewer(1L, request));
                     return null;
                 }));
             }
@@ -0,0 +1,134 @@
+package com.prism.statistics.application.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.application.IntegrationTest;
+import com.prism.statistics.application.collect.bulk.CollectBulkImportStatus;
+import com.prism.statistics.application.collect.bulk.exception.CollectBulkImportJobNotFoundException;
+import com.prism.statistics.application.collect.dto.response.CollectBulkImportJobResponse;
+import com.prism.statistics.domain.project.exception.InvalidApiKeyException;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectBulkImportServiceTest {
+
+    private static final String TEST_API_KEY = "test-api-key";
+
+    @Autowired
+    private CollectBulkImportService collectBulkImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Sql("/sql/webhook/insert_project.sql")
+    @Test
+    void 가져온_이벤트를_PR별로_반영한_뒤_인사이트를_한_번에_도출한다() {
+        // given
+        String archive = closedEvent(200L, 10, "2026-03-18T10:00:00Z") + "\n" + openedEvent(100L, 10);
+
+        // when
+        CollectBulkImportJobResponse started = collectBulkImportService.importArchive(TEST_API_KEY, archive);
+        CollectBulkImportJobResponse actual = awaitFinished(started.jobId());
+
+        // then
+        assertAll(
+                () -> assertThat(actual.status()).isEqualTo(CollectBulkImportStatus.COMPLETED),
+                () -> assertThat(actual.eventCount()).isEqualTo(2),
+                () -> assertThat(actual.importedEventCount()).isEqualTo(2),
+                () -> assertThat(actual.failedGroups()).isEmpty(),
+                () -> assertThat(actual.failedInsightCount()).isZero(),
+                () -> assertThat(countRows("pull_requests")).isEqualTo(1),
+                () -> assertThat(countRows("pull_request_lifecycles")).isEqualTo(1),
+                () -> assertThat(countRows("collect_inbox")).isZero()
+        );
+    }
+
+    @Sql("/sql/webhook/insert_project.sql")
+    @Test
+    void 실패한_PR_묶음만_롤백하고_나머지_PR은_반영한다() {
+        // given
+        String archive = String.join(
+                "\n",
+                openedEvent(100L, 10),
+                openedEvent(101L, 20),
+                closedEvent(201L, 20, "not-a-date")
+        );
+
+        // when
+        CollectBulkImportJobResponse started = collectBulkImportService.importArchive(TEST_API_KEY, archive);
+        CollectBulkImportJobResponse actual = awaitFinished(started.jobId());
+
+        // then
+        assertAll(
+                () -> assertThat(actual.importedEventCount()).isEqualTo(1),
+                () -> assertThat(actual.failedGroups()).hasSize(1),
+                () -> assertThat(actual.failedGroups().get(0).pullRequestNumber()).isEqualTo(20),
+                () -> assertThat(actual.failedGroups().get(0).eventCount()).isEqualTo(2),
+                () -> assertThat(countRows("pull_requests")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 존재하지_않는_API_Key로_가져오면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> collectBulkImportService.importArchive("invalid-key", openedEvent(100L, 10)))
+                .isInstanceOf(InvalidApiKeyException.class);
+    }
+
+    @Sql("/sql/webhook/insert_project.sql")
+    @Test
+    void 존재하지_않는_가져오기_작업을_조회하면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> collectBulkImportService.findJob(TEST_API_KEY, "unknown-job"))
+                .isInstanceOf(CollectBulkImportJobNotFoundException.class);
+    }
+
+    private CollectBulkImportJobResponse awaitFinished(String jobId) {
+        await().atMost(Duration.ofSeconds(5)).until(
+                () -> !collectBulkImportService.findJob(TEST_API_KEY, jobId).status().isRunning()
+        );
+
+        return collectBulkImportService.findJob(TEST_API_KEY, jobId);
+    }
+
+    private Integer countRows(String tableName) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tableName, Integer.class);
+    }
+
+    private String openedEvent(long runId, int pullRequestNumber) {
+        return """
+                {"collectType":"PULL_REQUEST_OPENED","runId":%d,"payload":{"runId":%d,"isDraft":false,\
+                "pullRequest":{"githubPullRequestId":%d,"number":%d,"title":"제목",\
+                "url":"https://github.com/org/repo/pull/%d","headCommitSha":"abc%d","additions":5,"deletions":3,\
+                "changedFiles":1,"createdAt":"2026-03-17T10:00:00Z","author":{"login":"user1","id":1},\
+                "commits":{"totalCount":1,"nodes":[{"commit":{"oid":"abc%d","committedDate":"2026-03-17T10:00:00Z"}}]}},\
+                "files":[{"filename":"Main.java","status":"added","additions":5,"deletions":0}]}}"""
+                .formatted(
+                        runId,
+                        runId,
+                        pullRequestNumber * 100L,
+                        pullRequestNumber,
+                        pullRequestNumber,
+                        pullRequestNumber,
+                        pullRequestNumber
+                );
+    }
+
+    private String closedEvent(long runId, int pullRequestNumber, String closedAt) {
+        return """
+                {"collectType":"PULL_REQUEST_CLOSED","runId":%d,"payload":{"runId":%d,\
+                "pullRequestNumber":%d,"isMerged":false,"closedAt":"%s","mergedAt":null}}"""
+                .formatted(runId, runId, pullRequestNumber, closedAt);
+    }
+}
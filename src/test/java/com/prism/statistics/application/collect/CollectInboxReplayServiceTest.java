@@ -0,0 +1,105 @@
+package com.prism.statistics.application.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.application.IntegrationTest;
+import com.prism.statistics.application.collect.dto.request.CollectInboxReplayRequest;
+import com.prism.statistics.application.collect.dto.request.CollectInboxReplayRequest.ReplayEvent;
+import com.prism.statistics.application.collect.dto.response.CollectInboxReplayResponse;
+import com.prism.statistics.application.collect.dto.response.CollectInboxReplayResponse.ReplayEventResult;
+import com.prism.statistics.domain.project.exception.InvalidApiKeyException;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxReplayServiceTest {
+
+    private static final String TEST_API_KEY = "test-api-key";
+
+    @Autowired
+    private CollectInboxReplayService collectInboxReplayService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Sql("/sql/webhook/insert_project.sql")
+    @Test
+    void 이벤트를_일괄_적재하고_중복_이벤트는_스킵한다() throws Exception {
+        // given
+        CollectInboxReplayRequest request = new CollectInboxReplayRequest(List.of(
+                createEvent(CollectInboxType.PULL_REQUEST_CLOSED, 100L),
+                createEvent(CollectInboxType.PULL_REQUEST_REOPENED, 101L),
+                createEvent(CollectInboxType.PULL_REQUEST_CLOSED, 100L)
+        ));
+
+        // when
+        CollectInboxReplayResponse actual = collectInboxReplayService.replay(TEST_API_KEY, request);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.acceptedCount()).isEqualTo(2),
+                () -> assertThat(actual.duplicatedCount()).isEqualTo(1),
+                () -> assertThat(actual.results()).extracting(result -> result.accepted())
+                        .containsExactly(true, true, false)
+        );
+    }
+
+    @Sql("/sql/webhook/insert_project.sql")
+    @Test
+    void 이미_적재된_이벤트를_다시_재처리하면_중복으로_응답한다() throws Exception {
+        // given
+        CollectInboxReplayRequest request = new CollectInboxReplayRequest(List.of(
+                createEvent(CollectInboxType.PULL_REQUEST_CLOSED, 100L)
+        ));
+        collectInboxReplayService.replay(TEST_API_KEY, request);
+
+        // when
+        CollectInboxReplayResponse actual = collectInboxReplayService.replay(TEST_API_KEY, request);
+
+        // then
+        assertThat(actual.results()).containsExactly(
+                new ReplayEventResult(CollectInboxType.PULL_REQUEST_CLOSED, 100L, false)
+        );
+    }
+
+    @Test
+    void 존재하지_않는_API_Key로_재처리하면_예외가_발생한다() throws Exception {
+        // given
+        CollectInboxReplayRequest request = new CollectInboxReplayRequest(List.of(
+                createEvent(CollectInboxType.PULL_REQUEST_CLOSED, 100L)
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> collectInboxReplayService.replay("invalid-api-key", request))
+                .isInstanceOf(InvalidApiKeyException.class);
+    }
+
+    @Test
+    void 이벤트가_비어_있으면_예외가_발생한다() {
+        // given
+        CollectInboxReplayRequest request = new CollectInboxReplayRequest(Collections.emptyList());
+
+        // when & then
+        assertThatThrownBy(() -> collectInboxReplayService.replay(TEST_API_KEY, request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ReplayEvent createEvent(CollectInboxType collectType, long runId) throws Exception {
+        String payloadJson = """
+                {"runId": %d, "pullRequestNumber": 42}
+                """.formatted(runId);
+
+        return new ReplayEvent(collectType, runId, objectMapper.readTree(payloadJson));
+    }
+}
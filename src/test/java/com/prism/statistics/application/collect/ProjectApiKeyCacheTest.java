@@ -0,0 +1,146 @@
+package com.prism.statistics.application.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+
+import com.prism.statistics.global.config.properties.ProjectApiKeyCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProjectApiKeyCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+
+    @Mock
+    Clock clock;
+
+    AtomicInteger loadCount = new AtomicInteger();
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 같은_API_Key는_유지_시간_동안_다시_조회하지_않는다() {
+        // given
+        ProjectApiKeyCache cache = createCache(10);
+        given(clock.instant()).willReturn(NOW, NOW.plusMillis(999L));
+
+        // when
+        cache.resolve("api-key", loader(Optional.of(1L)));
+        Optional<Long> actual = cache.resolve("api-key", loader(Optional.of(1L)));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).contains(1L),
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(requestCount("hit")).isEqualTo(1.0d),
+                () -> assertThat(requestCount("miss")).isEqualTo(1.0d)
+        );
+    }
+
+    @Test
+    void 유지_시간이_지나면_다시_조회한다() {
+        // given
+        ProjectApiKeyCache cache = createCache(10);
+        given(clock.instant()).willReturn(NOW, NOW.plusMillis(1_000L));
+
+        // when
+        cache.resolve("api-key", loader(Optional.of(1L)));
+        cache.resolve("api-key", loader(Optional.of(1L)));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 존재하지_않는_API_Key도_부정_캐시_유지_시간_동안_저장한다() {
+        // given
+        ProjectApiKeyCache cache = createCache(10);
+        given(clock.instant()).willReturn(NOW, NOW.plusMillis(99L), NOW.plusMillis(100L));
+
+        // when
+        cache.resolve("invalid-key", loader(Optional.empty()));
+        Optional<Long> cached = cache.resolve("invalid-key", loader(Optional.empty()));
+        cache.resolve("invalid-key", loader(Optional.empty()));
+
+        // then
+        assertAll(
+                () -> assertThat(cached).isEmpty(),
+                () -> assertThat(loadCount.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용하지_않은_항목을_제거한다() {
+        // given
+        ProjectApiKeyCache cache = createCache(2);
+        given(clock.instant()).willReturn(NOW);
+        cache.resolve("first", loader(Optional.of(1L)));
+        cache.resolve("second", loader(Optional.of(2L)));
+        cache.resolve("first", loader(Optional.of(1L)));
+
+        // when
+        cache.resolve("third", loader(Optional.of(3L)));
+        cache.resolve("second", loader(Optional.of(2L)));
+
+        // then
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(meterRegistry.get("project.api_key.cache.size").gauge().value()).isEqualTo(2.0d),
+                () -> assertThat(loadCount.get()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void 비활성화되어_있으면_항상_조회한다() {
+        // given
+        ProjectApiKeyCache cache = new ProjectApiKeyCache(
+                clock,
+                new ProjectApiKeyCacheProperties(false, 10, 1_000L, 100L),
+                meterRegistry
+        );
+
+        // when
+        cache.resolve("api-key", loader(Optional.of(1L)));
+        cache.resolve("api-key", loader(Optional.of(1L)));
+
+        // then
+        assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(2),
+                () -> assertThat(cache.size()).isZero()
+        );
+    }
+
+    private ProjectApiKeyCache createCache(int maxSize) {
+        return new ProjectApiKeyCache(
+                clock,
+                new ProjectApiKeyCacheProperties(true, maxSize, 1_000L, 100L),
+                meterRegistry
+        );
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("project.api_key.cache.requests").tag("result", result).counter().count();
+    }
+
+    private Function<String, Optional<Long>> loader(Optional<Long> projectId) {
+        return apiKey -> {
+            loadCount.incrementAndGet();
+            return projectId;
+        };
+    }
+}
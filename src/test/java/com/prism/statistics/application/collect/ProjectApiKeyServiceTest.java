@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 @IntegrationTest
@@ -21,6 +22,12 @@ class ProjectApiKeyServiceTest {
     @Autowired
     private ProjectApiKeyService projectApiKeyService;
 
+    @Autowired
+    private ProjectApiKeyCache projectApiKeyCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Sql("/sql/webhook/insert_project.sql")
     @Test
     void 유효한_API_Key로_프로젝트_ID를_조회한다() {
@@ -58,4 +65,22 @@ class ProjectApiKeyServiceTest {
                 .isInstanceOf(InvalidApiKeyException.class);
     }
 
+    @Test
+    void 존재하지_않던_API_Key로_프로젝트가_생성되면_캐시를_비우고_다시_조회한다() {
+        // given
+        assertThatThrownBy(() -> projectApiKeyService.resolveProjectId(TEST_API_KEY))
+                .isInstanceOf(InvalidApiKeyException.class);
+        jdbcTemplate.update(
+                "INSERT INTO projects (id, name, api_key, user_id, created_at, updated_at) "
+                        + "VALUES (1, 'test', ?, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                TEST_API_KEY
+        );
+
+        // when
+        projectApiKeyCache.evict(TEST_API_KEY);
+        Long actual = projectApiKeyService.resolveProjectId(TEST_API_KEY);
+
+        // then
+        assertThat(actual).isEqualTo(1L);
+    }
 }
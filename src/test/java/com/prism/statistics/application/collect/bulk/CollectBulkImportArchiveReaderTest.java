@@ -0,0 +1,94 @@
+package com.prism.statistics.application.collect.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectBulkImportArchiveReaderTest {
+
+    CollectBulkImportArchiveReader archiveReader = new CollectBulkImportArchiveReader(new ObjectMapper());
+
+    @Test
+    void 줄_단위_이벤트를_읽고_payload에서_PR_번호를_찾는다() {
+        // given
+        String archive = """
+                {"collectType":"PULL_REQUEST_OPENED","runId":1,"payload":{"runId":1,"pullRequest":{"number":10}}}
+
+                {"collectType":"PULL_REQUEST_CLOSED","runId":2,"payload":{"runId":2,"pullRequestNumber":10}}
+                {"collectType":"REVIEW_COMMENT_CREATED","runId":3,"payload":{"runId":3,"githubCommentId":5,"githubReviewId":7}}
+                """;
+
+        // when
+        List<CollectBulkImportEvent> actual = archiveReader.read(archive, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(event -> event.collectType()).containsExactly(
+                        CollectInboxType.PULL_REQUEST_OPENED,
+                        CollectInboxType.PULL_REQUEST_CLOSED,
+                        CollectInboxType.REVIEW_COMMENT_CREATED
+                ),
+                () -> assertThat(actual).extracting(event -> event.pullRequestNumber()).containsExactly(10, 10, null),
+                () -> assertThat(actual).extracting(event -> event.githubCommentId()).containsExactly(null, null, 5L),
+                () -> assertThat(actual.get(1).payloadJson()).isEqualTo("{\"runId\":2,\"pullRequestNumber\":10}")
+        );
+    }
+
+    @Test
+    void 읽을_수_없는_줄이_있으면_줄_번호와_함께_예외가_발생한다() {
+        // given
+        String archive = """
+                {"collectType":"PULL_REQUEST_CLOSED","runId":2,"payload":{"pullRequestNumber":10}}
+                {"collectType":"UNKNOWN","runId":3,"payload":{}}
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> archiveReader.read(archive, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("2번째 줄의 collectType을 지원하지 않습니다.");
+    }
+
+    @Test
+    void payload가_없으면_예외가_발생한다() {
+        // given
+        String archive = """
+                {"collectType":"PULL_REQUEST_CLOSED","runId":2}
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> archiveReader.read(archive, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("1번째 줄의 payload가 비어 있습니다.");
+    }
+
+    @Test
+    void 최대_건수를_넘으면_예외가_발생한다() {
+        // given
+        String archive = """
+                {"collectType":"PULL_REQUEST_CLOSED","runId":1,"payload":{}}
+                {"collectType":"PULL_REQUEST_CLOSED","runId":2,"payload":{}}
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> archiveReader.read(archive, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한 번에 가져올 수 있는 이벤트는 최대 1건입니다.");
+    }
+
+    @Test
+    void 이벤트가_없으면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> archiveReader.read("\n\n", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("가져올 이벤트가 비어 있습니다.");
+    }
+}
@@ -0,0 +1,88 @@
+package com.prism.statistics.application.collect.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectBulkImportGroupTest {
+
+    @Test
+    void PR_번호_순으로_묶고_PR이_없는_이벤트는_댓글별로_묶는다() {
+        // given
+        List<CollectBulkImportEvent> events = List.of(
+                event(CollectInboxType.REVIEW_COMMENT_EDITED, 60L, null, 7L),
+                event(CollectInboxType.REVIEW_COMMENT_CREATED, 50L, null, 7L),
+                event(CollectInboxType.REVIEW_COMMENT_CREATED, 55L, null, 8L),
+                event(CollectInboxType.PULL_REQUEST_CLOSED, 40L, 20, null),
+                event(CollectInboxType.PULL_REQUEST_OPENED, 10L, 10, null),
+                event(CollectInboxType.PULL_REQUEST_OPENED, 30L, 20, null)
+        );
+
+        // when
+        List<CollectBulkImportGroup> actual = CollectBulkImportGroup.plan(events);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(group -> group.pullRequestNumber())
+                        .containsExactly(10, 20, null, null),
+                () -> assertThat(actual).extracting(group -> group.githubCommentId())
+                        .containsExactly(null, null, 7L, 8L),
+                () -> assertThat(actual).extracting(group -> group.size()).containsExactly(1, 2, 2, 1),
+                () -> assertThat(actual.get(2).events()).extracting(event -> event.runId())
+                        .containsExactly(50L, 60L)
+        );
+    }
+
+    @Test
+    void PR_번호와_댓글_ID가_모두_없는_이벤트는_하나씩_묶는다() {
+        // given
+        List<CollectBulkImportEvent> events = List.of(
+                event(CollectInboxType.REVIEW_COMMENT_DELETED, 20L, null, null),
+                event(CollectInboxType.REVIEW_COMMENT_DELETED, 10L, null, null)
+        );
+
+        // when
+        List<CollectBulkImportGroup> actual = CollectBulkImportGroup.plan(events);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(group -> group.size()).containsExactly(1, 1),
+                () -> assertThat(actual).extracting(group -> group.events().get(0).runId())
+                        .containsExactly(10L, 20L)
+        );
+    }
+
+    @Test
+    void 같은_PR의_이벤트는_opened를_먼저_두고_runId_순으로_정렬한다() {
+        // given
+        List<CollectBulkImportEvent> events = List.of(
+                event(CollectInboxType.PULL_REQUEST_CLOSED, 40L, 10, null),
+                event(CollectInboxType.REVIEW_SUBMITTED, 20L, 10, null),
+                event(CollectInboxType.PULL_REQUEST_OPENED, 30L, 10, null),
+                event(CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 10L, 10, null)
+        );
+
+        // when
+        List<CollectBulkImportGroup> actual = CollectBulkImportGroup.plan(events);
+
+        // then
+        assertThat(actual.get(0).events()).extracting(event -> event.runId())
+                .containsExactly(30L, 10L, 20L, 40L);
+    }
+
+    private CollectBulkImportEvent event(
+            CollectInboxType collectType,
+            long runId,
+            Integer pullRequestNumber,
+            Long githubCommentId
+    ) {
+        return new CollectBulkImportEvent(collectType, runId, "{}", pullRequestNumber, githubCommentId);
+    }
+}
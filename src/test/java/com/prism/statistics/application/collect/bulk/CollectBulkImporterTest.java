@@ -0,0 +1,143 @@
+package com.prism.statistics.application.collect.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.prism.statistics.application.analysis.insight.DeferredInsightContext;
+import com.prism.statistics.application.analysis.insight.DeferredInsightDeriver;
+import com.prism.statistics.application.analysis.insight.DeferredInsightReport;
+import com.prism.statistics.application.collect.bulk.exception.CollectBulkImportInProgressException;
+import com.prism.statistics.application.collect.inbox.CollectConflictRetrier;
+import com.prism.statistics.application.collect.inbox.CollectInboxFailureReasonTruncator;
+import com.prism.statistics.global.config.properties.CollectRetryProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectBulkImporterTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Mock
+    CollectBulkImportGroupExecutor groupExecutor;
+
+    @Mock
+    DeferredInsightDeriver deferredInsightDeriver;
+
+    @Test
+    void 이벤트_묶음을_모두_반영한_뒤_작업을_완료한다() {
+        // given
+        CollectBulkImporter importer = createImporter(runnable -> runnable.run());
+        given(deferredInsightDeriver.derive(any())).willReturn(new DeferredInsightReport(2, 0));
+
+        // when
+        CollectBulkImportJob job = importer.start(1L, List.of(
+                event(CollectInboxType.PULL_REQUEST_OPENED, 10L, 10, null),
+                event(CollectInboxType.REVIEW_COMMENT_EDITED, 20L, null, 7L)
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(CollectBulkImportStatus.COMPLETED),
+                () -> assertThat(job.getGroupCount()).isEqualTo(2),
+                () -> assertThat(job.importedEventCount()).isEqualTo(2L),
+                () -> assertThat(job.getDerivedInsightCount()).isEqualTo(2),
+                () -> verify(groupExecutor, times(2)).execute(eq(1L), any())
+        );
+    }
+
+    @Test
+    void 동시_수정_충돌이_발생하면_이벤트_묶음을_다시_실행한다() {
+        // given
+        CollectBulkImporter importer = createImporter(runnable -> runnable.run());
+        willThrow(new ObjectOptimisticLockingFailureException("PullRequest", 1L))
+                .willDoNothing()
+                .given(groupExecutor)
+                .execute(eq(1L), any());
+        given(deferredInsightDeriver.derive(any())).willReturn(new DeferredInsightReport(0, 0));
+
+        // when
+        CollectBulkImportJob job = importer.start(1L, List.of(event(CollectInboxType.PULL_REQUEST_CLOSED, 10L, 10, null)));
+
+        // then
+        assertAll(
+                () -> assertThat(job.importedEventCount()).isEqualTo(1L),
+                () -> assertThat(job.failedGroups()).isEmpty(),
+                () -> verify(groupExecutor, times(2)).execute(eq(1L), any())
+        );
+    }
+
+    @Test
+    void 동시_수정_충돌이_재실행_횟수를_넘으면_실패한_묶음으로_기록한다() {
+        // given
+        CollectBulkImporter importer = createImporter(runnable -> runnable.run());
+        willThrow(new ObjectOptimisticLockingFailureException("PullRequest", 1L))
+                .given(groupExecutor)
+                .execute(eq(1L), any());
+        given(deferredInsightDeriver.derive(any())).willReturn(new DeferredInsightReport(0, 0));
+
+        // when
+        CollectBulkImportJob job = importer.start(1L, List.of(event(CollectInboxType.PULL_REQUEST_CLOSED, 10L, 10, null)));
+
+        // then
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(CollectBulkImportStatus.COMPLETED),
+                () -> assertThat(job.importedEventCount()).isZero(),
+                () -> assertThat(job.failedGroups()).extracting(failed -> failed.pullRequestNumber()).containsExactly(10),
+                () -> verify(groupExecutor, times(3)).execute(eq(1L), any())
+        );
+    }
+
+    @Test
+    void 진행_중인_가져오기_작업이_있으면_새_작업을_시작하지_않는다() {
+        // given
+        CollectBulkImporter importer = createImporter(runnable -> {});
+        importer.start(1L, List.of(event(CollectInboxType.PULL_REQUEST_OPENED, 10L, 10, null)));
+
+        // when & then
+        assertThatThrownBy(() -> importer.start(1L, List.of(event(CollectInboxType.PULL_REQUEST_OPENED, 11L, 11, null))))
+                .isInstanceOf(CollectBulkImportInProgressException.class);
+    }
+
+    private CollectBulkImporter createImporter(Executor executor) {
+        return new CollectBulkImporter(
+                FIXED_CLOCK,
+                new CollectConflictRetrier(new CollectRetryProperties(3, 1_000L, 60_000L, 0.2d, 3)),
+                groupExecutor,
+                new CollectInboxFailureReasonTruncator(),
+                new DeferredInsightContext(),
+                deferredInsightDeriver,
+                executor
+        );
+    }
+
+    private CollectBulkImportEvent event(
+            CollectInboxType collectType,
+            long runId,
+            Integer pullRequestNumber,
+            Long githubCommentId
+    ) {
+        return new CollectBulkImportEvent(collectType, runId, "{}", pullRequestNumber, githubCommentId);
+    }
+}
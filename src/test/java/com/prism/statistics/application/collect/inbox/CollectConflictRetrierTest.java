@@ -0,0 +1,84 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.global.config.properties.CollectRetryProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectConflictRetrierTest {
+
+    CollectConflictRetrier collectConflictRetrier = new CollectConflictRetrier(
+            new CollectRetryProperties(3, 1000L, 60000L, 0.0, 3)
+    );
+
+    @Test
+    void 동시_수정_충돌이_발생하면_재실행_전_작업을_수행하고_다시_실행한다() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        List<Integer> retriedAttempts = new ArrayList<>();
+
+        // when
+        String actual = collectConflictRetrier.execute(
+                () -> {
+                    if (executions.incrementAndGet() < 3) {
+                        throw new ObjectOptimisticLockingFailureException("PullRequest", 1L);
+                    }
+                    return "완료";
+                },
+                attempt -> retriedAttempts.add(attempt)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("완료"),
+                () -> assertThat(executions.get()).isEqualTo(3),
+                () -> assertThat(retriedAttempts).containsExactly(1, 2)
+        );
+    }
+
+    @Test
+    void 동시_수정_충돌이_재실행_횟수를_넘으면_예외를_그대로_던진다() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> collectConflictRetrier.executeWithoutResult(
+                        () -> {
+                            executions.incrementAndGet();
+                            throw new ObjectOptimisticLockingFailureException("PullRequest", 1L);
+                        },
+                        attempt -> { }
+                )).isInstanceOf(ObjectOptimisticLockingFailureException.class),
+                () -> assertThat(executions.get()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void 동시_수정_충돌이_아닌_예외는_다시_실행하지_않는다() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> collectConflictRetrier.executeWithoutResult(
+                        () -> {
+                            executions.incrementAndGet();
+                            throw new IllegalStateException("DB 오류");
+                        },
+                        attempt -> { }
+                )).isInstanceOf(IllegalStateException.class),
+                () -> assertThat(executions.get()).isEqualTo(1)
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxAdmissionRejectedException;
+import com.prism.statistics.global.config.properties.CollectInboxAdmissionProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxAdmissionBufferTest {
+
+    @Test
+    void 버퍼가_가득_차면_요청을_거절한다() {
+        // given
+        CollectInboxAdmissionBuffer buffer = createBuffer(1);
+        buffer.admit(createPendingInbox(1L));
+
+        // when & then
+        assertThatThrownBy(() -> buffer.admit(createPendingInbox(2L)))
+                .isInstanceOf(CollectInboxAdmissionRejectedException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void pollBatch는_적재된_순서대로_최대_크기만큼_꺼낸다() throws InterruptedException {
+        // given
+        CollectInboxAdmissionBuffer buffer = createBuffer(10);
+        CollectInbox first = createPendingInbox(1L);
+        CollectInbox second = createPendingInbox(2L);
+        CollectInbox third = createPendingInbox(3L);
+        buffer.admit(first);
+        buffer.admit(second);
+        buffer.admit(third);
+
+        // when
+        List<CollectInbox> actual = buffer.pollBatch(2, 10L);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsExactly(first, second),
+                () -> assertThat(buffer.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void pollBatch는_대기_시간_동안_요청이_없으면_빈_목록을_반환한다() throws InterruptedException {
+        // given
+        CollectInboxAdmissionBuffer buffer = createBuffer(10);
+
+        // when
+        List<CollectInbox> actual = buffer.pollBatch(2, 1L);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    private CollectInboxAdmissionBuffer createBuffer(int bufferCapacity) {
+        return new CollectInboxAdmissionBuffer(
+                new CollectInboxAdmissionProperties(true, bufferCapacity, 1, 20L, 3L, 3)
+        );
+    }
+
+    private CollectInbox createPendingInbox(long runId) {
+        return CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, runId, "{}");
+    }
+}
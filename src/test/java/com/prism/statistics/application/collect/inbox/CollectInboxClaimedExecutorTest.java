@@ -3,11 +3,14 @@ package com.prism.statistics.application.collect.inbox;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxLeaseLostException;
 import com.prism.statistics.application.collect.inbox.routing.CollectInboxContext;
 import com.prism.statistics.application.collect.inbox.routing.CollectInboxEventRouter;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
@@ -57,6 +60,8 @@ class CollectInboxClaimedExecutorTest {
     void 비즈니스_로직_실행_후_PROCESSED로_마킹하고_저장한다() {
         // given
         CollectInbox inbox = createProcessingInbox();
+        BoxProcessingLease heldLease = inbox.getProcessingLease();
+        given(collectInboxRepository.saveIfLeaseHeld(inbox, heldLease)).willReturn(true);
 
         // when
         collectInboxClaimedExecutor.execute(inbox);
@@ -70,7 +75,18 @@ class CollectInboxClaimedExecutorTest {
                 eq(new CollectInboxContext(1L, "{}")),
                 eq(CollectInboxType.PULL_REQUEST_OPENED)
         );
-        verify(collectInboxRepository).save(inbox);
+        verify(collectInboxRepository).saveIfLeaseHeld(inbox, heldLease);
+    }
+
+    @Test
+    void 처리_결과를_반영할_때_lease를_잃었으면_예외를_던진다() {
+        // given
+        CollectInbox inbox = createProcessingInbox();
+        given(collectInboxRepository.saveIfLeaseHeld(eq(inbox), any())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> collectInboxClaimedExecutor.execute(inbox))
+                .isInstanceOf(CollectInboxLeaseLostException.class);
     }
 
     @Test
@@ -89,7 +105,7 @@ class CollectInboxClaimedExecutorTest {
                 .isInstanceOf(RuntimeException.class);
 
         assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING);
-        verify(collectInboxRepository, never()).save(inbox);
+        verify(collectInboxRepository, never()).saveIfLeaseHeld(any(), any());
     }
 
     private CollectInbox createProcessingInbox() {
@@ -105,6 +121,7 @@ class CollectInboxClaimedExecutorTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.absent())
                 .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
                 .build();
     }
 }
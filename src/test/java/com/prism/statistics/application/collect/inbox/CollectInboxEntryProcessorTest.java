@@ -3,13 +3,15 @@ package com.prism.statistics.application.collect.inbox;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxLeaseLostException;
 import com.prism.statistics.global.config.properties.CollectRetryProperties;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
@@ -19,10 +21,10 @@ import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInbox
 import com.prism.statistics.infrastructure.common.BoxEventTime;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureSnapshot;
 import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -30,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.QueryTimeoutException;
 
 @SuppressWarnings("NonAsciiCharacters")
@@ -47,183 +50,209 @@ class CollectInboxEntryProcessorTest {
 
     @BeforeEach
     void setUp() {
-        CollectRetryProperties retryProperties = new CollectRetryProperties(3);
+        CollectRetryProperties retryProperties = new CollectRetryProperties(3, 1000L, 60000L, 0.0, 3);
 
         collectInboxEntryProcessor = new CollectInboxEntryProcessor(
                 Clock.fixed(Instant.parse("2026-03-16T00:00:00Z"), ZoneId.of("Asia/Seoul")),
                 retryProperties,
                 collectInboxRepository,
                 collectInboxClaimedExecutor,
+                new CollectConflictRetrier(retryProperties),
                 new CollectInboxFailureReasonTruncator(),
-                new CollectRetryExceptionClassifier()
+                new CollectRetryExceptionClassifier(),
+                new CollectInboxRetryBackoff(retryProperties),
+                new CollectInboxMetrics(
+                        Clock.fixed(Instant.parse("2026-03-16T00:00:00Z"), ZoneId.of("Asia/Seoul")),
+                        new SimpleMeterRegistry()
+                )
         );
     }
 
     @Test
-    void markProcessing_선점에_실패하면_처리를_건너뛴다() {
+    void id가_없는_inbox는_처리를_건너뛴다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(pending.getId()).willReturn(10L);
-        given(collectInboxRepository.markProcessingIfClaimable(eq(10L), any())).willReturn(false);
+        CollectInbox claimedInbox = org.mockito.Mockito.mock(CollectInbox.class);
+        given(claimedInbox.getId()).willReturn(null);
 
         // when
-        collectInboxEntryProcessor.process(pending);
+        collectInboxEntryProcessor.process(claimedInbox);
 
         // then
-        verify(collectInboxRepository, never()).findById(anyLong());
         verify(collectInboxClaimedExecutor, never()).execute(any());
     }
 
     @Test
-    void markProcessing_성공후_inbox_재조회에_실패하면_추가_처리없이_종료한다() {
+    void 정상처리시_executor가_호출된다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(pending.getId()).willReturn(10L);
-        given(collectInboxRepository.markProcessingIfClaimable(eq(10L), any())).willReturn(true);
-        given(collectInboxRepository.findById(10L)).willReturn(Optional.empty());
+        CollectInbox actual = createProcessingInbox(1L, 1);
 
         // when
-        collectInboxEntryProcessor.process(pending);
+        collectInboxEntryProcessor.process(actual);
 
         // then
-        verify(collectInboxClaimedExecutor, never()).execute(any());
+        verify(collectInboxClaimedExecutor).execute(actual);
     }
 
     @Test
-    void 정상처리시_executor가_호출된다() {
+    void 커밋_시점에_동시_수정_충돌이_발생하면_PROCESSING으로_되돌려_다시_실행한다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(pending.getId()).willReturn(11L);
+        CollectInbox actual = createProcessingInbox(6L, 1);
 
-        CollectInbox actual = createProcessingInbox(1L, 1);
+        willAnswer(invocation -> {
+            actual.markProcessed(Instant.parse("2026-03-16T00:00:00Z"));
+            throw new OptimisticLockingFailureException("동시 수정 충돌");
+        }).willAnswer(invocation -> {
+            actual.markProcessed(Instant.parse("2026-03-16T00:00:00Z"));
+            return null;
+        }).given(collectInboxClaimedExecutor).execute(actual);
 
-        given(collectInboxRepository.markProcessingIfClaimable(eq(11L), any())).willReturn(true);
-        given(collectInboxRepository.findById(11L)).willReturn(Optional.of(actual));
+        // when
+        collectInboxEntryProcessor.process(actual);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getStatus()).isEqualTo(CollectInboxStatus.PROCESSED),
+                () -> assertThat(actual.getProcessingAttempt()).isEqualTo(1),
+                () -> verify(collectInboxClaimedExecutor, times(2)).execute(actual),
+                () -> verify(collectInboxRepository, never()).saveIfLeaseHeld(any(), any())
+        );
+    }
+
+    @Test
+    void 동시_수정_충돌이_재실행_횟수를_넘기면_RETRY_PENDING으로_마킹된다() {
+        // given
+        CollectInbox actual = createProcessingInbox(7L, 1);
+
+        willAnswer(invocation -> {
+            actual.markProcessed(Instant.parse("2026-03-16T00:00:00Z"));
+            throw new OptimisticLockingFailureException("동시 수정 충돌");
+        }).given(collectInboxClaimedExecutor).execute(actual);
 
         // when
-        collectInboxEntryProcessor.process(pending);
+        collectInboxEntryProcessor.process(actual);
 
         // then
-        verify(collectInboxClaimedExecutor).execute(actual);
+        assertAll(
+                () -> assertThat(actual.getStatus()).isEqualTo(CollectInboxStatus.RETRY_PENDING),
+                () -> assertThat(actual.getFailure().type()).isEqualTo(CollectInboxFailureType.RETRYABLE),
+                () -> verify(collectInboxClaimedExecutor, times(3)).execute(actual),
+                () -> verify(collectInboxRepository).saveIfLeaseHeld(eq(actual), any())
+        );
     }
 
     @Test
-    void 재시도_가능한_예외_발생시_첫_시도면_RETRY_PENDING으로_마킹된다() {
+    void lease를_잃으면_실패_상태를_저장하지_않는다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(pending.getId()).willReturn(10L);
+        CollectInbox actual = createProcessingInbox(8L, 1);
+
+        willThrow(new CollectInboxLeaseLostException(actual.getId()))
+                .given(collectInboxClaimedExecutor)
+                .execute(actual);
+
+        // when
+        collectInboxEntryProcessor.process(actual);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> verify(collectInboxRepository, never()).saveIfLeaseHeld(any(), any())
+        );
+    }
 
+    @Test
+    void 재시도_가능한_예외_발생시_첫_시도면_RETRY_PENDING으로_마킹된다() {
+        // given
         CollectInbox actual = createProcessingInbox(2L, 1);
 
-        given(collectInboxRepository.markProcessingIfClaimable(eq(10L), any())).willReturn(true);
-        given(collectInboxRepository.findById(10L)).willReturn(Optional.of(actual));
         willThrow(new QueryTimeoutException("DB 타임아웃"))
                 .given(collectInboxClaimedExecutor)
                 .execute(any());
 
         // when
-        collectInboxEntryProcessor.process(pending);
+        collectInboxEntryProcessor.process(actual);
 
         // then
         assertAll(
                 () -> assertThat(actual.getStatus()).isEqualTo(CollectInboxStatus.RETRY_PENDING),
-                () -> assertThat(actual.getFailure().type()).isEqualTo(CollectInboxFailureType.RETRYABLE)
+                () -> assertThat(actual.getFailure().type()).isEqualTo(CollectInboxFailureType.RETRYABLE),
+                () -> assertThat(actual.getNextAttemptTime().occurredAt())
+                        .isEqualTo(Instant.parse("2026-03-16T00:00:01Z"))
         );
-        verify(collectInboxRepository).save(actual);
+        verify(collectInboxRepository).saveIfLeaseHeld(eq(actual), any());
     }
 
     @Test
     void 재시도_불가능한_예외_발생시_즉시_FAILED와_BUSINESS_INVARIANT로_마킹된다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(pending.getId()).willReturn(10L);
-
         CollectInbox actual = createProcessingInbox(20L, 1);
 
-        given(collectInboxRepository.markProcessingIfClaimable(eq(10L), any())).willReturn(true);
-        given(collectInboxRepository.findById(10L)).willReturn(Optional.of(actual));
         willThrow(new IllegalArgumentException("비즈니스 로직 위반"))
                 .given(collectInboxClaimedExecutor)
                 .execute(any());
 
         // when
-        collectInboxEntryProcessor.process(pending);
+        collectInboxEntryProcessor.process(actual);
 
         // then
         assertAll(
                 () -> assertThat(actual.getStatus()).isEqualTo(CollectInboxStatus.FAILED),
                 () -> assertThat(actual.getFailure().type()).isEqualTo(CollectInboxFailureType.BUSINESS_INVARIANT)
         );
-        verify(collectInboxRepository).save(actual);
+        verify(collectInboxRepository).saveIfLeaseHeld(eq(actual), any());
     }
 
     @Test
     void 최대_시도에_도달하면_FAILED와_RETRY_EXHAUSTED로_마킹된다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(pending.getId()).willReturn(10L);
-
         CollectInbox actual = createProcessingInbox(3L, 3);
 
-        given(collectInboxRepository.markProcessingIfClaimable(eq(10L), any())).willReturn(true);
-        given(collectInboxRepository.findById(10L)).willReturn(Optional.of(actual));
         willThrow(new QueryTimeoutException("3차 실패"))
                 .given(collectInboxClaimedExecutor)
                 .execute(any());
 
         // when
-        collectInboxEntryProcessor.process(pending);
+        collectInboxEntryProcessor.process(actual);
 
         // then
         assertAll(
                 () -> assertThat(actual.getStatus()).isEqualTo(CollectInboxStatus.FAILED),
                 () -> assertThat(actual.getFailure().type()).isEqualTo(CollectInboxFailureType.RETRY_EXHAUSTED)
         );
-        verify(collectInboxRepository).save(actual);
+        verify(collectInboxRepository).saveIfLeaseHeld(eq(actual), any());
     }
 
     @Test
     void 긴_실패사유는_500자로_잘려서_저장된다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(pending.getId()).willReturn(10L);
-
         CollectInbox actual = createProcessingInbox(4L, 1);
 
-        given(collectInboxRepository.markProcessingIfClaimable(eq(10L), any())).willReturn(true);
-        given(collectInboxRepository.findById(10L)).willReturn(Optional.of(actual));
         willThrow(new RuntimeException("x".repeat(600)))
                 .given(collectInboxClaimedExecutor)
                 .execute(any());
 
         // when
-        collectInboxEntryProcessor.process(pending);
+        collectInboxEntryProcessor.process(actual);
 
         // then
         assertThat(actual.getFailure().reason()).hasSize(500);
-        verify(collectInboxRepository).save(actual);
+        verify(collectInboxRepository).saveIfLeaseHeld(eq(actual), any());
     }
 
     @Test
     void 예외메시지가_비어있으면_unknown_failure로_저장된다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(pending.getId()).willReturn(10L);
-
         CollectInbox actual = createProcessingInbox(5L, 1);
 
-        given(collectInboxRepository.markProcessingIfClaimable(eq(10L), any())).willReturn(true);
-        given(collectInboxRepository.findById(10L)).willReturn(Optional.of(actual));
         willThrow(new RuntimeException())
                 .given(collectInboxClaimedExecutor)
                 .execute(any());
 
         // when
-        collectInboxEntryProcessor.process(pending);
+        collectInboxEntryProcessor.process(actual);
 
         // then
         assertThat(actual.getFailure().reason()).isEqualTo("unknown failure");
-        verify(collectInboxRepository).save(actual);
+        verify(collectInboxRepository).saveIfLeaseHeld(eq(actual), any());
     }
 
     private CollectInbox createProcessingInbox(long runId, int processingAttempt) {
@@ -239,6 +268,7 @@ class CollectInboxEntryProcessorTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.absent())
                 .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
                 .build();
     }
 }
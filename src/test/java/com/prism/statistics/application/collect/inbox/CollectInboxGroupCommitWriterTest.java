@@ -0,0 +1,186 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.prism.statistics.global.config.properties.CollectInboxAdmissionProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxGroupCommitWriterTest {
+
+    private static final CollectInboxAdmissionProperties ADMISSION_PROPERTIES =
+            new CollectInboxAdmissionProperties(false, 10, 2, 1L, 1L, 3);
+
+    @Mock
+    CollectInboxProcessor collectInboxProcessor;
+
+    CollectInboxAdmissionBuffer admissionBuffer = new CollectInboxAdmissionBuffer(ADMISSION_PROPERTIES);
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void flush는_배치를_한_번에_저장한다() {
+        // given
+        CollectInboxGroupCommitWriter writer = createWriter();
+        CollectInbox first = createPendingInbox(1L);
+        CollectInbox second = createPendingInbox(2L);
+        given(collectInboxProcessor.enqueueAll(List.of(first, second))).willReturn(List.of(
+                CollectInboxEnqueueResult.accepted(first, 10L),
+                CollectInboxEnqueueResult.duplicated(second)
+        ));
+
+        // when
+        boolean actual = writer.flush(List.of(first, second));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isTrue(),
+                () -> verify(collectInboxProcessor).enqueueAll(List.of(first, second))
+        );
+    }
+
+    @Test
+    void flush는_빈_배치를_저장하지_않는다() {
+        // given
+        CollectInboxGroupCommitWriter writer = createWriter();
+
+        // when
+        boolean actual = writer.flush(List.of());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isTrue(),
+                () -> verify(collectInboxProcessor, never()).enqueueAll(anyList())
+        );
+    }
+
+    @Test
+    void flush는_저장에_실패하면_실패를_반환한다() {
+        // given
+        CollectInboxGroupCommitWriter writer = createWriter();
+        CollectInbox pending = createPendingInbox(1L);
+        given(collectInboxProcessor.enqueueAll(List.of(pending))).willThrow(new IllegalStateException("db error"));
+
+        // when
+        boolean actual = writer.flush(List.of(pending));
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void flushWithRetry는_저장에_실패한_배치를_다시_저장한다() {
+        // given
+        CollectInboxGroupCommitWriter writer = createWriter();
+        CollectInbox pending = createPendingInbox(1L);
+        given(collectInboxProcessor.enqueueAll(List.of(pending)))
+                .willThrow(new IllegalStateException("db error"))
+                .willReturn(List.of(CollectInboxEnqueueResult.accepted(pending, 10L)));
+
+        // when
+        writer.flushWithRetry(List.of(pending));
+
+        // then
+        assertAll(
+                () -> verify(collectInboxProcessor, times(2)).enqueueAll(List.of(pending)),
+                () -> assertThat(droppedCount()).isZero()
+        );
+    }
+
+    @Test
+    void flushWithRetry는_최대_시도_횟수만큼_실패하면_배치를_버리고_집계한다() {
+        // given
+        CollectInboxGroupCommitWriter writer = createWriter();
+        CollectInbox first = createPendingInbox(1L);
+        CollectInbox second = createPendingInbox(2L);
+        given(collectInboxProcessor.enqueueAll(List.of(first, second))).willThrow(new IllegalStateException("db error"));
+
+        // when
+        writer.flushWithRetry(List.of(first, second));
+
+        // then
+        assertAll(
+                () -> verify(collectInboxProcessor, times(3)).enqueueAll(List.of(first, second)),
+                () -> assertThat(droppedCount()).isEqualTo(2.0d)
+        );
+    }
+
+    @Test
+    void flushRemaining은_버퍼에_남은_요청을_배치_크기로_나눠_저장한다() {
+        // given
+        CollectInboxGroupCommitWriter writer = createWriter();
+        CollectInbox first = createPendingInbox(1L);
+        CollectInbox second = createPendingInbox(2L);
+        CollectInbox third = createPendingInbox(3L);
+        given(collectInboxProcessor.enqueueAll(anyList())).willAnswer(invocation -> {
+            List<CollectInbox> inboxes = invocation.getArgument(0);
+            return inboxes.stream()
+                    .map(inbox -> CollectInboxEnqueueResult.accepted(inbox, inbox.getRunId()))
+                    .toList();
+        });
+        admissionBuffer.admit(first);
+        admissionBuffer.admit(second);
+        admissionBuffer.admit(third);
+
+        // when
+        writer.flushRemaining();
+
+        // then
+        assertAll(
+                () -> verify(collectInboxProcessor).enqueueAll(List.of(first, second)),
+                () -> verify(collectInboxProcessor).enqueueAll(List.of(third)),
+                () -> assertThat(admissionBuffer.size()).isZero(),
+                () -> assertThat(droppedCount()).isZero()
+        );
+    }
+
+    @Test
+    void 비활성화되어_있으면_저장_스레드를_시작하지_않는다() {
+        // given
+        CollectInboxGroupCommitWriter writer = createWriter();
+
+        // when
+        writer.start();
+
+        // then
+        assertThat(writer.isRunning()).isFalse();
+    }
+
+    private CollectInboxGroupCommitWriter createWriter() {
+        return new CollectInboxGroupCommitWriter(
+                ADMISSION_PROPERTIES,
+                admissionBuffer,
+                collectInboxProcessor,
+                meterRegistry
+        );
+    }
+
+    private double droppedCount() {
+        return meterRegistry.get("collect.inbox.admission.dropped")
+                .counter()
+                .count();
+    }
+
+    private CollectInbox createPendingInbox(long runId) {
+        return CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, runId, "{}");
+    }
+}
@@ -0,0 +1,177 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureSnapshot;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.common.BoxEventTime;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxLaneDispatcherTest {
+
+    @Mock
+    CollectInboxEntryProcessor collectInboxEntryProcessor;
+
+    CollectInboxLeaseRegistry leaseRegistry = new CollectInboxLeaseRegistry();
+
+    @Test
+    void 같은_PR의_엔트리는_선점_순서대로_처리된다() {
+        // given
+        CollectInboxLaneDispatcher dispatcher = createDispatcher(4, 100, 10, command -> command.run());
+        CollectInbox first = createClaimedInbox(1L, "{\"pullRequestNumber\":7}");
+        CollectInbox second = createClaimedInbox(2L, "{\"pullRequest\":{\"number\":7}}");
+        CollectInbox third = createClaimedInbox(3L, "{\"pullRequestNumber\":7}");
+
+        // when
+        dispatcher.dispatch(List.of(first, second, third));
+
+        // then
+        InOrder inOrder = inOrder(collectInboxEntryProcessor);
+        inOrder.verify(collectInboxEntryProcessor).process(first);
+        inOrder.verify(collectInboxEntryProcessor).process(second);
+        inOrder.verify(collectInboxEntryProcessor).process(third);
+    }
+
+    @Test
+    void lane은_lane_배치_크기씩_나누어_큐가_빌_때까지_처리한다() {
+        // given
+        CollectInboxLaneDispatcher dispatcher = createDispatcher(1, 100, 1, command -> command.run());
+        CollectInbox first = createClaimedInbox(1L, "{\"pullRequestNumber\":7}");
+        CollectInbox second = createClaimedInbox(2L, "{\"pullRequestNumber\":7}");
+        CollectInbox third = createClaimedInbox(3L, "{\"pullRequestNumber\":7}");
+
+        // when
+        dispatcher.dispatch(List.of(first, second, third));
+
+        // then
+        InOrder inOrder = inOrder(collectInboxEntryProcessor);
+        inOrder.verify(collectInboxEntryProcessor).process(first);
+        inOrder.verify(collectInboxEntryProcessor).process(second);
+        inOrder.verify(collectInboxEntryProcessor).process(third);
+        assertThat(dispatcher.availableCapacity()).isEqualTo(100);
+    }
+
+    @Test
+    void 여유_용량은_모든_lane의_남은_용량을_합해_계산한다() {
+        // given
+        CollectInboxLaneDispatcher dispatcher = createDispatcher(2, 5, 1, command -> {
+        });
+        CollectInbox first = createClaimedInbox(1L, "{\"pullRequestNumber\":7}");
+        CollectInbox second = createClaimedInbox(2L, "{\"pullRequestNumber\":7}");
+
+        // when
+        dispatcher.dispatch(List.of(first, second));
+
+        // then
+        assertThat(dispatcher.availableCapacity()).isEqualTo(8);
+    }
+
+    @Test
+    void 엔트리_처리_중_예외가_발생해도_다음_엔트리를_계속_처리한다() {
+        // given
+        CollectInboxLaneDispatcher dispatcher = createDispatcher(1, 100, 10, command -> command.run());
+        CollectInbox first = createClaimedInbox(1L, "{\"pullRequestNumber\":7}");
+        CollectInbox second = createClaimedInbox(2L, "{\"pullRequestNumber\":8}");
+        willThrow(new RuntimeException("처리 실패"))
+                .given(collectInboxEntryProcessor).process(first);
+
+        // when
+        assertThatCode(() -> dispatcher.dispatch(List.of(first, second)))
+                .doesNotThrowAnyException();
+
+        // then
+        verify(collectInboxEntryProcessor).process(second);
+    }
+
+    @Test
+    void lane_큐가_가득_차면_초과_엔트리는_처리하지_않고_반환한다() {
+        // given
+        CollectInboxLaneDispatcher dispatcher = createDispatcher(1, 1, 10, command -> {
+        });
+        CollectInbox first = createClaimedInbox(1L, "{\"pullRequestNumber\":7}");
+        CollectInbox second = createClaimedInbox(2L, "{\"pullRequestNumber\":7}");
+
+        // when
+        List<CollectInbox> actual = dispatcher.dispatch(List.of(first, second));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).containsExactly(second),
+                () -> verify(collectInboxEntryProcessor, never()).process(second)
+        );
+    }
+
+    @Test
+    void 처리를_마친_엔트리와_lane에_넣지_못한_엔트리의_lease는_해제된다() {
+        // given
+        CollectInboxLaneDispatcher dispatcher = createDispatcher(1, 1, 10, command -> command.run());
+        CollectInbox first = createClaimedInbox(1L, "{\"pullRequestNumber\":7}");
+        CollectInbox second = createClaimedInbox(2L, "{\"pullRequestNumber\":7}");
+        leaseRegistry.hold(List.of(first, second));
+
+        // when
+        dispatcher.dispatch(List.of(first, second));
+
+        // then
+        assertThat(leaseRegistry.heldInboxIds()).isEmpty();
+    }
+
+    private CollectInboxLaneDispatcher createDispatcher(
+            int laneCount,
+            int laneQueueCapacity,
+            int laneBatchSize,
+            Executor laneExecutor
+    ) {
+        CollectInboxProperties properties = new CollectInboxProperties(
+                200L, 5000L, 60000L, true, 30, laneCount, laneQueueCapacity, laneBatchSize, 1000
+        );
+
+        return new CollectInboxLaneDispatcher(
+                properties,
+                laneExecutor,
+                new CollectInboxPartitionKeyResolver(new ObjectMapper()),
+                collectInboxEntryProcessor,
+                leaseRegistry
+        );
+    }
+
+    private CollectInbox createClaimedInbox(Long id, String payloadJson) {
+        return CollectInbox.rehydrateBuilder()
+                .id(id)
+                .collectType(CollectInboxType.PULL_REQUEST_SYNCHRONIZED)
+                .projectId(1L)
+                .runId(id)
+                .payloadJson(payloadJson)
+                .status(CollectInboxStatus.PROCESSING)
+                .processingAttempt(1)
+                .processingLease(BoxProcessingLease.claimed(Instant.parse("2026-03-16T00:00:00Z")))
+                .processedTime(BoxEventTime.absent())
+                .failedTime(BoxEventTime.absent())
+                .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.prism.statistics.global.config.properties.CollectInboxLeaseProperties;
+import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureSnapshot;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRepository;
+import com.prism.statistics.infrastructure.common.BoxEventTime;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxLeaseHeartbeatTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Mock
+    CollectInboxRepository collectInboxRepository;
+
+    CollectInboxLeaseRegistry leaseRegistry = new CollectInboxLeaseRegistry();
+
+    @Test
+    void 보유한_엔트리의_lease를_소유자_기준으로_연장한다() {
+        // given
+        CollectInboxLeaseHeartbeat heartbeat = createHeartbeat(true);
+        leaseRegistry.hold(List.of(createClaimedInbox(1L)));
+
+        // when
+        heartbeat.renewLeases();
+
+        // then
+        verify(collectInboxRepository).renewLeases(List.of(1L), "worker-1", NOW.plusMillis(30_000L));
+    }
+
+    @Test
+    void 보유한_엔트리가_없으면_lease를_연장하지_않는다() {
+        // given
+        CollectInboxLeaseHeartbeat heartbeat = createHeartbeat(true);
+
+        // when
+        heartbeat.renewLeases();
+
+        // then
+        verify(collectInboxRepository, never()).renewLeases(anyList(), anyString(), any(Instant.class));
+    }
+
+    @Test
+    void worker가_비활성화되어_있으면_lease를_연장하지_않는다() {
+        // given
+        CollectInboxLeaseHeartbeat heartbeat = createHeartbeat(false);
+        leaseRegistry.hold(List.of(createClaimedInbox(1L)));
+
+        // when
+        heartbeat.renewLeases();
+
+        // then
+        verify(collectInboxRepository, never()).renewLeases(anyList(), anyString(), any(Instant.class));
+    }
+
+    @Test
+    void lease_연장_중_예외가_발생해도_전파하지_않는다() {
+        // given
+        CollectInboxLeaseHeartbeat heartbeat = createHeartbeat(true);
+        leaseRegistry.hold(List.of(createClaimedInbox(1L)));
+        given(collectInboxRepository.renewLeases(anyList(), anyString(), any(Instant.class)))
+                .willThrow(new IllegalStateException("갱신 실패"));
+
+        // when & then
+        assertThatCode(() -> heartbeat.renewLeases()).doesNotThrowAnyException();
+    }
+
+    private CollectInboxLeaseHeartbeat createHeartbeat(boolean workerEnabled) {
+        CollectInboxProperties inboxProperties = new CollectInboxProperties(
+                200L, 5000L, 60000L, workerEnabled, 30, 4, 100, 10, 1000
+        );
+
+        return new CollectInboxLeaseHeartbeat(
+                FIXED_CLOCK,
+                inboxProperties,
+                new CollectInboxLeaseProperties(30_000L, 5_000L, 5_000L),
+                new CollectInboxLeaseOwner("worker-1"),
+                leaseRegistry,
+                collectInboxRepository
+        );
+    }
+
+    private CollectInbox createClaimedInbox(Long id) {
+        return CollectInbox.rehydrateBuilder()
+                .id(id)
+                .collectType(CollectInboxType.PULL_REQUEST_SYNCHRONIZED)
+                .projectId(1L)
+                .runId(id)
+                .payloadJson("{}")
+                .status(CollectInboxStatus.PROCESSING)
+                .processingAttempt(1)
+                .processingLease(BoxProcessingLease.claimed(NOW, "worker-1", NOW.plusMillis(30_000L)))
+                .processedTime(BoxEventTime.absent())
+                .failedTime(BoxEventTime.absent())
+                .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureSnapshot;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.common.BoxEventTime;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxLeaseRegistryTest {
+
+    private static final Instant STARTED_AT = Instant.parse("2026-03-16T00:00:00Z");
+
+    CollectInboxLeaseRegistry leaseRegistry = new CollectInboxLeaseRegistry();
+
+    @Test
+    void 처리를_마친_선점을_반납하면_보유_목록에서_제거한다() {
+        // given
+        CollectInbox claimedInbox = createClaimedInbox(1L, 1);
+        leaseRegistry.hold(List.of(claimedInbox));
+
+        // when
+        leaseRegistry.release(claimedInbox);
+
+        // then
+        assertThat(leaseRegistry.heldInboxIds()).isEmpty();
+    }
+
+    @Test
+    void 이전_선점의_반납은_같은_엔트리의_새_선점을_제거하지_않는다() {
+        // given
+        CollectInbox staleClaim = createClaimedInbox(1L, 1);
+        CollectInbox liveClaim = createClaimedInbox(1L, 2);
+        leaseRegistry.hold(List.of(staleClaim));
+        leaseRegistry.hold(List.of(liveClaim));
+
+        // when
+        leaseRegistry.release(staleClaim);
+
+        // then
+        assertThat(leaseRegistry.heldInboxIds()).containsExactly(1L);
+    }
+
+    private CollectInbox createClaimedInbox(Long id, int processingAttempt) {
+        return CollectInbox.rehydrateBuilder()
+                .id(id)
+                .collectType(CollectInboxType.PULL_REQUEST_SYNCHRONIZED)
+                .projectId(1L)
+                .runId(id)
+                .payloadJson("{}")
+                .status(CollectInboxStatus.PROCESSING)
+                .processingAttempt(processingAttempt)
+                .processingLease(BoxProcessingLease.claimed(STARTED_AT, "worker-1", STARTED_AT.plusSeconds(30L)))
+                .processedTime(BoxEventTime.absent())
+                .failedTime(BoxEventTime.absent())
+                .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
+                .build();
+    }
+}
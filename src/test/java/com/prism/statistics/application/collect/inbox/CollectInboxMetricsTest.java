@@ -0,0 +1,155 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureSnapshot;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.common.BoxEventTime;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxMetricsTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CollectInboxMetrics collectInboxMetrics = new CollectInboxMetrics(Clock.fixed(NOW, ZONE), meterRegistry);
+
+    @Test
+    void 처음_선점된_엔트리만_적재부터_선점까지의_대기_시간을_기록한다() {
+        // given
+        LocalDateTime enqueuedAt = LocalDateTime.ofInstant(NOW.minusMillis(300L), ZONE);
+        CollectInbox firstClaimed = createProcessingInbox(1L, enqueuedAt, 1);
+        CollectInbox retried = createProcessingInbox(2L, enqueuedAt, 2);
+
+        // when
+        collectInboxMetrics.recordClaimed(List.of(firstClaimed, retried), NOW);
+
+        // then
+        Timer claimWait = meterRegistry.get("collect.inbox.claim.wait").timer();
+        assertAll(
+                () -> assertThat(meterRegistry.get("collect.inbox.claimed").counter().count()).isEqualTo(2.0d),
+                () -> assertThat(claimWait.count()).isEqualTo(1L),
+                () -> assertThat(claimWait.max(TimeUnit.MILLISECONDS)).isEqualTo(300.0d)
+        );
+    }
+
+    @Test
+    void 선점부터_처리_완료까지의_시간을_기록한다() {
+        // given
+        BoxProcessingLease fastLease = BoxProcessingLease.claimed(NOW.minusMillis(5L));
+        BoxProcessingLease slowLease = BoxProcessingLease.claimed(NOW.minusMillis(2_000L));
+
+        // when
+        collectInboxMetrics.recordProcessed(fastLease, NOW);
+        collectInboxMetrics.recordProcessed(slowLease, NOW);
+
+        // then
+        Timer processingTime = meterRegistry.get("collect.inbox.processing.time").timer();
+        assertAll(
+                () -> assertThat(meterRegistry.get("collect.inbox.processed").counter().count()).isEqualTo(2.0d),
+                () -> assertThat(processingTime.count()).isEqualTo(2L),
+                () -> assertThat(processingTime.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2_005.0d),
+                () -> assertThat(processingTime.max(TimeUnit.MILLISECONDS)).isEqualTo(2_000.0d)
+        );
+    }
+
+    @Test
+    void lease가_없으면_처리_완료_건수만_기록한다() {
+        // when
+        collectInboxMetrics.recordProcessed(BoxProcessingLease.idle(), NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(meterRegistry.get("collect.inbox.processed").counter().count()).isEqualTo(1.0d),
+                () -> assertThat(meterRegistry.get("collect.inbox.processing.time").timer().count()).isZero()
+        );
+    }
+
+    @Test
+    void 실패_유형별_건수와_타입별_적재_건수를_기록한다() {
+        // when
+        collectInboxMetrics.recordEnqueued(CollectInboxType.PULL_REQUEST_OPENED);
+        collectInboxMetrics.recordEnqueued(CollectInboxType.PULL_REQUEST_OPENED);
+        collectInboxMetrics.recordFailures(CollectInboxFailureType.RETRYABLE, 1L);
+        collectInboxMetrics.recordFailures(CollectInboxFailureType.PROCESSING_TIMEOUT, 3L);
+
+        // then
+        assertAll(
+                () -> assertThat(enqueuedCount(CollectInboxType.PULL_REQUEST_OPENED)).isEqualTo(2.0d),
+                () -> assertThat(enqueuedCount(CollectInboxType.PULL_REQUEST_CLOSED)).isZero(),
+                () -> assertThat(failureCount(CollectInboxFailureType.RETRYABLE)).isEqualTo(1.0d),
+                () -> assertThat(failureCount(CollectInboxFailureType.PROCESSING_TIMEOUT)).isEqualTo(3.0d),
+                () -> assertThat(failureCount(CollectInboxFailureType.RETRY_EXHAUSTED)).isZero()
+        );
+    }
+
+    @Test
+    void 우선순위별_선점_가능_건수를_마지막_집계값으로_유지한다() {
+        // when
+        collectInboxMetrics.recordPriorityBacklog(List.of(
+                new CollectInboxPriorityBacklog(CollectInboxPriority.HIGH, 3L),
+                new CollectInboxPriorityBacklog(CollectInboxPriority.LOW, 40L)
+        ));
+        collectInboxMetrics.recordPriorityBacklog(List.of(
+                new CollectInboxPriorityBacklog(CollectInboxPriority.HIGH, 1L)
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(claimableCount(CollectInboxPriority.HIGH)).isEqualTo(1.0d),
+                () -> assertThat(claimableCount(CollectInboxPriority.NORMAL)).isZero(),
+                () -> assertThat(claimableCount(CollectInboxPriority.LOW)).isEqualTo(40.0d)
+        );
+    }
+
+    private double enqueuedCount(CollectInboxType collectType) {
+        return meterRegistry.get("collect.inbox.enqueued").tag("type", collectType.name()).counter().count();
+    }
+
+    private double failureCount(CollectInboxFailureType failureType) {
+        return meterRegistry.get("collect.inbox.failures").tag("failure_type", failureType.name()).counter().count();
+    }
+
+    private double claimableCount(CollectInboxPriority priority) {
+        return meterRegistry.get("collect.inbox.claimable").tag("priority", priority.name()).gauge().value();
+    }
+
+    private CollectInbox createProcessingInbox(Long id, LocalDateTime enqueuedAt, int processingAttempt) {
+        return CollectInbox.rehydrateBuilder()
+                .id(id)
+                .collectType(CollectInboxType.PULL_REQUEST_OPENED)
+                .projectId(1L)
+                .runId(id)
+                .payloadJson("{}")
+                .enqueuedAt(enqueuedAt)
+                .status(CollectInboxStatus.PROCESSING)
+                .processingAttempt(processingAttempt)
+                .processingLease(BoxProcessingLease.claimed(NOW))
+                .processedTime(BoxEventTime.absent())
+                .failedTime(BoxEventTime.absent())
+                .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
+                .build();
+    }
+}
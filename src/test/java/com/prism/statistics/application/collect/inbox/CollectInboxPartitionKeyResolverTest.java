@@ -0,0 +1,145 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxPartitionKeyResolverTest {
+
+    CollectInboxPartitionKeyResolver resolver = new CollectInboxPartitionKeyResolver(new ObjectMapper());
+
+    @Test
+    void pullRequestNumber가_있으면_PR_번호로_키를_만든다() {
+        // given
+        CollectInbox inbox = CollectInbox.pending(
+                CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 1L, 10L, "{\"pullRequestNumber\":7}"
+        );
+
+        // when
+        String actual = resolver.resolve(inbox);
+
+        // then
+        assertThat(actual).isEqualTo("pull-request:1:7");
+    }
+
+    @Test
+    void opened_payload는_pullRequest_number로_키를_만든다() {
+        // given
+        CollectInbox inbox = CollectInbox.pending(
+                CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{\"pullRequest\":{\"number\":7}}"
+        );
+
+        // when
+        String actual = resolver.resolve(inbox);
+
+        // then
+        assertThat(actual).isEqualTo("pull-request:1:7");
+    }
+
+    @Test
+    void 같은_프로젝트의_같은_PR은_payload_형태와_관계없이_같은_키를_가진다() {
+        // given
+        CollectInbox openedInbox = CollectInbox.pending(
+                CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{\"pullRequest\":{\"number\":7}}"
+        );
+        CollectInbox synchronizedInbox = CollectInbox.pending(
+                CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 1L, 11L, "{\"pullRequestNumber\":7}"
+        );
+
+        // when
+        String actual = resolver.resolve(synchronizedInbox);
+
+        // then
+        assertThat(actual).isEqualTo(resolver.resolve(openedInbox));
+    }
+
+    @Test
+    void 다른_프로젝트의_같은_PR_번호는_다른_키를_가진다() {
+        // given
+        CollectInbox firstProjectInbox = CollectInbox.pending(
+                CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 1L, 10L, "{\"pullRequestNumber\":7}"
+        );
+        CollectInbox secondProjectInbox = CollectInbox.pending(
+                CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 2L, 11L, "{\"pullRequestNumber\":7}"
+        );
+
+        // when
+        String actual = resolver.resolve(secondProjectInbox);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("pull-request:2:7"),
+                () -> assertThat(actual).isNotEqualTo(resolver.resolve(firstProjectInbox))
+        );
+    }
+
+    @Test
+    void PR_번호가_없는_리뷰_댓글은_댓글_ID로_키를_만든다() {
+        // given
+        CollectInbox createdInbox = CollectInbox.pending(
+                CollectInboxType.REVIEW_COMMENT_CREATED, null, 10L, "{\"githubCommentId\":3,\"githubReviewId\":5}"
+        );
+        CollectInbox deletedInbox = CollectInbox.pending(
+                CollectInboxType.REVIEW_COMMENT_DELETED, null, 11L, "{\"githubCommentId\":3}"
+        );
+
+        // when
+        String actual = resolver.resolve(createdInbox);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("review-comment:3"),
+                () -> assertThat(resolver.resolve(deletedInbox)).isEqualTo(actual)
+        );
+    }
+
+    @Test
+    void PR_번호와_댓글_ID가_없으면_리뷰_ID로_키를_만든다() {
+        // given
+        CollectInbox inbox = CollectInbox.pending(
+                CollectInboxType.REVIEW_SUBMITTED, null, 10L, "{\"githubReviewId\":5}"
+        );
+
+        // when
+        String actual = resolver.resolve(inbox);
+
+        // then
+        assertThat(actual).isEqualTo("review:5");
+    }
+
+    @Test
+    void 식별자가_없으면_프로젝트_키를_반환한다() {
+        // given
+        CollectInbox inbox = CollectInbox.pending(
+                CollectInboxType.PULL_REQUEST_CLOSED, 1L, 10L, "{\"runId\":10}"
+        );
+
+        // when
+        String actual = resolver.resolve(inbox);
+
+        // then
+        assertThat(actual).isEqualTo("project:1");
+    }
+
+    @Test
+    void payload_파싱에_실패하면_프로젝트_키를_반환한다() {
+        // given
+        CollectInbox inbox = CollectInbox.pending(
+                CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 1L, 10L, "not-json"
+        );
+
+        // when
+        String actual = resolver.resolve(inbox);
+
+        // then
+        assertThat(actual).isEqualTo("project:1");
+    }
+}
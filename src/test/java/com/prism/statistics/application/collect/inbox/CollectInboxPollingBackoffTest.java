@@ -0,0 +1,85 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxPollingBackoffTest {
+
+    CollectInboxPollingBackoff pollingBackoff = new CollectInboxPollingBackoff(
+            new CollectInboxProperties(200L, 1000L, 60000L, true, 30, 4, 100, 10, 1000)
+    );
+
+    @Test
+    void 배치가_가득_차면_즉시_다시_폴링한다() {
+        // when
+        long actual = pollingBackoff.nextDelayMs(new CollectInboxPollResult(30, false), 30);
+
+        // then
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void 배치가_일부만_차면_기본_간격을_반환한다() {
+        // when
+        long actual = pollingBackoff.nextDelayMs(new CollectInboxPollResult(10, false), 30);
+
+        // then
+        assertThat(actual).isEqualTo(200L);
+    }
+
+    @Test
+    void 비어있는_폴링이_이어지면_최대_간격까지_지수적으로_늘어난다() {
+        // when
+        long first = pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, false), 30);
+        long second = pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, false), 30);
+        long third = pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, false), 30);
+        long fourth = pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, false), 30);
+        long fifth = pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, false), 30);
+
+        // then
+        assertAll(
+                () -> assertThat(first).isEqualTo(200L),
+                () -> assertThat(second).isEqualTo(400L),
+                () -> assertThat(third).isEqualTo(800L),
+                () -> assertThat(fourth).isEqualTo(1000L),
+                () -> assertThat(fifth).isEqualTo(1000L)
+        );
+    }
+
+    @Test
+    void 엔트리를_선점하면_백오프가_초기화된다() {
+        // given
+        pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, false), 30);
+        pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, false), 30);
+        pollingBackoff.nextDelayMs(new CollectInboxPollResult(5, false), 30);
+
+        // when
+        long actual = pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, false), 30);
+
+        // then
+        assertThat(actual).isEqualTo(200L);
+    }
+
+    @Test
+    void lane_여유가_없어_선점하지_못하면_백오프를_늘리지_않는다() {
+        // given
+        pollingBackoff.nextDelayMs(CollectInboxPollResult.idle(), 30);
+        pollingBackoff.nextDelayMs(CollectInboxPollResult.idle(), 30);
+
+        // when
+        long actual = pollingBackoff.nextDelayMs(new CollectInboxPollResult(0, true), 30);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(200L),
+                () -> assertThat(pollingBackoff.nextDelayMs(CollectInboxPollResult.idle(), 30)).isEqualTo(200L)
+        );
+    }
+}
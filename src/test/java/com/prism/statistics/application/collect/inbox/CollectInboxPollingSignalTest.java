@@ -0,0 +1,49 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxPollingSignalTest {
+
+    CollectInboxPollingSignal pollingSignal = new CollectInboxPollingSignal();
+
+    @Test
+    void wakeUp_이후_대기하면_즉시_깨어난다() throws InterruptedException {
+        // given
+        pollingSignal.wakeUp();
+
+        // when
+        boolean actual = pollingSignal.await(5_000L);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void wakeUp이_없으면_대기_시간이_지나고_반환한다() throws InterruptedException {
+        // when
+        boolean actual = pollingSignal.await(10L);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void 여러번의_wakeUp은_한번의_깨움으로_합쳐진다() throws InterruptedException {
+        // given
+        pollingSignal.wakeUp();
+        pollingSignal.wakeUp();
+        pollingSignal.await(5_000L);
+
+        // when
+        boolean actual = pollingSignal.await(10L);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+}
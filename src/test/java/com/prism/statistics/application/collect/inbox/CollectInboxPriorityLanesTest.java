@@ -0,0 +1,160 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.global.config.properties.CollectInboxPriorityProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxPriorityLanesTest {
+
+    @Test
+    void 선점_한도를_우선순위_가중치에_비례해_나눈다() {
+        // given
+        CollectInboxPriorityLanes priorityLanes = createPriorityLanes(true, Map.of());
+
+        // when
+        List<CollectInboxPriorityQuota> actual = priorityLanes.allocate(30);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(quota -> quota.priority())
+                        .containsExactly(CollectInboxPriority.HIGH, CollectInboxPriority.NORMAL, CollectInboxPriority.LOW),
+                () -> assertThat(actual).extracting(quota -> quota.limit()).containsExactly(18, 9, 3)
+        );
+    }
+
+    @Test
+    void 선점_한도가_작아도_낮은_우선순위_lane이_최소_한_건을_받는다() {
+        // given
+        CollectInboxPriorityLanes priorityLanes = createPriorityLanes(true, Map.of());
+
+        // when
+        List<CollectInboxPriorityQuota> actual = priorityLanes.allocate(3);
+
+        // then
+        assertThat(actual).extracting(quota -> quota.limit()).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    void 선점_한도가_lane_수보다_작으면_lane을_돌아가며_한_건씩_배정한다() {
+        // given
+        CollectInboxPriorityLanes priorityLanes = createPriorityLanes(true, Map.of());
+
+        // when
+        List<CollectInboxPriorityQuota> first = priorityLanes.allocate(2);
+        List<CollectInboxPriorityQuota> second = priorityLanes.allocate(2);
+
+        // then
+        assertAll(
+                () -> assertThat(first).extracting(quota -> quota.priority())
+                        .containsExactly(CollectInboxPriority.HIGH, CollectInboxPriority.NORMAL),
+                () -> assertThat(second).extracting(quota -> quota.priority())
+                        .containsExactly(CollectInboxPriority.LOW, CollectInboxPriority.HIGH),
+                () -> assertThat(second).extracting(quota -> quota.limit()).containsExactly(1, 1)
+        );
+    }
+
+    @Test
+    void 선점_한도가_한_건이어도_낮은_우선순위_lane이_차례를_받는다() {
+        // given
+        CollectInboxPriorityLanes priorityLanes = createPriorityLanes(true, Map.of());
+
+        // when
+        priorityLanes.allocate(1);
+        priorityLanes.allocate(1);
+        List<CollectInboxPriorityQuota> actual = priorityLanes.allocate(1);
+
+        // then
+        assertThat(actual).extracting(quota -> quota.priority()).containsExactly(CollectInboxPriority.LOW);
+    }
+
+    @Test
+    void 가중치_배분에서_남은_한도는_가장_높은_우선순위_lane에_더한다() {
+        // given
+        CollectInboxPriorityLanes priorityLanes = createPriorityLanes(true, Map.of());
+
+        // when
+        List<CollectInboxPriorityQuota> actual = priorityLanes.allocate(4);
+
+        // then
+        assertThat(actual).extracting(quota -> quota.limit()).containsExactly(2, 1, 1);
+    }
+
+    @Test
+    void 비활성화되어_있으면_lane을_배정하지_않는다() {
+        // given
+        CollectInboxPriorityLanes priorityLanes = createPriorityLanes(false, Map.of());
+
+        // when
+        List<CollectInboxPriorityQuota> actual = priorityLanes.allocate(30);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 설정한_타입별_우선순위가_기본_우선순위보다_우선한다() {
+        // given
+        CollectInboxPriorityLanes priorityLanes = createPriorityLanes(
+                true,
+                Map.of(CollectInboxType.PULL_REQUEST_SYNCHRONIZED, CollectInboxPriority.NORMAL)
+        );
+
+        // when
+        List<CollectInboxPriorityQuota> actual = priorityLanes.allocate(30);
+
+        // then
+        assertAll(
+                () -> assertThat(priorityLanes.priorityOf(CollectInboxType.PULL_REQUEST_SYNCHRONIZED))
+                        .isEqualTo(CollectInboxPriority.NORMAL),
+                () -> assertThat(actual).extracting(quota -> quota.priority())
+                        .containsExactly(CollectInboxPriority.HIGH, CollectInboxPriority.NORMAL),
+                () -> assertThat(actual.get(1).collectTypes()).contains(CollectInboxType.PULL_REQUEST_SYNCHRONIZED)
+        );
+    }
+
+    @Test
+    void 적체_현황은_모든_우선순위를_포함한다() {
+        // given
+        CollectInboxPriorityLanes priorityLanes = createPriorityLanes(true, Map.of());
+
+        // when
+        List<CollectInboxPriorityBacklog> actual = priorityLanes.backlog(
+                Map.of(CollectInboxType.REVIEWER_ADDED, 5L, CollectInboxType.REVIEW_COMMENT_CREATED, 2L)
+        );
+
+        // then
+        assertThat(actual).containsExactly(
+                new CollectInboxPriorityBacklog(CollectInboxPriority.HIGH, 0L),
+                new CollectInboxPriorityBacklog(CollectInboxPriority.NORMAL, 7L),
+                new CollectInboxPriorityBacklog(CollectInboxPriority.LOW, 0L)
+        );
+    }
+
+    @Test
+    void 우선순위_가중치가_1_미만이면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new CollectInboxPriorityProperties(true, 0, 3, 1, 60000L, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("collect inbox 우선순위 가중치는 1 이상이어야 합니다.");
+    }
+
+    private CollectInboxPriorityLanes createPriorityLanes(
+            boolean enabled,
+            Map<CollectInboxType, CollectInboxPriority> typePriorities
+    ) {
+        return new CollectInboxPriorityLanes(
+                new CollectInboxPriorityProperties(enabled, 6, 3, 1, 60000L, typePriorities)
+        );
+    }
+}
@@ -1,9 +1,10 @@
 package com.prism.statistics.application.collect.inbox;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -12,20 +13,39 @@ import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prism.statistics.global.config.properties.CollectInboxLeaseProperties;
+import com.prism.statistics.global.config.properties.CollectInboxPriorityProperties;
 import com.prism.statistics.global.config.properties.CollectInboxProperties;
 import com.prism.statistics.global.config.properties.CollectRetryProperties;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimPlan;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimQuota;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureSnapshot;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRepository;
+import com.prism.statistics.infrastructure.common.BoxEventTime;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -38,30 +58,61 @@ class CollectInboxProcessorTest {
     CollectInboxRepository collectInboxRepository;
 
     @Mock
-    CollectInboxEntryProcessor collectInboxEntryProcessor;
+    CollectInboxLaneDispatcher collectInboxLaneDispatcher;
+
+    @Mock
+    CollectInboxPollingSignal pollingSignal;
+
+    CollectInboxFastPathQueue fastPathQueue;
 
     CollectInboxProcessor collectInboxProcessor;
 
     Clock fixedClock = Clock.fixed(Instant.parse("2026-03-16T00:00:00Z"), ZoneId.of("Asia/Seoul"));
 
+    BoxProcessingLease expectedLease = BoxProcessingLease.claimed(
+            fixedClock.instant(),
+            "worker-1",
+            fixedClock.instant().plusMillis(30_000L)
+    );
+
+    CollectInboxLeaseRegistry leaseRegistry;
+
+    CollectInboxMetrics collectInboxMetrics;
+
+    MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        CollectInboxProperties inboxProperties = new CollectInboxProperties(200L, 60000L, true, 30);
-        CollectRetryProperties retryProperties = new CollectRetryProperties(3);
+        CollectInboxProperties inboxProperties = new CollectInboxProperties(
+                200L, 5000L, 60000L, true, 30, 4, 100, 10, 1000
+        );
+        CollectRetryProperties retryProperties = new CollectRetryProperties(3, 1000L, 60000L, 0.2, 3);
+        fastPathQueue = new CollectInboxFastPathQueue(inboxProperties);
+        leaseRegistry = new CollectInboxLeaseRegistry();
+        meterRegistry = new SimpleMeterRegistry();
+        collectInboxMetrics = new CollectInboxMetrics(fixedClock, meterRegistry);
 
         collectInboxProcessor = new CollectInboxProcessor(
                 fixedClock,
                 inboxProperties,
                 retryProperties,
                 collectInboxRepository,
-                collectInboxEntryProcessor
+                collectInboxLaneDispatcher,
+                fastPathQueue,
+                pollingSignal,
+                new CollectInboxSynchronizeCoalescer(new ObjectMapper().registerModule(new JavaTimeModule())),
+                new CollectInboxLeaseProperties(30_000L, 5_000L, 5_000L),
+                new CollectInboxLeaseOwner("worker-1"),
+                leaseRegistry,
+                new CollectInboxPriorityLanes(new CollectInboxPriorityProperties(true, 6, 3, 1, 60000L, null)),
+                collectInboxMetrics
         );
     }
 
     @Test
     void enqueue는_레포지토리에_위임한다() {
         // given
-        given(collectInboxRepository.enqueue(any(), any(), anyLong(), anyString())).willReturn(true);
+        given(collectInboxRepository.enqueue(any(), any(), anyLong(), anyString())).willReturn(Optional.of(1L));
 
         // when
         boolean result = collectInboxProcessor.enqueue(
@@ -76,46 +127,329 @@ class CollectInboxProcessorTest {
     }
 
     @Test
-    void processPending은_대기중인_엔트리를_처리한다() {
+    void enqueue에_성공하면_fast_path_큐에_적재하고_worker를_깨운다() {
         // given
-        CollectInbox pending = org.mockito.Mockito.mock(CollectInbox.class);
-        given(collectInboxRepository.findClaimable(10)).willReturn(List.of(pending));
+        given(collectInboxRepository.enqueue(any(), any(), anyLong(), anyString())).willReturn(Optional.of(7L));
+
+        // when
+        collectInboxProcessor.enqueue(CollectInboxType.PULL_REQUEST_OPENED, 1L, 123L, "{}");
+
+        // then
+        assertThat(fastPathQueue.poll(10)).containsExactly(7L);
+        verify(pollingSignal).wakeUp();
+    }
+
+    @Test
+    void 중복_enqueue는_fast_path_큐에_적재하지_않는다() {
+        // given
+        given(collectInboxRepository.enqueue(any(), any(), anyLong(), anyString())).willReturn(Optional.empty());
+
+        // when
+        boolean actual = collectInboxProcessor.enqueue(CollectInboxType.PULL_REQUEST_OPENED, 1L, 123L, "{}");
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isFalse(),
+                () -> assertThat(fastPathQueue.poll(10)).isEmpty()
+        );
+        verify(pollingSignal, never()).wakeUp();
+    }
+
+    @Test
+    void enqueueAll에서_적재된_엔트리가_있으면_worker를_깨운다() {
+        // given
+        CollectInbox pending = CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 123L, "{}");
+        given(collectInboxRepository.enqueueAll(List.of(pending)))
+                .willReturn(List.of(CollectInboxEnqueueResult.accepted(pending, 10L)));
+
+        // when
+        collectInboxProcessor.enqueueAll(List.of(pending));
+
+        // then
+        verify(pollingSignal).wakeUp();
+    }
+
+    @Test
+    void enqueueAll은_적재된_엔트리의_id를_fast_path_큐에_넣는다() {
+        // given
+        CollectInbox accepted = CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 123L, "{}");
+        CollectInbox duplicated = CollectInbox.pending(CollectInboxType.PULL_REQUEST_CLOSED, 1L, 124L, "{}");
+        given(collectInboxRepository.enqueueAll(List.of(accepted, duplicated)))
+                .willReturn(List.of(
+                        CollectInboxEnqueueResult.accepted(accepted, 10L),
+                        CollectInboxEnqueueResult.duplicated(duplicated)
+                ));
+
+        // when
+        collectInboxProcessor.enqueueAll(List.of(accepted, duplicated));
+
+        // then
+        assertThat(fastPathQueue.poll(10)).containsExactly(10L);
+    }
+
+    @Test
+    void enqueueAll에서_모두_중복이면_worker를_깨우지_않는다() {
+        // given
+        CollectInbox pending = CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 123L, "{}");
+        given(collectInboxRepository.enqueueAll(List.of(pending)))
+                .willReturn(List.of(CollectInboxEnqueueResult.duplicated(pending)));
+
+        // when
+        collectInboxProcessor.enqueueAll(List.of(pending));
+
+        // then
+        verify(pollingSignal, never()).wakeUp();
+    }
+
+    @Test
+    void enqueueAll은_적재된_엔트리만_타입별_적재_건수에_기록한다() {
+        // given
+        CollectInbox accepted = CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 123L, "{}");
+        CollectInbox duplicated = CollectInbox.pending(CollectInboxType.PULL_REQUEST_CLOSED, 1L, 124L, "{}");
+        given(collectInboxRepository.enqueueAll(List.of(accepted, duplicated)))
+                .willReturn(List.of(
+                        CollectInboxEnqueueResult.accepted(accepted, 10L),
+                        CollectInboxEnqueueResult.duplicated(duplicated)
+                ));
+
+        // when
+        collectInboxProcessor.enqueueAll(List.of(accepted, duplicated));
+
+        // then
+        assertAll(
+                () -> assertThat(enqueuedCount(CollectInboxType.PULL_REQUEST_OPENED)).isEqualTo(1.0d),
+                () -> assertThat(enqueuedCount(CollectInboxType.PULL_REQUEST_CLOSED)).isZero()
+        );
+    }
+
+    @Test
+    void processPending은_fast_path_엔트리를_먼저_선점하고_남은_만큼_polling한다() {
+        // given
+        CollectInbox fastPathInbox = org.mockito.Mockito.mock(CollectInbox.class);
+        fastPathQueue.offer(7L);
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(100);
+        given(collectInboxRepository.claimBatch(any(CollectInboxClaimPlan.class), eq(expectedLease)))
+                .willReturn(List.of(fastPathInbox));
+
+        // when
+        CollectInboxPollResult actual = collectInboxProcessor.processPending(10);
+
+        // then
+        ArgumentCaptor<CollectInboxClaimPlan> claimPlan = ArgumentCaptor.captor();
+        verify(collectInboxRepository).claimBatch(claimPlan.capture(), eq(expectedLease));
+        assertAll(
+                () -> assertThat(actual.claimedCount()).isEqualTo(1),
+                () -> assertThat(claimPlan.getValue().inboxIds()).containsExactly(7L),
+                () -> assertThat(claimPlan.getValue().quotas())
+                        .extracting(quota -> quota.limit())
+                        .containsExactly(6, 2, 1),
+                () -> assertThat(claimPlan.getValue().limit()).isEqualTo(10),
+                () -> verify(collectInboxLaneDispatcher).dispatch(List.of(fastPathInbox))
+        );
+    }
+
+    @Test
+    void processPending은_선점한_엔트리를_lane에_분배한다() {
+        // given
+        CollectInbox claimed = org.mockito.Mockito.mock(CollectInbox.class);
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(100);
+        given(collectInboxRepository.claimBatch(any(CollectInboxClaimPlan.class), eq(expectedLease))).willReturn(List.of(claimed));
 
         // when
         collectInboxProcessor.processPending(10);
 
         // then
-        verify(collectInboxEntryProcessor).process(pending);
+        verify(collectInboxLaneDispatcher).dispatch(List.of(claimed));
+    }
+
+    @Test
+    void processPending은_lane_여유_용량만큼만_선점한다() {
+        // given
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(3);
+        given(collectInboxRepository.claimBatch(any(CollectInboxClaimPlan.class), eq(expectedLease)))
+                .willReturn(List.of());
+
+        // when
+        CollectInboxPollResult actual = collectInboxProcessor.processPending(10);
+
+        // then
+        ArgumentCaptor<CollectInboxClaimPlan> claimPlan = ArgumentCaptor.captor();
+        verify(collectInboxRepository).claimBatch(claimPlan.capture(), eq(expectedLease));
+        assertAll(
+                () -> assertThat(actual.capacityLimited()).isTrue(),
+                () -> assertThat(claimPlan.getValue().limit()).isEqualTo(3)
+        );
     }
 
     @Test
-    void processPending에서_대기중인_엔트리가_없으면_처리하지_않는다() {
+    void processPending은_lane_여유가_없으면_선점하지_않고_용량_제한으로_보고한다() {
         // given
-        given(collectInboxRepository.findClaimable(10)).willReturn(List.of());
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(0);
+
+        // when
+        CollectInboxPollResult actual = collectInboxProcessor.processPending(10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(new CollectInboxPollResult(0, true)),
+                () -> verify(collectInboxRepository, never()).claimBatch(any(CollectInboxClaimPlan.class), any(BoxProcessingLease.class)),
+                () -> verify(collectInboxLaneDispatcher, never()).dispatch(anyList())
+        );
+    }
+
+    @Test
+    void processPending은_lane에_넣지_못한_엔트리의_선점을_반납한다() {
+        // given
+        CollectInbox accepted = createSynchronizedInbox(5L, "sha-1", "2026-03-16T00:01:00Z");
+        CollectInbox rejected = createSynchronizedInbox(6L, "sha-2", "2026-03-16T00:02:00Z");
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(100);
+        given(collectInboxRepository.claimBatch(any(CollectInboxClaimPlan.class), eq(expectedLease))).willReturn(List.of(accepted, rejected));
+        willThrow(new IllegalStateException("db error"))
+                .given(collectInboxRepository)
+                .coalesce(any(CollectInbox.class), anyList(), any(Instant.class), anyString());
+        given(collectInboxLaneDispatcher.dispatch(List.of(accepted, rejected))).willReturn(List.of(rejected));
+
+        // when
+        CollectInboxPollResult actual = collectInboxProcessor.processPending(10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(new CollectInboxPollResult(2, true)),
+                () -> verify(collectInboxRepository).releaseClaims(
+                        List.of(6L),
+                        expectedLease,
+                        fixedClock.instant(),
+                        "lane 여유가 없어 선점을 반납했습니다."
+                )
+        );
+    }
+
+    @Test
+    void processPending은_우선순위_lane별_가중치와_남은_선점을_한_번에_요청한다() {
+        // given
+        CollectInbox reviewSubmitted = org.mockito.Mockito.mock(CollectInbox.class);
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(100);
+        given(collectInboxRepository.claimBatch(any(CollectInboxClaimPlan.class), eq(expectedLease)))
+                .willReturn(List.of(reviewSubmitted));
+
+        // when
+        CollectInboxPollResult actual = collectInboxProcessor.processPending(10);
+
+        // then
+        ArgumentCaptor<CollectInboxClaimPlan> claimPlan = ArgumentCaptor.captor();
+        verify(collectInboxRepository).claimBatch(claimPlan.capture(), eq(expectedLease));
+        assertAll(
+                () -> assertThat(actual.claimedCount()).isEqualTo(1),
+                () -> assertThat(claimPlan.getValue().inboxIds()).isEmpty(),
+                () -> assertThat(claimPlan.getValue().limit()).isEqualTo(10),
+                () -> assertThat(claimPlan.getValue().quotas())
+                        .extracting(quota -> quota.limit())
+                        .containsExactly(6, 3, 1),
+                () -> assertThat(claimPlan.getValue().quotas().get(0).collectTypes()).containsExactlyInAnyOrder(
+                        CollectInboxType.PULL_REQUEST_OPENED,
+                        CollectInboxType.PULL_REQUEST_CLOSED,
+                        CollectInboxType.PULL_REQUEST_READY_FOR_REVIEW,
+                        CollectInboxType.PULL_REQUEST_REOPENED,
+                        CollectInboxType.PULL_REQUEST_CONVERTED_TO_DRAFT,
+                        CollectInboxType.REVIEW_SUBMITTED
+                ),
+                () -> assertThat(claimPlan.getValue().quotas().get(2))
+                        .isEqualTo(new CollectInboxClaimQuota(Set.of(CollectInboxType.PULL_REQUEST_SYNCHRONIZED), 1))
+        );
+    }
+
+    @Test
+    void priorityBacklog는_선점_가능한_엔트리_수를_우선순위별로_합산한다() {
+        // given
+        given(collectInboxRepository.countClaimableByType(fixedClock.instant())).willReturn(Map.of(
+                CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 40L,
+                CollectInboxType.REVIEW_SUBMITTED, 2L,
+                CollectInboxType.PULL_REQUEST_CLOSED, 1L
+        ));
+
+        // when
+        List<CollectInboxPriorityBacklog> actual = collectInboxProcessor.priorityBacklog();
+
+        // then
+        assertThat(actual).containsExactly(
+                new CollectInboxPriorityBacklog(CollectInboxPriority.HIGH, 3L),
+                new CollectInboxPriorityBacklog(CollectInboxPriority.NORMAL, 0L),
+                new CollectInboxPriorityBacklog(CollectInboxPriority.LOW, 40L)
+        );
+    }
+
+    @Test
+    void priorityBacklog는_우선순위별_선점_가능_건수를_지표로_남긴다() {
+        // given
+        given(collectInboxRepository.countClaimableByType(fixedClock.instant())).willReturn(Map.of(
+                CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 40L
+        ));
+
+        // when
+        collectInboxProcessor.priorityBacklog();
+
+        // then
+        assertThat(meterRegistry.get("collect.inbox.claimable").tag("priority", "LOW").gauge().value())
+                .isEqualTo(40.0d);
+    }
+
+    @Test
+    void processPending은_선점한_엔트리의_lease를_보유한다() {
+        // given
+        CollectInbox claimed = createSynchronizedInbox(5L, "sha-1", "2026-03-16T00:01:00Z");
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(100);
+        given(collectInboxRepository.claimBatch(any(CollectInboxClaimPlan.class), eq(expectedLease))).willReturn(List.of(claimed));
 
         // when
         collectInboxProcessor.processPending(10);
 
         // then
-        verify(collectInboxEntryProcessor, never()).process(any());
+        assertThat(leaseRegistry.heldInboxIds()).containsExactly(5L);
+    }
+
+    @Test
+    void processPending은_같은_PR의_synchronize_엔트리를_병합해_최신_엔트리만_분배한다() {
+        // given
+        CollectInbox older = createSynchronizedInbox(1L, "sha-1", "2026-03-16T00:01:00Z");
+        CollectInbox newer = createSynchronizedInbox(2L, "sha-2", "2026-03-16T00:02:00Z");
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(100);
+        given(collectInboxRepository.claimBatch(any(CollectInboxClaimPlan.class), eq(expectedLease))).willReturn(List.of(older, newer));
+
+        // when
+        CollectInboxPollResult actual = collectInboxProcessor.processPending(10);
+
+        // then
+        ArgumentCaptor<List<CollectInbox>> dispatched = ArgumentCaptor.captor();
+        verify(collectInboxLaneDispatcher).dispatch(dispatched.capture());
+        assertAll(
+                () -> assertThat(actual.claimedCount()).isEqualTo(2),
+                () -> assertThat(dispatched.getValue()).extracting(inbox -> inbox.getId()).containsExactly(2L),
+                () -> assertThat(leaseRegistry.heldInboxIds()).containsExactly(2L),
+                () -> verify(collectInboxRepository).coalesce(
+                        any(CollectInbox.class),
+                        eq(List.of(1L)),
+                        eq(fixedClock.instant()),
+                        eq("coalesced: survivorInboxId=2")
+                )
+        );
     }
 
     @Test
-    void 엔트리_처리_중_예외가_발생해도_다음_엔트리를_계속_처리한다() {
+    void synchronize_엔트리_병합에_실패하면_모든_엔트리를_그대로_분배한다() {
         // given
-        CollectInbox first = org.mockito.Mockito.mock(CollectInbox.class);
-        CollectInbox second = org.mockito.Mockito.mock(CollectInbox.class);
-        given(collectInboxRepository.findClaimable(10)).willReturn(List.of(first, second));
-        willThrow(new RuntimeException("처리 실패"))
-                .given(collectInboxEntryProcessor).process(first);
+        CollectInbox older = createSynchronizedInbox(1L, "sha-1", "2026-03-16T00:01:00Z");
+        CollectInbox newer = createSynchronizedInbox(2L, "sha-2", "2026-03-16T00:02:00Z");
+        given(collectInboxLaneDispatcher.availableCapacity()).willReturn(100);
+        given(collectInboxRepository.claimBatch(any(CollectInboxClaimPlan.class), eq(expectedLease))).willReturn(List.of(older, newer));
+        willThrow(new IllegalStateException("db error"))
+                .given(collectInboxRepository)
+                .coalesce(any(CollectInbox.class), anyList(), any(Instant.class), anyString());
 
         // when
-        assertThatCode(() -> collectInboxProcessor.processPending(10))
-                .doesNotThrowAnyException();
+        collectInboxProcessor.processPending(10);
 
         // then
-        verify(collectInboxEntryProcessor).process(first);
-        verify(collectInboxEntryProcessor).process(second);
+        verify(collectInboxLaneDispatcher).dispatch(List.of(older, newer));
     }
 
     @Test
@@ -132,4 +466,51 @@ class CollectInboxProcessorTest {
                 any(), any(), anyString(), eq(3)
         );
     }
+
+    @Test
+    void recoverTimeoutProcessing은_복구한_건수를_타임아웃_실패로_기록한다() {
+        // given
+        given(collectInboxRepository.recoverTimeoutProcessing(any(), any(), anyString(), anyInt()))
+                .willReturn(2);
+
+        // when
+        collectInboxProcessor.recoverTimeoutProcessing();
+
+        // then
+        assertThat(
+                meterRegistry.get("collect.inbox.failures")
+                        .tag("failure_type", CollectInboxFailureType.PROCESSING_TIMEOUT.name())
+                        .counter()
+                        .count()
+        ).isEqualTo(2.0d);
+    }
+
+    private double enqueuedCount(CollectInboxType collectType) {
+        return meterRegistry.get("collect.inbox.enqueued")
+                .tag("type", collectType.name())
+                .counter()
+                .count();
+    }
+
+    private CollectInbox createSynchronizedInbox(Long id, String headCommitSha, String committedDate) {
+        String payloadJson = """
+                {"githubPullRequestId":100,"headCommitSha":"%s",\
+                "commits":{"totalCount":1,"nodes":[{"sha":"%s","committedDate":"%s"}]},"files":[]}"""
+                .formatted(headCommitSha, headCommitSha, committedDate);
+
+        return CollectInbox.rehydrateBuilder()
+                .id(id)
+                .collectType(CollectInboxType.PULL_REQUEST_SYNCHRONIZED)
+                .projectId(1L)
+                .runId(id)
+                .payloadJson(payloadJson)
+                .status(CollectInboxStatus.PROCESSING)
+                .processingAttempt(1)
+                .processingLease(BoxProcessingLease.claimed(fixedClock.instant()))
+                .processedTime(BoxEventTime.absent())
+                .failedTime(BoxEventTime.absent())
+                .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
+                .build();
+    }
 }
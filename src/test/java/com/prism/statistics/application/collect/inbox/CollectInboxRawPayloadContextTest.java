@@ -0,0 +1,91 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxRawPayloadContextTest {
+
+    CollectInboxRawPayloadContext rawPayloadContext = new CollectInboxRawPayloadContext();
+
+    @AfterEach
+    void tearDown() {
+        rawPayloadContext.clear();
+    }
+
+    @Test
+    void 전달받은_원본_요청_본문을_한_번만_꺼낼_수_있다() {
+        // given
+        rawPayloadContext.bind("{\"runId\":1,\"제목\":\"값\"}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        Optional<String> first = rawPayloadContext.consume();
+        Optional<String> second = rawPayloadContext.consume();
+
+        // then
+        assertAll(
+                () -> assertThat(first).contains("{\"runId\":1,\"제목\":\"값\"}"),
+                () -> assertThat(second).isEmpty()
+        );
+    }
+
+    @Test
+    void 전달받은_본문이_없으면_빈_값을_반환한다() {
+        // when
+        Optional<String> actual = rawPayloadContext.consume();
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 빈_본문은_이전_본문을_지운다() {
+        // given
+        rawPayloadContext.bind("{}".getBytes(StandardCharsets.UTF_8));
+        rawPayloadContext.bind(new byte[0]);
+
+        // when
+        Optional<String> actual = rawPayloadContext.consume();
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 요청이_끝나면_꺼내지_않은_본문을_지운다() {
+        // given
+        rawPayloadContext.bind("{}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        rawPayloadContext.clear();
+
+        // then
+        assertThat(rawPayloadContext.consume()).isEmpty();
+    }
+
+    @Test
+    void 다른_스레드의_본문은_보이지_않는다() throws InterruptedException {
+        // given
+        rawPayloadContext.bind("{}".getBytes(StandardCharsets.UTF_8));
+        Optional<?>[] actual = new Optional<?>[1];
+
+        // when
+        Thread thread = new Thread(() -> actual[0] = rawPayloadContext.consume());
+        thread.start();
+        thread.join();
+
+        // then
+        assertAll(
+                () -> assertThat(actual[0]).isEmpty(),
+                () -> assertThat(rawPayloadContext.consume()).contains("{}")
+        );
+    }
+}
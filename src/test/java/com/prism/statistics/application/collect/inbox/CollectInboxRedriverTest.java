@@ -0,0 +1,234 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxRedriveInProgressException;
+import com.prism.statistics.global.config.properties.CollectInboxRedriveProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxDeadLetterRedriveResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxRedriveCondition;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRedriveRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxRedriverTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final CollectInboxRedriveCondition CONDITION =
+            new CollectInboxRedriveCondition(1L, null, null, null, null, null);
+
+    @Mock
+    CollectInboxRedriveRepository redriveRepository;
+
+    @Mock
+    CollectInboxProcessor collectInboxProcessor;
+
+    CollectInboxPollingSignal pollingSignal = new CollectInboxPollingSignal();
+
+    @Test
+    void 대상_건수만큼_청크_단위로_재처리하고_작업을_완료한다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> runnable.run());
+        given(redriveRepository.countFailed(any())).willReturn(3L);
+        given(redriveRepository.countDeadLettered(any())).willReturn(0L);
+        given(redriveRepository.redriveFailed(any(), eq(2))).willReturn(2);
+        given(redriveRepository.redriveFailed(any(), eq(1))).willReturn(1);
+        given(collectInboxProcessor.priorityBacklog()).willReturn(List.of());
+
+        // when
+        CollectInboxRedriveJob job = redriver.start(CONDITION);
+
+        // then
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(CollectInboxRedriveStatus.COMPLETED),
+                () -> assertThat(job.getTargetCount()).isEqualTo(3L),
+                () -> assertThat(job.redrivenCount()).isEqualTo(3L),
+                () -> assertThat(job.getCondition().failedTo()).isEqualTo(NOW),
+                () -> verify(redriveRepository, never()).redriveDeadLettered(any(), any(), anyInt())
+        );
+    }
+
+    @Test
+    void FAILED_엔트리가_청크보다_적으면_남은_만큼_dead_letter에서_재처리한다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> runnable.run());
+        given(redriveRepository.countFailed(any())).willReturn(1L);
+        given(redriveRepository.countDeadLettered(any())).willReturn(1L);
+        given(redriveRepository.redriveFailed(any(), eq(2))).willReturn(1);
+        given(redriveRepository.redriveDeadLettered(any(), isNull(), eq(1)))
+                .willReturn(new CollectInboxDeadLetterRedriveResult(1, 0, 7L));
+        given(collectInboxProcessor.priorityBacklog()).willReturn(List.of());
+
+        // when
+        CollectInboxRedriveJob job = redriver.start(CONDITION);
+
+        // then
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(CollectInboxRedriveStatus.COMPLETED),
+                () -> assertThat(job.redrivenCount()).isEqualTo(2L)
+        );
+    }
+
+    @Test
+    void 이미_inbox에_있는_dead_letter는_건너뛴_건수로_기록하고_커서를_넘겨_다음_청크를_조회한다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> runnable.run());
+        given(redriveRepository.countFailed(any())).willReturn(0L);
+        given(redriveRepository.countDeadLettered(any())).willReturn(3L);
+        given(redriveRepository.redriveFailed(any(), anyInt())).willReturn(0);
+        given(redriveRepository.redriveDeadLettered(any(), isNull(), eq(2)))
+                .willReturn(new CollectInboxDeadLetterRedriveResult(1, 1, 2L));
+        given(redriveRepository.redriveDeadLettered(any(), eq(2L), eq(1)))
+                .willReturn(new CollectInboxDeadLetterRedriveResult(1, 0, 3L));
+        given(collectInboxProcessor.priorityBacklog()).willReturn(List.of());
+
+        // when
+        CollectInboxRedriveJob job = redriver.start(CONDITION);
+
+        // then
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(CollectInboxRedriveStatus.COMPLETED),
+                () -> assertThat(job.redrivenCount()).isEqualTo(2L),
+                () -> assertThat(job.skippedCount()).isEqualTo(1L),
+                () -> assertThat(job.remainingCount()).isZero()
+        );
+    }
+
+    @Test
+    void 더_이상_재처리할_엔트리가_없으면_대상_건수에_못_미쳐도_작업을_완료한다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> runnable.run());
+        given(redriveRepository.countFailed(any())).willReturn(2L);
+        given(redriveRepository.countDeadLettered(any())).willReturn(0L);
+        given(redriveRepository.redriveFailed(any(), anyInt())).willReturn(0);
+        given(redriveRepository.redriveDeadLettered(any(), any(), anyInt()))
+                .willReturn(CollectInboxDeadLetterRedriveResult.empty());
+        given(collectInboxProcessor.priorityBacklog()).willReturn(List.of());
+
+        // when
+        CollectInboxRedriveJob job = redriver.start(CONDITION);
+
+        // then
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(CollectInboxRedriveStatus.COMPLETED),
+                () -> assertThat(job.redrivenCount()).isZero()
+        );
+    }
+
+    @Test
+    void 처리_대기_적체가_허용치를_넘으면_줄어들_때까지_기다린_뒤_재처리한다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> runnable.run());
+        given(redriveRepository.countFailed(any())).willReturn(1L);
+        given(redriveRepository.countDeadLettered(any())).willReturn(0L);
+        given(redriveRepository.redriveFailed(any(), eq(1))).willReturn(1);
+        given(collectInboxProcessor.priorityBacklog()).willReturn(
+                List.of(new CollectInboxPriorityBacklog(CollectInboxPriority.HIGH, 11L)),
+                List.of(new CollectInboxPriorityBacklog(CollectInboxPriority.HIGH, 10L))
+        );
+
+        // when
+        CollectInboxRedriveJob job = redriver.start(CONDITION);
+
+        // then
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(CollectInboxRedriveStatus.COMPLETED),
+                () -> verify(collectInboxProcessor, times(2)).priorityBacklog()
+        );
+    }
+
+    @Test
+    void 재처리_중_예외가_발생하면_작업을_실패로_기록한다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> runnable.run());
+        given(redriveRepository.countFailed(any())).willReturn(1L);
+        given(redriveRepository.countDeadLettered(any())).willReturn(0L);
+        given(redriveRepository.redriveFailed(any(), anyInt())).willThrow(new IllegalStateException("DB 오류"));
+        given(collectInboxProcessor.priorityBacklog()).willReturn(List.of());
+
+        // when
+        CollectInboxRedriveJob job = redriver.start(CONDITION);
+
+        // then
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(CollectInboxRedriveStatus.FAILED),
+                () -> assertThat(job.getFailureReason()).isEqualTo("DB 오류"),
+                () -> assertThat(job.getFinishedAt()).isEqualTo(NOW)
+        );
+    }
+
+    @Test
+    void 진행_중인_작업이_있으면_새_작업을_시작할_수_없다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> { });
+        redriver.start(CONDITION);
+
+        // when & then
+        assertThatThrownBy(() -> redriver.start(CONDITION))
+                .isInstanceOf(CollectInboxRedriveInProgressException.class);
+    }
+
+    @Test
+    void 실행기가_작업을_거절하면_작업을_실패로_기록하고_예외를_던진다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> {
+            throw new RejectedExecutionException("거절");
+        });
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> redriver.start(CONDITION))
+                        .isInstanceOf(CollectInboxRedriveInProgressException.class),
+                () -> assertThatThrownBy(() -> redriver.start(CONDITION))
+                        .isInstanceOf(CollectInboxRedriveInProgressException.class)
+        );
+    }
+
+    @Test
+    void 시작한_작업을_식별자로_조회한다() {
+        // given
+        CollectInboxRedriver redriver = createRedriver(runnable -> { });
+        CollectInboxRedriveJob job = redriver.start(CONDITION);
+
+        // when & then
+        assertAll(
+                () -> assertThat(redriver.find(job.getId())).containsSame(job),
+                () -> assertThat(redriver.find("unknown")).isEmpty()
+        );
+    }
+
+    private CollectInboxRedriver createRedriver(Executor executor) {
+        return new CollectInboxRedriver(
+                FIXED_CLOCK,
+                new CollectInboxRedriveProperties(2, 0L, 10L, 1L, 20),
+                redriveRepository,
+                collectInboxProcessor,
+                pollingSignal,
+                executor
+        );
+    }
+}
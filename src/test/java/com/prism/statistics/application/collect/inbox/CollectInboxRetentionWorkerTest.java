@@ -0,0 +1,121 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.prism.statistics.global.config.properties.CollectInboxRetentionProperties;
+import com.prism.statistics.infrastructure.collect.inbox.repository.CollectInboxRetentionRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@SuppressWarnings("NonAsciiCharacters")
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxRetentionWorkerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-16T00:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Mock
+    CollectInboxRetentionRepository retentionRepository;
+
+    @Test
+    void 보관_기간과_dead_letter_대기_시간을_기준으로_정리한다() {
+        // given
+        CollectInboxRetentionWorker worker = createWorker(true, 2, 10);
+
+        // when
+        worker.runRetention();
+
+        // then
+        assertAll(
+                () -> verify(retentionRepository).moveFailedToDeadLetter(NOW.minusMillis(3_600_000L), 2),
+                () -> verify(retentionRepository).purgeProcessed(NOW.minusMillis(604_800_000L), 2)
+        );
+    }
+
+    @Test
+    void 청크가_가득_차면_다음_청크를_이어서_정리하고_결과를_보고한다() {
+        // given
+        CollectInboxRetentionWorker worker = createWorker(true, 2, 10);
+        given(retentionRepository.moveFailedToDeadLetter(any(Instant.class), anyInt())).willReturn(1);
+        given(retentionRepository.purgeProcessed(any(Instant.class), anyInt())).willReturn(2, 2, 1);
+
+        // when
+        CollectInboxRetentionReport actual = worker.runRetention();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.purgedCount()).isEqualTo(5),
+                () -> assertThat(actual.deadLetteredCount()).isEqualTo(1),
+                () -> assertThat(actual.chunkCount()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void 실행당_최대_청크_수를_넘겨_정리하지_않는다() {
+        // given
+        CollectInboxRetentionWorker worker = createWorker(true, 2, 3);
+        given(retentionRepository.moveFailedToDeadLetter(any(Instant.class), anyInt())).willReturn(0);
+        given(retentionRepository.purgeProcessed(any(Instant.class), anyInt())).willReturn(2);
+
+        // when
+        CollectInboxRetentionReport actual = worker.runRetention();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.chunkCount()).isEqualTo(3),
+                () -> verify(retentionRepository, times(2)).purgeProcessed(any(Instant.class), anyInt())
+        );
+    }
+
+    @Test
+    void 비활성화되어_있으면_정리하지_않는다() {
+        // given
+        CollectInboxRetentionWorker worker = createWorker(false, 2, 10);
+
+        // when
+        worker.archive();
+
+        // then
+        verify(retentionRepository, never()).purgeProcessed(any(Instant.class), anyInt());
+    }
+
+    @Test
+    void 정리_중_예외가_발생해도_전파하지_않는다() {
+        // given
+        CollectInboxRetentionWorker worker = createWorker(true, 2, 10);
+        given(retentionRepository.moveFailedToDeadLetter(any(Instant.class), anyInt()))
+                .willThrow(new IllegalStateException("db error"));
+
+        // when & then
+        assertThatCode(() -> worker.archive()).doesNotThrowAnyException();
+    }
+
+    private CollectInboxRetentionWorker createWorker(boolean enabled, int chunkSize, int maxChunksPerRun) {
+        CollectInboxRetentionProperties properties = new CollectInboxRetentionProperties(
+                enabled,
+                604_800_000L,
+                3_600_000L,
+                chunkSize,
+                0L,
+                maxChunksPerRun
+        );
+
+        return new CollectInboxRetentionWorker(FIXED_CLOCK, properties, retentionRepository);
+    }
+}
@@ -0,0 +1,78 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.global.config.properties.CollectRetryProperties;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxRetryBackoffTest {
+
+    private static final Instant FAILED_AT = Instant.parse("2026-03-16T00:00:00Z");
+
+    @Test
+    void 시도_횟수마다_대기_시간이_두_배로_늘어난다() {
+        // given
+        CollectInboxRetryBackoff retryBackoff = new CollectInboxRetryBackoff(
+                new CollectRetryProperties(5, 1000L, 60000L, 0.0, 3)
+        );
+
+        // when & then
+        assertAll(
+                () -> assertThat(retryBackoff.delayMs(1)).isEqualTo(1000L),
+                () -> assertThat(retryBackoff.delayMs(2)).isEqualTo(2000L),
+                () -> assertThat(retryBackoff.delayMs(3)).isEqualTo(4000L)
+        );
+    }
+
+    @Test
+    void 대기_시간은_최대_대기_시간을_넘지_않는다() {
+        // given
+        CollectInboxRetryBackoff retryBackoff = new CollectInboxRetryBackoff(
+                new CollectRetryProperties(5, 1000L, 5000L, 0.0, 3)
+        );
+
+        // when & then
+        assertAll(
+                () -> assertThat(retryBackoff.delayMs(4)).isEqualTo(5000L),
+                () -> assertThat(retryBackoff.delayMs(100)).isEqualTo(5000L)
+        );
+    }
+
+    @Test
+    void jitter는_설정한_비율_안에서_대기_시간을_흔든다() {
+        // given
+        CollectInboxRetryBackoff retryBackoff = new CollectInboxRetryBackoff(
+                new CollectRetryProperties(5, 1000L, 60000L, 0.2, 3)
+        );
+
+        // when
+        List<Long> actual = IntStream.range(0, 50)
+                .mapToObj(i -> retryBackoff.delayMs(2))
+                .toList();
+
+        // then
+        assertThat(actual).allSatisfy(delayMs -> assertThat(delayMs).isBetween(1600L, 2400L));
+    }
+
+    @Test
+    void 다음_시도_시각은_실패_시각에_대기_시간을_더한_시각이다() {
+        // given
+        CollectInboxRetryBackoff retryBackoff = new CollectInboxRetryBackoff(
+                new CollectRetryProperties(5, 1000L, 60000L, 0.0, 3)
+        );
+
+        // when
+        Instant actual = retryBackoff.nextAttemptAt(FAILED_AT, 3);
+
+        // then
+        assertThat(actual).isEqualTo(FAILED_AT.plusMillis(4000L));
+    }
+}
@@ -0,0 +1,137 @@
+package com.prism.statistics.application.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureSnapshot;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.common.BoxEventTime;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxSynchronizeCoalescerTest {
+
+    private static final Instant PROCESSING_STARTED_AT = Instant.parse("2026-03-16T00:05:00Z");
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    CollectInboxSynchronizeCoalescer coalescer = new CollectInboxSynchronizeCoalescer(objectMapper);
+
+    @Test
+    void 같은_PR의_synchronize_이벤트는_가장_최신_head_commit만_남긴다() {
+        // given
+        CollectInbox older = createSynchronizedInbox(1L, 100L, "sha-2", """
+                [{"sha":"sha-1","committedDate":"2026-03-16T00:01:00Z"},
+                 {"sha":"sha-2","committedDate":"2026-03-16T00:02:00Z"}]""");
+        CollectInbox newer = createSynchronizedInbox(2L, 100L, "sha-3", """
+                [{"sha":"sha-1","committedDate":"2026-03-16T00:01:00Z"},
+                 {"sha":"sha-3","committedDate":"2026-03-16T00:03:00Z"}]""");
+
+        // when
+        List<CollectInboxCoalescing> actual = coalescer.coalesce(List.of(older, newer));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).hasSize(1),
+                () -> assertThat(actual.get(0).survivor().getId()).isEqualTo(2L),
+                () -> assertThat(actual.get(0).supersededIds()).containsExactly(1L)
+        );
+    }
+
+    @Test
+    void 최신_이벤트의_payload에_밀려난_이벤트의_커밋을_병합한다() throws Exception {
+        // given
+        CollectInbox forcePushed = createSynchronizedInbox(1L, 100L, "sha-2", """
+                [{"sha":"sha-1","committedDate":"2026-03-16T00:01:00Z"},
+                 {"sha":"sha-2","committedDate":"2026-03-16T00:02:00Z"}]""");
+        CollectInbox newest = createSynchronizedInbox(2L, 100L, "sha-3", """
+                [{"sha":"sha-1","committedDate":"2026-03-16T00:01:00Z"},
+                 {"sha":"sha-3","committedDate":"2026-03-16T00:03:00Z"}]""");
+
+        // when
+        CollectInbox actual = coalescer.coalesce(List.of(forcePushed, newest)).get(0).survivor();
+
+        // then
+        JsonNode payload = objectMapper.readTree(actual.getPayloadJson());
+        assertAll(
+                () -> assertThat(payload.get("headCommitSha").asText()).isEqualTo("sha-3"),
+                () -> assertThat(payload.get("commits").get("nodes"))
+                        .extracting(node -> node.get("sha").asText())
+                        .containsExactly("sha-1", "sha-3", "sha-2"),
+                () -> assertThat(payload.get("files").get(0).get("filename").asText()).isEqualTo("sha-3.java")
+        );
+    }
+
+    @Test
+    void 다른_PR이나_다른_타입의_이벤트는_병합하지_않는다() {
+        // given
+        CollectInbox first = createSynchronizedInbox(1L, 100L, "sha-1", """
+                [{"sha":"sha-1","committedDate":"2026-03-16T00:01:00Z"}]""");
+        CollectInbox otherPullRequest = createSynchronizedInbox(2L, 200L, "sha-2", """
+                [{"sha":"sha-2","committedDate":"2026-03-16T00:02:00Z"}]""");
+        CollectInbox opened = createProcessingInbox(3L, CollectInboxType.PULL_REQUEST_OPENED, "{}");
+
+        // when
+        List<CollectInboxCoalescing> actual = coalescer.coalesce(List.of(first, otherPullRequest, opened));
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void head_commit을_찾을_수_없는_payload는_병합하지_않는다() {
+        // given
+        CollectInbox unknownHead = createSynchronizedInbox(1L, 100L, "missing", """
+                [{"sha":"sha-1","committedDate":"2026-03-16T00:01:00Z"}]""");
+        CollectInbox valid = createSynchronizedInbox(2L, 100L, "sha-2", """
+                [{"sha":"sha-2","committedDate":"2026-03-16T00:02:00Z"}]""");
+
+        // when
+        List<CollectInboxCoalescing> actual = coalescer.coalesce(List.of(unknownHead, valid));
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    private CollectInbox createSynchronizedInbox(
+            Long id,
+            long githubPullRequestId,
+            String headCommitSha,
+            String commitNodes
+    ) {
+        String payloadJson = """
+                {"runId":%d,"githubPullRequestId":%d,"pullRequestNumber":7,"headCommitSha":"%s",\
+                "commits":{"totalCount":2,"nodes":%s},"files":[{"filename":"%s.java"}]}"""
+                .formatted(id, githubPullRequestId, headCommitSha, commitNodes, headCommitSha);
+
+        return createProcessingInbox(id, CollectInboxType.PULL_REQUEST_SYNCHRONIZED, payloadJson);
+    }
+
+    private CollectInbox createProcessingInbox(Long id, CollectInboxType collectType, String payloadJson) {
+        return CollectInbox.rehydrateBuilder()
+                .id(id)
+                .collectType(collectType)
+                .projectId(1L)
+                .runId(id)
+                .payloadJson(payloadJson)
+                .status(CollectInboxStatus.PROCESSING)
+                .processingAttempt(1)
+                .processingLease(BoxProcessingLease.claimed(PROCESSING_STARTED_AT))
+                .processedTime(BoxEventTime.absent())
+                .failedTime(BoxEventTime.absent())
+                .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
+                .build();
+    }
+}
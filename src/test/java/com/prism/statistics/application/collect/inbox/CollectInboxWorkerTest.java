@@ -1,11 +1,15 @@
 package com.prism.statistics.application.collect.inbox;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.prism.statistics.global.config.properties.CollectInboxProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxPriority;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -28,12 +32,19 @@ class CollectInboxWorkerTest {
 
     @BeforeEach
     void setUp() {
-        collectInboxProperties = new CollectInboxProperties(200L, 60000L, true, 30);
-        collectInboxWorker = new CollectInboxWorker(collectInboxProperties, collectInboxProcessor);
+        collectInboxProperties = new CollectInboxProperties(200L, 5000L, 60000L, true, 30, 4, 100, 10, 1000);
+        collectInboxWorker = new CollectInboxWorker(
+                collectInboxProperties,
+                collectInboxProcessor,
+                new CollectInboxPollingBackoff(collectInboxProperties)
+        );
     }
 
     @Test
     void 워커는_배치_크기로_인박스를_처리한다() {
+        // given
+        given(collectInboxProcessor.processPending(30)).willReturn(CollectInboxPollResult.idle());
+
         // when
         collectInboxWorker.processInbox();
 
@@ -41,6 +52,42 @@ class CollectInboxWorkerTest {
         verify(collectInboxProcessor).processPending(30);
     }
 
+    @Test
+    void 배치를_가득_채워_선점하면_즉시_다시_폴링한다() {
+        // given
+        given(collectInboxProcessor.processPending(30)).willReturn(new CollectInboxPollResult(30, false));
+
+        // when
+        long actual = collectInboxWorker.processInbox();
+
+        // then
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void 배치를_일부만_채우면_기본_간격으로_폴링한다() {
+        // given
+        given(collectInboxProcessor.processPending(30)).willReturn(new CollectInboxPollResult(5, false));
+
+        // when
+        long actual = collectInboxWorker.processInbox();
+
+        // then
+        assertThat(actual).isEqualTo(200L);
+    }
+
+    @Test
+    void lane_여유가_없어_선점하지_못하면_기본_간격으로_폴링한다() {
+        // given
+        given(collectInboxProcessor.processPending(30)).willReturn(new CollectInboxPollResult(0, true));
+
+        // when
+        long actual = collectInboxWorker.processInbox();
+
+        // then
+        assertThat(actual).isEqualTo(200L);
+    }
+
     @Test
     void 워커_실행_중_예외가_발생해도_예외를_전파하지_않는다() {
         // given
@@ -56,13 +103,18 @@ class CollectInboxWorkerTest {
     @Test
     void worker_enabled가_false면_인박스를_처리하지_않는다() {
         // given
-        collectInboxProperties = new CollectInboxProperties(200L, 60000L, false, 30);
-        collectInboxWorker = new CollectInboxWorker(collectInboxProperties, collectInboxProcessor);
+        collectInboxProperties = new CollectInboxProperties(200L, 5000L, 60000L, false, 30, 4, 100, 10, 1000);
+        collectInboxWorker = new CollectInboxWorker(
+                collectInboxProperties,
+                collectInboxProcessor,
+                new CollectInboxPollingBackoff(collectInboxProperties)
+        );
 
         // when
-        collectInboxWorker.processInbox();
+        long actual = collectInboxWorker.processInbox();
 
         // then
+        assertThat(actual).isEqualTo(5000L);
         verify(collectInboxProcessor, never()).processPending(30);
     }
 
@@ -90,8 +142,12 @@ class CollectInboxWorkerTest {
     @Test
     void worker_enabled가_false면_타임아웃_복구를_실행하지_않는다() {
         // given
-        collectInboxProperties = new CollectInboxProperties(200L, 60000L, false, 30);
-        collectInboxWorker = new CollectInboxWorker(collectInboxProperties, collectInboxProcessor);
+        collectInboxProperties = new CollectInboxProperties(200L, 5000L, 60000L, false, 30, 4, 100, 10, 1000);
+        collectInboxWorker = new CollectInboxWorker(
+                collectInboxProperties,
+                collectInboxProcessor,
+                new CollectInboxPollingBackoff(collectInboxProperties)
+        );
 
         // when
         collectInboxWorker.recoverTimeoutProcessing();
@@ -99,4 +155,28 @@ class CollectInboxWorkerTest {
         // then
         verify(collectInboxProcessor, never()).recoverTimeoutProcessing();
     }
+
+    @Test
+    void 적체_현황_보고는_우선순위별_적체_현황을_조회한다() {
+        // given
+        given(collectInboxProcessor.priorityBacklog()).willReturn(List.of(
+                new CollectInboxPriorityBacklog(CollectInboxPriority.HIGH, 1L)
+        ));
+
+        // when
+        collectInboxWorker.reportPriorityBacklog();
+
+        // then
+        verify(collectInboxProcessor).priorityBacklog();
+    }
+
+    @Test
+    void 적체_현황_조회_중_예외가_발생해도_예외를_전파하지_않는다() {
+        // given
+        given(collectInboxProcessor.priorityBacklog()).willThrow(new RuntimeException("backlog failure"));
+
+        // when & then
+        assertThatCode(() -> collectInboxWorker.reportPriorityBacklog())
+                .doesNotThrowAnyException();
+    }
 }
@@ -0,0 +1,132 @@
+package com.prism.statistics.application.collect.inbox.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest.FileData;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxPayloadDeserializerTest {
+
+    private static final CollectInboxType TYPE = CollectInboxType.PULL_REQUEST_SYNCHRONIZED;
+
+    CollectInboxPayloadDeserializer deserializer = new CollectInboxPayloadDeserializer(
+            new ObjectMapper().registerModule(new JavaTimeModule())
+    );
+
+    @Test
+    void deserializeWithoutFiles는_files를_제외한_나머지_필드만_역직렬화한다() {
+        // given
+        CollectInboxContext context = new CollectInboxContext(1L, createPayload(3));
+
+        // when
+        PullRequestSynchronizedRequest actual = deserializer.deserializeWithoutFiles(
+                context,
+                TYPE,
+                PullRequestSynchronizedRequest.class
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(actual.runId()).isEqualTo(100L),
+                () -> assertThat(actual.headCommitSha()).isEqualTo("sha-1"),
+                () -> assertThat(actual.commits().nodes()).hasSize(1),
+                () -> assertThat(actual.files()).isNull()
+        );
+    }
+
+    @Test
+    void streamFiles는_files를_청크_크기만큼_나눠_전달한다() {
+        // given
+        CollectInboxContext context = new CollectInboxContext(1L, createPayload(5));
+        FileDataChunks<FileData> files = deserializer.streamFiles(context, TYPE, FileData.class);
+        List<List<FileData>> chunks = new ArrayList<>();
+
+        // when
+        files.forEachChunk(2, chunk -> chunks.add(chunk));
+
+        // then
+        assertAll(
+                () -> assertThat(chunks).extracting(chunk -> chunk.size()).containsExactly(2, 2, 1),
+                () -> assertThat(chunks.get(2).get(0).filename()).isEqualTo("File4.java")
+        );
+    }
+
+    @Test
+    void streamFiles는_여러_번_순회할_수_있다() {
+        // given
+        CollectInboxContext context = new CollectInboxContext(1L, createPayload(3));
+        FileDataChunks<FileData> files = deserializer.streamFiles(context, TYPE, FileData.class);
+        List<FileData> first = new ArrayList<>();
+        List<FileData> second = new ArrayList<>();
+
+        // when
+        files.forEachChunk(10, chunk -> first.addAll(chunk));
+        files.forEachChunk(10, chunk -> second.addAll(chunk));
+
+        // then
+        assertThat(second).hasSize(3).isEqualTo(first);
+    }
+
+    @Test
+    void files가_없거나_null이면_아무것도_전달하지_않는다() {
+        // given
+        CollectInboxContext missing = new CollectInboxContext(1L, "{\"runId\":1}");
+        CollectInboxContext nullFiles = new CollectInboxContext(1L, "{\"runId\":1,\"files\":null}");
+        List<FileData> streamed = new ArrayList<>();
+
+        // when
+        deserializer.streamFiles(missing, TYPE, FileData.class).forEachChunk(10, chunk -> streamed.addAll(chunk));
+        deserializer.streamFiles(nullFiles, TYPE, FileData.class).forEachChunk(10, chunk -> streamed.addAll(chunk));
+
+        // then
+        assertThat(streamed).isEmpty();
+    }
+
+    @Test
+    void files가_잘못된_JSON이면_예외가_발생한다() {
+        // given
+        CollectInboxContext context = new CollectInboxContext(1L, "{\"files\":[{\"filename\":}]}");
+        FileDataChunks<FileData> files = deserializer.streamFiles(context, TYPE, FileData.class);
+
+        // when & then
+        assertThatThrownBy(() -> files.forEachChunk(10, chunk -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 청크_크기가_1보다_작으면_예외가_발생한다() {
+        // given
+        FileDataChunks<FileData> files = FileDataChunks.of(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> files.forEachChunk(0, chunk -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String createPayload(int fileCount) {
+        String files = IntStream.range(0, fileCount)
+                .mapToObj(index -> "{\"filename\":\"File" + index + ".java\",\"status\":\"modified\","
+                        + "\"additions\":1,\"deletions\":0,\"previousFilename\":null}")
+                .collect(Collectors.joining(","));
+
+        return "{\"runId\":100,\"githubPullRequestId\":1,\"pullRequestNumber\":10,\"headCommitSha\":\"sha-1\","
+                + "\"files\":[" + files + "],"
+                + "\"additions\":1,\"deletions\":0,\"changedFiles\":" + fileCount + ","
+                + "\"commits\":{\"totalCount\":1,\"nodes\":[{\"sha\":\"sha-1\",\"committedDate\":\"2026-03-17T10:00:00Z\"}]}}";
+    }
+}
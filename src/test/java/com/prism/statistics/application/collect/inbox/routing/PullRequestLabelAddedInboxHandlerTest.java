@@ -2,6 +2,7 @@ package com.prism.statistics.application.collect.inbox.routing;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -54,14 +55,14 @@ class PullRequestLabelAddedInboxHandlerTest {
                     "labeledAt": "2026-03-17T10:00:00Z"
                 }
                 """;
-        CollectInboxContext context = new CollectInboxContext(null, payloadJson);
+        CollectInboxContext context = new CollectInboxContext(1L, payloadJson);
 
         // when
         handler.handle(context);
 
         // then
         ArgumentCaptor<PullRequestLabelAddedRequest> captor = ArgumentCaptor.forClass(PullRequestLabelAddedRequest.class);
-        verify(pullRequestLabelAddedService).addPullRequestLabel(captor.capture());
+        verify(pullRequestLabelAddedService).addPullRequestLabel(eq(1L), captor.capture());
         assertThat(captor.getValue().runId()).isEqualTo(100L);
         assertThat(captor.getValue().label().name()).isEqualTo("bug");
     }
@@ -10,8 +10,12 @@ import static org.mockito.Mockito.verify;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.prism.statistics.application.analysis.metadata.pullrequest.PullRequestOpenedService;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.FileData;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -77,9 +81,15 @@ class PullRequestOpenedInboxHandlerTest {
 
         // then
         ArgumentCaptor<PullRequestOpenedRequest> captor = ArgumentCaptor.forClass(PullRequestOpenedRequest.class);
-        verify(pullRequestOpenedService).createPullRequest(eq(1L), captor.capture());
+        ArgumentCaptor<FileDataChunks<FileData>> filesCaptor = ArgumentCaptor.captor();
+        verify(pullRequestOpenedService).createPullRequest(eq(1L), captor.capture(), filesCaptor.capture());
         assertThat(captor.getValue().runId()).isEqualTo(100L);
         assertThat(captor.getValue().pullRequest().number()).isEqualTo(10);
+        assertThat(captor.getValue().files()).isNull();
+
+        List<FileData> streamedFiles = new ArrayList<>();
+        filesCaptor.getValue().forEachChunk(10, chunk -> streamedFiles.addAll(chunk));
+        assertThat(streamedFiles).containsExactly(new FileData("Main.java", "added", 5, 0));
     }
 
     @Test
@@ -118,7 +128,7 @@ class PullRequestOpenedInboxHandlerTest {
         CollectInboxContext context = new CollectInboxContext(1L, payloadJson);
         IllegalArgumentException businessException = new IllegalArgumentException("비즈니스 오류");
         willThrow(businessException)
-                .given(pullRequestOpenedService).createPullRequest(any(), any());
+                .given(pullRequestOpenedService).createPullRequest(any(), any(), any());
 
         // when & then
         assertThatThrownBy(() -> handler.handle(context))
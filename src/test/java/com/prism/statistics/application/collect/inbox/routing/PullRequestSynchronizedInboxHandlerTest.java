@@ -7,8 +7,12 @@ import static org.mockito.Mockito.verify;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.prism.statistics.application.analysis.metadata.pullrequest.PullRequestSynchronizedService;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.FileDataChunks;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestSynchronizedRequest.FileData;
 import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -67,9 +71,14 @@ class PullRequestSynchronizedInboxHandlerTest {
 
         // then
         ArgumentCaptor<PullRequestSynchronizedRequest> captor = ArgumentCaptor.forClass(PullRequestSynchronizedRequest.class);
-        verify(pullRequestSynchronizedService).synchronizePullRequest(captor.capture());
+        ArgumentCaptor<FileDataChunks<FileData>> filesCaptor = ArgumentCaptor.captor();
+        verify(pullRequestSynchronizedService).synchronizePullRequest(captor.capture(), filesCaptor.capture());
         assertThat(captor.getValue().runId()).isEqualTo(100L);
         assertThat(captor.getValue().pullRequestNumber()).isEqualTo(10);
+
+        List<FileData> streamedFiles = new ArrayList<>();
+        filesCaptor.getValue().forEachChunk(10, chunk -> streamedFiles.addAll(chunk));
+        assertThat(streamedFiles).containsExactly(new FileData("Main.java", "added", 5, 0, null));
     }
 
     @Test
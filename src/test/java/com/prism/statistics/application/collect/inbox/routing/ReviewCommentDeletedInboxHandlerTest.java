@@ -2,6 +2,7 @@ package com.prism.statistics.application.collect.inbox.routing;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -51,14 +52,14 @@ class ReviewCommentDeletedInboxHandlerTest {
                     "updatedAt": "2026-03-17T10:00:00Z"
                 }
                 """;
-        CollectInboxContext context = new CollectInboxContext(null, payloadJson);
+        CollectInboxContext context = new CollectInboxContext(1L, payloadJson);
 
         // when
         handler.handle(context);
 
         // then
         ArgumentCaptor<ReviewCommentDeletedRequest> captor = ArgumentCaptor.forClass(ReviewCommentDeletedRequest.class);
-        verify(reviewCommentDeletedService).deleteReviewComment(captor.capture());
+        verify(reviewCommentDeletedService).deleteReviewComment(eq(1L), captor.capture());
         assertThat(captor.getValue().runId()).isEqualTo(100L);
         assertThat(captor.getValue().githubCommentId()).isEqualTo(300L);
     }
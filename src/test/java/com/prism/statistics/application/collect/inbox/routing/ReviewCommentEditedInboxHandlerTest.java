@@ -2,6 +2,7 @@ package com.prism.statistics.application.collect.inbox.routing;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -52,14 +53,14 @@ class ReviewCommentEditedInboxHandlerTest {
                     "updatedAt": "2026-03-17T10:00:00Z"
                 }
                 """;
-        CollectInboxContext context = new CollectInboxContext(null, payloadJson);
+        CollectInboxContext context = new CollectInboxContext(1L, payloadJson);
 
         // when
         handler.handle(context);
 
         // then
         ArgumentCaptor<ReviewCommentEditedRequest> captor = ArgumentCaptor.forClass(ReviewCommentEditedRequest.class);
-        verify(reviewCommentEditedService).editReviewComment(captor.capture());
+        verify(reviewCommentEditedService).editReviewComment(eq(1L), captor.capture());
         assertThat(captor.getValue().runId()).isEqualTo(100L);
         assertThat(captor.getValue().githubCommentId()).isEqualTo(300L);
     }
@@ -1,12 +1,19 @@
 package com.prism.statistics.application.project;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.prism.statistics.application.IntegrationTest;
+import com.prism.statistics.application.collect.ProjectApiKeyCache;
+import com.prism.statistics.application.collect.ProjectApiKeyService;
 import com.prism.statistics.application.project.dto.request.CreateProjectRequest;
 import com.prism.statistics.application.project.dto.response.CreateProjectResponse;
 import com.prism.statistics.application.project.dto.response.ProjectListResponse;
+import com.prism.statistics.application.project.dto.response.RotateProjectApiKeyResponse;
 import com.prism.statistics.domain.project.Project;
+import com.prism.statistics.domain.project.exception.InvalidApiKeyException;
+import com.prism.statistics.domain.project.exception.ProjectOwnershipException;
 import com.prism.statistics.domain.project.repository.ProjectRepository;
 import com.prism.statistics.domain.project.setting.repository.ProjectCoreTimeSettingRepository;
 import com.prism.statistics.domain.project.setting.repository.ProjectSizeGradeThresholdSettingRepository;
@@ -29,6 +36,12 @@ class ProjectServiceTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ProjectApiKeyService projectApiKeyService;
+
+    @Autowired
+    private ProjectApiKeyCache projectApiKeyCache;
+
     @Autowired
     private ProjectCoreTimeSettingRepository projectCoreTimeSettingRepository;
 
@@ -86,4 +99,35 @@ class ProjectServiceTest {
                         "프로젝트 2"
                 );
     }
+
+    @Sql("/sql/project/insert_projects.sql")
+    @Test
+    void API_Key를_재발급하면_이전_API_Key는_캐시에_남지_않고_거부된다() {
+        // given
+        projectApiKeyCache.invalidateAll();
+        Long projectId = projectApiKeyService.resolveProjectId("api-key-1");
+
+        // when
+        RotateProjectApiKeyResponse actual = projectService.rotateApiKey(7L, projectId);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.apiKey()).isNotEqualTo("api-key-1"),
+                () -> assertThat(projectApiKeyService.resolveProjectId(actual.apiKey())).isEqualTo(projectId),
+                () -> assertThatThrownBy(() -> projectApiKeyService.resolveProjectId("api-key-1"))
+                        .isInstanceOf(InvalidApiKeyException.class)
+        );
+    }
+
+    @Sql("/sql/project/insert_projects.sql")
+    @Test
+    void 다른_사용자의_프로젝트_API_Key는_재발급할_수_없다() {
+        // given
+        projectApiKeyCache.invalidateAll();
+        Long projectId = projectApiKeyService.resolveProjectId("api-key-3");
+
+        // when & then
+        assertThatThrownBy(() -> projectService.rotateApiKey(7L, projectId))
+                .isInstanceOf(ProjectOwnershipException.class);
+    }
 }
@@ -1,5 +1,8 @@
 package com.prism.statistics.context;
 
+import com.prism.statistics.application.analysis.metadata.reconciliation.PendingLinkIndex;
+import com.prism.statistics.application.collect.ProjectApiKeyCache;
+import com.prism.statistics.infrastructure.collect.inbox.persistence.CollectInboxFingerprintFilter;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -20,6 +23,9 @@ public class CleanupExecutionListener extends AbstractTestExecutionListener impl
         }
 
         cleanupWithSql(testContext);
+        clearApiKeyCache(testContext);
+        clearInboxFingerprintFilter(testContext);
+        clearPendingLinkIndex(testContext);
     }
 
     @Override
@@ -38,4 +44,22 @@ public class CleanupExecutionListener extends AbstractTestExecutionListener impl
         resourceDatabasePopulator.addScript(new ClassPathResource("sql/cleanup.sql"));
         resourceDatabasePopulator.execute(dataSource);
     }
+
+    private void clearApiKeyCache(TestContext testContext) {
+        testContext.getApplicationContext()
+                .getBean(ProjectApiKeyCache.class)
+                .invalidateAll();
+    }
+
+    private void clearInboxFingerprintFilter(TestContext testContext) {
+        testContext.getApplicationContext()
+                .getBean(CollectInboxFingerprintFilter.class)
+                .clear();
+    }
+
+    private void clearPendingLinkIndex(TestContext testContext) {
+        testContext.getApplicationContext()
+                .getBean(PendingLinkIndex.class)
+                .clear();
+    }
 }
@@ -0,0 +1,146 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileSnapshotDto;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.FileChanges;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PullRequestFileDiffTest {
+
+    private static final Long PULL_REQUEST_ID = 1L;
+    private static final Long GITHUB_PULL_REQUEST_ID = 100L;
+
+    @Test
+    void 기존_파일과_비교해_추가_변경된_파일만_반환한다() {
+        // given
+        PullRequestFileDiff fileDiff = PullRequestFileDiff.from(List.of(
+                new PullRequestFileSnapshotDto(1L, "Same.java", FileChangeType.MODIFIED, 10, 5),
+                new PullRequestFileSnapshotDto(2L, "Changed.java", FileChangeType.ADDED, 10, 0)
+        ));
+
+        // when
+        PullRequestFileDiff.Delta actual = fileDiff.compare(List.of(
+                createFile("Same.java", FileChangeType.MODIFIED, 10, 5),
+                createFile("Changed.java", FileChangeType.MODIFIED, 30, 2),
+                createFile("New.java", FileChangeType.ADDED, 7, 0)
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.insertedFiles())
+                        .extracting(file -> file.getFileName())
+                        .containsExactly("New.java"),
+                () -> assertThat(actual.updatedFiles()).containsExactly(
+                        new PullRequestFileSnapshotDto(2L, "Changed.java", FileChangeType.MODIFIED, 30, 2)
+                ),
+                () -> assertThat(fileDiff.unmatchedFileIds()).isEmpty()
+        );
+    }
+
+    @Test
+    void 여러_청크에_걸쳐_비교한_뒤_남은_기존_파일은_삭제_대상이다() {
+        // given
+        PullRequestFileDiff fileDiff = PullRequestFileDiff.from(List.of(
+                new PullRequestFileSnapshotDto(1L, "First.java", FileChangeType.MODIFIED, 10, 5),
+                new PullRequestFileSnapshotDto(2L, "Second.java", FileChangeType.MODIFIED, 10, 5),
+                new PullRequestFileSnapshotDto(3L, "Removed.java", FileChangeType.ADDED, 10, 0)
+        ));
+
+        // when
+        fileDiff.compare(List.of(createFile("First.java", FileChangeType.MODIFIED, 10, 5)));
+        fileDiff.compare(List.of(createFile("Second.java", FileChangeType.MODIFIED, 10, 5)));
+
+        // then
+        assertThat(fileDiff.unmatchedFileIds()).containsExactly(3L);
+    }
+
+    @Test
+    void 기존_파일이_없으면_모든_파일이_추가_대상이다() {
+        // given
+        PullRequestFileDiff fileDiff = PullRequestFileDiff.from(List.of());
+
+        // when
+        PullRequestFileDiff.Delta actual = fileDiff.compare(List.of(
+                createFile("A.java", FileChangeType.ADDED, 1, 0),
+                createFile("B.java", FileChangeType.ADDED, 2, 0)
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.insertedFiles()).hasSize(2),
+                () -> assertThat(actual.updatedFiles()).isEmpty(),
+                () -> assertThat(fileDiff.unmatchedFileIds()).isEmpty()
+        );
+    }
+
+    @Test
+    void 같은_이름의_기존_파일이_여러_개면_먼저_저장된_파일과_비교하고_나머지는_삭제_대상이다() {
+        // given
+        PullRequestFileDiff fileDiff = PullRequestFileDiff.from(List.of(
+                new PullRequestFileSnapshotDto(5L, "Duplicated.java", FileChangeType.ADDED, 1, 0),
+                new PullRequestFileSnapshotDto(2L, "Duplicated.java", FileChangeType.MODIFIED, 10, 5),
+                new PullRequestFileSnapshotDto(7L, "Duplicated.java", FileChangeType.MODIFIED, 3, 3)
+        ));
+
+        // when
+        PullRequestFileDiff.Delta actual = fileDiff.compare(List.of(
+                createFile("Duplicated.java", FileChangeType.MODIFIED, 10, 5)
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.insertedFiles()).isEmpty(),
+                () -> assertThat(actual.updatedFiles()).isEmpty(),
+                () -> assertThat(fileDiff.unmatchedFileIds()).containsExactly(5L, 7L)
+        );
+    }
+
+    @Test
+    void 같은_이름의_파일이_다시_들어오면_처음_들어온_파일만_반영한다() {
+        // given
+        PullRequestFileDiff fileDiff = PullRequestFileDiff.from(List.of(
+                new PullRequestFileSnapshotDto(1L, "Changed.java", FileChangeType.MODIFIED, 10, 5)
+        ));
+
+        // when
+        PullRequestFileDiff.Delta first = fileDiff.compare(List.of(
+                createFile("Changed.java", FileChangeType.MODIFIED, 20, 5),
+                createFile("New.java", FileChangeType.ADDED, 3, 0)
+        ));
+        PullRequestFileDiff.Delta second = fileDiff.compare(List.of(
+                createFile("Changed.java", FileChangeType.MODIFIED, 30, 5),
+                createFile("New.java", FileChangeType.ADDED, 4, 0)
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(first.updatedFiles()).containsExactly(
+                        new PullRequestFileSnapshotDto(1L, "Changed.java", FileChangeType.MODIFIED, 20, 5)
+                ),
+                () -> assertThat(first.insertedFiles())
+                        .extracting(file -> file.getFileName())
+                        .containsExactly("New.java"),
+                () -> assertThat(second.insertedFiles()).isEmpty(),
+                () -> assertThat(second.updatedFiles()).isEmpty(),
+                () -> assertThat(fileDiff.unmatchedFileIds()).isEmpty()
+        );
+    }
+
+    private PullRequestFile createFile(String fileName, FileChangeType changeType, int additions, int deletions) {
+        return PullRequestFile.create(
+                PULL_REQUEST_ID,
+                GITHUB_PULL_REQUEST_ID,
+                fileName,
+                changeType,
+                FileChanges.create(additions, deletions)
+        );
+    }
+}
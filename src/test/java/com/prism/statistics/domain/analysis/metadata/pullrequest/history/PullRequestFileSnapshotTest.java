@@ -0,0 +1,168 @@
+package com.prism.statistics.domain.analysis.metadata.pullrequest.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.domain.analysis.metadata.pullrequest.enums.FileChangeType;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.repository.dto.PullRequestFileHistoryDto;
+import com.prism.statistics.domain.analysis.metadata.pullrequest.vo.FileChanges;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PullRequestFileSnapshotTest {
+
+    private static final PullRequestFilePush FIRST_PUSH =
+            new PullRequestFilePush(1L, 100L, "sha1", LocalDateTime.of(2024, 1, 15, 10, 0));
+    private static final PullRequestFilePush SECOND_PUSH =
+            new PullRequestFilePush(1L, 100L, "sha2", LocalDateTime.of(2024, 1, 15, 11, 0));
+
+    @Test
+    void 이전_스냅샷과_비교해_달라진_파일과_빠진_파일만_delta로_만든다() {
+        // given
+        PullRequestFileSnapshot previousSnapshot = PullRequestFileSnapshot.of(List.of(
+                createState("Same.java", 10, 5),
+                createState("Changed.java", 10, 0),
+                createState("Removed.java", 3, 0)
+        ));
+        PullRequestFileSnapshot currentSnapshot = PullRequestFileSnapshot.of(List.of(
+                createState("Same.java", 10, 5),
+                createState("Changed.java", 20, 4),
+                createState("New.java", 7, 0)
+        ));
+
+        // when
+        List<PullRequestFileHistory> actual = previousSnapshot.deltaTo(currentSnapshot, SECOND_PUSH);
+
+        // then
+        assertAll(
+                () -> assertThat(actual)
+                        .extracting(history -> history.getFileName())
+                        .containsExactly("Changed.java", "New.java", "Removed.java"),
+                () -> assertThat(actual)
+                        .extracting(history -> history.isExcluded())
+                        .containsExactly(false, false, true),
+                () -> assertThat(actual)
+                        .extracting(history -> history.getHeadCommitSha())
+                        .containsOnly("sha2"),
+                () -> assertThat(actual)
+                        .extracting(history -> history.isFullSnapshot())
+                        .containsOnly(false)
+        );
+    }
+
+    @Test
+    void delta를_순서대로_적용하면_각_push_시점의_스냅샷을_복원한다() {
+        // given
+        PullRequestFileSnapshot firstSnapshot = PullRequestFileSnapshot.of(List.of(
+                createState("A.java", 1, 0),
+                createState("B.java", 2, 0)
+        ));
+        PullRequestFileSnapshot secondSnapshot = PullRequestFileSnapshot.of(List.of(
+                createState("B.java", 5, 1),
+                createState("C.java", 3, 0)
+        ));
+        List<PullRequestFileHistory> firstDelta = PullRequestFileSnapshot.empty().deltaTo(firstSnapshot, FIRST_PUSH);
+        List<PullRequestFileHistory> secondDelta = firstSnapshot.deltaTo(secondSnapshot, SECOND_PUSH);
+
+        // when
+        PullRequestFileSnapshot actual = PullRequestFileSnapshot.replay(toDtos(firstDelta)).apply(toDtos(secondDelta));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getFiles())
+                        .extracting(file -> file.fileName())
+                        .containsExactlyInAnyOrder("B.java", "C.java"),
+                () -> assertThat(actual.getFiles())
+                        .filteredOn(file -> file.fileName().equals("B.java"))
+                        .extracting(file -> file.fileChanges())
+                        .containsExactly(FileChanges.create(5, 1))
+        );
+    }
+
+    @Test
+    void 같은_파일_목록이면_delta가_비어_있다() {
+        // given
+        PullRequestFileSnapshot previousSnapshot = PullRequestFileSnapshot.of(List.of(createState("A.java", 1, 0)));
+        PullRequestFileSnapshot currentSnapshot = PullRequestFileSnapshot.of(List.of(createState("A.java", 1, 0)));
+
+        // when
+        List<PullRequestFileHistory> actual = previousSnapshot.deltaTo(currentSnapshot, SECOND_PUSH);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 전체_스냅샷으로_저장된_push는_이전_파일을_이어받지_않는다() {
+        // given
+        List<PullRequestFileHistoryDto> legacyHistories = List.of(
+                legacyHistory(FIRST_PUSH, "A.java"),
+                legacyHistory(FIRST_PUSH, "B.java"),
+                legacyHistory(SECOND_PUSH, "B.java"),
+                legacyHistory(SECOND_PUSH, "C.java")
+        );
+
+        // when
+        PullRequestFileSnapshot actual = PullRequestFileSnapshot.replay(legacyHistories);
+
+        // then
+        assertThat(actual.getFiles())
+                .extracting(file -> file.fileName())
+                .containsExactlyInAnyOrder("B.java", "C.java");
+    }
+
+    @Test
+    void 전체_스냅샷_이후의_delta는_해당_스냅샷_위에_적용한다() {
+        // given
+        PullRequestFilePush thirdPush = new PullRequestFilePush(1L, 100L, "sha3", LocalDateTime.of(2024, 1, 15, 12, 0));
+        PullRequestFileSnapshot legacySnapshot = PullRequestFileSnapshot.replay(List.of(
+                legacyHistory(FIRST_PUSH, "A.java"),
+                legacyHistory(SECOND_PUSH, "B.java")
+        ));
+        List<PullRequestFileHistory> delta = legacySnapshot.deltaTo(
+                PullRequestFileSnapshot.of(List.of(createState("C.java", 1, 0))),
+                thirdPush
+        );
+
+        // when
+        PullRequestFileSnapshot actual = legacySnapshot.apply(toDtos(delta));
+
+        // then
+        assertAll(
+                () -> assertThat(delta)
+                        .extracting(history -> history.getFileName())
+                        .containsExactly("C.java", "B.java"),
+                () -> assertThat(actual.getFiles())
+                        .extracting(file -> file.fileName())
+                        .containsExactly("C.java")
+        );
+    }
+
+    private PullRequestFileState createState(String fileName, int additions, int deletions) {
+        return PullRequestFileState.create(fileName, FileChangeType.MODIFIED, FileChanges.create(additions, deletions));
+    }
+
+    private PullRequestFileHistoryDto legacyHistory(PullRequestFilePush push, String fileName) {
+        return new PullRequestFileHistoryDto(
+                push.githubChangedAt(),
+                fileName,
+                FileChangeType.MODIFIED,
+                1,
+                0,
+                null,
+                false,
+                true
+        );
+    }
+
+    private List<PullRequestFileHistoryDto> toDtos(List<PullRequestFileHistory> histories) {
+        return histories.stream()
+                .map(history -> PullRequestFileHistoryDto.from(history))
+                .toList();
+    }
+}
@@ -10,6 +10,7 @@ import com.prism.statistics.domain.analysis.metadata.review.enums.ReviewState;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -136,24 +137,27 @@ class ReviewRepositoryAdapterTest {
     }
 
     @Test
-    void pullRequestId가_없는_리뷰에_backfill한다() {
+    void pullRequestId가_없는_리뷰에_Pull_Request별로_backfill한다() {
         // given
-        Long githubPullRequestId = 500L;
-        Review review1 = createReview(501L, githubPullRequestId);
-        Review review2 = createReview(502L, githubPullRequestId);
-        reviewRepositoryAdapter.saveOrFind(review1);
-        reviewRepositoryAdapter.saveOrFind(review2);
-
-        Long pullRequestId = 1L;
+        reviewRepositoryAdapter.saveOrFind(createReview(501L, 500L));
+        reviewRepositoryAdapter.saveOrFind(createReview(502L, 500L));
+        reviewRepositoryAdapter.saveOrFind(createReview(701L, 700L));
+        reviewRepositoryAdapter.saveOrFind(createReview(801L, 800L));
 
         // when
-        long updated = reviewRepositoryAdapter.backfillPullRequestId(githubPullRequestId, pullRequestId);
+        long updated = reviewRepositoryAdapter.backfillPullRequestIds(Map.of(500L, 1L, 700L, 2L));
 
         // then
         assertAll(
-                () -> assertThat(updated).isEqualTo(2L),
-                () -> assertThat(jpaReviewRepository.findAll())
-                        .allMatch(r -> pullRequestId.equals(r.getPullRequestId()))
+                () -> assertThat(updated).isEqualTo(3L),
+                () -> assertThat(jpaReviewRepository.findByGithubReviewId(501L).orElseThrow().getPullRequestId())
+                        .isEqualTo(1L),
+                () -> assertThat(jpaReviewRepository.findByGithubReviewId(502L).orElseThrow().getPullRequestId())
+                        .isEqualTo(1L),
+                () -> assertThat(jpaReviewRepository.findByGithubReviewId(701L).orElseThrow().getPullRequestId())
+                        .isEqualTo(2L),
+                () -> assertThat(jpaReviewRepository.findByGithubReviewId(801L).orElseThrow().getPullRequestId())
+                        .isNull()
         );
     }
 
@@ -166,7 +170,7 @@ class ReviewRepositoryAdapterTest {
         reviewRepositoryAdapter.saveOrFind(review);
 
         // when
-        long updated = reviewRepositoryAdapter.backfillPullRequestId(githubPullRequestId, 1L);
+        long updated = reviewRepositoryAdapter.backfillPullRequestIds(Map.of(githubPullRequestId, 1L));
 
         // then
         Review result = jpaReviewRepository.findByGithubReviewId(601L).orElseThrow();
@@ -0,0 +1,58 @@
+package com.prism.statistics.infrastructure.collect.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxFingerprintTest {
+
+    @Test
+    void 같은_collectType과_runId는_같은_fingerprint를_만든다() {
+        // when
+        CollectInboxFingerprint first = CollectInboxFingerprint.of(CollectInboxType.PULL_REQUEST_OPENED, 10L);
+        CollectInboxFingerprint second = CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{}")
+                .fingerprint();
+
+        // then
+        assertAll(
+                () -> assertThat(first).isEqualTo(second),
+                () -> assertThat(first.value()).hasSize(CollectInboxFingerprint.LENGTH).matches("[0-9a-f]+")
+        );
+    }
+
+    @Test
+    void collectType이나_runId가_다르면_다른_fingerprint를_만든다() {
+        // when
+        CollectInboxFingerprint opened = CollectInboxFingerprint.of(CollectInboxType.PULL_REQUEST_OPENED, 10L);
+        CollectInboxFingerprint closed = CollectInboxFingerprint.of(CollectInboxType.PULL_REQUEST_CLOSED, 10L);
+        CollectInboxFingerprint otherRun = CollectInboxFingerprint.of(CollectInboxType.PULL_REQUEST_OPENED, 11L);
+
+        // then
+        assertAll(
+                () -> assertThat(opened).isNotEqualTo(closed),
+                () -> assertThat(opened).isNotEqualTo(otherRun)
+        );
+    }
+
+    @Test
+    void collectType이_없으면_fingerprint를_만들_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> CollectInboxFingerprint.of(null, 10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("collectType은 비어 있을 수 없습니다.");
+    }
+
+    @Test
+    void 길이가_맞지_않는_fingerprint는_생성할_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> new CollectInboxFingerprint("abc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("collect inbox fingerprint는 64자리 16진수 문자열이어야 합니다.");
+    }
+}
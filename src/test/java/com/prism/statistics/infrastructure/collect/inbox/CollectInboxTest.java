@@ -99,6 +99,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.absent())
                 .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
                 .build()
         ).isInstanceOf(IllegalArgumentException.class);
     }
@@ -118,6 +119,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.absent())
                 .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
                 .build()
         ).isInstanceOf(IllegalArgumentException.class);
     }
@@ -137,6 +139,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.absent())
                 .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
                 .build()
         ).isInstanceOf(IllegalArgumentException.class);
     }
@@ -156,6 +159,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.present(FAILED_AT))
                 .failure(CollectInboxFailureSnapshot.present("실패", CollectInboxFailureType.BUSINESS_INVARIANT))
+                .nextAttemptTime(BoxEventTime.absent())
                 .build()
         ).isInstanceOf(IllegalArgumentException.class);
     }
@@ -175,10 +179,55 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.present(FAILED_AT))
                 .failure(CollectInboxFailureSnapshot.present("실패", CollectInboxFailureType.RETRYABLE))
+                .nextAttemptTime(BoxEventTime.absent())
                 .build()
         ).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void PENDING_상태에서_PROCESSING으로_전이한다() {
+        // given
+        CollectInbox inbox = createPendingInbox();
+
+        // when
+        inbox.markProcessing(PROCESSING_STARTED_AT);
+
+        // then
+        assertAll(
+                () -> assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(inbox.getProcessingAttempt()).isEqualTo(1),
+                () -> assertThat(inbox.getProcessingLease().startedAt()).isEqualTo(PROCESSING_STARTED_AT),
+                () -> assertThat(inbox.getFailure().isPresent()).isFalse()
+        );
+    }
+
+    @Test
+    void RETRY_PENDING_상태에서_PROCESSING으로_전이하면_실패_정보가_초기화된다() {
+        // given
+        CollectInbox inbox = createRetryPendingInbox();
+
+        // when
+        inbox.markProcessing(PROCESSING_STARTED_AT);
+
+        // then
+        assertAll(
+                () -> assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(inbox.getProcessingAttempt()).isEqualTo(2),
+                () -> assertThat(inbox.getFailedTime().isPresent()).isFalse(),
+                () -> assertThat(inbox.getFailure().isPresent()).isFalse()
+        );
+    }
+
+    @Test
+    void PROCESSED_상태에서_PROCESSING으로_전이하면_예외가_발생한다() {
+        // given
+        CollectInbox inbox = createProcessedInbox();
+
+        // when & then
+        assertThatThrownBy(() -> inbox.markProcessing(PROCESSING_STARTED_AT))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void PROCESSING_상태에서_PROCESSED로_전이한다() {
         // given
@@ -198,6 +247,51 @@ class CollectInboxTest {
         );
     }
 
+    @Test
+    void 커밋되지_않은_PROCESSED_상태를_PROCESSING으로_되돌린다() {
+        // given
+        CollectInbox inbox = createProcessingInbox();
+        BoxProcessingLease processingLease = inbox.getProcessingLease();
+        inbox.markProcessed(PROCESSED_AT);
+
+        // when
+        inbox.revertProcessed(processingLease);
+
+        // then
+        assertAll(
+                () -> assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(inbox.getProcessingLease()).isEqualTo(processingLease),
+                () -> assertThat(inbox.getProcessedTime().isPresent()).isFalse(),
+                () -> assertThat(inbox.getProcessingAttempt()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void PROCESSING_상태에서_되돌리면_상태를_유지한다() {
+        // given
+        CollectInbox inbox = createProcessingInbox();
+        BoxProcessingLease processingLease = inbox.getProcessingLease();
+
+        // when
+        inbox.revertProcessed(processingLease);
+
+        // then
+        assertAll(
+                () -> assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(inbox.getProcessingLease()).isEqualTo(processingLease)
+        );
+    }
+
+    @Test
+    void FAILED_상태에서_되돌리면_예외가_발생한다() {
+        // given
+        CollectInbox inbox = createFailedInbox();
+
+        // when & then
+        assertThatThrownBy(() -> inbox.revertProcessed(BoxProcessingLease.claimed(PROCESSING_STARTED_AT)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void PENDING_상태에서_PROCESSED로_전이하면_예외가_발생한다() {
         // given
@@ -314,6 +408,106 @@ class CollectInboxTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void markRetryPending_시_다음_시도_시각을_기록한다() {
+        // given
+        CollectInbox inbox = createProcessingInbox();
+        Instant nextAttemptAt = FAILED_AT.plusSeconds(4L);
+
+        // when
+        inbox.markRetryPending(FAILED_AT, "일시적 오류", nextAttemptAt);
+
+        // then
+        assertAll(
+                () -> assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.RETRY_PENDING),
+                () -> assertThat(inbox.getNextAttemptTime().occurredAt()).isEqualTo(nextAttemptAt)
+        );
+    }
+
+    @Test
+    void markRetryPending_시_다음_시도_시각이_실패_시각보다_이전이면_예외가_발생한다() {
+        // given
+        CollectInbox inbox = createProcessingInbox();
+
+        // when & then
+        assertThatThrownBy(() -> inbox.markRetryPending(FAILED_AT, "일시적 오류", FAILED_AT.minusSeconds(1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void RETRY_PENDING_상태에서_PROCESSING으로_전이하면_다음_시도_시각이_초기화된다() {
+        // given
+        CollectInbox inbox = createProcessingInbox();
+        inbox.markRetryPending(FAILED_AT, "일시적 오류", FAILED_AT.plusSeconds(1L));
+
+        // when
+        inbox.markProcessing(FAILED_AT.plusSeconds(1L));
+
+        // then
+        assertThat(inbox.getNextAttemptTime().isPresent()).isFalse();
+    }
+
+    @Test
+    void lease_소유자와_만료_시각을_지정해_PROCESSING으로_전이한다() {
+        // given
+        CollectInbox inbox = createPendingInbox();
+        BoxProcessingLease lease = BoxProcessingLease.claimed(
+                PROCESSING_STARTED_AT,
+                "worker-1",
+                PROCESSING_STARTED_AT.plusSeconds(30L)
+        );
+
+        // when
+        inbox.markProcessing(lease);
+
+        // then
+        assertAll(
+                () -> assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(inbox.getProcessingLease().ownerId()).isEqualTo("worker-1"),
+                () -> assertThat(inbox.getProcessingLease().expiresAt()).isEqualTo(PROCESSING_STARTED_AT.plusSeconds(30L))
+        );
+    }
+
+    @Test
+    void idle_lease로_PROCESSING_전이하면_예외가_발생한다() {
+        // given
+        CollectInbox inbox = createPendingInbox();
+
+        // when & then
+        assertThatThrownBy(() -> inbox.markProcessing(BoxProcessingLease.idle()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lease_만료_시각이_선점_시각_이전이면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> BoxProcessingLease.claimed(
+                PROCESSING_STARTED_AT,
+                "worker-1",
+                PROCESSING_STARTED_AT.minusSeconds(1L)
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rehydrate_시_RETRY_PENDING이_아닌_상태는_다음_시도_시각을_가질_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> CollectInbox.rehydrateBuilder()
+                .id(1L)
+                .collectType(TYPE)
+                .projectId(PROJECT_ID)
+                .runId(RUN_ID)
+                .payloadJson(PAYLOAD_JSON)
+                .status(CollectInboxStatus.PENDING)
+                .processingAttempt(0)
+                .processingLease(BoxProcessingLease.idle())
+                .processedTime(BoxEventTime.absent())
+                .failedTime(BoxEventTime.absent())
+                .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.present(FAILED_AT))
+                .build()
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
     private CollectInbox createPendingInbox() {
         return CollectInbox.rehydrateBuilder()
                 .id(1L)
@@ -327,6 +521,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.absent())
                 .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
                 .build();
     }
 
@@ -343,6 +538,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.absent())
                 .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
                 .build();
     }
 
@@ -359,6 +555,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.present(PROCESSED_AT))
                 .failedTime(BoxEventTime.absent())
                 .failure(CollectInboxFailureSnapshot.absent())
+                .nextAttemptTime(BoxEventTime.absent())
                 .build();
     }
 
@@ -375,6 +572,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.present(FAILED_AT))
                 .failure(CollectInboxFailureSnapshot.present("일시적 오류", CollectInboxFailureType.RETRYABLE))
+                .nextAttemptTime(BoxEventTime.absent())
                 .build();
     }
 
@@ -391,6 +589,7 @@ class CollectInboxTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.present(FAILED_AT))
                 .failure(CollectInboxFailureSnapshot.present("최종 실패", CollectInboxFailureType.BUSINESS_INVARIANT))
+                .nextAttemptTime(BoxEventTime.absent())
                 .build();
     }
 }
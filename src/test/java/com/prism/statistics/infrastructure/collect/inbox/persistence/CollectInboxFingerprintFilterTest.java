@@ -0,0 +1,70 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.global.config.properties.CollectInboxDedupProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFingerprint;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxFingerprintFilterTest {
+
+    private static final CollectInboxFingerprint FIRST = CollectInboxFingerprint.of(CollectInboxType.PULL_REQUEST_OPENED, 1L);
+    private static final CollectInboxFingerprint SECOND = CollectInboxFingerprint.of(CollectInboxType.PULL_REQUEST_OPENED, 2L);
+    private static final CollectInboxFingerprint THIRD = CollectInboxFingerprint.of(CollectInboxType.PULL_REQUEST_OPENED, 3L);
+
+    @Test
+    void 기억한_fingerprint는_중복으로_판단한다() {
+        // given
+        CollectInboxFingerprintFilter filter = new CollectInboxFingerprintFilter(new CollectInboxDedupProperties(true, 10));
+
+        // when
+        filter.remember(FIRST);
+
+        // then
+        assertAll(
+                () -> assertThat(filter.isKnownDuplicate(FIRST)).isTrue(),
+                () -> assertThat(filter.isKnownDuplicate(SECOND)).isFalse()
+        );
+    }
+
+    @Test
+    void 용량을_넘으면_가장_오래_사용하지_않은_fingerprint부터_잊는다() {
+        // given
+        CollectInboxFingerprintFilter filter = new CollectInboxFingerprintFilter(new CollectInboxDedupProperties(true, 2));
+        filter.rememberAll(List.of(FIRST, SECOND));
+        filter.isKnownDuplicate(FIRST);
+
+        // when
+        filter.remember(THIRD);
+
+        // then
+        assertAll(
+                () -> assertThat(filter.size()).isEqualTo(2),
+                () -> assertThat(filter.isKnownDuplicate(FIRST)).isTrue(),
+                () -> assertThat(filter.isKnownDuplicate(SECOND)).isFalse(),
+                () -> assertThat(filter.isKnownDuplicate(THIRD)).isTrue()
+        );
+    }
+
+    @Test
+    void 사전_필터가_비활성화되어_있으면_항상_저장소_확인으로_넘긴다() {
+        // given
+        CollectInboxFingerprintFilter filter = new CollectInboxFingerprintFilter(new CollectInboxDedupProperties(false, 10));
+
+        // when
+        filter.remember(FIRST);
+
+        // then
+        assertAll(
+                () -> assertThat(filter.isKnownDuplicate(FIRST)).isFalse(),
+                () -> assertThat(filter.size()).isZero()
+        );
+    }
+}
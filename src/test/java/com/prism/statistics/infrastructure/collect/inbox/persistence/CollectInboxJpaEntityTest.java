@@ -48,6 +48,34 @@ class CollectInboxJpaEntityTest {
         );
     }
 
+    @Sql("/sql/collect/insert_pending_inbox.sql")
+    @Test
+    void toDomain은_payload_codec이_없는_기존_엔트리의_payload를_그대로_읽는다() {
+        // when
+        CollectInbox inbox = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+
+        // then
+        assertThat(inbox.getPayloadJson()).isEqualTo("{}");
+    }
+
+    @Test
+    void 압축_기준_이상의_payload는_압축_저장되고_조회_시_원문으로_복원된다() {
+        // given
+        String payloadJson = "{\"body\":\"" + "변경 내용 ".repeat(1_000) + "\"}";
+        Long inboxId = collectInboxRepositoryAdapter.enqueue(
+                CollectInboxType.PULL_REQUEST_OPENED,
+                1L,
+                10L,
+                payloadJson
+        ).orElseThrow();
+
+        // when
+        CollectInbox inbox = collectInboxRepositoryAdapter.findById(inboxId).orElseThrow();
+
+        // then
+        assertThat(inbox.getPayloadJson()).isEqualTo(payloadJson);
+    }
+
     @Sql("/sql/collect/insert_failed_inbox.sql")
     @Test
     void toDomain은_present_vo를_복원한다() {
@@ -94,6 +122,40 @@ class CollectInboxJpaEntityTest {
         );
     }
 
+    @Test
+    void applyPayload는_압축_코덱이면_payload를_바이너리_컬럼에만_저장한다() {
+        // given
+        CollectInboxJpaEntity entity = new CollectInboxJpaEntity();
+
+        // when
+        entity.applyPayload("{\"title\":\"제목\"}", CollectInboxPayloadCodec.DEFLATE);
+
+        // then
+        assertAll(
+                () -> assertThat(ReflectionTestUtils.getField(entity, "payloadJson")).isNull(),
+                () -> assertThat(ReflectionTestUtils.getField(entity, "payloadBytes")).isNotNull(),
+                () -> assertThat(ReflectionTestUtils.getField(entity, "payloadCodec"))
+                        .isEqualTo(CollectInboxPayloadCodec.DEFLATE)
+        );
+    }
+
+    @Test
+    void applyPayload는_PLAIN_코덱이면_payload를_텍스트_컬럼에만_저장한다() {
+        // given
+        CollectInboxJpaEntity entity = new CollectInboxJpaEntity();
+
+        // when
+        entity.applyPayload("{}", CollectInboxPayloadCodec.PLAIN);
+
+        // then
+        assertAll(
+                () -> assertThat(ReflectionTestUtils.getField(entity, "payloadJson")).isEqualTo("{}"),
+                () -> assertThat(ReflectionTestUtils.getField(entity, "payloadBytes")).isNull(),
+                () -> assertThat(ReflectionTestUtils.getField(entity, "payloadCodec"))
+                        .isEqualTo(CollectInboxPayloadCodec.PLAIN)
+        );
+    }
+
     @Test
     void apply는_present_vo를_컬럼에_반영한다() {
         // given
@@ -110,6 +172,7 @@ class CollectInboxJpaEntityTest {
                 .processedTime(BoxEventTime.absent())
                 .failedTime(BoxEventTime.present(FAILED_AT))
                 .failure(CollectInboxFailureSnapshot.present("타임아웃", CollectInboxFailureType.PROCESSING_TIMEOUT))
+                .nextAttemptTime(BoxEventTime.absent())
                 .build();
 
         // when
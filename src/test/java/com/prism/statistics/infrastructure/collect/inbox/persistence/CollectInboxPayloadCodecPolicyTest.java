@@ -0,0 +1,50 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.prism.statistics.global.config.properties.CollectInboxPayloadProperties;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxPayloadCodecPolicyTest {
+
+    @Test
+    void 기준_크기보다_작은_payload는_PLAIN으로_저장한다() {
+        // given
+        CollectInboxPayloadCodecPolicy policy = new CollectInboxPayloadCodecPolicy(
+                new CollectInboxPayloadProperties("DEFLATE", 16)
+        );
+
+        // when
+        CollectInboxPayloadCodec actual = policy.select("{\"runId\":1}");
+
+        // then
+        assertThat(actual).isEqualTo(CollectInboxPayloadCodec.PLAIN);
+    }
+
+    @Test
+    void 문자_수가_기준보다_작아도_UTF_8_바이트_길이가_기준_이상이면_압축한다() {
+        // given
+        CollectInboxPayloadCodecPolicy policy = new CollectInboxPayloadCodecPolicy(
+                new CollectInboxPayloadProperties("DEFLATE", 16)
+        );
+        String payloadJson = "{\"t\":\"한글한글한글\"}";
+
+        // when
+        CollectInboxPayloadCodec actual = policy.select(payloadJson);
+
+        // then
+        assertThat(actual).isEqualTo(CollectInboxPayloadCodec.DEFLATE);
+    }
+
+    @Test
+    void 지원하지_않는_코덱을_설정하면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new CollectInboxPayloadCodecPolicy(new CollectInboxPayloadProperties("gzip", 16)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,158 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.Author;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.CommitData;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.CommitNode;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.CommitsConnection;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.FileData;
+import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest.PullRequestData;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxPayloadCodecTest {
+
+    private static final int ROUND_TRIP_COUNT = 200;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void PLAIN_코덱은_UTF_8_바이트를_그대로_복원한다() {
+        // given
+        String payloadJson = "{\"title\":\"한글 제목\"}";
+
+        // when
+        byte[] encoded = CollectInboxPayloadCodec.PLAIN.encode(payloadJson);
+
+        // then
+        assertAll(
+                () -> assertThat(encoded).isEqualTo(payloadJson.getBytes(StandardCharsets.UTF_8)),
+                () -> assertThat(CollectInboxPayloadCodec.PLAIN.decode(encoded)).isEqualTo(payloadJson)
+        );
+    }
+
+    @Test
+    void DEFLATE_코덱은_대용량_payload를_손실_없이_복원한다() {
+        // given
+        String payloadJson = createLargeOpenedPayload();
+
+        // when
+        byte[] encoded = CollectInboxPayloadCodec.DEFLATE.encode(payloadJson);
+
+        // then
+        assertThat(CollectInboxPayloadCodec.DEFLATE.decode(encoded)).isEqualTo(payloadJson);
+    }
+
+    @Test
+    void DEFLATE_코덱은_대용량_payload의_저장_크기를_PLAIN보다_크게_줄인다() {
+        // given
+        String payloadJson = createLargeOpenedPayload();
+
+        // when
+        int plainSize = CollectInboxPayloadCodec.PLAIN.encode(payloadJson).length;
+        int deflateSize = CollectInboxPayloadCodec.DEFLATE.encode(payloadJson).length;
+
+        // then
+        assertThat(deflateSize).isLessThan(plainSize / 4);
+    }
+
+    @Test
+    void DEFLATE_코덱의_왕복_비용은_같은_payload의_JSON_직렬화_왕복_비용보다_작다() throws Exception {
+        // given
+        PullRequestOpenedRequest request = createLargeOpenedRequest();
+        String payloadJson = OBJECT_MAPPER.writeValueAsString(request);
+        measureDeflateRoundTrip(payloadJson);
+        measureJsonRoundTrip(request);
+
+        // when
+        long deflateNanos = measureDeflateRoundTrip(payloadJson);
+        long jsonNanos = measureJsonRoundTrip(request);
+
+        // then
+        assertThat(deflateNanos).isLessThan(jsonNanos * 2);
+    }
+
+    @Test
+    void 손상된_압축_payload를_해제하면_예외가_발생한다() {
+        // given
+        byte[] corrupted = "not-deflated".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> CollectInboxPayloadCodec.DEFLATE.decode(corrupted))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private long measureDeflateRoundTrip(String payloadJson) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUND_TRIP_COUNT; i++) {
+            byte[] encoded = CollectInboxPayloadCodec.DEFLATE.encode(payloadJson);
+            CollectInboxPayloadCodec.DEFLATE.decode(encoded);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private long measureJsonRoundTrip(PullRequestOpenedRequest request) throws JsonProcessingException {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUND_TRIP_COUNT; i++) {
+            String payloadJson = OBJECT_MAPPER.writeValueAsString(request);
+            OBJECT_MAPPER.readValue(payloadJson, PullRequestOpenedRequest.class);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private String createLargeOpenedPayload() {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(createLargeOpenedRequest());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PullRequestOpenedRequest createLargeOpenedRequest() {
+        List<FileData> files = IntStream.range(0, 300)
+                .mapToObj(i -> new FileData(
+                        "src/main/java/com/prism/statistics/domain/module%d/Service%d.java".formatted(i % 20, i),
+                        "modified",
+                        i % 50,
+                        i % 7
+                ))
+                .toList();
+        List<CommitNode> commits = IntStream.range(0, 100)
+                .mapToObj(i -> new CommitNode(new CommitData(
+                        "%040x".formatted(i),
+                        Instant.parse("2026-03-16T00:00:00Z").plusSeconds(i * 60L)
+                )))
+                .toList();
+
+        return new PullRequestOpenedRequest(
+                1L,
+                false,
+                new PullRequestData(
+                        1001L,
+                        42,
+                        "대용량 변경",
+                        "https://github.com/pr-ism/statistics-server/pull/42",
+                        "%040x".formatted(99),
+                        5000,
+                        700,
+                        300,
+                        Instant.parse("2026-03-16T00:00:00Z"),
+                        new Author("author", 1L),
+                        new CommitsConnection(100, commits)
+                ),
+                files
+        );
+    }
+}
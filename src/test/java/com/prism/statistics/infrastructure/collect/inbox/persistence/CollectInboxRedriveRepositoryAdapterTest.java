@@ -0,0 +1,198 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.application.IntegrationTest;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxDeadLetterRedriveResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxRedriveCondition;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxRedriveRepositoryAdapterTest {
+
+    @Autowired
+    private CollectInboxRedriveRepositoryAdapter redriveRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Sql("/sql/collect/insert_redrive_targets.sql")
+    @Test
+    void 프로젝트의_FAILED_엔트리와_dead_letter_수를_조회한다() {
+        // given
+        CollectInboxRedriveCondition condition = new CollectInboxRedriveCondition(1L, null, null, null, null, null);
+
+        // when
+        long failedCount = redriveRepositoryAdapter.countFailed(condition);
+        long deadLetteredCount = redriveRepositoryAdapter.countDeadLettered(condition);
+
+        // then
+        assertAll(
+                () -> assertThat(failedCount).isEqualTo(2L),
+                () -> assertThat(deadLetteredCount).isEqualTo(2L)
+        );
+    }
+
+    @Sql("/sql/collect/insert_redrive_targets.sql")
+    @Test
+    void 실패_유형과_실패_사유_키워드로_재처리_대상을_좁힌다() {
+        // given
+        CollectInboxRedriveCondition condition = new CollectInboxRedriveCondition(
+                1L,
+                CollectInboxType.PULL_REQUEST_CLOSED,
+                CollectInboxFailureType.BUSINESS_INVARIANT,
+                Instant.parse("2026-03-01T00:00:00Z"),
+                Instant.parse("2026-03-16T00:00:00Z"),
+                "찾을 수 없습니다"
+        );
+
+        // when
+        long failedCount = redriveRepositoryAdapter.countFailed(condition);
+        long deadLetteredCount = redriveRepositoryAdapter.countDeadLettered(condition);
+
+        // then
+        assertAll(
+                () -> assertThat(failedCount).isEqualTo(1L),
+                () -> assertThat(deadLetteredCount).isZero()
+        );
+    }
+
+    @Sql("/sql/collect/insert_redrive_targets.sql")
+    @Test
+    void redriveFailed는_FAILED_엔트리를_PENDING으로_되돌리고_실패_정보를_초기화한다() {
+        // given
+        CollectInboxRedriveCondition condition = new CollectInboxRedriveCondition(1L, null, null, null, null, null);
+
+        // when
+        int actual = redriveRepositoryAdapter.redriveFailed(condition, 10);
+
+        // then
+        Map<String, Object> redriven = jdbcTemplate.queryForMap(
+                "SELECT status, processing_attempt, failed_at, failure_reason, failure_type FROM collect_inbox WHERE id = 1001"
+        );
+        String otherProjectStatus = jdbcTemplate.queryForObject(
+                "SELECT status FROM collect_inbox WHERE id = 1003",
+                String.class
+        );
+        assertAll(
+                () -> assertThat(actual).isEqualTo(2),
+                () -> assertThat(redriven.get("STATUS")).isEqualTo("PENDING"),
+                () -> assertThat(redriven.get("PROCESSING_ATTEMPT")).isEqualTo(0),
+                () -> assertThat(redriven.get("FAILED_AT")).isNull(),
+                () -> assertThat(redriven.get("FAILURE_REASON")).isNull(),
+                () -> assertThat(redriven.get("FAILURE_TYPE")).isNull(),
+                () -> assertThat(otherProjectStatus).isEqualTo("FAILED")
+        );
+    }
+
+    @Sql("/sql/collect/insert_redrive_targets.sql")
+    @Test
+    void redriveFailed는_청크_크기만큼만_되돌린다() {
+        // given
+        CollectInboxRedriveCondition condition = new CollectInboxRedriveCondition(1L, null, null, null, null, null);
+
+        // when
+        int actual = redriveRepositoryAdapter.redriveFailed(condition, 1);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(1),
+                () -> assertThat(findInboxIdsByStatus("FAILED")).containsExactly(1002L, 1003L)
+        );
+    }
+
+    @Sql("/sql/collect/insert_redrive_targets.sql")
+    @Test
+    void redriveDeadLettered는_dead_letter를_PENDING_엔트리로_복원하고_dead_letter에서_제거한다() {
+        // given
+        CollectInboxRedriveCondition condition = new CollectInboxRedriveCondition(1L, null, null, null, null, null);
+
+        // when
+        CollectInboxDeadLetterRedriveResult actual = redriveRepositoryAdapter.redriveDeadLettered(condition, null, 10);
+
+        // then
+        Map<String, Object> restored = jdbcTemplate.queryForMap(
+                "SELECT status, processing_attempt, payload_json, fingerprint FROM collect_inbox WHERE run_id = 20"
+        );
+        List<Long> remainingDeadLetterIds = jdbcTemplate.queryForList(
+                "SELECT id FROM collect_inbox_dead_letter ORDER BY id",
+                Long.class
+        );
+        assertAll(
+                () -> assertThat(actual.redrivenCount()).isEqualTo(1),
+                () -> assertThat(restored.get("STATUS")).isEqualTo("PENDING"),
+                () -> assertThat(restored.get("PROCESSING_ATTEMPT")).isEqualTo(0),
+                () -> assertThat(restored.get("PAYLOAD_JSON")).isEqualTo("{\"runId\":20}"),
+                () -> assertThat(restored.get("FINGERPRINT")).isNotNull(),
+                () -> assertThat(remainingDeadLetterIds).containsExactly(2L, 3L)
+        );
+    }
+
+    @Sql("/sql/collect/insert_redrive_targets.sql")
+    @Test
+    void redriveDeadLettered는_같은_이벤트가_이미_inbox에_있으면_다시_적재하지_않고_dead_letter에_남긴다() {
+        // given
+        CollectInboxRedriveCondition condition = new CollectInboxRedriveCondition(1L, null, null, null, null, null);
+
+        // when
+        CollectInboxDeadLetterRedriveResult actual = redriveRepositoryAdapter.redriveDeadLettered(condition, null, 10);
+
+        // then
+        Integer runIdCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM collect_inbox WHERE run_id = 21",
+                Integer.class
+        );
+        String status = jdbcTemplate.queryForObject(
+                "SELECT status FROM collect_inbox WHERE run_id = 21",
+                String.class
+        );
+        Integer skippedDeadLetterCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM collect_inbox_dead_letter WHERE run_id = 21",
+                Integer.class
+        );
+        assertAll(
+                () -> assertThat(actual.skippedCount()).isEqualTo(1),
+                () -> assertThat(actual.lastDeadLetterId()).isEqualTo(2L),
+                () -> assertThat(runIdCount).isEqualTo(1),
+                () -> assertThat(status).isEqualTo("PENDING"),
+                () -> assertThat(skippedDeadLetterCount).isEqualTo(1)
+        );
+    }
+
+    @Sql("/sql/collect/insert_redrive_targets.sql")
+    @Test
+    void redriveDeadLettered는_커서_이후의_dead_letter만_재처리한다() {
+        // given
+        CollectInboxRedriveCondition condition = new CollectInboxRedriveCondition(1L, null, null, null, null, null);
+
+        // when
+        CollectInboxDeadLetterRedriveResult actual = redriveRepositoryAdapter.redriveDeadLettered(condition, 2L, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.handledCount()).isZero(),
+                () -> assertThat(actual.lastDeadLetterId()).isNull()
+        );
+    }
+
+    private List<Long> findInboxIdsByStatus(String status) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM collect_inbox WHERE status = ? ORDER BY id",
+                Long.class,
+                status
+        );
+    }
+}
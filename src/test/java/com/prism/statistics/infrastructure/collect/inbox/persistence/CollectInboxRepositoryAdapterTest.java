@@ -0,0 +1,587 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.application.IntegrationTest;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInbox;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxBacklogCount;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimPlan;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxClaimQuota;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxEnqueueResult;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxFailureType;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.infrastructure.common.BoxProcessingLease;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxRepositoryAdapterTest {
+
+    private static final Instant PROCESSING_STARTED_AT = Instant.parse("2026-03-16T00:05:00Z");
+    private static final BoxProcessingLease PROCESSING_LEASE = BoxProcessingLease.claimed(
+            PROCESSING_STARTED_AT,
+            "worker-1",
+            PROCESSING_STARTED_AT.plusSeconds(30L)
+    );
+
+    @Autowired
+    private CollectInboxRepositoryAdapter collectInboxRepositoryAdapter;
+
+    @Autowired
+    private CollectInboxFingerprintFilter fingerprintFilter;
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void claimBatch는_선점_가능한_엔트리를_id_순으로_PROCESSING으로_전이한다() {
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(10, PROCESSING_LEASE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(inbox -> inbox.getId()).containsExactly(1L, 2L, 4L),
+                () -> assertThat(actual).allSatisfy(inbox -> {
+                    assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING);
+                    assertThat(inbox.getProcessingLease().startedAt()).isEqualTo(PROCESSING_STARTED_AT);
+                    assertThat(inbox.getProcessingLease().ownerId()).isEqualTo("worker-1");
+                    assertThat(inbox.getFailure().isPresent()).isFalse();
+                })
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void claimBatch는_선점한_상태를_저장소에_반영한다() {
+        // when
+        collectInboxRepositoryAdapter.claimBatch(10, PROCESSING_LEASE);
+
+        // then
+        CollectInbox actual = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(actual.getProcessingAttempt()).isEqualTo(2),
+                () -> assertThat(actual.getFailedTime().isPresent()).isFalse(),
+                () -> assertThat(actual.getFailure().isPresent()).isFalse()
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void claimBatch는_limit_만큼만_선점한다() {
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(1, PROCESSING_LEASE);
+
+        // then
+        CollectInbox unclaimed = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).extracting(inbox -> inbox.getId()).containsExactly(1L),
+                () -> assertThat(unclaimed.getStatus()).isEqualTo(CollectInboxStatus.RETRY_PENDING)
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void PENDING_엔트리로_limit을_채우면_RETRY_PENDING_엔트리는_선점하지_않는다() {
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(2, PROCESSING_LEASE);
+
+        // then
+        CollectInbox unclaimed = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).extracting(inbox -> inbox.getId()).containsExactly(1L, 4L),
+                () -> assertThat(unclaimed.getStatus()).isEqualTo(CollectInboxStatus.RETRY_PENDING)
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void 이미_선점된_엔트리는_다시_선점되지_않는다() {
+        // given
+        collectInboxRepositoryAdapter.claimBatch(10, PROCESSING_LEASE);
+
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(10, PROCESSING_LEASE);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void 타입을_지정한_claimBatch는_해당_타입의_엔트리만_선점한다() {
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(
+                10,
+                Set.of(CollectInboxType.PULL_REQUEST_CLOSED, CollectInboxType.PULL_REQUEST_SYNCHRONIZED),
+                PROCESSING_LEASE
+        );
+
+        // then
+        CollectInbox unclaimed = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).extracting(inbox -> inbox.getId()).containsExactly(2L, 4L),
+                () -> assertThat(unclaimed.getStatus()).isEqualTo(CollectInboxStatus.PENDING)
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void countClaimableByType은_선점_가능한_엔트리_수를_타입별로_집계한다() {
+        // when
+        Map<CollectInboxType, Long> actual = collectInboxRepositoryAdapter.countClaimableByType(PROCESSING_STARTED_AT);
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrderEntriesOf(Map.of(
+                CollectInboxType.PULL_REQUEST_OPENED, 1L,
+                CollectInboxType.PULL_REQUEST_SYNCHRONIZED, 1L,
+                CollectInboxType.PULL_REQUEST_CLOSED, 1L
+        ));
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void countBacklog은_프로젝트의_PROCESSED를_제외한_엔트리_수를_상태와_타입별로_집계한다() {
+        // when
+        List<CollectInboxBacklogCount> actual = collectInboxRepositoryAdapter.countBacklog(1L);
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrder(
+                new CollectInboxBacklogCount(CollectInboxStatus.PENDING, CollectInboxType.PULL_REQUEST_OPENED, 1L),
+                new CollectInboxBacklogCount(CollectInboxStatus.PENDING, CollectInboxType.PULL_REQUEST_CLOSED, 1L),
+                new CollectInboxBacklogCount(
+                        CollectInboxStatus.RETRY_PENDING,
+                        CollectInboxType.PULL_REQUEST_SYNCHRONIZED,
+                        1L
+                )
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void countBacklog은_다른_프로젝트의_엔트리를_집계하지_않는다() {
+        // when
+        List<CollectInboxBacklogCount> actual = collectInboxRepositoryAdapter.countBacklog(2L);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void 선점한_엔트리는_적재_시각을_함께_반환한다() {
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(10, PROCESSING_LEASE);
+
+        // then
+        assertThat(actual).allSatisfy(inbox -> assertThat(inbox.getEnqueuedAt()).isNotNull());
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void findOldestPendingEnqueuedAt은_PENDING_엔트리가_있으면_가장_오래된_적재_시각을_반환한다() {
+        // when
+        Optional<LocalDateTime> actual = collectInboxRepositoryAdapter.findOldestPendingEnqueuedAt(1L);
+
+        // then
+        assertThat(actual).isPresent();
+    }
+
+    @Test
+    void findOldestPendingEnqueuedAt은_PENDING_엔트리가_없으면_빈_값을_반환한다() {
+        // when
+        Optional<LocalDateTime> actual = collectInboxRepositoryAdapter.findOldestPendingEnqueuedAt(1L);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void claimByIds는_지정한_엔트리_중_선점_가능한_엔트리만_선점한다() {
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimByIds(List.of(3L, 4L), PROCESSING_LEASE);
+
+        // then
+        CollectInbox untouched = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).extracting(inbox -> inbox.getId()).containsExactly(4L),
+                () -> assertThat(actual.get(0).getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(untouched.getStatus()).isEqualTo(CollectInboxStatus.PENDING)
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void 선점_계획은_지정한_엔트리와_유형별_할당량과_나머지를_한_번에_선점한다() {
+        // given
+        CollectInboxClaimPlan claimPlan = new CollectInboxClaimPlan(
+                List.of(4L),
+                List.of(new CollectInboxClaimQuota(Set.of(CollectInboxType.PULL_REQUEST_SYNCHRONIZED), 1)),
+                3
+        );
+
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(claimPlan, PROCESSING_LEASE);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(inbox -> inbox.getId()).containsExactly(1L, 2L, 4L),
+                () -> assertThat(actual).allSatisfy(
+                        inbox -> assertThat(inbox.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING)
+                )
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void 선점_계획은_앞서_선점한_엔트리를_다시_선점하지_않고_limit까지만_선점한다() {
+        // given
+        CollectInboxClaimPlan claimPlan = new CollectInboxClaimPlan(
+                List.of(1L),
+                List.of(new CollectInboxClaimQuota(Set.of(CollectInboxType.PULL_REQUEST_OPENED), 5)),
+                2
+        );
+
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(claimPlan, PROCESSING_LEASE);
+
+        // then
+        CollectInbox claimed = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        CollectInbox unclaimed = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).extracting(inbox -> inbox.getId()).containsExactly(1L, 4L),
+                () -> assertThat(claimed.getProcessingAttempt()).isEqualTo(1),
+                () -> assertThat(unclaimed.getStatus()).isEqualTo(CollectInboxStatus.RETRY_PENDING)
+        );
+    }
+
+    @Sql("/sql/collect/insert_delayed_retry_inbox.sql")
+    @Test
+    void 다음_시도_시각이_지나지_않은_RETRY_PENDING_엔트리는_선점하지_않는다() {
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(10, PROCESSING_LEASE);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Sql("/sql/collect/insert_delayed_retry_inbox.sql")
+    @Test
+    void 다음_시도_시각이_지난_RETRY_PENDING_엔트리는_선점하고_다음_시도_시각을_비운다() {
+        // given
+        Instant dueAt = Instant.parse("2026-03-16T00:10:00Z");
+
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(
+                10,
+                BoxProcessingLease.claimed(dueAt, "worker-1", dueAt.plusSeconds(30L))
+        );
+
+        // then
+        CollectInbox claimed = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).extracting(inbox -> inbox.getId()).containsExactly(1L),
+                () -> assertThat(claimed.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(claimed.getNextAttemptTime().isPresent()).isFalse()
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void claimBatch는_lease_소유자와_만료_시각을_저장소에_반영한다() {
+        // when
+        collectInboxRepositoryAdapter.claimBatch(10, PROCESSING_LEASE);
+
+        // then
+        CollectInbox actual = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual.getProcessingLease().ownerId()).isEqualTo("worker-1"),
+                () -> assertThat(actual.getProcessingLease().expiresAt())
+                        .isEqualTo(PROCESSING_STARTED_AT.plusSeconds(30L))
+        );
+    }
+
+    @Sql("/sql/collect/insert_leased_inboxes.sql")
+    @Test
+    void renewLeases는_소유자가_일치하는_PROCESSING_엔트리의_lease만_연장한다() {
+        // given
+        Instant renewedExpiresAt = Instant.parse("2026-03-16T00:10:00Z");
+
+        // when
+        int actual = collectInboxRepositoryAdapter.renewLeases(List.of(1L, 2L), "worker-1", renewedExpiresAt);
+
+        // then
+        CollectInbox renewed = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        CollectInbox notOwned = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).isEqualTo(1),
+                () -> assertThat(renewed.getProcessingLease().expiresAt()).isEqualTo(renewedExpiresAt),
+                () -> assertThat(notOwned.getProcessingLease().ownerId()).isEqualTo("worker-2")
+        );
+    }
+
+    @Sql("/sql/collect/insert_leased_inboxes.sql")
+    @Test
+    void releaseClaims는_보유한_첫_선점을_PENDING으로_되돌린다() {
+        // given
+        BoxProcessingLease heldLease = collectInboxRepositoryAdapter.findById(1L).orElseThrow().getProcessingLease();
+
+        // when
+        int actual = collectInboxRepositoryAdapter.releaseClaims(
+                List.of(1L, 2L),
+                heldLease,
+                PROCESSING_STARTED_AT,
+                "lane 여유 부족"
+        );
+
+        // then
+        CollectInbox released = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        CollectInbox notOwned = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).isEqualTo(1),
+                () -> assertThat(released.getStatus()).isEqualTo(CollectInboxStatus.PENDING),
+                () -> assertThat(released.getProcessingAttempt()).isZero(),
+                () -> assertThat(released.getProcessingLease().isClaimed()).isFalse(),
+                () -> assertThat(notOwned.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING)
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void releaseClaims는_재시도_중이던_선점을_RETRY_PENDING으로_되돌리고_시도_횟수를_복원한다() {
+        // given
+        collectInboxRepositoryAdapter.claimBatch(10, PROCESSING_LEASE);
+
+        // when
+        int actual = collectInboxRepositoryAdapter.releaseClaims(
+                List.of(2L),
+                PROCESSING_LEASE,
+                PROCESSING_STARTED_AT,
+                "lane 여유 부족"
+        );
+
+        // then
+        CollectInbox released = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).isEqualTo(1),
+                () -> assertThat(released.getStatus()).isEqualTo(CollectInboxStatus.RETRY_PENDING),
+                () -> assertThat(released.getProcessingAttempt()).isEqualTo(1),
+                () -> assertThat(released.getFailure().type()).isEqualTo(CollectInboxFailureType.RETRYABLE),
+                () -> assertThat(released.getNextAttemptTime().isPresent()).isFalse()
+        );
+    }
+
+    @Sql("/sql/collect/insert_leased_inboxes.sql")
+    @Test
+    void saveIfLeaseHeld는_lease_소유자가_일치할_때만_처리_결과를_반영한다() {
+        // given
+        Instant processedAt = Instant.parse("2026-03-16T00:05:10Z");
+        CollectInbox owned = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        CollectInbox notOwned = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        BoxProcessingLease staleLease = BoxProcessingLease.claimed(
+                PROCESSING_STARTED_AT,
+                "worker-1",
+                PROCESSING_STARTED_AT.plusSeconds(30L)
+        );
+        BoxProcessingLease ownedLease = owned.getProcessingLease();
+        owned.markProcessed(processedAt);
+        notOwned.markProcessed(processedAt);
+
+        // when
+        boolean ownedSaved = collectInboxRepositoryAdapter.saveIfLeaseHeld(owned, ownedLease);
+        boolean notOwnedSaved = collectInboxRepositoryAdapter.saveIfLeaseHeld(notOwned, staleLease);
+
+        // then
+        assertAll(
+                () -> assertThat(ownedSaved).isTrue(),
+                () -> assertThat(notOwnedSaved).isFalse(),
+                () -> assertThat(collectInboxRepositoryAdapter.findById(1L).orElseThrow().getStatus())
+                        .isEqualTo(CollectInboxStatus.PROCESSED),
+                () -> assertThat(collectInboxRepositoryAdapter.findById(2L).orElseThrow().getStatus())
+                        .isEqualTo(CollectInboxStatus.PROCESSING)
+        );
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void saveIfLeaseHeld는_같은_worker가_다시_선점한_엔트리에_이전_선점의_결과를_반영하지_않는다() {
+        // given
+        CollectInbox staleClaim = collectInboxRepositoryAdapter.claimByIds(List.of(1L), PROCESSING_LEASE).get(0);
+        Instant expiredAt = PROCESSING_STARTED_AT.plusSeconds(60L);
+        collectInboxRepositoryAdapter.recoverTimeoutProcessing(PROCESSING_STARTED_AT, expiredAt, "timeout", 3);
+        collectInboxRepositoryAdapter.claimByIds(
+                List.of(1L),
+                BoxProcessingLease.claimed(expiredAt, "worker-1", expiredAt.plusSeconds(30L))
+        );
+        staleClaim.markProcessed(expiredAt.plusSeconds(1L));
+
+        // when
+        boolean actual = collectInboxRepositoryAdapter.saveIfLeaseHeld(staleClaim, PROCESSING_LEASE);
+
+        // then
+        CollectInbox liveClaim = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).isFalse(),
+                () -> assertThat(liveClaim.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(liveClaim.getProcessingAttempt()).isEqualTo(2)
+        );
+    }
+
+    @Sql("/sql/collect/insert_leased_inboxes.sql")
+    @Test
+    void recoverTimeoutProcessing은_만료된_lease만_회수한다() {
+        // given
+        Instant now = Instant.parse("2026-03-16T00:05:40Z");
+
+        // when
+        int actual = collectInboxRepositoryAdapter.recoverTimeoutProcessing(
+                now.minusSeconds(60L), now, "timeout", 3
+        );
+
+        // then
+        CollectInbox unexpired = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        CollectInbox expired = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(actual).isEqualTo(1),
+                () -> assertThat(unexpired.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(expired.getStatus()).isEqualTo(CollectInboxStatus.RETRY_PENDING),
+                () -> assertThat(expired.getProcessingLease().isClaimed()).isFalse()
+        );
+    }
+
+    @Test
+    void enqueue는_저장한_엔트리의_id를_반환한다() {
+        // when
+        Optional<Long> actual = collectInboxRepositoryAdapter.enqueue(
+                CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{}"
+        );
+
+        // then
+        CollectInbox saved = collectInboxRepositoryAdapter.findById(actual.orElseThrow()).orElseThrow();
+        assertThat(saved.getStatus()).isEqualTo(CollectInboxStatus.PENDING);
+    }
+
+    @Test
+    void 같은_collectType과_runId를_다시_enqueue하면_중복으로_응답한다() {
+        // given
+        collectInboxRepositoryAdapter.enqueue(CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{}");
+
+        // when
+        Optional<Long> actual = collectInboxRepositoryAdapter.enqueue(
+                CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{}"
+        );
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 사전_필터에서_놓친_중복도_fingerprint_조회로_걸러낸다() {
+        // given
+        collectInboxRepositoryAdapter.enqueue(CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{}");
+        fingerprintFilter.clear();
+
+        // when
+        Optional<Long> actual = collectInboxRepositoryAdapter.enqueue(
+                CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{}"
+        );
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void fingerprint가_없는_기존_엔트리와_중복되면_중복으로_응답한다() {
+        // when
+        Optional<Long> actual = collectInboxRepositoryAdapter.enqueue(
+                CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{}"
+        );
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Sql("/sql/collect/insert_claimable_inboxes.sql")
+    @Test
+    void enqueueAll은_이미_적재되었거나_배치_내에서_중복된_엔트리를_중복으로_응답한다() {
+        // given
+        List<CollectInbox> pendingInboxes = List.of(
+                CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 10L, "{}"),
+                CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 20L, "{}"),
+                CollectInbox.pending(CollectInboxType.PULL_REQUEST_CLOSED, 1L, 20L, "{}"),
+                CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 20L, "{}")
+        );
+
+        // when
+        List<CollectInboxEnqueueResult> actual = collectInboxRepositoryAdapter.enqueueAll(pendingInboxes);
+
+        // then
+        assertThat(actual).extracting(result -> result.accepted())
+                .containsExactly(false, true, true, false);
+    }
+
+    @Test
+    void enqueueAll은_적재한_엔트리의_id를_함께_반환한다() {
+        // given
+        List<CollectInbox> pendingInboxes = List.of(
+                CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 30L, "{}"),
+                CollectInbox.pending(CollectInboxType.PULL_REQUEST_OPENED, 1L, 31L, "{}")
+        );
+
+        // when
+        List<CollectInboxEnqueueResult> actual = collectInboxRepositoryAdapter.enqueueAll(pendingInboxes);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).allSatisfy(result -> assertThat(result.inboxId()).isNotNull()),
+                () -> assertThat(collectInboxRepositoryAdapter.findById(actual.get(0).inboxId()).orElseThrow().getRunId())
+                        .isEqualTo(30L),
+                () -> assertThat(collectInboxRepositoryAdapter.findById(actual.get(1).inboxId()).orElseThrow().getRunId())
+                        .isEqualTo(31L)
+        );
+    }
+
+    @Sql("/sql/collect/insert_processing_synchronized_inboxes.sql")
+    @Test
+    void coalesce는_밀려난_엔트리를_PROCESSED로_마킹하고_최신_엔트리의_payload를_갱신한다() {
+        // given
+        CollectInbox survivor = collectInboxRepositoryAdapter.findById(2L).orElseThrow()
+                .withCoalescedPayload("{\"headCommitSha\":\"sha-2\",\"merged\":true}");
+
+        // when
+        collectInboxRepositoryAdapter.coalesce(survivor, List.of(1L), PROCESSING_STARTED_AT, "coalesced");
+
+        // then
+        CollectInbox superseded = collectInboxRepositoryAdapter.findById(1L).orElseThrow();
+        CollectInbox updatedSurvivor = collectInboxRepositoryAdapter.findById(2L).orElseThrow();
+        assertAll(
+                () -> assertThat(superseded.getStatus()).isEqualTo(CollectInboxStatus.PROCESSED),
+                () -> assertThat(superseded.getProcessedTime().occurredAt()).isEqualTo(PROCESSING_STARTED_AT),
+                () -> assertThat(updatedSurvivor.getStatus()).isEqualTo(CollectInboxStatus.PROCESSING),
+                () -> assertThat(updatedSurvivor.getPayloadJson())
+                        .isEqualTo("{\"headCommitSha\":\"sha-2\",\"merged\":true}")
+        );
+    }
+
+    @Test
+    void limit이_0_이하이면_빈_목록을_반환한다() {
+        // when
+        List<CollectInbox> actual = collectInboxRepositoryAdapter.claimBatch(0, PROCESSING_LEASE);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+}
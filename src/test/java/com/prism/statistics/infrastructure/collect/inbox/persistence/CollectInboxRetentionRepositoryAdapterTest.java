@@ -0,0 +1,97 @@
+package com.prism.statistics.infrastructure.collect.inbox.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.application.IntegrationTest;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CollectInboxRetentionRepositoryAdapterTest {
+
+    private static final Instant RETENTION_BOUNDARY = Instant.parse("2026-03-01T00:00:00Z");
+
+    @Autowired
+    private CollectInboxRetentionRepositoryAdapter retentionRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Sql("/sql/collect/insert_retention_inboxes.sql")
+    @Test
+    void purgeProcessed는_보관_기간이_지난_PROCESSED_엔트리만_삭제한다() {
+        // when
+        int actual = retentionRepositoryAdapter.purgeProcessed(RETENTION_BOUNDARY, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(2),
+                () -> assertThat(findRemainingInboxIds()).containsExactly(2L, 3L, 4L, 6L)
+        );
+    }
+
+    @Sql("/sql/collect/insert_retention_inboxes.sql")
+    @Test
+    void purgeProcessed는_청크_크기만큼만_삭제한다() {
+        // when
+        int actual = retentionRepositoryAdapter.purgeProcessed(RETENTION_BOUNDARY, 1);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(1),
+                () -> assertThat(findRemainingInboxIds()).containsExactly(2L, 3L, 4L, 5L, 6L)
+        );
+    }
+
+    @Sql("/sql/collect/insert_retention_inboxes.sql")
+    @Test
+    void moveFailedToDeadLetter는_대기_시간이_지난_FAILED_엔트리를_dead_letter로_옮긴다() {
+        // when
+        int actual = retentionRepositoryAdapter.moveFailedToDeadLetter(RETENTION_BOUNDARY, 10);
+
+        // then
+        List<Map<String, Object>> deadLetters = jdbcTemplate.queryForList(
+                "SELECT inbox_id, run_id, failure_type FROM collect_inbox_dead_letter"
+        );
+        String deadLetterPayload = jdbcTemplate.queryForObject(
+                "SELECT payload_json FROM collect_inbox_dead_letter WHERE inbox_id = 3",
+                String.class
+        );
+        assertAll(
+                () -> assertThat(actual).isEqualTo(1),
+                () -> assertThat(findRemainingInboxIds()).containsExactly(1L, 2L, 4L, 5L, 6L),
+                () -> assertThat(deadLetters).hasSize(1),
+                () -> assertThat(deadLetters.get(0).get("INBOX_ID")).isEqualTo(3L),
+                () -> assertThat(deadLetters.get(0).get("RUN_ID")).isEqualTo(12L),
+                () -> assertThat(deadLetterPayload).isEqualTo("{\"runId\":12}"),
+                () -> assertThat(deadLetters.get(0).get("FAILURE_TYPE")).isEqualTo("RETRY_EXHAUSTED")
+        );
+    }
+
+    @Sql("/sql/collect/insert_retention_inboxes.sql")
+    @Test
+    void 옮길_FAILED_엔트리가_없으면_0을_반환한다() {
+        // when
+        int actual = retentionRepositoryAdapter.moveFailedToDeadLetter(Instant.parse("2025-01-01T00:00:00Z"), 10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isZero(),
+                () -> assertThat(findRemainingInboxIds()).hasSize(6)
+        );
+    }
+
+    private List<Long> findRemainingInboxIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM collect_inbox ORDER BY id", Long.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.prism.statistics.infrastructure.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.prism.statistics.global.config.properties.BatchInsertProperties;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BulkInsertChunkSizeTunerTest {
+
+    private static final String TABLE_NAME = "commits";
+
+    private final BulkInsertChunkSizeTuner tuner = new BulkInsertChunkSizeTuner(new BatchInsertProperties(100, 400, 50L));
+
+    @Test
+    void 처음에는_설정된_청크_크기를_사용한다() {
+        // when
+        int actual = tuner.chunkSize(TABLE_NAME, 5);
+
+        // then
+        assertThat(actual).isEqualTo(100);
+    }
+
+    @Test
+    void 가득_찬_청크가_목표_시간_안에_끝나면_최대_크기까지_두_배씩_늘린다() {
+        // when
+        tuner.record(TABLE_NAME, 5, 100, 10L);
+        tuner.record(TABLE_NAME, 5, 200, 10L);
+        tuner.record(TABLE_NAME, 5, 400, 10L);
+
+        // then
+        assertThat(tuner.chunkSize(TABLE_NAME, 5)).isEqualTo(400);
+    }
+
+    @Test
+    void 청크가_가득_차지_않았으면_크기를_유지한다() {
+        // when
+        tuner.record(TABLE_NAME, 5, 30, 10L);
+
+        // then
+        assertThat(tuner.chunkSize(TABLE_NAME, 5)).isEqualTo(100);
+    }
+
+    @Test
+    void 목표_시간을_넘기면_청크_크기를_절반으로_줄인다() {
+        // when
+        tuner.record(TABLE_NAME, 5, 100, 80L);
+
+        // then
+        assertThat(tuner.chunkSize(TABLE_NAME, 5)).isEqualTo(50);
+    }
+
+    @Test
+    void 청크_크기는_한_문장의_바인딩_파라미터_한도를_넘지_않는다() {
+        // given
+        BulkInsertChunkSizeTuner wideTableTuner = new BulkInsertChunkSizeTuner(new BatchInsertProperties(1000, 100_000, 50L));
+
+        // when
+        int actual = wideTableTuner.chunkSize(TABLE_NAME, 100);
+
+        // then
+        assertThat(actual).isEqualTo(655);
+    }
+}
@@ -0,0 +1,79 @@
+package com.prism.statistics.infrastructure.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.prism.statistics.application.IntegrationTest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@IntegrationTest
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BulkJdbcWriterTest {
+
+    private static final LocalDateTime COMMITTED_AT = LocalDateTime.of(2024, 1, 15, 10, 0);
+    private static final BulkInsertStatement<String> COMMIT_INSERT_STATEMENT = new BulkInsertStatement<>(
+            "commits",
+            List.of("github_pull_request_id", "pull_request_id", "commit_sha", "committed_at", "created_at"),
+            (parameters, commitSha) -> parameters
+                    .setLong(1001L)
+                    .setLong(null)
+                    .setString(commitSha)
+                    .setTimestamp(COMMITTED_AT)
+                    .setBatchTimestamp()
+    );
+
+    @Autowired
+    private BulkJdbcWriter bulkJdbcWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 청크_크기를_넘는_행을_여러_행_INSERT로_나눠_저장한다() {
+        // given
+        List<String> commitShas = IntStream.rangeClosed(1, 250)
+                .mapToObj(index -> "sha" + index)
+                .toList();
+
+        // when
+        bulkJdbcWriter.insert(COMMIT_INSERT_STATEMENT, commitShas);
+
+        // then
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM commits", Integer.class);
+        Integer createdAtCount = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT created_at) FROM commits", Integer.class);
+        Integer unlinkedCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM commits WHERE pull_request_id IS NULL",
+                Integer.class
+        );
+        assertAll(
+                () -> assertThat(count).isEqualTo(250),
+                () -> assertThat(createdAtCount).isEqualTo(1),
+                () -> assertThat(unlinkedCount).isEqualTo(250)
+        );
+    }
+
+    @Test
+    void 식별자_목록의_행만_삭제한다() {
+        // given
+        bulkJdbcWriter.insert(COMMIT_INSERT_STATEMENT, List.of("sha1", "sha2", "sha3"));
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM commits WHERE commit_sha IN ('sha1', 'sha2')",
+                Long.class
+        );
+
+        // when
+        bulkJdbcWriter.deleteAllById("commits", ids);
+
+        // then
+        List<String> remainingShas = jdbcTemplate.queryForList("SELECT commit_sha FROM commits", String.class);
+        assertThat(remainingShas).containsExactly("sha3");
+    }
+}
@@ -3,11 +3,14 @@ package com.prism.statistics.presentation;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prism.statistics.application.collect.inbox.CollectInboxRawPayloadContext;
 import com.prism.statistics.context.ControllerMockInjectionSupport;
 import com.prism.statistics.context.ResetMockTestExecutionListener;
 import com.prism.statistics.docs.RestDocsConfiguration;
 import com.prism.statistics.global.exception.GlobalExceptionHandler;
 import com.prism.statistics.global.security.resolver.argument.AuthUserIdArgumentResolver;
+import com.prism.statistics.presentation.collect.CollectInboxRawBodyAdvice;
+import com.prism.statistics.presentation.collect.CollectInboxRawPayloadClearInterceptor;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -108,11 +111,15 @@ public abstract class CommonControllerSliceTestSupport {
         }
 
         FixedStandaloneMockMvcBuilder configureInterceptors() {
+            builder.addInterceptors(new CollectInboxRawPayloadClearInterceptor(new CollectInboxRawPayloadContext()));
             return this;
         }
 
         FixedStandaloneMockMvcBuilder configureControllerAdvice() {
-            builder.setControllerAdvice(new GlobalExceptionHandler());
+            builder.setControllerAdvice(
+                    new GlobalExceptionHandler(),
+                    new CollectInboxRawBodyAdvice(new CollectInboxRawPayloadContext())
+            );
             return this;
         }
 
@@ -0,0 +1,197 @@
+package com.prism.statistics.presentation.collect;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.prism.statistics.application.collect.CollectBulkImportService;
+import com.prism.statistics.application.collect.bulk.CollectBulkImportFailedGroup;
+import com.prism.statistics.application.collect.bulk.CollectBulkImportStatus;
+import com.prism.statistics.application.collect.bulk.exception.CollectBulkImportInProgressException;
+import com.prism.statistics.application.collect.bulk.exception.CollectBulkImportJobNotFoundException;
+import com.prism.statistics.application.collect.dto.response.CollectBulkImportJobResponse;
+import com.prism.statistics.presentation.CommonControllerSliceTestSupport;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.restdocs.payload.ResponseFieldsSnippet;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SuppressWarnings("NonAsciiCharacters")
+class CollectBulkImportControllerTest extends CommonControllerSliceTestSupport {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String TEST_API_KEY = "test-api-key";
+    private static final String JOB_ID = "3b241101-e2bb-4255-8caf-4136c566a962";
+    private static final String ARCHIVE = """
+            {"collectType":"PULL_REQUEST_OPENED","runId":100,"payload":{"runId":100,"pullRequest":{"number":10}}}
+            {"collectType":"PULL_REQUEST_CLOSED","runId":101,"payload":{"runId":101,"pullRequestNumber":10}}
+            """;
+
+    @Autowired
+    private CollectBulkImportService collectBulkImportService;
+
+    @Test
+    void 수집_이벤트_일괄_가져오기_시작_성공_테스트() throws Exception {
+        // given
+        given(collectBulkImportService.importArchive(eq(TEST_API_KEY), anyString()))
+                .willReturn(runningJobResponse());
+
+        // when & then
+        ResultActions resultActions = mockMvc.perform(
+                        post("/collect/import")
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                                .contentType("application/x-ndjson")
+                                .content(ARCHIVE)
+                )
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value(JOB_ID))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        수집_이벤트_일괄_가져오기_시작_문서화(resultActions);
+    }
+
+    private void 수집_이벤트_일괄_가져오기_시작_문서화(ResultActions resultActions) throws Exception {
+        resultActions.andDo(
+                restDocs.document(
+                        requestHeaders(
+                                headerWithName("X-API-Key").description("프로젝트 API Key")
+                        ),
+                        importJobResponseFields()
+                )
+        );
+    }
+
+    @Test
+    void 수집_이벤트_일괄_가져오기_작업_조회_성공_테스트() throws Exception {
+        // given
+        given(collectBulkImportService.findJob(TEST_API_KEY, JOB_ID)).willReturn(completedJobResponse());
+
+        // when & then
+        ResultActions resultActions = mockMvc.perform(
+                        get("/collect/import/{jobId}", JOB_ID)
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.importedEventCount").value(3))
+                .andExpect(jsonPath("$.failedGroups[0].pullRequestNumber").value(20));
+
+        수집_이벤트_일괄_가져오기_작업_조회_문서화(resultActions);
+    }
+
+    private void 수집_이벤트_일괄_가져오기_작업_조회_문서화(ResultActions resultActions) throws Exception {
+        resultActions.andDo(
+                restDocs.document(
+                        requestHeaders(
+                                headerWithName("X-API-Key").description("프로젝트 API Key")
+                        ),
+                        pathParameters(
+                                parameterWithName("jobId").description("일괄 가져오기 작업 ID")
+                        ),
+                        importJobResponseFields()
+                )
+        );
+    }
+
+    @Test
+    void 진행_중인_일괄_가져오기_작업이_있으면_409_반환한다() throws Exception {
+        // given
+        willThrow(new CollectBulkImportInProgressException())
+                .given(collectBulkImportService).importArchive(eq(TEST_API_KEY), anyString());
+
+        // when & then
+        mockMvc.perform(
+                        post("/collect/import")
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                                .contentType("application/x-ndjson")
+                                .content(ARCHIVE)
+                )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("CI03"));
+    }
+
+    @Test
+    void 일괄_가져오기_작업을_찾을_수_없으면_404_반환한다() throws Exception {
+        // given
+        willThrow(new CollectBulkImportJobNotFoundException())
+                .given(collectBulkImportService).findJob(TEST_API_KEY, JOB_ID);
+
+        // when & then
+        mockMvc.perform(
+                        get("/collect/import/{jobId}", JOB_ID)
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("CI04"));
+    }
+
+    private CollectBulkImportJobResponse runningJobResponse() {
+        return new CollectBulkImportJobResponse(
+                JOB_ID,
+                CollectBulkImportStatus.RUNNING,
+                5,
+                2,
+                0L,
+                List.of(),
+                0,
+                0,
+                LocalDateTime.of(2026, 3, 16, 9, 0),
+                null,
+                null
+        );
+    }
+
+    private CollectBulkImportJobResponse completedJobResponse() {
+        return new CollectBulkImportJobResponse(
+                JOB_ID,
+                CollectBulkImportStatus.COMPLETED,
+                5,
+                2,
+                3L,
+                List.of(new CollectBulkImportFailedGroup(20, null, 2, "PR을 찾을 수 없습니다.")),
+                4,
+                0,
+                LocalDateTime.of(2026, 3, 16, 9, 0),
+                LocalDateTime.of(2026, 3, 16, 9, 1),
+                null
+        );
+    }
+
+    private ResponseFieldsSnippet importJobResponseFields() {
+        return responseFields(
+                fieldWithPath("jobId").description("일괄 가져오기 작업 ID"),
+                fieldWithPath("status").description("작업 상태 (RUNNING, COMPLETED, FAILED)"),
+                fieldWithPath("eventCount").description("가져오기 요청에 포함된 이벤트 수"),
+                fieldWithPath("groupCount").description("함께 반영할 이벤트 묶음 수"),
+                fieldWithPath("importedEventCount").description("지금까지 반영에 성공한 이벤트 수"),
+                fieldWithPath("failedGroups").description("반영에 실패한 이벤트 묶음 목록"),
+                fieldWithPath("failedGroups[].pullRequestNumber").type(JsonFieldType.NUMBER)
+                        .description("반영에 실패한 묶음의 PR 번호").optional(),
+                fieldWithPath("failedGroups[].githubCommentId").type(JsonFieldType.NUMBER)
+                        .description("PR 번호가 없는 묶음의 GitHub 리뷰 댓글 ID").optional(),
+                fieldWithPath("failedGroups[].eventCount").type(JsonFieldType.NUMBER)
+                        .description("반영에 실패한 묶음의 이벤트 수").optional(),
+                fieldWithPath("failedGroups[].failureReason").type(JsonFieldType.STRING)
+                        .description("실패 사유").optional(),
+                fieldWithPath("derivedInsightCount").description("가져오기 후 도출한 인사이트 수"),
+                fieldWithPath("failedInsightCount").description("도출에 실패한 인사이트 수"),
+                fieldWithPath("startedAt").description("작업 시작 시각"),
+                fieldWithPath("finishedAt").type(JsonFieldType.STRING).description("작업 종료 시각").optional(),
+                fieldWithPath("failureReason").type(JsonFieldType.STRING).description("작업 실패 사유").optional()
+        );
+    }
+}
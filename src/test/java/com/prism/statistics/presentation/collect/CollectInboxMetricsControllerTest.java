@@ -0,0 +1,76 @@
+package com.prism.statistics.presentation.collect;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.prism.statistics.application.collect.CollectInboxMetricsService;
+import com.prism.statistics.application.collect.dto.response.CollectInboxMetricsResponse;
+import com.prism.statistics.application.collect.dto.response.CollectInboxMetricsResponse.BacklogCount;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxStatus;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.presentation.CommonControllerSliceTestSupport;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SuppressWarnings("NonAsciiCharacters")
+class CollectInboxMetricsControllerTest extends CommonControllerSliceTestSupport {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String TEST_API_KEY = "test-api-key";
+
+    @Autowired
+    private CollectInboxMetricsService collectInboxMetricsService;
+
+    @Test
+    void 수집_inbox_지표_조회_성공_테스트() throws Exception {
+        // given
+        given(collectInboxMetricsService.findMetrics(TEST_API_KEY)).willReturn(metricsResponse());
+
+        // when & then
+        ResultActions resultActions = mockMvc.perform(
+                        get("/collect/inbox/metrics")
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.backlog[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.oldestPendingAgeMs").value(1500));
+
+        수집_inbox_지표_조회_문서화(resultActions);
+    }
+
+    private void 수집_inbox_지표_조회_문서화(ResultActions resultActions) throws Exception {
+        resultActions.andDo(
+                restDocs.document(
+                        requestHeaders(
+                                headerWithName("X-API-Key").description("프로젝트 API Key")
+                        ),
+                        responseFields(
+                                fieldWithPath("backlog[].status").description("프로젝트 inbox 상태 (PROCESSED 제외)"),
+                                fieldWithPath("backlog[].collectType").description("수집 이벤트 타입"),
+                                fieldWithPath("backlog[].count").description("해당 상태와 타입의 엔트리 수"),
+                                fieldWithPath("oldestPendingAgeMs")
+                                        .description("프로젝트에서 가장 오래 대기 중인 PENDING 엔트리의 대기 시간(ms), 없으면 null")
+                                        .optional()
+                        )
+                )
+        );
+    }
+
+    private CollectInboxMetricsResponse metricsResponse() {
+        return new CollectInboxMetricsResponse(
+                List.of(
+                        new BacklogCount(CollectInboxStatus.PENDING, CollectInboxType.PULL_REQUEST_OPENED, 3L),
+                        new BacklogCount(CollectInboxStatus.FAILED, CollectInboxType.PULL_REQUEST_CLOSED, 1L)
+                ),
+                1_500L
+        );
+    }
+}
@@ -0,0 +1,257 @@
+package com.prism.statistics.presentation.collect;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.prism.statistics.application.collect.CollectInboxRedriveService;
+import com.prism.statistics.application.collect.dto.request.CollectInboxRedriveRequest;
+import com.prism.statistics.application.collect.dto.response.CollectInboxRedriveCountResponse;
+import com.prism.statistics.application.collect.dto.response.CollectInboxRedriveJobResponse;
+import com.prism.statistics.application.collect.inbox.CollectInboxRedriveStatus;
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxRedriveInProgressException;
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxRedriveJobNotFoundException;
+import com.prism.statistics.context.security.WithOAuth2User;
+import com.prism.statistics.domain.project.exception.ProjectOwnershipException;
+import com.prism.statistics.presentation.CommonControllerSliceTestSupport;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.restdocs.payload.RequestFieldsSnippet;
+import org.springframework.restdocs.payload.ResponseFieldsSnippet;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SuppressWarnings("NonAsciiCharacters")
+class CollectInboxRedriveControllerTest extends CommonControllerSliceTestSupport {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String ACCESS_TOKEN = "Bearer access-token";
+    private static final Long USER_ID = 7L;
+    private static final Long PROJECT_ID = 1L;
+    private static final String JOB_ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+    private static final String REDRIVE_REQUEST = """
+            {
+                "collectType": "PULL_REQUEST_CLOSED",
+                "failureType": "RETRY_EXHAUSTED",
+                "failedFrom": "2026-03-01T00:00:00Z",
+                "failedTo": "2026-03-16T00:00:00Z",
+                "failureReason": "timeout"
+            }
+            """;
+
+    @Autowired
+    private CollectInboxRedriveService collectInboxRedriveService;
+
+    @Test
+    @WithOAuth2User(userId = 7L)
+    void 재처리_대상_건수_조회_성공_테스트() throws Exception {
+        // given
+        given(collectInboxRedriveService.count(eq(USER_ID), eq(PROJECT_ID), any(CollectInboxRedriveRequest.class)))
+                .willReturn(new CollectInboxRedriveCountResponse(3L, 2L, 5L));
+
+        // when & then
+        ResultActions resultActions = mockMvc.perform(
+                        post("/projects/{projectId}/collect-inbox/redrive/dry-run", PROJECT_ID)
+                                .header(AUTHORIZATION_HEADER, ACCESS_TOKEN)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(REDRIVE_REQUEST)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failedCount").value(3))
+                .andExpect(jsonPath("$.deadLetteredCount").value(2))
+                .andExpect(jsonPath("$.totalCount").value(5));
+
+        재처리_대상_건수_조회_문서화(resultActions);
+    }
+
+    private void 재처리_대상_건수_조회_문서화(ResultActions resultActions) throws Exception {
+        resultActions.andDo(
+                restDocs.document(
+                        requestHeaders(
+                                headerWithName("Authorization").description("Access Token 값")
+                        ),
+                        pathParameters(
+                                parameterWithName("projectId").description("프로젝트 ID")
+                        ),
+                        redriveRequestFields(),
+                        responseFields(
+                                fieldWithPath("failedCount").description("재처리 대상 FAILED 엔트리 수"),
+                                fieldWithPath("deadLetteredCount").description("재처리 대상 dead letter 수"),
+                                fieldWithPath("totalCount").description("전체 재처리 대상 수")
+                        )
+                )
+        );
+    }
+
+    @Test
+    @WithOAuth2User(userId = 7L)
+    void 재처리_작업_시작_성공_테스트() throws Exception {
+        // given
+        given(collectInboxRedriveService.redrive(eq(USER_ID), eq(PROJECT_ID), any(CollectInboxRedriveRequest.class)))
+                .willReturn(runningJobResponse());
+
+        // when & then
+        ResultActions resultActions = mockMvc.perform(
+                        post("/projects/{projectId}/collect-inbox/redrive", PROJECT_ID)
+                                .header(AUTHORIZATION_HEADER, ACCESS_TOKEN)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(REDRIVE_REQUEST)
+                )
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value(JOB_ID))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        재처리_작업_시작_문서화(resultActions);
+    }
+
+    private void 재처리_작업_시작_문서화(ResultActions resultActions) throws Exception {
+        resultActions.andDo(
+                restDocs.document(
+                        requestHeaders(
+                                headerWithName("Authorization").description("Access Token 값")
+                        ),
+                        pathParameters(
+                                parameterWithName("projectId").description("프로젝트 ID")
+                        ),
+                        redriveRequestFields(),
+                        redriveJobResponseFields()
+                )
+        );
+    }
+
+    @Test
+    @WithOAuth2User(userId = 7L)
+    void 재처리_작업_조회_성공_테스트() throws Exception {
+        // given
+        given(collectInboxRedriveService.findJob(USER_ID, PROJECT_ID, JOB_ID)).willReturn(runningJobResponse());
+
+        // when & then
+        ResultActions resultActions = mockMvc.perform(
+                        get("/projects/{projectId}/collect-inbox/redrive/{jobId}", PROJECT_ID, JOB_ID)
+                                .header(AUTHORIZATION_HEADER, ACCESS_TOKEN)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.redrivenCount").value(40))
+                .andExpect(jsonPath("$.redrivenPerSecond").value(4.0));
+
+        재처리_작업_조회_문서화(resultActions);
+    }
+
+    private void 재처리_작업_조회_문서화(ResultActions resultActions) throws Exception {
+        resultActions.andDo(
+                restDocs.document(
+                        requestHeaders(
+                                headerWithName("Authorization").description("Access Token 값")
+                        ),
+                        pathParameters(
+                                parameterWithName("projectId").description("프로젝트 ID"),
+                                parameterWithName("jobId").description("재처리 작업 ID")
+                        ),
+                        redriveJobResponseFields()
+                )
+        );
+    }
+
+    @Test
+    @WithOAuth2User(userId = 7L)
+    void 진행_중인_재처리_작업이_있으면_409_반환한다() throws Exception {
+        // given
+        willThrow(new CollectInboxRedriveInProgressException())
+                .given(collectInboxRedriveService).redrive(eq(USER_ID), eq(PROJECT_ID), any(CollectInboxRedriveRequest.class));
+
+        // when & then
+        mockMvc.perform(
+                        post("/projects/{projectId}/collect-inbox/redrive", PROJECT_ID)
+                                .header(AUTHORIZATION_HEADER, ACCESS_TOKEN)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(REDRIVE_REQUEST)
+                )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("CI01"));
+    }
+
+    @Test
+    @WithOAuth2User(userId = 7L)
+    void 재처리_작업을_찾을_수_없으면_404_반환한다() throws Exception {
+        // given
+        willThrow(new CollectInboxRedriveJobNotFoundException())
+                .given(collectInboxRedriveService).findJob(USER_ID, PROJECT_ID, JOB_ID);
+
+        // when & then
+        mockMvc.perform(
+                        get("/projects/{projectId}/collect-inbox/redrive/{jobId}", PROJECT_ID, JOB_ID)
+                                .header(AUTHORIZATION_HEADER, ACCESS_TOKEN)
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("CI02"));
+    }
+
+    @Test
+    @WithOAuth2User(userId = 7L)
+    void 프로젝트_소유자가_아니면_재처리_작업을_시작할_수_없다() throws Exception {
+        // given
+        willThrow(new ProjectOwnershipException())
+                .given(collectInboxRedriveService).redrive(eq(USER_ID), eq(PROJECT_ID), any(CollectInboxRedriveRequest.class));
+
+        // when & then
+        mockMvc.perform(
+                        post("/projects/{projectId}/collect-inbox/redrive", PROJECT_ID)
+                                .header(AUTHORIZATION_HEADER, ACCESS_TOKEN)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(REDRIVE_REQUEST)
+                )
+                .andExpect(status().isNotFound());
+    }
+
+    private CollectInboxRedriveJobResponse runningJobResponse() {
+        return new CollectInboxRedriveJobResponse(
+                JOB_ID,
+                CollectInboxRedriveStatus.RUNNING,
+                100L,
+                40L,
+                2L,
+                4.0d,
+                LocalDateTime.of(2026, 3, 16, 9, 0),
+                null,
+                null
+        );
+    }
+
+    private RequestFieldsSnippet redriveRequestFields() {
+        return requestFields(
+                fieldWithPath("collectType").description("재처리할 수집 이벤트 타입 (생략 시 전체)").optional(),
+                fieldWithPath("failureType").description("재처리할 실패 유형 (생략 시 전체)").optional(),
+                fieldWithPath("failedFrom").description("실패 시각 범위 시작 (포함)").optional(),
+                fieldWithPath("failedTo").description("실패 시각 범위 끝 (미포함, 생략 시 작업 시작 시각)").optional(),
+                fieldWithPath("failureReason").description("실패 사유에 포함된 키워드").optional()
+        );
+    }
+
+    private ResponseFieldsSnippet redriveJobResponseFields() {
+        return responseFields(
+                fieldWithPath("jobId").description("재처리 작업 ID"),
+                fieldWithPath("status").description("작업 상태 (RUNNING, COMPLETED, FAILED)"),
+                fieldWithPath("targetCount").description("작업 시작 시점의 재처리 대상 수"),
+                fieldWithPath("redrivenCount").description("지금까지 재처리한 엔트리 수"),
+                fieldWithPath("skippedCount").description("같은 실행이 이미 inbox에 있어 dead letter에 남겨 둔 엔트리 수"),
+                fieldWithPath("redrivenPerSecond").description("초당 재처리 건수"),
+                fieldWithPath("startedAt").description("작업 시작 시각"),
+                fieldWithPath("finishedAt").type(JsonFieldType.STRING).description("작업 종료 시각").optional(),
+                fieldWithPath("failureReason").type(JsonFieldType.STRING).description("작업 실패 사유").optional()
+        );
+    }
+}
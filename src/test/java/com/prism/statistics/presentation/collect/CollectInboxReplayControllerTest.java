@@ -0,0 +1,146 @@
+package com.prism.statistics.presentation.collect;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.prism.statistics.application.collect.CollectInboxReplayService;
+import com.prism.statistics.application.collect.dto.request.CollectInboxReplayRequest;
+import com.prism.statistics.application.collect.dto.response.CollectInboxReplayResponse;
+import com.prism.statistics.application.collect.dto.response.CollectInboxReplayResponse.ReplayEventResult;
+import com.prism.statistics.domain.project.exception.InvalidApiKeyException;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
+import com.prism.statistics.presentation.CommonControllerSliceTestSupport;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SuppressWarnings("NonAsciiCharacters")
+class CollectInboxReplayControllerTest extends CommonControllerSliceTestSupport {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String TEST_API_KEY = "test-api-key";
+
+    @Autowired
+    private CollectInboxReplayService collectInboxReplayService;
+
+    @Test
+    void 웹훅_이벤트_일괄_재처리_성공_테스트() throws Exception {
+        // given
+        String payload = """
+                {
+                    "events": [
+                        {
+                            "collectType": "PULL_REQUEST_CLOSED",
+                            "runId": 12345,
+                            "payload": {
+                                "runId": 12345,
+                                "pullRequestNumber": 42,
+                                "isMerged": false,
+                                "closedAt": "2024-01-15T12:00:00Z",
+                                "mergedAt": null
+                            }
+                        },
+                        {
+                            "collectType": "PULL_REQUEST_REOPENED",
+                            "runId": 12346,
+                            "payload": {
+                                "runId": 12346,
+                                "pullRequestNumber": 42,
+                                "reopenedAt": "2024-01-16T12:00:00Z"
+                            }
+                        }
+                    ]
+                }
+                """;
+
+        CollectInboxReplayResponse response = new CollectInboxReplayResponse(
+                1,
+                1,
+                List.of(
+                        new ReplayEventResult(CollectInboxType.PULL_REQUEST_CLOSED, 12345L, true),
+                        new ReplayEventResult(CollectInboxType.PULL_REQUEST_REOPENED, 12346L, false)
+                )
+        );
+        given(collectInboxReplayService.replay(eq(TEST_API_KEY), any(CollectInboxReplayRequest.class)))
+                .willReturn(response);
+
+        // when & then
+        ResultActions resultActions = mockMvc.perform(
+                        post("/collect/replay")
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(payload)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.acceptedCount").value(1))
+                .andExpect(jsonPath("$.duplicatedCount").value(1))
+                .andExpect(jsonPath("$.results[1].accepted").value(false));
+
+        웹훅_이벤트_일괄_재처리_문서화(resultActions);
+    }
+
+    private void 웹훅_이벤트_일괄_재처리_문서화(ResultActions resultActions) throws Exception {
+        resultActions.andDo(
+                restDocs.document(
+                        requestHeaders(
+                                headerWithName("X-API-Key").description("프로젝트 API Key")
+                        ),
+                        requestFields(
+                                fieldWithPath("events").description("재처리할 웹훅 이벤트 목록 (최대 500건)"),
+                                fieldWithPath("events[].collectType").description("수집 이벤트 타입"),
+                                fieldWithPath("events[].runId").description("GitHub Actions Run ID"),
+                                subsectionWithPath("events[].payload").description("이벤트별 수집 API 요청 본문")
+                        ),
+                        responseFields(
+                                fieldWithPath("acceptedCount").description("inbox에 적재된 이벤트 수"),
+                                fieldWithPath("duplicatedCount").description("중복으로 스킵된 이벤트 수"),
+                                fieldWithPath("results").description("이벤트별 적재 결과"),
+                                fieldWithPath("results[].collectType").description("수집 이벤트 타입"),
+                                fieldWithPath("results[].runId").description("GitHub Actions Run ID"),
+                                fieldWithPath("results[].accepted").description("적재 여부 (중복이면 false)")
+                        )
+                )
+        );
+    }
+
+    @Test
+    void API_Key_헤더_누락_시_400_반환한다() throws Exception {
+        // when & then
+        mockMvc.perform(
+                        post("/collect/replay")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"events\":[]}")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 유효하지_않은_API_Key면_404_반환한다() throws Exception {
+        // given
+        willThrow(new InvalidApiKeyException())
+                .given(collectInboxReplayService).replay(eq(TEST_API_KEY), any(CollectInboxReplayRequest.class));
+
+        // when & then
+        mockMvc.perform(
+                        post("/collect/replay")
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"events\":[]}")
+                )
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("P01"));
+    }
+}
@@ -53,7 +53,7 @@ class PullRequestClosedControllerTest extends CommonControllerSliceTestSupport {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         verify(projectIdResolvingFacade).closePullRequest(eq(TEST_API_KEY), any(PullRequestClosedRequest.class));
 
@@ -99,7 +99,7 @@ class PullRequestClosedControllerTest extends CommonControllerSliceTestSupport {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         verify(projectIdResolvingFacade).closePullRequest(eq(TEST_API_KEY), any(PullRequestClosedRequest.class));
     }
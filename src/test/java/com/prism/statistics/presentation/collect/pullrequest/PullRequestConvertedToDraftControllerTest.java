@@ -51,7 +51,7 @@ class PullRequestConvertedToDraftControllerTest extends CommonControllerSliceTes
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         verify(projectIdResolvingFacade).convertToDraft(eq(TEST_API_KEY), any(PullRequestConvertedToDraftRequest.class));
 
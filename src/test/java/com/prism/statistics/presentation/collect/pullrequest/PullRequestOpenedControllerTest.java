@@ -1,23 +1,38 @@
 package com.prism.statistics.presentation.collect.pullrequest;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.prism.statistics.application.collect.ProjectIdResolvingFacade;
 import com.prism.statistics.application.analysis.metadata.pullrequest.dto.request.PullRequestOpenedRequest;
+import com.prism.statistics.application.collect.inbox.CollectInboxAdmissionBuffer;
+import com.prism.statistics.application.collect.inbox.CollectInboxProcessor;
+import com.prism.statistics.application.collect.inbox.CollectInboxRawPayloadContext;
+import com.prism.statistics.application.collect.inbox.ProcessingSourceContext;
+import com.prism.statistics.application.collect.inbox.aop.CollectInboxEnqueueAspect;
+import com.prism.statistics.application.collect.inbox.aop.InboxEnqueue;
+import com.prism.statistics.application.collect.inbox.exception.CollectInboxAdmissionRejectedException;
 import com.prism.statistics.domain.project.exception.InvalidApiKeyException;
+import com.prism.statistics.global.config.properties.CollectInboxAdmissionProperties;
+import com.prism.statistics.infrastructure.collect.inbox.CollectInboxType;
 import com.prism.statistics.presentation.CommonControllerSliceTestSupport;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
@@ -73,7 +88,7 @@ class PullRequestOpenedControllerTest extends CommonControllerSliceTestSupport {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         verify(projectIdResolvingFacade).createPullRequest(eq(TEST_API_KEY), any(PullRequestOpenedRequest.class));
 
@@ -173,4 +188,75 @@ class PullRequestOpenedControllerTest extends CommonControllerSliceTestSupport {
                 .andExpect(jsonPath("$.errorCode").value("P01"))
                 .andExpect(jsonPath("$.message").value("유효하지 않은 API Key입니다."));
     }
+
+    @Test
+    void 수신_버퍼가_가득_차면_429와_재시도_시간을_반환한다() throws Exception {
+        // given
+        willThrow(new CollectInboxAdmissionRejectedException(1L))
+                .given(projectIdResolvingFacade).createPullRequest(eq(TEST_API_KEY), any(PullRequestOpenedRequest.class));
+
+        // when & then
+        mockMvc.perform(
+                        post("/collect/pull-request/opened")
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"runId\": 12345, \"isDraft\": false}")
+                )
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.errorCode").value("CI00"));
+    }
+
+    @Test
+    void 수신한_원본_요청_본문을_그대로_inbox에_저장한다() throws Exception {
+        // given
+        String payload = """
+                {"isDraft":false,   "runId":12345,
+                  "pullRequest": null,  "files": []}
+                """;
+
+        CollectInboxProcessor collectInboxProcessor = mock(CollectInboxProcessor.class);
+        InboxEnqueueTarget inboxEnqueueTarget = createInboxEnqueueTarget(collectInboxProcessor);
+
+        given(collectInboxProcessor.enqueue(any(), any(), anyLong(), any())).willReturn(true);
+        willAnswer(invocation -> {
+            inboxEnqueueTarget.createPullRequest(1L, invocation.getArgument(1));
+            return null;
+        }).given(projectIdResolvingFacade).createPullRequest(eq(TEST_API_KEY), any(PullRequestOpenedRequest.class));
+
+        // when
+        mockMvc.perform(
+                        post("/collect/pull-request/opened")
+                                .header(API_KEY_HEADER, TEST_API_KEY)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(payload)
+                )
+                .andExpect(status().isAccepted());
+
+        // then
+        verify(collectInboxProcessor).enqueue(CollectInboxType.PULL_REQUEST_OPENED, 1L, 12345L, payload);
+    }
+
+    private InboxEnqueueTarget createInboxEnqueueTarget(CollectInboxProcessor collectInboxProcessor) {
+        CollectInboxEnqueueAspect aspect = new CollectInboxEnqueueAspect(
+                objectMapper,
+                new ProcessingSourceContext(),
+                collectInboxProcessor,
+                new CollectInboxAdmissionProperties(false, 1, 1, 1L, 1L, 1),
+                mock(CollectInboxAdmissionBuffer.class),
+                new CollectInboxRawPayloadContext()
+        );
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new InboxEnqueueTarget());
+
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+
+    static class InboxEnqueueTarget {
+
+        @InboxEnqueue(CollectInboxType.PULL_REQUEST_OPENED)
+        public void createPullRequest(Long projectId, PullRequestOpenedRequest request) {
+        }
+    }
 }
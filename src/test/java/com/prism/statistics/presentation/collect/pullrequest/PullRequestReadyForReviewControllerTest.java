@@ -51,7 +51,7 @@ class PullRequestReadyForReviewControllerTest extends CommonControllerSliceTestS
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         verify(projectIdResolvingFacade).readyForReview(eq(TEST_API_KEY), any(PullRequestReadyForReviewRequest.class));
 
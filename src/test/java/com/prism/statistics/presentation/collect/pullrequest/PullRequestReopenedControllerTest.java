@@ -51,7 +51,7 @@ class PullRequestReopenedControllerTest extends CommonControllerSliceTestSupport
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         verify(projectIdResolvingFacade).reopenPullRequest(eq(TEST_API_KEY), any(PullRequestReopenedRequest.class));
 
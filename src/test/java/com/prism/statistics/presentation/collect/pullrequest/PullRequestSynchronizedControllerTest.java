@@ -61,7 +61,7 @@ class PullRequestSynchronizedControllerTest extends CommonControllerSliceTestSup
                 }
                 """;
 
-        willDoNothing().given(pullRequestSynchronizedService).synchronizePullRequest(any(PullRequestSynchronizedRequest.class));
+        willDoNothing().given(pullRequestSynchronizedService).synchronizePullRequest(any(), any(PullRequestSynchronizedRequest.class));
 
         // when & then
         ResultActions resultActions = mockMvc.perform(
@@ -70,9 +70,9 @@ class PullRequestSynchronizedControllerTest extends CommonControllerSliceTestSup
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
-        verify(pullRequestSynchronizedService).synchronizePullRequest(any(PullRequestSynchronizedRequest.class));
+        verify(pullRequestSynchronizedService).synchronizePullRequest(any(), any(PullRequestSynchronizedRequest.class));
 
         PullRequest_synchronized_이벤트_수집_문서화(resultActions);
     }
@@ -140,7 +140,7 @@ class PullRequestSynchronizedControllerTest extends CommonControllerSliceTestSup
                 """;
 
         willThrow(new InvalidApiKeyException())
-                .given(projectApiKeyService).validateApiKey(TEST_API_KEY);
+                .given(projectApiKeyService).resolveProjectId(TEST_API_KEY);
 
         // when & then
         mockMvc.perform(
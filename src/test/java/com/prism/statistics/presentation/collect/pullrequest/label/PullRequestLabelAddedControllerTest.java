@@ -51,7 +51,7 @@ class PullRequestLabelAddedControllerTest extends CommonControllerSliceTestSuppo
                 }
                 """;
 
-        willDoNothing().given(pullRequestLabelAddedService).addPullRequestLabel(any(PullRequestLabelAddedRequest.class));
+        willDoNothing().given(pullRequestLabelAddedService).addPullRequestLabel(any(), any(PullRequestLabelAddedRequest.class));
 
         // when & then
         ResultActions resultActions = mockMvc.perform(
@@ -60,9 +60,9 @@ class PullRequestLabelAddedControllerTest extends CommonControllerSliceTestSuppo
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
-        verify(pullRequestLabelAddedService).addPullRequestLabel(any(PullRequestLabelAddedRequest.class));
+        verify(pullRequestLabelAddedService).addPullRequestLabel(any(), any(PullRequestLabelAddedRequest.class));
 
         PullRequest_label_added_이벤트_수집_문서화(resultActions);
     }
@@ -122,7 +122,7 @@ class PullRequestLabelAddedControllerTest extends CommonControllerSliceTestSuppo
                 """;
 
         willThrow(new InvalidApiKeyException())
-                .given(projectApiKeyService).validateApiKey(TEST_API_KEY);
+                .given(projectApiKeyService).resolveProjectId(TEST_API_KEY);
 
         // when & then
         mockMvc.perform(
@@ -150,7 +150,7 @@ class PullRequestLabelAddedControllerTest extends CommonControllerSliceTestSuppo
                 """;
 
         willThrow(new PullRequestNotFoundException())
-                .given(pullRequestLabelAddedService).addPullRequestLabel(any(PullRequestLabelAddedRequest.class));
+                .given(pullRequestLabelAddedService).addPullRequestLabel(any(), any(PullRequestLabelAddedRequest.class));
 
         // when & then
         mockMvc.perform(
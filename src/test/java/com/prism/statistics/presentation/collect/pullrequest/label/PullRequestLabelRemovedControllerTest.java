@@ -51,7 +51,7 @@ class PullRequestLabelRemovedControllerTest extends CommonControllerSliceTestSup
                 }
                 """;
 
-        willDoNothing().given(pullRequestLabelRemovedService).removePullRequestLabel(any(PullRequestLabelRemovedRequest.class));
+        willDoNothing().given(pullRequestLabelRemovedService).removePullRequestLabel(any(), any(PullRequestLabelRemovedRequest.class));
 
         // when & then
         ResultActions resultActions = mockMvc.perform(
@@ -60,9 +60,9 @@ class PullRequestLabelRemovedControllerTest extends CommonControllerSliceTestSup
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
-        verify(pullRequestLabelRemovedService).removePullRequestLabel(any(PullRequestLabelRemovedRequest.class));
+        verify(pullRequestLabelRemovedService).removePullRequestLabel(any(), any(PullRequestLabelRemovedRequest.class));
 
         PullRequest_label_removed_이벤트_수집_문서화(resultActions);
     }
@@ -122,7 +122,7 @@ class PullRequestLabelRemovedControllerTest extends CommonControllerSliceTestSup
                 """;
 
         willThrow(new InvalidApiKeyException())
-                .given(projectApiKeyService).validateApiKey(TEST_API_KEY);
+                .given(projectApiKeyService).resolveProjectId(TEST_API_KEY);
 
         // when & then
         mockMvc.perform(
@@ -150,7 +150,7 @@ class PullRequestLabelRemovedControllerTest extends CommonControllerSliceTestSup
                 """;
 
         willThrow(new PullRequestNotFoundException())
-                .given(pullRequestLabelRemovedService).removePullRequestLabel(any(PullRequestLabelRemovedRequest.class));
+                .given(pullRequestLabelRemovedService).removePullRequestLabel(any(), any(PullRequestLabelRemovedRequest.class));
 
         // when & then
         mockMvc.perform(
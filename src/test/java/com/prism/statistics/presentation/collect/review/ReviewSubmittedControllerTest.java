@@ -60,7 +60,7 @@ class ReviewSubmittedControllerTest extends CommonControllerSliceTestSupport {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         Review_submitted_이벤트_수집_문서화(resultActions);
     }
@@ -139,7 +139,7 @@ class ReviewSubmittedControllerTest extends CommonControllerSliceTestSupport {
                 """;
 
         willThrow(new InvalidApiKeyException())
-                .given(projectApiKeyService).validateApiKey(TEST_API_KEY);
+                .given(projectApiKeyService).resolveProjectId(TEST_API_KEY);
 
         // when & then
         mockMvc.perform(
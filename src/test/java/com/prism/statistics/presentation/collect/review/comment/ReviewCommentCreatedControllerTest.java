@@ -64,10 +64,10 @@ class ReviewCommentCreatedControllerTest extends CommonControllerSliceTestSuppor
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         then(reviewCommentCreatedService).should()
-                .createReviewComment(any(ReviewCommentCreatedRequest.class));
+                .createReviewComment(any(), any(ReviewCommentCreatedRequest.class));
 
         Review_comment_created_이벤트_수집_문서화(resultActions);
     }
@@ -152,7 +152,7 @@ class ReviewCommentCreatedControllerTest extends CommonControllerSliceTestSuppor
                 """;
 
         willThrow(new InvalidApiKeyException())
-                .given(projectApiKeyService).validateApiKey(TEST_API_KEY);
+                .given(projectApiKeyService).resolveProjectId(TEST_API_KEY);
 
         // when & then
         mockMvc.perform(
@@ -189,7 +189,7 @@ class ReviewCommentCreatedControllerTest extends CommonControllerSliceTestSuppor
                 """;
 
         willThrow(new ReviewCommentNotFoundException())
-                .given(reviewCommentCreatedService).createReviewComment(any(ReviewCommentCreatedRequest.class));
+                .given(reviewCommentCreatedService).createReviewComment(any(), any(ReviewCommentCreatedRequest.class));
 
         // when & then
         mockMvc.perform(
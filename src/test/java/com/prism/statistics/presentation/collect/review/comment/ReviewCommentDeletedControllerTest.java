@@ -52,10 +52,10 @@ class ReviewCommentDeletedControllerTest extends CommonControllerSliceTestSuppor
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         then(reviewCommentDeletedService).should()
-                .deleteReviewComment(any(ReviewCommentDeletedRequest.class));
+                .deleteReviewComment(any(), any(ReviewCommentDeletedRequest.class));
 
         Review_comment_deleted_이벤트_수집_문서화(resultActions);
     }
@@ -105,7 +105,7 @@ class ReviewCommentDeletedControllerTest extends CommonControllerSliceTestSuppor
                 """;
 
         willThrow(new InvalidApiKeyException())
-                .given(projectApiKeyService).validateApiKey(TEST_API_KEY);
+                .given(projectApiKeyService).resolveProjectId(TEST_API_KEY);
 
         // when & then
         mockMvc.perform(
@@ -130,7 +130,7 @@ class ReviewCommentDeletedControllerTest extends CommonControllerSliceTestSuppor
                 """;
 
         willThrow(new ReviewCommentNotFoundException())
-                .given(reviewCommentDeletedService).deleteReviewComment(any(ReviewCommentDeletedRequest.class));
+                .given(reviewCommentDeletedService).deleteReviewComment(any(), any(ReviewCommentDeletedRequest.class));
 
         // when & then
         mockMvc.perform(
@@ -53,10 +53,10 @@ class ReviewCommentEditedControllerTest extends CommonControllerSliceTestSupport
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         then(reviewCommentEditedService).should()
-                .editReviewComment(any(ReviewCommentEditedRequest.class));
+                .editReviewComment(any(), any(ReviewCommentEditedRequest.class));
 
         Review_comment_edited_이벤트_수집_문서화(resultActions);
     }
@@ -111,7 +111,7 @@ class ReviewCommentEditedControllerTest extends CommonControllerSliceTestSupport
                 """;
 
         willThrow(new InvalidApiKeyException())
-                .given(projectApiKeyService).validateApiKey(TEST_API_KEY);
+                .given(projectApiKeyService).resolveProjectId(TEST_API_KEY);
 
         // when & then
         mockMvc.perform(
@@ -138,7 +138,7 @@ class ReviewCommentEditedControllerTest extends CommonControllerSliceTestSupport
                 """;
 
         willThrow(new ReviewCommentNotFoundException())
-                .given(reviewCommentEditedService).editReviewComment(any(ReviewCommentEditedRequest.class));
+                .given(reviewCommentEditedService).editReviewComment(any(), any(ReviewCommentEditedRequest.class));
 
         // when & then
         mockMvc.perform(
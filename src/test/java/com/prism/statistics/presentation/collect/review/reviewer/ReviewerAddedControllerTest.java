@@ -57,7 +57,7 @@ class ReviewerAddedControllerTest extends CommonControllerSliceTestSupport {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(payload)
                 )
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
 
         Reviewer_added_이벤트_수집_문서화(resultActions);
     }
@@ -120,7 +120,7 @@ class ReviewerAddedControllerTest extends CommonControllerSliceTestSupport {
                 """;
 
         willThrow(new InvalidApiKeyException())
-                .given(projectApiKeyService).validateApiKey(TEST_API_KEY);
+                .given(projectApiKeyService).resolveProjectId(TEST_API_KEY);
 
         // when & then
         mockMvc.perform(
@@ -149,7 +149,7 @@ class ReviewerAddedControllerTest extends CommonControllerSliceTestSupport {
                 """;
 
         willThrow(new PullRequestNotFoundException())
-                .given(reviewerAddedService).addReviewer(any(ReviewerAddedRequest.class));
+                .given(reviewerAddedService).addReviewer(any(), any(ReviewerAddedRequest.class));
 
         // when & then
         mockMvc.perform(
@@ -4,11 +4,13 @@ import static com.prism.statistics.docs.RestDocsConfiguration.field;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -16,6 +18,7 @@ import com.prism.statistics.application.project.ProjectService;
 import com.prism.statistics.application.project.dto.request.CreateProjectRequest;
 import com.prism.statistics.application.project.dto.response.CreateProjectResponse;
 import com.prism.statistics.application.project.dto.response.ProjectListResponse;
+import com.prism.statistics.application.project.dto.response.RotateProjectApiKeyResponse;
 import com.prism.statistics.context.security.WithOAuth2User;
 import com.prism.statistics.presentation.CommonControllerSliceTestSupport;
 import java.util.List;
@@ -143,4 +146,39 @@ class ProjectControllerTest extends CommonControllerSliceTestSupport {
                 )
         );
     }
+
+    @Test
+    @WithOAuth2User(userId = 7L)
+    void 프로젝트_API_Key_재발급_성공_테스트() throws Exception {
+        // given
+        RotateProjectApiKeyResponse response = new RotateProjectApiKeyResponse("rotated-api-key");
+
+        given(projectService.rotateApiKey(7L, 1L)).willReturn(response);
+
+        // when & then
+        ResultActions resultActions = mockMvc.perform(
+                        post("/projects/{projectId}/api-key", 1L)
+                                .header("Authorization", "Bearer access-token")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.apiKey").value("rotated-api-key"));
+
+        프로젝트_API_Key_재발급_문서화(resultActions);
+    }
+
+    private void 프로젝트_API_Key_재발급_문서화(ResultActions resultActions) throws Exception {
+        resultActions.andDo(
+                restDocs.document(
+                        requestHeaders(
+                                headerWithName("Authorization").description("Access Token 값")
+                        ),
+                        pathParameters(
+                                parameterWithName("projectId").description("프로젝트 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("apiKey").description("새로 발급된 프로젝트의 API 키")
+                        )
+                )
+        );
+    }
 }
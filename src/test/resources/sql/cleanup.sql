@@ -1,6 +1,7 @@
 SET REFERENTIAL_INTEGRITY FALSE;
 
 TRUNCATE TABLE collect_inbox;
+TRUNCATE TABLE collect_inbox_dead_letter;
 TRUNCATE TABLE review_comments;
 TRUNCATE TABLE reviews;
 TRUNCATE TABLE requested_reviewer_histories;
@@ -0,0 +1,11 @@
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt)
+VALUES (1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 10, '{}', 'PENDING', 0);
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_SYNCHRONIZED', 1, 11, '{}', 'RETRY_PENDING', 1, '2026-03-16T00:02:00Z', '일시적 오류', 'RETRYABLE');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processed_at)
+VALUES (3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 12, '{}', 'PROCESSED', 1, '2026-03-16T00:01:00Z');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt)
+VALUES (4, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_CLOSED', 1, 13, '{}', 'PENDING', 0);
@@ -0,0 +1,2 @@
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, failed_at, failure_reason, failure_type, next_attempt_at)
+VALUES (1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_SYNCHRONIZED', 1, 10, '{}', 'RETRY_PENDING', 1, '2026-03-16T00:02:00Z', '일시적 오류', 'RETRYABLE', '2026-03-16T00:10:00Z');
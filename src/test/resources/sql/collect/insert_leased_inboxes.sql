@@ -0,0 +1,5 @@
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processing_started_at, lease_owner, lease_expires_at)
+VALUES (1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 10, '{}', 'PROCESSING', 1, '2026-03-16T00:00:00Z', 'worker-1', '2026-03-16T00:06:00Z');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processing_started_at, lease_owner, lease_expires_at)
+VALUES (2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 11, '{}', 'PROCESSING', 1, '2026-03-16T00:05:00Z', 'worker-2', '2026-03-16T00:05:30Z');
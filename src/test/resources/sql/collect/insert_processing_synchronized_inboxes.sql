@@ -0,0 +1,5 @@
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processing_started_at)
+VALUES (1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_SYNCHRONIZED', 1, 10, '{"headCommitSha":"sha-1"}', 'PROCESSING', 1, '2026-03-16T00:05:00Z');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processing_started_at)
+VALUES (2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_SYNCHRONIZED', 1, 11, '{"headCommitSha":"sha-2"}', 'PROCESSING', 1, '2026-03-16T00:05:00Z');
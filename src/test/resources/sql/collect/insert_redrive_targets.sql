@@ -0,0 +1,23 @@
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (1001, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 10, '{}', 'FAILED', 3, '2026-03-10T00:00:00Z', '최종 실패', 'RETRY_EXHAUSTED');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (1002, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_CLOSED', 1, 11, '{}', 'FAILED', 1, '2026-03-11T00:00:00Z', 'Pull Request를 찾을 수 없습니다.', 'BUSINESS_INVARIANT');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (1003, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 2, 12, '{}', 'FAILED', 3, '2026-03-10T00:00:00Z', '최종 실패', 'RETRY_EXHAUSTED');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processed_at)
+VALUES (1004, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 13, '{}', 'PROCESSED', 1, '2026-03-10T00:00:00Z');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt)
+VALUES (1005, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 21, '{}', 'PENDING', 0);
+
+INSERT INTO collect_inbox_dead_letter (id, created_at, updated_at, inbox_id, collect_type, project_id, run_id, payload_json, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 100, 'PULL_REQUEST_OPENED', 1, 20, '{"runId":20}', 3, '2026-02-01T00:00:00Z', '최종 실패', 'RETRY_EXHAUSTED');
+
+INSERT INTO collect_inbox_dead_letter (id, created_at, updated_at, inbox_id, collect_type, project_id, run_id, payload_json, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 101, 'PULL_REQUEST_OPENED', 1, 21, '{"runId":21}', 3, '2026-02-02T00:00:00Z', '최종 실패', 'RETRY_EXHAUSTED');
+
+INSERT INTO collect_inbox_dead_letter (id, created_at, updated_at, inbox_id, collect_type, project_id, run_id, payload_json, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 102, 'PULL_REQUEST_OPENED', 2, 22, '{"runId":22}', 3, '2026-02-01T00:00:00Z', '최종 실패', 'RETRY_EXHAUSTED');
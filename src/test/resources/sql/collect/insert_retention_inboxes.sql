@@ -0,0 +1,17 @@
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processed_at)
+VALUES (1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 10, '{}', 'PROCESSED', 1, '2026-01-01T00:00:00Z');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processed_at)
+VALUES (2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 11, '{}', 'PROCESSED', 1, '2026-03-16T00:00:00Z');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 12, '{"runId":12}', 'FAILED', 3, '2026-01-01T00:00:00Z', '최종 실패', 'RETRY_EXHAUSTED');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt)
+VALUES (4, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 13, '{}', 'PENDING', 0);
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, processed_at)
+VALUES (5, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 14, '{}', 'PROCESSED', 1, '2026-01-02T00:00:00Z');
+
+INSERT INTO collect_inbox (id, created_at, updated_at, collect_type, project_id, run_id, payload_json, status, processing_attempt, failed_at, failure_reason, failure_type)
+VALUES (6, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PULL_REQUEST_OPENED', 1, 15, '{}', 'FAILED', 3, '2026-03-16T00:00:00Z', '최종 실패', 'RETRY_EXHAUSTED');
@@ -0,0 +1,33 @@
+INSERT INTO pull_request_labels (id, created_at, github_pull_request_id, pull_request_id, head_commit_sha, label_name, github_labeled_at)
+VALUES (1, '2026-03-01 00:00:00', 100, NULL, 'sha-100', 'bug', '2026-03-01 00:00:00'),
+       (2, '2026-03-01 00:00:00', 200, NULL, 'sha-200', 'bug', '2026-03-01 00:00:00'),
+       (3, '2026-03-01 00:00:00', 300, NULL, 'sha-300', 'bug', '2026-03-01 00:00:00');
+
+INSERT INTO pull_request_label_histories (id, created_at, github_pull_request_id, pull_request_id, head_commit_sha, label_name, action, github_changed_at)
+VALUES (1, '2026-03-01 00:00:00', 100, NULL, 'sha-100', 'bug', 'ADDED', '2026-03-01 00:00:00'),
+       (2, '2026-03-01 00:00:00', 200, 99, 'sha-200', 'bug', 'ADDED', '2026-03-01 00:00:00');
+
+INSERT INTO requested_reviewers (id, created_at, pull_request_id, github_pull_request_id, pull_request_number, head_commit_sha, user_name, user_id, github_requested_at)
+VALUES (1, '2026-03-01 00:00:00', NULL, 100, 1, 'sha-100', 'reviewer', 10, '2026-03-01 00:00:00');
+
+INSERT INTO requested_reviewer_histories (id, created_at, pull_request_id, github_pull_request_id, head_commit_sha, user_name, user_id, action, github_changed_at)
+VALUES (1, '2026-03-01 00:00:00', NULL, 200, 'sha-200', 'reviewer', 10, 'REQUESTED', '2026-03-01 00:00:00');
+
+INSERT INTO reviews (id, created_at, pull_request_id, github_pull_request_id, pull_request_number, github_review_id, user_name, user_id, review_state, head_commit_sha, body, comment_count, github_submitted_at)
+VALUES (1, '2026-03-01 00:00:00', NULL, 100, 1, 1000, 'reviewer', 10, 'APPROVED', 'sha-100', NULL, 0, '2026-03-01 00:00:00'),
+       (2, '2026-03-01 00:00:00', NULL, 200, 2, 2000, 'reviewer', 10, 'COMMENTED', 'sha-200', NULL, 0, '2026-03-01 00:00:00');
+
+INSERT INTO commits (id, created_at, pull_request_id, github_pull_request_id, commit_sha, committed_at)
+VALUES (1, '2026-03-01 00:00:00', NULL, 100, 'sha-100', '2026-03-01 00:00:00'),
+       (2, '2026-03-01 00:00:00', NULL, 200, 'sha-200', '2026-03-01 00:00:00'),
+       (3, '2026-03-01 00:00:00', NULL, 300, 'sha-300', '2026-03-01 00:00:00');
+
+INSERT INTO pull_request_files (id, created_at, pull_request_id, github_pull_request_id, file_name, change_type, additions, deletions)
+VALUES (1, '2026-03-01 00:00:00', NULL, 100, 'A.java', 'ADDED', 1, 0),
+       (2, '2026-03-01 00:00:00', 99, 200, 'B.java', 'ADDED', 1, 0);
+
+INSERT INTO pull_request_content_histories (id, created_at, pull_request_id, github_pull_request_id, head_commit_sha, changed_file_count, addition_count, deletion_count, commit_count, github_changed_at)
+VALUES (1, '2026-03-01 00:00:00', NULL, 200, 'sha-200', 1, 1, 0, 1, '2026-03-01 00:00:00');
+
+INSERT INTO pull_request_file_histories (id, created_at, pull_request_id, github_pull_request_id, head_commit_sha, file_name, previous_file_name, change_type, additions, deletions, github_changed_at)
+VALUES (1, '2026-03-01 00:00:00', NULL, 100, 'sha-100', 'A.java', NULL, 'ADDED', 1, 0, '2026-03-01 00:00:00');
@@ -1,4 +1,5 @@
 DROP TABLE IF EXISTS collect_inbox;
+DROP TABLE IF EXISTS collect_inbox_dead_letter;
 DROP TABLE IF EXISTS pull_request_file_histories;
 DROP TABLE IF EXISTS pull_request_content_histories;
 DROP TABLE IF EXISTS pull_request_state_histories;
@@ -110,6 +111,7 @@ CREATE TABLE IF NOT EXISTS pull_requests (
     github_created_at TIMESTAMP,
     github_merged_at TIMESTAMP,
     github_closed_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT uq_pull_requests_github_pull_request_id UNIQUE (github_pull_request_id)
 );
 
@@ -167,7 +169,9 @@ CREATE TABLE IF NOT EXISTS pull_request_file_histories (
     change_type VARCHAR(50),
     additions INT,
     deletions INT,
-    github_changed_at TIMESTAMP
+    github_changed_at TIMESTAMP,
+    excluded BOOLEAN NOT NULL DEFAULT FALSE,
+    full_snapshot BOOLEAN NOT NULL DEFAULT TRUE
 );
 
 CREATE TABLE IF NOT EXISTS pull_request_labels (
@@ -381,12 +385,57 @@ CREATE TABLE IF NOT EXISTS collect_inbox (
     collect_type VARCHAR(50) NOT NULL,
     project_id BIGINT,
     run_id BIGINT NOT NULL,
+    fingerprint VARCHAR(64),
     payload_json CLOB,
+    payload_bytes BLOB,
+    payload_codec VARCHAR(20),
     status VARCHAR(50) NOT NULL,
     processing_attempt INT NOT NULL,
     processing_started_at TIMESTAMP,
+    lease_owner VARCHAR(100),
+    lease_expires_at TIMESTAMP,
     processed_at TIMESTAMP,
+    processed_reason VARCHAR(255),
+    failed_at TIMESTAMP,
+    failure_reason VARCHAR(255),
+    failure_type VARCHAR(50),
+    next_attempt_at TIMESTAMP,
+    CONSTRAINT uq_collect_inbox_collect_type_run_id UNIQUE (collect_type, run_id),
+    CONSTRAINT uq_collect_inbox_fingerprint UNIQUE (fingerprint)
+);
+
+CREATE INDEX IF NOT EXISTS idx_commits_github_pull_request_id_pull_request_id ON commits (github_pull_request_id, pull_request_id);
+CREATE INDEX IF NOT EXISTS idx_pull_request_files_github_pull_request_id_pull_request_id ON pull_request_files (github_pull_request_id, pull_request_id);
+CREATE INDEX IF NOT EXISTS idx_pull_request_content_histories_github_pull_request_id_pull_request_id ON pull_request_content_histories (github_pull_request_id, pull_request_id);
+CREATE INDEX IF NOT EXISTS idx_pull_request_file_histories_github_pull_request_id_pull_request_id ON pull_request_file_histories (github_pull_request_id, pull_request_id);
+CREATE INDEX IF NOT EXISTS idx_pull_request_file_histories_github_pull_request_id_github_changed_at ON pull_request_file_histories (github_pull_request_id, github_changed_at);
+CREATE INDEX IF NOT EXISTS idx_review_comments_github_review_id_review_id ON review_comments (github_review_id, review_id);
+
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_status_id ON collect_inbox (status, id);
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_project_id_status ON collect_inbox (project_id, status);
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_status_next_attempt_at ON collect_inbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_status_lease_expires_at ON collect_inbox (status, lease_expires_at);
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_collect_type_status_next_attempt_at ON collect_inbox (collect_type, status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_status_created_at ON collect_inbox (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_status_processed_at ON collect_inbox (status, processed_at);
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_status_failed_at ON collect_inbox (status, failed_at);
+
+CREATE TABLE IF NOT EXISTS collect_inbox_dead_letter (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    inbox_id BIGINT NOT NULL,
+    collect_type VARCHAR(50) NOT NULL,
+    project_id BIGINT,
+    run_id BIGINT NOT NULL,
+    payload_json CLOB,
+    payload_bytes BLOB,
+    payload_codec VARCHAR(20),
+    processing_attempt INT NOT NULL,
     failed_at TIMESTAMP,
     failure_reason VARCHAR(255),
-    failure_type VARCHAR(50)
+    failure_type VARCHAR(50),
+    CONSTRAINT uq_collect_inbox_dead_letter_inbox_id UNIQUE (inbox_id)
 );
+
+CREATE INDEX IF NOT EXISTS idx_collect_inbox_dead_letter_project_id_failed_at ON collect_inbox_dead_letter (project_id, failed_at);